@@ -2,6 +2,7 @@
 
 import java.util.Optional;
 
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
@@ -11,6 +12,8 @@
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.ThreadFactoryBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.runtime.ExecutorRecorder;
 
 /**
@@ -30,6 +33,17 @@ public ExecutorBuildItem createExecutor(ExecutorRecorder recorder, ShutdownConte
                         contextBuildItem.map(ContextHandlerBuildItem::contextHandler).orElse(null)));
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(ExecutorRecorder recorder, ExecutorBuildItem executor,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        // The adaptive sizing is only known at runtime, the recorded consumer does nothing if it is disabled
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
     @BuildStep
     RuntimeInitializedClassBuildItem registerClasses() {
         // make sure that the config provider gets initialized only at run time
@@ -0,0 +1,275 @@
+package io.quarkus.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+import org.jboss.threads.ContextHandler;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.common.cpu.ProcessorInfo;
+
+/**
+ * Adjusts the maximum size of the core thread pool from the measured behavior of its tasks.
+ * <p>
+ * The sizer is installed as the {@link ContextHandler} of the executor: the submission time is captured with the context
+ * of the task, so that the queue wait time, the execution time and, for a sample of the tasks, the CPU time can be
+ * measured when the task runs. A controller thread periodically computes the new maximum size:
+ * <ul>
+ * <li>the number of threads needed to sustain the measured throughput is given by Little's law: the arrival rate
+ * multiplied by the execution time, that is, the execution time of the completed tasks divided by the elapsed time</li>
+ * <li>the pool grows when tasks wait longer than the target queue wait time, unless the process CPU utilization is
+ * already above the configured maximum</li>
+ * <li>the pool shrinks towards the needed number of threads when tasks wait less than half the target</li>
+ * <li>the maximum size never exceeds the number of threads the CPUs can keep busy given the blocking ratio of the
+ * tasks: {@code cores * maxCpuUtilization / (1 - blockingRatio)}</li>
+ * </ul>
+ */
+final class AdaptiveThreadPoolSizer implements ContextHandler<Object> {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
+
+    /**
+     * One task out of {@code CPU_SAMPLING_MASK + 1} measures its CPU time.
+     */
+    private static final int CPU_SAMPLING_MASK = 15;
+
+    private final ContextHandler<Object> delegate;
+    private final int minThreads;
+    private final int maxThreads;
+    private final int cores;
+    private final float maxCpuUtilization;
+    private final long targetQueueWaitNanos;
+    private final long intervalNanos;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder sampledBusyNanos = new LongAdder();
+    private final LongAdder sampledCpuNanos = new LongAdder();
+
+    private final ThreadMXBean threadMXBean;
+    private final OperatingSystemMXBean osMXBean;
+
+    private volatile EnhancedQueueExecutor executor;
+    private volatile MetricsFactory.TimeRecorder queueWaitRecorder;
+    private volatile double blockingRatio = -1;
+    private volatile Thread controller;
+    private volatile boolean stopped;
+
+    @SuppressWarnings("unchecked")
+    AdaptiveThreadPoolSizer(ThreadPoolConfig threadPoolConfig, ContextHandler<Object> delegate) {
+        this.delegate = delegate == null ? (ContextHandler<Object>) ContextHandler.NONE : delegate;
+        this.minThreads = Math.max(1, threadPoolConfig.coreThreads());
+        this.maxThreads = Math.max(minThreads, ExecutorRecorder.getMaxSize(threadPoolConfig));
+        this.cores = ProcessorInfo.availableProcessors();
+        this.maxCpuUtilization = threadPoolConfig.adaptive().maxCpuUtilization();
+        this.targetQueueWaitNanos = threadPoolConfig.adaptive().targetQueueWait().toNanos();
+        this.intervalNanos = Math.max(1, threadPoolConfig.adaptive().interval().toNanos());
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        this.threadMXBean = threadBean.isCurrentThreadCpuTimeSupported() ? threadBean : null;
+        this.osMXBean = ManagementFactory.getOperatingSystemMXBean();
+    }
+
+    /**
+     * @return the initial maximum size of the pool
+     */
+    int initialMaxThreads() {
+        return Math.min(maxThreads, Math.max(minThreads, 2 * cores));
+    }
+
+    void start(EnhancedQueueExecutor executor) {
+        this.executor = executor;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                control();
+            }
+        }, "quarkus-thread-pool-sizer");
+        thread.setDaemon(true);
+        controller = thread;
+        thread.start();
+    }
+
+    void stop() {
+        stopped = true;
+        Thread thread = controller;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public Object captureContext() {
+        return new Submission(System.nanoTime(), delegate.captureContext());
+    }
+
+    @Override
+    public void runWith(Runnable task, Object context) {
+        Submission submission = (Submission) context;
+        long start = System.nanoTime();
+        long wait = start - submission.time;
+        queueWaitNanos.add(wait);
+        MetricsFactory.TimeRecorder recorder = queueWaitRecorder;
+        if (recorder != null) {
+            recorder.update(wait, TimeUnit.NANOSECONDS);
+        }
+        ThreadMXBean threadBean = (ThreadLocalRandom.current().nextInt() & CPU_SAMPLING_MASK) == 0 ? threadMXBean : null;
+        long cpuStart = threadBean == null ? 0 : threadBean.getCurrentThreadCpuTime();
+        try {
+            delegate.runWith(task, submission.context);
+        } finally {
+            long busy = System.nanoTime() - start;
+            busyNanos.add(busy);
+            completed.increment();
+            if (threadBean != null) {
+                sampledCpuNanos.add(threadBean.getCurrentThreadCpuTime() - cpuStart);
+                sampledBusyNanos.add(busy);
+            }
+        }
+    }
+
+    void setQueueWaitRecorder(MetricsFactory.TimeRecorder queueWaitRecorder) {
+        this.queueWaitRecorder = queueWaitRecorder;
+    }
+
+    int getMaxThreads() {
+        EnhancedQueueExecutor executor = this.executor;
+        return executor == null ? initialMaxThreads() : executor.getMaximumPoolSize();
+    }
+
+    double getBlockingRatio() {
+        return Math.max(0, blockingRatio);
+    }
+
+    private void control() {
+        long last = System.nanoTime();
+        while (!stopped) {
+            LockSupport.parkNanos(this, intervalNanos);
+            if (stopped) {
+                return;
+            }
+            long now = System.nanoTime();
+            long elapsed = now - last;
+            if (elapsed < intervalNanos) {
+                continue;
+            }
+            last = now;
+            try {
+                adjust(elapsed);
+            } catch (RuntimeException e) {
+                log.debug("Unable to adjust the thread pool size", e);
+            }
+        }
+    }
+
+    private void adjust(long elapsed) {
+        EnhancedQueueExecutor executor = this.executor;
+        long completedTasks = completed.sumThenReset();
+        long busy = busyNanos.sumThenReset();
+        long waited = queueWaitNanos.sumThenReset();
+        long sampledBusy = sampledBusyNanos.sumThenReset();
+        long sampledCpu = sampledCpuNanos.sumThenReset();
+        if (sampledBusy > 0) {
+            double ratio = Math.min(1.0, Math.max(0.0, 1.0 - (double) sampledCpu / sampledBusy));
+            // Smooth the ratio as the sample can be small
+            double previous = blockingRatio;
+            blockingRatio = previous < 0 ? ratio : 0.7 * previous + 0.3 * ratio;
+        }
+        int current = executor.getMaximumPoolSize();
+        int next = computeMaxThreads(current, minThreads, maxThreads, cores, maxCpuUtilization, targetQueueWaitNanos,
+                elapsed, completedTasks, busy, waited, blockingRatio, processCpuLoad(), executor.getQueueSize());
+        if (next != current) {
+            log.debugf("Adjusting the thread pool maximum size from %d to %d", current, next);
+            executor.setMaximumPoolSize(next);
+        }
+    }
+
+    private double processCpuLoad() {
+        try {
+            if (osMXBean instanceof com.sun.management.OperatingSystemMXBean) {
+                return ((com.sun.management.OperatingSystemMXBean) osMXBean).getProcessCpuLoad();
+            }
+        } catch (LinkageError ignored) {
+            // The jdk.management module is not available
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the maximum size of the pool for the next interval.
+     *
+     * @param current the current maximum size
+     * @param min the minimum size
+     * @param max the maximum size
+     * @param cores the number of available processors
+     * @param maxCpuUtilization the CPU utilization above which the pool does not grow
+     * @param targetQueueWaitNanos the queue wait time to aim at
+     * @param elapsedNanos the duration of the measured interval
+     * @param completed the number of tasks completed during the interval
+     * @param busyNanos the execution time of the tasks completed during the interval
+     * @param queueWaitNanos the queue wait time of the tasks completed during the interval
+     * @param blockingRatio the ratio of execution time the tasks spend blocked, or a negative value if unknown
+     * @param cpuLoad the CPU utilization of the process, or a negative value if unknown
+     * @param queueSize the number of tasks currently waiting in the queue
+     * @return the new maximum size
+     */
+    static int computeMaxThreads(int current, int min, int max, int cores, float maxCpuUtilization,
+            long targetQueueWaitNanos, long elapsedNanos, long completed, long busyNanos, long queueWaitNanos,
+            double blockingRatio, double cpuLoad, int queueSize) {
+        int upper = max;
+        if (blockingRatio >= 0) {
+            double cpuBound = Math.ceil(cores * maxCpuUtilization / Math.max(1.0 - blockingRatio, 0.01));
+            upper = (int) Math.max(min, Math.min(max, cpuBound));
+        }
+        boolean cpuSaturated = cpuLoad > maxCpuUtilization;
+        if (completed == 0) {
+            // Either idle, or all the threads are stuck on long tasks
+            if (queueSize > 0 && !cpuSaturated) {
+                return clamp(grow(current), min, upper);
+            }
+            return clamp(current, min, upper);
+        }
+        // Little's law: the mean number of busy threads is the arrival rate multiplied by the execution time
+        double concurrency = (double) busyNanos / elapsedNanos;
+        int needed = (int) Math.ceil(concurrency * 1.25) + 1;
+        long meanQueueWait = queueWaitNanos / completed;
+        if (meanQueueWait > targetQueueWaitNanos) {
+            if (cpuSaturated) {
+                // More threads would only compete for the CPU
+                return clamp(current, min, upper);
+            }
+            return clamp(Math.max(grow(current), needed), min, upper);
+        }
+        if (meanQueueWait < targetQueueWaitNanos / 2) {
+            int shrunk = Math.max(needed, current - Math.max(1, current / 10));
+            return clamp(Math.min(current, shrunk), min, upper);
+        }
+        return clamp(current, min, upper);
+    }
+
+    private static int grow(int current) {
+        return current + Math.max(1, current / 4);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static final class Submission {
+
+        final long time;
+        final Object context;
+
+        Submission(long time, Object context) {
+            this.time = time;
+            this.context = context;
+        }
+    }
+}
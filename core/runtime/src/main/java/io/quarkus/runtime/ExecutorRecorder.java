@@ -7,6 +7,7 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.IntSupplier;
 
 import org.jboss.logging.Logger;
@@ -16,6 +17,7 @@
 import org.jboss.threads.JBossThreadFactory;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.NoopShutdownScheduledExecutorService;
 import io.smallrye.common.cpu.ProcessorInfo;
 
@@ -29,6 +31,8 @@ public class ExecutorRecorder {
 
     private static volatile Executor current;
 
+    private static volatile AdaptiveThreadPoolSizer adaptiveSizer;
+
     final ThreadPoolConfig threadPoolConfig;
 
     public ExecutorRecorder(ThreadPoolConfig threadPoolConfig) {
@@ -37,7 +41,25 @@ public ExecutorRecorder(ThreadPoolConfig threadPoolConfig) {
 
     public ScheduledExecutorService setupRunTime(ShutdownContext shutdownContext,
             LaunchMode launchMode, ThreadFactory threadFactory, ContextHandler<Object> contextHandler) {
+        AdaptiveThreadPoolSizer sizer = null;
+        if (threadPoolConfig.adaptive().enabled()) {
+            sizer = new AdaptiveThreadPoolSizer(threadPoolConfig, contextHandler);
+            contextHandler = sizer;
+        }
         final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig, threadFactory, contextHandler);
+        if (sizer != null) {
+            underlying.setMaximumPoolSize(sizer.initialMaxThreads());
+            sizer.start(underlying);
+            final AdaptiveThreadPoolSizer startedSizer = sizer;
+            shutdownContext.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    startedSizer.stop();
+                    adaptiveSizer = null;
+                }
+            });
+        }
+        adaptiveSizer = sizer;
         if (launchMode == LaunchMode.DEVELOPMENT) {
             shutdownContext.addLastShutdownTask(new Runnable() {
                 @Override
@@ -187,6 +209,27 @@ private static EnhancedQueueExecutor createExecutor(ThreadPoolConfig threadPoolC
         return builder.build();
     }
 
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                AdaptiveThreadPoolSizer sizer = adaptiveSizer;
+                if (sizer == null) {
+                    return;
+                }
+                sizer.setQueueWaitRecorder(metricsFactory.builder("thread-pool.queue.wait")
+                        .description("Time spent by the tasks in the queue of the core thread pool")
+                        .buildTimer());
+                metricsFactory.builder("thread-pool.max.size")
+                        .description("Maximum size of the core thread pool computed by the adaptive sizing")
+                        .buildGauge(sizer::getMaxThreads);
+                metricsFactory.builder("thread-pool.blocking.ratio")
+                        .description("Ratio of the execution time the tasks of the core thread pool spend blocked")
+                        .buildGauge(sizer::getBlockingRatio);
+            }
+        };
+    }
+
     public static int getMaxSize(ThreadPoolConfig threadPoolConfig) {
         return threadPoolConfig.maxThreads().orElseGet(MaxThreadsCalculator.INSTANCE);
     }
@@ -85,4 +85,42 @@ public interface ThreadPoolConfig {
      */
     @WithDefault("30")
     Duration keepAliveTime();
+
+    /**
+     * Adaptive sizing of the thread pool.
+     */
+    Adaptive adaptive();
+
+    interface Adaptive {
+
+        /**
+         * Whether the maximum number of threads is adjusted at runtime.
+         * <p>
+         * When enabled, the maximum number of threads is periodically recomputed from the measured arrival rate, execution
+         * time and queue wait time of the tasks (Little's law), and from the ratio of time the tasks spend blocked.
+         * The configured {@code max-threads} is then the upper bound, and {@code core-threads} the lower bound.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The queue wait time the pool aims at. The pool grows when tasks wait longer than this in the queue, and shrinks
+         * when they wait less than half of it.
+         */
+        @WithDefault("10ms")
+        Duration targetQueueWait();
+
+        /**
+         * The CPU utilization of the process, between {@code 0.0} and {@code 1.0}, above which the pool stops growing.
+         * It also bounds the number of threads the measured blocking ratio of the tasks can keep busy.
+         */
+        @WithDefault("0.9")
+        float maxCpuUtilization();
+
+        /**
+         * The interval between two adjustments of the maximum number of threads.
+         */
+        @WithDefault("1s")
+        Duration interval();
+    }
 }
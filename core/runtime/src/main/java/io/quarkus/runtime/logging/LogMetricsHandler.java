@@ -2,6 +2,8 @@
 
 import java.util.Map.Entry;
 import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logmanager.ExtHandler;
@@ -18,6 +20,13 @@
  */
 public class LogMetricsHandler extends ExtHandler {
 
+    /**
+     * The number of log messages discarded by the {@link RingBufferFileHandler} instances.
+     */
+    static final LongAdder DROPPED = new LongAdder();
+
+    static final Set<RingBufferFileHandler> RING_BUFFER_FILE_HANDLERS = ConcurrentHashMap.newKeySet();
+
     final NavigableMap<Integer, LongAdder> logCounters;
 
     public LogMetricsHandler(NavigableMap<Integer, LongAdder> logCounters) {
@@ -35,6 +44,33 @@ protected void doPublish(ExtLogRecord record) {
         }
     }
 
+    /**
+     * @return the number of log messages discarded by the asynchronous file handlers
+     */
+    public static long getDroppedCount() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * @return the number of log messages waiting to be written by the asynchronous file handlers
+     */
+    public static long getQueueDepth() {
+        long depth = 0;
+        for (RingBufferFileHandler handler : RING_BUFFER_FILE_HANDLERS) {
+            depth += handler.getQueueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * Resets the number of discarded log messages and forgets the asynchronous file handlers, so that they are not retained
+     * after a restart in dev mode.
+     */
+    static void reset() {
+        DROPPED.reset();
+        RING_BUFFER_FILE_HANDLERS.clear();
+    }
+
     @Override
     public void flush() {
     }
@@ -12,6 +12,7 @@
 import org.jboss.logmanager.Level;
 
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -22,6 +23,14 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String DROPPED_METRIC_NAME = "log.dropped";
+
+    static final String DROPPED_METRIC_DESCRIPTION = "Number of log events discarded by the asynchronous file handlers because their queue was full.";
+
+    static final String QUEUE_DEPTH_METRIC_NAME = "log.queue.depth";
+
+    static final String QUEUE_DEPTH_METRIC_DESCRIPTION = "Number of log events waiting to be written by the asynchronous file handlers.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,10 +52,23 @@ public void accept(MetricsFactory metricsFactory) {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(DROPPED_METRIC_NAME).description(DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(LogMetricsHandler::getDroppedCount);
+                metricsFactory.builder(QUEUE_DEPTH_METRIC_NAME).description(QUEUE_DEPTH_METRIC_DESCRIPTION)
+                        .buildGauge(LogMetricsHandler::getQueueDepth);
             }
         };
     }
 
+    public void resetOnShutdown(ShutdownContext shutdownContext) {
+        shutdownContext.addLastShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                LogMetricsHandler.reset();
+            }
+        });
+    }
+
     public RuntimeValue<Optional<Handler>> getLogHandler() {
         return new RuntimeValue(Optional.of(new LogMetricsHandler(COUNTERS)));
     }
@@ -212,7 +212,7 @@ interface FileConfig {
         /**
          * File async logging config
          */
-        AsyncConfig async();
+        FileAsyncConfig async();
 
         /**
          * File rotation config.
@@ -222,6 +222,20 @@ interface FileConfig {
          */
         RotationConfig rotation();
 
+        interface FileAsyncConfig extends AsyncConfig {
+
+            /**
+             * Whether to use a lock-free ring buffer and a dedicated writer thread instead of the default asynchronous
+             * handler.
+             * <p>
+             * The ring buffer holds references to the log records. The records are formatted by the writer thread and
+             * written to the file in batches. Only the size based rotation is supported: when a file suffix is
+             * configured, a warning is logged and the default asynchronous handler is used.
+             */
+            @WithDefault("false")
+            boolean ringBuffer();
+        }
+
         interface RotationConfig {
 
             /**
@@ -653,8 +653,18 @@ private static Handler configureFileHandler(final FileConfig config, final Error
             final LogCleanupFilter cleanupFilter, Map<String, Filter> namedFilters,
             final List<RuntimeValue<Optional<Formatter>>> possibleFileFormatters,
             final boolean includeFilters) {
-        FileHandler handler;
         FileConfig.RotationConfig rotationConfig = config.rotation();
+        if (config.async().ringBuffer() && config.async().legacyEnable().orElse(config.async().enable())) {
+            if (rotationConfig.enabled() && rotationConfig.fileSuffix().isPresent()) {
+                log.warnf("The ring buffer file handler does not support the periodic rotation configured with"
+                        + " 'quarkus.log.file.rotation.file-suffix', the default asynchronous handler is used for %s",
+                        config.path());
+            } else {
+                return configureRingBufferFileHandler(config, errorManager, cleanupFilter, namedFilters,
+                        possibleFileFormatters, includeFilters);
+            }
+        }
+        FileHandler handler;
         if (!rotationConfig.enabled()) {
             handler = new FileHandler();
         } else if (rotationConfig.fileSuffix().isPresent()) {
@@ -671,21 +681,7 @@ private static Handler configureFileHandler(final FileConfig config, final Error
             handler = sizeRotatingFileHandler;
         }
 
-        Formatter formatter = null;
-        boolean formatterWarning = false;
-        for (RuntimeValue<Optional<Formatter>> value : possibleFileFormatters) {
-            if (formatter != null) {
-                formatterWarning = true;
-            }
-            final Optional<Formatter> val = value.getValue();
-            if (val.isPresent()) {
-                formatter = val.get();
-            }
-        }
-        if (formatter == null) {
-            formatter = new PatternFormatter(config.format());
-        }
-        handler.setFormatter(formatter);
+        boolean formatterWarning = applyFileFormatter(config, possibleFileFormatters, handler);
 
         handler.setAppend(true);
         try {
@@ -715,6 +711,62 @@ private static Handler configureFileHandler(final FileConfig config, final Error
         return handler;
     }
 
+    private static Handler configureRingBufferFileHandler(final FileConfig config, final ErrorManager errorManager,
+            final LogCleanupFilter cleanupFilter, Map<String, Filter> namedFilters,
+            final List<RuntimeValue<Optional<Formatter>>> possibleFileFormatters,
+            final boolean includeFilters) {
+        FileConfig.RotationConfig rotationConfig = config.rotation();
+        RingBufferFileHandler handler = new RingBufferFileHandler(config.path(), config.async().queueLength(),
+                config.async().overflow(), rotationConfig.enabled() ? rotationConfig.maxFileSize().asLongValue() : 0,
+                rotationConfig.maxBackupIndex(), rotationConfig.enabled() && rotationConfig.rotateOnBoot());
+        boolean formatterWarning = applyFileFormatter(config, possibleFileFormatters, handler);
+        handler.setErrorManager(errorManager);
+        handler.setLevel(config.level());
+        if (config.encoding().isPresent()) {
+            try {
+                handler.setEncoding(config.encoding().get().name());
+            } catch (UnsupportedEncodingException e) {
+                errorManager.error("Failed to set character encoding", e, ErrorManager.GENERIC_FAILURE);
+            }
+        }
+        applyFilter(includeFilters, errorManager, cleanupFilter, config.filter(), namedFilters, handler);
+
+        if (formatterWarning) {
+            handler.getErrorManager().error("Multiple file formatters were activated", null, ErrorManager.GENERIC_FAILURE);
+        }
+        try {
+            handler.start();
+        } catch (IOException e) {
+            errorManager.error("Failed to set log file", e, ErrorManager.OPEN_FAILURE);
+        }
+        return handler;
+    }
+
+    /**
+     * Sets the formatter of a file handler: the formatter provided by an extension, or a pattern formatter if none.
+     *
+     * @return {@code true} if several extensions provided a formatter
+     */
+    private static boolean applyFileFormatter(final FileConfig config,
+            final List<RuntimeValue<Optional<Formatter>>> possibleFileFormatters, final Handler handler) {
+        Formatter formatter = null;
+        boolean formatterWarning = false;
+        for (RuntimeValue<Optional<Formatter>> value : possibleFileFormatters) {
+            if (formatter != null) {
+                formatterWarning = true;
+            }
+            final Optional<Formatter> val = value.getValue();
+            if (val.isPresent()) {
+                formatter = val.get();
+            }
+        }
+        if (formatter == null) {
+            formatter = new PatternFormatter(config.format());
+        }
+        handler.setFormatter(formatter);
+        return formatterWarning;
+    }
+
     private static void applyFilter(boolean includeFilters, ErrorManager errorManager, LogCleanupFilter cleanupFilter,
             Optional<String> filterName, Map<String, Filter> namedFilters, Handler handler) {
         if (filterName.isEmpty() || !includeFilters) {
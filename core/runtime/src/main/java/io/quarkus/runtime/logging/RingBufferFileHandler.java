@@ -0,0 +1,387 @@
+package io.quarkus.runtime.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous file handler.
+ * <p>
+ * The records are published to a bounded multi-producer single-consumer ring buffer, so that the logging threads neither
+ * take a lock nor allocate a queue node. The ring buffer holds references to the records, which are allocated by the
+ * logging threads as usual. A single writer thread formats each record to a string, encodes it into a reusable direct
+ * buffer and writes the buffer to a {@link FileChannel} when it is full or when the ring buffer is drained, so that a
+ * burst of records is written with a few system calls.
+ * <p>
+ * When the ring buffer is full, the logging threads either discard the record or park until the writer thread takes a
+ * record, depending on the overflow action.
+ * <p>
+ * The file is rotated based on its size, after the batch that reached the maximum size is written. If the rotation fails,
+ * the records are appended to the current file and the rotation is attempted again after the next batch. The periodic
+ * rotation is not supported.
+ */
+public class RingBufferFileHandler extends ExtHandler {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final File file;
+    private final OverflowAction overflowAction;
+    private final long rotateSize;
+    private final int maxBackupIndex;
+    private final boolean rotateOnBoot;
+
+    private final int mask;
+    private final ExtLogRecord[] records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    /**
+     * The number of records taken by the writer thread, only updated by the writer thread.
+     */
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    /**
+     * The logging threads waiting for a free slot, unparked by the writer thread when it takes a record.
+     */
+    private final ConcurrentLinkedQueue<Thread> blockedProducers = new ConcurrentLinkedQueue<>();
+
+    private volatile Thread writer;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    /**
+     * The number of records taken by the writer thread and written to the file.
+     */
+    private volatile long written;
+
+    private FileChannel channel;
+    private long size;
+    private ByteBuffer buffer;
+    private CharsetEncoder encoder;
+
+    public RingBufferFileHandler(File file, int queueLength, OverflowAction overflowAction, long rotateSize,
+            int maxBackupIndex, boolean rotateOnBoot) {
+        this.file = file;
+        this.overflowAction = overflowAction;
+        this.rotateSize = rotateSize;
+        this.maxBackupIndex = maxBackupIndex;
+        this.rotateOnBoot = rotateOnBoot;
+        int capacity = Integer.highestOneBit(Math.max(2, queueLength) - 1) << 1;
+        this.mask = capacity - 1;
+        this.records = new ExtLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Opens the file and starts the writer thread.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    public void start() throws IOException {
+        Charset charset = getEncoding() != null ? Charset.forName(getEncoding()) : Charset.defaultCharset();
+        encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        if (rotateOnBoot && rotateSize > 0 && file.length() > 0) {
+            rotateFiles();
+        }
+        openChannel();
+        Thread thread = new Thread(this::run, "quarkus-log-file-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        LogMetricsHandler.RING_BUFFER_FILE_HANDLERS.add(this);
+        thread.start();
+    }
+
+    /**
+     * @return the number of records waiting to be written
+     */
+    public long getQueueDepth() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * @return the number of records discarded because the ring buffer was full or the handler was closed
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        Thread thread = writer;
+        if (thread == null || closed || Thread.currentThread() == thread) {
+            drop();
+            return;
+        }
+        // The record is formatted by the writer thread, so capture the caller data, the MDC and the NDC now
+        record.copyAll();
+        while (!offer(record)) {
+            if (overflowAction == OverflowAction.DISCARD || closed) {
+                drop();
+                return;
+            }
+            awaitFreeSlot(thread);
+        }
+        if (writerParked) {
+            writerParked = false;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void awaitFreeSlot(Thread writer) {
+        Thread current = Thread.currentThread();
+        blockedProducers.add(current);
+        try {
+            // the writer may have taken a record before this thread was registered
+            if (tail.get() - head.get() >= records.length && !closed) {
+                LockSupport.unpark(writer);
+                // the timeout guards against a missed signal
+                LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+            }
+        } finally {
+            blockedProducers.remove(current);
+        }
+    }
+
+    private void signalBlockedProducers() {
+        for (Thread producer : blockedProducers) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    private void drop() {
+        dropped.increment();
+        LogMetricsHandler.DROPPED.increment();
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[index] = record;
+                    // publishes the record to the writer thread
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private ExtLogRecord poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        ExtLogRecord record = records[index];
+        records[index] = null;
+        sequences.lazySet(index, position + records.length);
+        head.lazySet(position + 1);
+        return record;
+    }
+
+    private void run() {
+        Formatter formatter = getFormatter();
+        writeString(formatter == null ? null : formatter.getHead(this));
+        for (;;) {
+            ExtLogRecord record = poll();
+            if (record != null) {
+                if (!blockedProducers.isEmpty()) {
+                    signalBlockedProducers();
+                }
+                writeRecord(record);
+                continue;
+            }
+            writeBuffer();
+            written = head.get();
+            if (closed && tail.get() == head.get()) {
+                break;
+            }
+            writerParked = true;
+            if (tail.get() == head.get() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerParked = false;
+        }
+        writeString(formatter == null ? null : formatter.getTail(this));
+        writeBuffer();
+        signalBlockedProducers();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                reportError("Failed to close the log file", e, ErrorManager.CLOSE_FAILURE);
+            }
+        }
+    }
+
+    private void writeRecord(ExtLogRecord record) {
+        Formatter formatter = getFormatter();
+        if (formatter == null) {
+            return;
+        }
+        String formatted;
+        try {
+            formatted = formatter.format(record);
+        } catch (Exception e) {
+            reportError("Failed to format the log record", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        writeString(formatted);
+    }
+
+    private void writeString(String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        CharBuffer chars = CharBuffer.wrap(value);
+        encoder.reset();
+        CoderResult result;
+        while ((result = encoder.encode(chars, buffer, true)).isOverflow()) {
+            writeBuffer();
+        }
+        if (result.isError()) {
+            reportError("Failed to encode the log record", null, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            if (channel == null) {
+                openChannel();
+            }
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            reportError("Failed to write to the log file", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            buffer.clear();
+        }
+        if (channel != null && rotateSize > 0 && size >= rotateSize) {
+            rotate();
+        }
+    }
+
+    private void rotate() {
+        try {
+            channel.close();
+            rotateFiles();
+        } catch (IOException e) {
+            reportError("Failed to rotate the log file", e, ErrorManager.WRITE_FAILURE);
+        }
+        try {
+            // the current file is reopened if the rotation failed
+            openChannel();
+        } catch (IOException e) {
+            channel = null;
+            reportError("Failed to open the log file", e, ErrorManager.OPEN_FAILURE);
+        }
+    }
+
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    private void rotateFiles() throws IOException {
+        Path path = file.toPath();
+        if (maxBackupIndex <= 0) {
+            Files.deleteIfExists(path);
+            return;
+        }
+        for (int i = maxBackupIndex - 1; i >= 1; i--) {
+            Path source = backup(i);
+            if (Files.exists(source)) {
+                Files.move(source, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, backup(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path backup(int index) {
+        return file.toPath().resolveSibling(file.getName() + "." + index);
+    }
+
+    @Override
+    public void flush() {
+        Thread thread = writer;
+        if (thread == null || Thread.currentThread() == thread) {
+            return;
+        }
+        long target = tail.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (written < target && thread.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LogMetricsHandler.RING_BUFFER_FILE_HANDLERS.remove(this);
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveThreadPoolSizerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void growsWhenTasksWaitInTheQueue() {
+        // 1000 tasks of 50ms per second: 50 busy threads on average, waiting 100ms each
+        int next = AdaptiveThreadPoolSizer.computeMaxThreads(16, 1, 200, 8, 0.9f, TARGET, SECOND, 1000,
+                1000 * TimeUnit.MILLISECONDS.toNanos(50), 1000 * TimeUnit.MILLISECONDS.toNanos(100), 0.95, 0.3, 500);
+        assertEquals(64, next);
+    }
+
+    @Test
+    public void doesNotGrowWhenTheCpuIsSaturated() {
+        int next = AdaptiveThreadPoolSizer.computeMaxThreads(16, 1, 200, 8, 0.9f, TARGET, SECOND, 1000,
+                1000 * TimeUnit.MILLISECONDS.toNanos(50), 1000 * TimeUnit.MILLISECONDS.toNanos(100), 0.95, 0.95, 500);
+        assertEquals(16, next);
+    }
+
+    @Test
+    public void isBoundedByTheBlockingRatio() {
+        // CPU bound tasks: 8 cores can only keep ceil(8 * 0.9 / 0.9) = 8 threads busy
+        int next = AdaptiveThreadPoolSizer.computeMaxThreads(16, 1, 200, 8, 0.9f, TARGET, SECOND, 1000,
+                1000 * TimeUnit.MILLISECONDS.toNanos(50), 1000 * TimeUnit.MILLISECONDS.toNanos(100), 0.1, 0.5, 500);
+        assertEquals(8, next);
+    }
+
+    @Test
+    public void shrinksTowardsTheNeededConcurrency() {
+        // 100 tasks of 10ms per second: 1 busy thread on average, no wait
+        int current = 100;
+        for (int i = 0; i < 50; i++) {
+            int next = AdaptiveThreadPoolSizer.computeMaxThreads(current, 1, 200, 8, 0.9f, TARGET, SECOND, 100,
+                    100 * TimeUnit.MILLISECONDS.toNanos(10), 0, 0.9, 0.1, 0);
+            assertTrue(next <= current);
+            current = next;
+        }
+        assertEquals(3, current);
+    }
+
+    @Test
+    public void growsWhenAllThreadsAreStuck() {
+        assertEquals(20, AdaptiveThreadPoolSizer.computeMaxThreads(16, 1, 200, 8, 0.9f, TARGET, SECOND, 0, 0, 0, -1, -1,
+                10));
+        assertEquals(16, AdaptiveThreadPoolSizer.computeMaxThreads(16, 1, 200, 8, 0.9f, TARGET, SECOND, 0, 0, 0, -1, -1,
+                0));
+    }
+
+    @Test
+    public void isBoundedByTheBlockingRatioWhenIdle() {
+        // CPU bound tasks: 8 cores can only keep ceil(8 * 0.9 / 0.9) = 8 threads busy
+        assertEquals(8, AdaptiveThreadPoolSizer.computeMaxThreads(16, 1, 200, 8, 0.9f, TARGET, SECOND, 0, 0, 0, 0.1, 0.1,
+                0));
+    }
+}
@@ -0,0 +1,147 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RingBufferFileHandlerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void shouldWriteRecordsFromManyThreads() throws Exception {
+        File file = dir.resolve("app.log").toFile();
+        RingBufferFileHandler handler = handler(file, 0, 0);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    handler.publish(record("t" + thread + "-" + i));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.flush();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(4000, lines.size());
+        assertTrue(lines.contains("t3-999"));
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(0, handler.getQueueDepth());
+        handler.close();
+    }
+
+    @Test
+    public void shouldRotateBySize() throws Exception {
+        File file = dir.resolve("rotated.log").toFile();
+        RingBufferFileHandler handler = handler(file, 100, 2);
+        for (int i = 0; i < 3; i++) {
+            handler.publish(record("x".repeat(120)));
+            handler.flush();
+        }
+        handler.close();
+
+        assertTrue(Files.exists(dir.resolve("rotated.log.1")));
+        assertTrue(Files.exists(dir.resolve("rotated.log.2")));
+        assertEquals(0, Files.size(file.toPath()));
+    }
+
+    @Test
+    public void shouldWriteToTheCurrentFileWhenTheRotationFails() throws Exception {
+        File file = dir.resolve("failing.log").toFile();
+        // the backup cannot replace a non-empty directory
+        Files.createDirectories(dir.resolve("failing.log.1"));
+        Files.createFile(dir.resolve("failing.log.1").resolve("file"));
+        RingBufferFileHandler handler = handler(file, 100, 1);
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(String msg, Exception ex, int code) {
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            handler.publish(record("x".repeat(120)));
+            handler.flush();
+        }
+        handler.close();
+
+        assertEquals(3, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void shouldBlockWhenTheRingBufferIsFull() throws Exception {
+        File file = dir.resolve("blocked.log").toFile();
+        RingBufferFileHandler handler = handler(file, 0, 0);
+        for (int i = 0; i < 10_000; i++) {
+            handler.publish(record("message " + i));
+        }
+        handler.close();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(10_000, lines.size());
+        assertEquals("message 9999", lines.get(9999));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void shouldWriteQueuedRecordsOnClose() throws Exception {
+        File file = dir.resolve("closed.log").toFile();
+        RingBufferFileHandler handler = handler(file, 0, 0);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(record("message " + i));
+        }
+        handler.close();
+        handler.publish(record("after close"));
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(100, lines.size());
+        assertEquals("message 99", lines.get(99));
+        assertEquals(1, handler.getDroppedCount());
+    }
+
+    @Test
+    public void shouldForgetTheHandlersOnReset() throws Exception {
+        RingBufferFileHandler handler = handler(dir.resolve("reset.log").toFile(), 0, 0);
+        try {
+            assertTrue(LogMetricsHandler.RING_BUFFER_FILE_HANDLERS.contains(handler));
+            LogMetricsHandler.reset();
+            assertTrue(LogMetricsHandler.RING_BUFFER_FILE_HANDLERS.isEmpty());
+            assertEquals(0, LogMetricsHandler.getDroppedCount());
+        } finally {
+            handler.close();
+        }
+    }
+
+    private static RingBufferFileHandler handler(File file, long rotateSize, int maxBackupIndex) throws IOException {
+        RingBufferFileHandler handler = new RingBufferFileHandler(file, 64, OverflowAction.BLOCK, rotateSize,
+                maxBackupIndex, false);
+        handler.setFormatter(new PatternFormatter("%s%n"));
+        handler.setLevel(Level.ALL);
+        handler.start();
+        return handler;
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, RingBufferFileHandlerTest.class.getName());
+    }
+}
@@ -0,0 +1,113 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Registers the Jackson serializers and deserializers generated at build time for the payload types of the Kafka
+ * channels, so these types are (de)serialized without reflection.
+ * <p>
+ * The generated code follows the bean handling of Jackson with its default configuration. It is not used when the object
+ * mapper changes it, with a naming strategy or mix-ins for instance, databind being used then.
+ */
+public class GeneratedSerdesModule extends SimpleModule {
+
+    public GeneratedSerdesModule(StdSerializer<?>[] serializers, StdDeserializer<?>[] deserializers) {
+        super(GeneratedSerdesModule.class.getName());
+        // a serializer is only used for the exact class it has been generated for, not for its subclasses
+        ExactSerializers exactSerializers = new ExactSerializers();
+        for (StdSerializer<?> serializer : serializers) {
+            exactSerializers.addExactSerializer(serializer.handledType(), serializer);
+        }
+        setSerializers(exactSerializers);
+        for (StdDeserializer<?> deserializer : deserializers) {
+            addDeserializer(deserializer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void addDeserializer(StdDeserializer<T> deserializer) {
+        addDeserializer((Class<T>) deserializer.handledType(), deserializer);
+    }
+
+    /**
+     * Returns a copy of the application object mapper using the given generated serializers and deserializers, or the
+     * application object mapper itself if its configuration does not allow them.
+     */
+    public static ObjectMapper objectMapper(StdSerializer<?>[] serializers, StdDeserializer<?>[] deserializers) {
+        return objectMapper(ObjectMapperProducer.get(), serializers, deserializers);
+    }
+
+    /**
+     * Returns a copy of the given object mapper using the given generated serializers and deserializers, or the given
+     * object mapper itself if its configuration does not allow them.
+     */
+    public static ObjectMapper objectMapper(ObjectMapper objectMapper, StdSerializer<?>[] serializers,
+            StdDeserializer<?>[] deserializers) {
+        if (!hasDefaultBeanHandling(objectMapper)) {
+            return objectMapper;
+        }
+        if (deserializers.length > 0 && !hasDefaultBeanDeserialization(objectMapper)) {
+            deserializers = new StdDeserializer<?>[0];
+        }
+        if (serializers.length == 0 && deserializers.length == 0) {
+            return objectMapper;
+        }
+        return objectMapper.copy().registerModule(new GeneratedSerdesModule(serializers, deserializers));
+    }
+
+    private static boolean hasDefaultBeanHandling(ObjectMapper objectMapper) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion().getValueInclusion();
+        return objectMapper.getPropertyNamingStrategy() == null
+                && objectMapper.mixInCount() == 0
+                && config.getDefaultTyper(null) == null
+                && config.getDefaultVisibilityChecker() == VisibilityChecker.Std.defaultInstance()
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS)
+                && !objectMapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !objectMapper.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                && !objectMapper.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)
+                && objectMapper.isEnabled(MapperFeature.USE_ANNOTATIONS)
+                && objectMapper.isEnabled(MapperFeature.AUTO_DETECT_FIELDS)
+                && objectMapper.isEnabled(MapperFeature.AUTO_DETECT_GETTERS)
+                && objectMapper.isEnabled(MapperFeature.AUTO_DETECT_IS_GETTERS)
+                && objectMapper.isEnabled(MapperFeature.AUTO_DETECT_SETTERS);
+    }
+
+    private static boolean hasDefaultBeanDeserialization(ObjectMapper objectMapper) {
+        return !objectMapper.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                && !objectMapper.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)
+                && !objectMapper.isEnabled(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT)
+                && !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)
+                && !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES);
+    }
+
+    private static class ExactSerializers extends SimpleSerializers {
+
+        private final Map<Class<?>, JsonSerializer<?>> exactSerializers = new HashMap<>();
+
+        void addExactSerializer(Class<?> type, JsonSerializer<?> ser) {
+            exactSerializers.put(type, ser);
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> exactSerializer = exactSerializers.get(type.getRawClass());
+            return exactSerializer != null ? exactSerializer : super.findSerializer(config, type, beanDesc);
+        }
+    }
+}
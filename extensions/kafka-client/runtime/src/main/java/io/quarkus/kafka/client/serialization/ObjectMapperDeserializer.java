@@ -1,8 +1,6 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.Deserializer;
@@ -10,20 +8,19 @@
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final JavaType type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(type);
-        this.objectMapper = objectMapper;
+        this(TypeFactory.defaultInstance().constructType(type), objectMapper);
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference) {
@@ -31,8 +28,12 @@ public ObjectMapperDeserializer(TypeReference<T> typeReference) {
     }
 
     public ObjectMapperDeserializer(TypeReference<T> typeReference, ObjectMapper objectMapper) {
-        this.type = TypeFactory.defaultInstance().constructType(typeReference);
-        this.objectMapper = objectMapper;
+        this(TypeFactory.defaultInstance().constructType(typeReference), objectMapper);
+    }
+
+    private ObjectMapperDeserializer(JavaType type, ObjectMapper objectMapper) {
+        // resolved once, the reader keeps the deserializer of the type
+        this.reader = objectMapper.readerFor(type);
     }
 
     @Override
@@ -45,8 +46,8 @@ public T deserialize(String topic, byte[] data) {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,13 +1,13 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
@@ -15,7 +15,7 @@
 public class ObjectMapperSerializer<T> implements Serializer<T> {
     public static final String NULL_AS_NULL_CONFIG = "json.serialize.null-as-null";
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
 
     private boolean nullAsNull = false;
 
@@ -24,7 +24,7 @@ public ObjectMapperSerializer() {
     }
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
     }
 
     @Override
@@ -40,10 +40,10 @@ public byte[] serialize(String topic, T data) {
             return null;
         }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
-        } catch (IOException e) {
+        try {
+            // writes into Jackson's recycled buffers rather than a growing output stream copied at the end
+            return writer.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
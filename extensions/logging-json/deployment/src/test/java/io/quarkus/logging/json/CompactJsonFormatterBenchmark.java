@@ -0,0 +1,77 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.logging.json.runtime.JsonFormatter;
+
+/**
+ * Measures the throughput of a single thread, in records per second, and the bytes allocated per record of the compact
+ * JSON formatter and of the logmanager JSON formatter, which uses a Jakarta JSON generator per record.
+ * <p>
+ * Run it with {@code -Dlogging-json-benchmark -Dtest=CompactJsonFormatterBenchmark}.
+ */
+@EnabledIfSystemProperty(named = "logging-json-benchmark", matches = ".*")
+public class CompactJsonFormatterBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(CompactJsonFormatterBenchmark.class);
+
+    private static final long DURATION = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void throughput() {
+        StructuredFormatter compact = new JsonFormatter();
+        StructuredFormatter reference = new org.jboss.logmanager.formatters.JsonFormatter();
+
+        // warm up
+        format(compact);
+        format(reference);
+
+        LOGGER.infof("Logmanager JSON formatter: %d records/s, %d bytes/record", format(reference),
+                allocatedBytesPerRecord(reference));
+        LOGGER.infof("Compact JSON formatter: %d records/s, %d bytes/record", format(compact),
+                allocatedBytesPerRecord(compact));
+    }
+
+    private long format(StructuredFormatter formatter) {
+        ExtLogRecord record = record();
+        long records = 0;
+        long size = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < DURATION) {
+            size += formatter.format(record).length();
+            records++;
+        }
+        assertThat(size).isPositive();
+        return records * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - start);
+    }
+
+    private long allocatedBytesPerRecord(StructuredFormatter formatter) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExtLogRecord record = record();
+        int records = 100_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < records; i++) {
+            formatter.format(record);
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / records;
+    }
+
+    private static ExtLogRecord record() {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, "Order 1234 shipped to the customer",
+                CompactJsonFormatterBenchmark.class.getName());
+        record.setLoggerName("io.quarkus.benchmark.orders");
+        record.setMdc(Map.of("traceId", "4bf92f3577b34da6a3ce929d0e0e4736", "spanId", "00f067aa0ba902b7"));
+        return record;
+    }
+}
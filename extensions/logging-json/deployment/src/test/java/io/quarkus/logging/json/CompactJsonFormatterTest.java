@@ -0,0 +1,71 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.logging.json.runtime.AdditionalField;
+import io.quarkus.logging.json.runtime.JsonFormatter;
+import io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig;
+
+public class CompactJsonFormatterTest {
+
+    @Test
+    public void compactOutputShouldMatchTheJsonGeneratorOutput() {
+        JsonFormatter compact = new JsonFormatter();
+        JsonFormatter pretty = new JsonFormatter();
+        pretty.setPrettyPrint(true);
+        org.jboss.logmanager.formatters.JsonFormatter reference = new org.jboss.logmanager.formatters.JsonFormatter();
+        for (StructuredFormatter.ExceptionOutputType type : StructuredFormatter.ExceptionOutputType.values()) {
+            compact.setExceptionOutputType(type);
+            reference.setExceptionOutputType(type);
+            pretty.setExceptionOutputType(type);
+            for (int i = 0; i < 3; i++) {
+                ExtLogRecord record = record("Hello \"quoted\" \\ \n\t\u0001 é world " + i);
+                record.setThrown(new IllegalStateException("failed\n", new RuntimeException("cause")));
+                assertThat(compact.format(record)).isEqualTo(reference.format(record));
+                assertThat(compact.format(record)).isNotEqualTo(pretty.format(record));
+            }
+        }
+    }
+
+    @Test
+    public void compactOutputShouldApplyExcludedKeysAndAdditionalFields() throws Exception {
+        Map<String, AdditionalField> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("service.name", new AdditionalField("my \"app\"", AdditionalFieldConfig.Type.STRING));
+        additionalFields.put("answer", new AdditionalField("42", AdditionalFieldConfig.Type.INT));
+        additionalFields.put("excluded", new AdditionalField("value", AdditionalFieldConfig.Type.STRING));
+        JsonFormatter formatter = new JsonFormatter("level=severity", Set.of("sequence", "mdc", "excluded"),
+                additionalFields);
+
+        for (int i = 0; i < 2; i++) {
+            JsonNode node = new ObjectMapper().readTree(formatter.format(record("message " + i)));
+            assertThat(node.get("severity").asText()).isEqualTo("INFO");
+            assertThat(node.has("sequence")).isFalse();
+            assertThat(node.has("mdc")).isFalse();
+            assertThat(node.has("excluded")).isFalse();
+            assertThat(node.get("service.name").asText()).isEqualTo("my \"app\"");
+            assertThat(node.get("answer").asInt()).isEqualTo(42);
+            assertThat(node.get("message").asText()).isEqualTo("message " + i);
+            assertThat(node.get("loggerName").asText()).isEqualTo("io.quarkus.test");
+        }
+    }
+
+    private static ExtLogRecord record(String message) {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, message, CompactJsonFormatterTest.class.getName());
+        record.setLoggerName("io.quarkus.test");
+        record.setMdc(Map.of("traceId", "1234", "user\"name", "x"));
+        record.setNdc("ndc");
+        return record;
+    }
+}
@@ -1,17 +1,31 @@
 package io.quarkus.logging.json.runtime;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import jakarta.json.JsonValue;
+
 import org.jboss.logmanager.ExtLogRecord;
 
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
 
+    /**
+     * The maximum number of encoded keys, so that arbitrary MDC keys do not make the cache grow without bounds.
+     */
+    private static final int MAX_ENCODED_KEYS = 512;
+
     private Set<String> excludedKeys;
     private Map<String, AdditionalField> additionalFields;
+    // The records are formatted while holding the formatter lock, so the encoded forms do not need to be thread-safe
+    private final Map<String, EncodedKey> encodedKeys = new HashMap<>();
+    private String encodedAdditionalFields;
 
     /**
      * Creates a new JSON formatter.
@@ -56,26 +70,79 @@ public Set<String> getExcludedKeys() {
         return this.excludedKeys;
     }
 
-    public void setExcludedKeys(Set<String> excludedKeys) {
+    public synchronized void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
+        this.encodedKeys.clear();
+        this.encodedAdditionalFields = null;
     }
 
     public Map<String, AdditionalField> getAdditionalFields() {
         return this.additionalFields;
     }
 
-    public void setAdditionalFields(Map<String, AdditionalField> additionalFields) {
+    public synchronized void setAdditionalFields(Map<String, AdditionalField> additionalFields) {
         this.additionalFields = additionalFields;
+        this.encodedAdditionalFields = null;
+    }
+
+    /**
+     * @return the encoded key, or null if there are too many keys to keep them
+     */
+    EncodedKey encodedKey(String key) {
+        EncodedKey encodedKey = encodedKeys.get(key);
+        if (encodedKey == null && encodedKeys.size() < MAX_ENCODED_KEYS) {
+            encodedKey = new EncodedKey(excludedKeys.contains(key) ? null : CompactJsonGenerator.encodeKey(key));
+            encodedKeys.put(key, encodedKey);
+        }
+        return encodedKey;
+    }
+
+    private String encodedAdditionalFields() {
+        String encoded = encodedAdditionalFields;
+        if (encoded == null) {
+            StringBuilder builder = new StringBuilder();
+            for (var entry : this.additionalFields.entrySet()) {
+                if (excludedKeys.contains(entry.getKey())) {
+                    continue;
+                }
+                if (!builder.isEmpty()) {
+                    builder.append(',');
+                }
+                builder.append(CompactJsonGenerator.encodeKey(entry.getKey()));
+                switch (entry.getValue().type()) {
+                    case STRING:
+                        builder.append('"');
+                        CompactJsonGenerator.escape(builder, entry.getValue().value());
+                        builder.append('"');
+                        break;
+                    case INT:
+                        builder.append(Integer.parseInt(entry.getValue().value()));
+                        break;
+                    case LONG:
+                        builder.append(Long.parseLong(entry.getValue().value()));
+                        break;
+                }
+            }
+            encoded = encodedAdditionalFields = builder.toString();
+        }
+        return encoded;
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
+        if (!isPrettyPrint()) {
+            return new CompactJsonGenerator(writer, this);
+        }
         Generator superGenerator = super.createGenerator(writer);
         return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (generator instanceof CompactJsonGenerator compactGenerator) {
+            compactGenerator.addEncoded(encodedAdditionalFields());
+            return;
+        }
         for (var entry : this.additionalFields.entrySet()) {
             switch (entry.getValue().type()) {
                 case STRING:
@@ -91,6 +158,316 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         }
     }
 
+    private static final class EncodedKey {
+        /**
+         * The escaped key followed by a colon, or null if the key is excluded.
+         */
+        final char[] prefix;
+        /**
+         * The last value written for the key and, if it was written more than once in a row, the encoded pair.
+         */
+        String lastValue;
+        char[] lastPair;
+
+        EncodedKey(char[] prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * A generator writing compact JSON directly to the formatter writer.
+     * <p>
+     * The key names are escaped once and kept by the formatter, as well as the complete {@code "key":"value"}
+     * pair of the fields whose value is the same instance in consecutive records, such as the host name, the process name
+     * or the logger name. The other values are escaped while they are written, without creating intermediate strings.
+     * <p>
+     * The output is the same as the one of the Jakarta JSON generator used by the default JSON formatter.
+     */
+    private static final class CompactJsonGenerator implements Generator {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+        private static final char[] NULL = "null".toCharArray();
+
+        private final Writer writer;
+        private final JsonFormatter formatter;
+        private final char[] digits = new char[20];
+        /**
+         * Whether a value has already been written in the object or array at each nesting level.
+         */
+        private boolean[] hasValue = new boolean[8];
+        private int depth;
+
+        CompactJsonGenerator(Writer writer, JsonFormatter formatter) {
+            this.writer = writer;
+            this.formatter = formatter;
+        }
+
+        @Override
+        public Generator begin() throws Exception {
+            return startObject(null);
+        }
+
+        @Override
+        public Generator add(String key, int value) throws Exception {
+            return add(key, (long) value);
+        }
+
+        @Override
+        public Generator add(String key, long value) throws Exception {
+            if (writeKey(key)) {
+                writeLong(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, Map<String, ?> value) throws Exception {
+            if (!writeKey(key)) {
+                return this;
+            }
+            open('{');
+            if (value != null) {
+                for (Map.Entry<String, ?> entry : value.entrySet()) {
+                    writeKey(entry.getKey(), false);
+                    writeObject(entry.getValue());
+                }
+            }
+            close('}');
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, String value) throws Exception {
+            if (key == null) {
+                separator();
+                writeString(value);
+                return this;
+            }
+            EncodedKey encodedKey = formatter.encodedKey(key);
+            if (encodedKey == null) {
+                if (writeKey(key)) {
+                    writeString(value);
+                }
+                return this;
+            }
+            if (encodedKey.prefix == null) {
+                return this;
+            }
+            separator();
+            if (value != null && value == encodedKey.lastValue) {
+                // the same instance as in the previous record, typically a constant
+                if (encodedKey.lastPair == null) {
+                    encodedKey.lastPair = pair(encodedKey.prefix, value);
+                }
+                writer.write(encodedKey.lastPair);
+                return this;
+            }
+            encodedKey.lastValue = value;
+            encodedKey.lastPair = null;
+            writer.write(encodedKey.prefix);
+            writeString(value);
+            return this;
+        }
+
+        @Override
+        public Generator startObject(String key) throws Exception {
+            if (key != null) {
+                writeKey(key, false);
+            } else {
+                separator();
+            }
+            open('{');
+            return this;
+        }
+
+        @Override
+        public Generator endObject() throws Exception {
+            close('}');
+            return this;
+        }
+
+        @Override
+        public Generator startArray(String key) throws Exception {
+            if (key != null) {
+                writeKey(key, false);
+            } else {
+                separator();
+            }
+            open('[');
+            return this;
+        }
+
+        @Override
+        public Generator endArray() throws Exception {
+            close(']');
+            return this;
+        }
+
+        @Override
+        public Generator end() throws Exception {
+            close('}');
+            return this;
+        }
+
+        /**
+         * Writes fields already encoded as comma separated {@code "key":value} pairs.
+         */
+        void addEncoded(String fields) throws IOException {
+            if (!fields.isEmpty()) {
+                separator();
+                writer.write(fields);
+            }
+        }
+
+        /**
+         * @return false if the key is excluded
+         */
+        private boolean writeKey(String key) throws IOException {
+            return writeKey(key, true);
+        }
+
+        private boolean writeKey(String key, boolean excludable) throws IOException {
+            if (key == null) {
+                separator();
+                return true;
+            }
+            EncodedKey encodedKey = formatter.encodedKey(key);
+            if (encodedKey != null) {
+                if (encodedKey.prefix == null) {
+                    if (excludable) {
+                        return false;
+                    }
+                    separator();
+                    writeString(key);
+                    writer.write(':');
+                    return true;
+                }
+                separator();
+                writer.write(encodedKey.prefix);
+                return true;
+            }
+            if (excludable && formatter.getExcludedKeys().contains(key)) {
+                return false;
+            }
+            separator();
+            writeString(key);
+            writer.write(':');
+            return true;
+        }
+
+        private void writeObject(Object value) throws IOException {
+            if (value == null) {
+                writer.write(NULL);
+            } else if (value instanceof Integer || value instanceof Long) {
+                writeLong(((Number) value).longValue());
+            } else if (value instanceof Double d) {
+                if (d.isNaN() || d.isInfinite()) {
+                    throw new NumberFormatException("Non-finite double value: " + d);
+                }
+                writer.write(d.toString());
+            } else if (value instanceof Boolean || value instanceof BigInteger || value instanceof BigDecimal
+                    || value instanceof JsonValue) {
+                writer.write(value.toString());
+            } else {
+                writeString(String.valueOf(value));
+            }
+        }
+
+        private void writeLong(long value) throws IOException {
+            if (value == Long.MIN_VALUE) {
+                writer.write(Long.toString(value));
+                return;
+            }
+            long remaining = Math.abs(value);
+            int position = digits.length;
+            do {
+                digits[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining != 0);
+            if (value < 0) {
+                digits[--position] = '-';
+            }
+            writer.write(digits, position, digits.length - position);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writer.write(NULL);
+                return;
+            }
+            writer.write('"');
+            escape(writer, value);
+            writer.write('"');
+        }
+
+        private void separator() throws IOException {
+            if (depth > 0) {
+                if (hasValue[depth - 1]) {
+                    writer.write(',');
+                } else {
+                    hasValue[depth - 1] = true;
+                }
+            }
+        }
+
+        private void open(char c) throws IOException {
+            writer.write(c);
+            if (depth == hasValue.length) {
+                hasValue = Arrays.copyOf(hasValue, depth * 2);
+            }
+            hasValue[depth++] = false;
+        }
+
+        private void close(char c) throws IOException {
+            depth--;
+            writer.write(c);
+        }
+
+        private static char[] pair(char[] prefix, String value) {
+            StringBuilder builder = new StringBuilder(prefix.length + value.length() + 2);
+            builder.append(prefix).append('"');
+            escape(builder, value);
+            return builder.append('"').toString().toCharArray();
+        }
+
+        /**
+         * @return the key escaped and followed by a colon
+         */
+        static char[] encodeKey(String key) {
+            StringBuilder builder = new StringBuilder(key.length() + 3).append('"');
+            escape(builder, key);
+            return builder.append("\":").toString().toCharArray();
+        }
+
+        static void escape(Appendable out, String value) {
+            try {
+                int start = 0;
+                int length = value.length();
+                for (int i = 0; i < length; i++) {
+                    char c = value.charAt(i);
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        continue;
+                    }
+                    out.append(value, start, i);
+                    start = i + 1;
+                    switch (c) {
+                        case '"' -> out.append("\\\"");
+                        case '\\' -> out.append("\\\\");
+                        case '\b' -> out.append("\\b");
+                        case '\f' -> out.append("\\f");
+                        case '\n' -> out.append("\\n");
+                        case '\r' -> out.append("\\r");
+                        case '\t' -> out.append("\\t");
+                        default -> out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    }
+                }
+                out.append(value, start, length);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
@@ -0,0 +1,168 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Caches the request timers per (method, uri, status).
+ * <p>
+ * Resolving a timer through the {@link MeterProvider} allocates and sorts the tags, and looks up the meter id in the registry
+ * for every request. The set of route templates, methods and status codes is usually small, so the timers can be bound once
+ * and reused. The timers are looked up by the method, the value of the uri tag and the status code, so that a hit does not
+ * allocate. The number of cached timers is bounded; if the limit is reached the timers are resolved through the
+ * {@link MeterProvider} as usual.
+ * <p>
+ * The cache is cleared whenever a request timer is removed from the registry. A single listener is registered per registry
+ * and a cache stops listening once it's {@linkplain #close() closed}.
+ */
+final class RequestTimerCache {
+
+    static final int MAX_SIZE = 1000;
+
+    // A registry does not allow to remove a listener, therefore we only register one per registry
+    private static final Map<MeterRegistry, RemovalListener> LISTENERS = new WeakHashMap<>();
+
+    private final String name;
+    private final MeterProvider<Timer> requestsTimer;
+    private final RemovalListener listener;
+    private final ConcurrentMap<HttpMethod, ConcurrentMap<String, StatusTimers>> timers;
+    private final AtomicInteger size;
+    // Incremented whenever a timer is removed from the registry
+    private volatile int generation;
+
+    RequestTimerCache(MeterRegistry registry, String name, MeterProvider<Timer> requestsTimer) {
+        this.name = name;
+        this.requestsTimer = requestsTimer;
+        this.timers = new ConcurrentHashMap<>();
+        this.size = new AtomicInteger();
+        synchronized (LISTENERS) {
+            RemovalListener listener = LISTENERS.get(registry);
+            if (listener == null) {
+                listener = new RemovalListener();
+                registry.config().onMeterRemoved(listener);
+                LISTENERS.put(registry, listener);
+            }
+            this.listener = listener;
+        }
+        listener.caches.add(this);
+    }
+
+    Timer get(HttpMethod method, Tag uri, int statusCode) {
+        ConcurrentMap<String, StatusTimers> uris = timers.get(method);
+        StatusTimers statusTimers = uris != null ? uris.get(uri.getValue()) : null;
+        Timer timer = statusTimers != null ? statusTimers.get(statusCode) : null;
+        if (timer == null) {
+            int currentGeneration = generation;
+            timer = requestsTimer.withTags(Tags.of(
+                    VertxMetricsTags.method(method),
+                    uri,
+                    HttpCommonTags.outcome(statusCode),
+                    HttpCommonTags.status(statusCode)));
+            if (size.get() < MAX_SIZE) {
+                if (statusTimers == null) {
+                    statusTimers = timers.computeIfAbsent(method, m -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(uri.getValue(), u -> new StatusTimers());
+                }
+                if (statusTimers.putIfAbsent(statusCode, timer)) {
+                    size.incrementAndGet();
+                }
+                if (currentGeneration != generation) {
+                    // The timer might have been removed from the registry in the meantime
+                    clear();
+                }
+            }
+        }
+        return timer;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Stops listening to the removal of meters and clears the cache.
+     */
+    void close() {
+        listener.caches.remove(this);
+        clear();
+    }
+
+    private void meterRemoved(Meter meter) {
+        if (meter instanceof Timer && meter.getId().getName().equals(name)) {
+            generation++;
+            clear();
+        }
+    }
+
+    private void clear() {
+        timers.clear();
+        size.set(0);
+    }
+
+    private static final class RemovalListener implements Consumer<Meter> {
+
+        final Set<RequestTimerCache> caches = new CopyOnWriteArraySet<>();
+
+        @Override
+        public void accept(Meter meter) {
+            for (RequestTimerCache cache : caches) {
+                cache.meterRemoved(meter);
+            }
+        }
+
+    }
+
+    /**
+     * The timers of a (method, uri) pair. There are only a few status codes per pair, so a linear scan of an array that is
+     * copied on write is good enough.
+     */
+    private static final class StatusTimers {
+
+        private volatile int[] statusCodes = new int[0];
+        private volatile Timer[] timers = new Timer[0];
+
+        Timer get(int statusCode) {
+            // Read the timers first; they are written last
+            Timer[] timers = this.timers;
+            int[] statusCodes = this.statusCodes;
+            for (int i = 0; i < timers.length; i++) {
+                if (statusCodes[i] == statusCode) {
+                    return timers[i];
+                }
+            }
+            return null;
+        }
+
+        synchronized boolean putIfAbsent(int statusCode, Timer timer) {
+            if (get(statusCode) != null) {
+                return false;
+            }
+            int length = timers.length;
+            int[] newStatusCodes = Arrays.copyOf(statusCodes, length + 1);
+            newStatusCodes[length] = statusCode;
+            Timer[] newTimers = Arrays.copyOf(timers, length + 1);
+            newTimers[length] = timer;
+            statusCodes = newStatusCodes;
+            timers = newTimers;
+            return true;
+        }
+
+    }
+
+}
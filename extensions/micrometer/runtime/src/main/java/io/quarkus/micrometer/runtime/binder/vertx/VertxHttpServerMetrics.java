@@ -12,6 +12,7 @@
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.Meter.MeterProvider;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.http.Outcome;
@@ -52,6 +53,8 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final MeterProvider<Counter> pushCounter;
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
+    // null if the tags depend on the request, i.e. if there is a HttpServerMetricsTagsContributor
+    private final RequestTimerCache requestTimerCache;
 
     VertxHttpServerMetrics(MeterRegistry registry,
             HttpBinderConfiguration config,
@@ -87,6 +90,17 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
                 .description("HTTP server response push counter")
                 .withRegistry(registry);
         // not dev-mode changeable -----ˆ
+
+        requestTimerCache = httpServerMetricsTagsContributors.isEmpty()
+                ? new RequestTimerCache(registry, config.getHttpServerRequestsName(), requestsTimer)
+                : null;
+    }
+
+    @Override
+    public void close() {
+        if (requestTimerCache != null) {
+            requestTimerCache.close();
+        }
     }
 
     private List<HttpServerMetricsTagsContributor> resolveHttpServerMetricsTagsContributors() {
@@ -212,17 +226,24 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags allTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode(),
-                            config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            allTags = additionalMetrics(requestMetric, response, allTags);
+            Tag uri = HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode(),
+                    config.isServerSuppress4xxErrors());
+            Timer timer;
+            if (requestTimerCache != null) {
+                timer = requestTimerCache.get(requestMetric.request().method(), uri, response.statusCode());
+            } else {
+                Tags allTags = Tags.of(
+                        VertxMetricsTags.method(requestMetric.request().method()),
+                        uri,
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(response.statusCode()));
+                allTags = additionalMetrics(requestMetric, response, allTags);
+                timer = requestsTimer.withTags(allTags);
+            }
 
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(allTags),
+                    timer,
                     requestMetric.request().context());
         }
         requestMetric.requestEnded();
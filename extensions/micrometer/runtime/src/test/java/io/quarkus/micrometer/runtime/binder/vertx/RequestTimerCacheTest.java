@@ -0,0 +1,74 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+public class RequestTimerCacheTest {
+
+    SimpleMeterRegistry registry;
+    RequestTimerCache cache;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        cache = new RequestTimerCache(registry, "http.server.requests",
+                Timer.builder("http.server.requests").withRegistry(registry));
+    }
+
+    @Test
+    public void testTimerIsReused() {
+        Timer timer = cache.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        Assertions.assertSame(timer, cache.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200));
+        Assertions.assertNotSame(timer, cache.get(HttpMethod.POST, Tag.of("uri", "/item/{id}"), 200));
+        Assertions.assertNotSame(timer, cache.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 404));
+        Assertions.assertEquals(3, cache.size());
+
+        Assertions.assertEquals("GET", timer.getId().getTag("method"));
+        Assertions.assertEquals("/item/{id}", timer.getId().getTag("uri"));
+        Assertions.assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+        Assertions.assertEquals("200", timer.getId().getTag("status"));
+        Assertions.assertSame(timer, registry.find("http.server.requests").tag("method", "GET").tag("status", "200").timer());
+    }
+
+    @Test
+    public void testCacheIsClearedWhenTimerIsRemoved() {
+        Timer timer = cache.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        registry.clear();
+        Assertions.assertEquals(0, cache.size());
+        Timer newTimer = cache.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        Assertions.assertNotSame(timer, newTimer);
+        Assertions.assertSame(newTimer, registry.find("http.server.requests").timer());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for (int i = 0; i < RequestTimerCache.MAX_SIZE + 10; i++) {
+            cache.get(HttpMethod.GET, Tag.of("uri", "/item/" + i), 200);
+        }
+        Assertions.assertEquals(RequestTimerCache.MAX_SIZE, cache.size());
+        // Timers are still resolved if the limit is reached
+        Assertions.assertEquals(RequestTimerCache.MAX_SIZE + 10, registry.find("http.server.requests").timers().size());
+    }
+
+    @Test
+    public void testClosedCacheIsNotCleared() {
+        RequestTimerCache other = new RequestTimerCache(registry, "http.server.requests",
+                Timer.builder("http.server.requests").withRegistry(registry));
+        cache.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        other.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        other.close();
+        Assertions.assertEquals(0, other.size());
+        other.get(HttpMethod.GET, Tag.of("uri", "/item/{id}"), 200);
+        registry.clear();
+        Assertions.assertEquals(0, cache.size());
+        // The closed cache no longer listens to the registry
+        Assertions.assertEquals(1, other.size());
+    }
+
+}
@@ -72,6 +72,8 @@
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.AuthenticationContext;
 import io.quarkus.oidc.AuthorizationCodeFlow;
 import io.quarkus.oidc.BearerTokenAuthentication;
@@ -229,6 +231,16 @@ public SyntheticBeanBuildItem addDefaultCacheBean(OidcConfig config,
                 .done();
     }
 
+    @BuildStep(onlyIf = IsCacheEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void registerDefaultCacheMetrics(OidcRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics()));
+        }
+    }
+
     @BuildStep
     ExtensionSslNativeSupportBuildItem enableSslInNative() {
         return new ExtensionSslNativeSupportBuildItem(Feature.OIDC);
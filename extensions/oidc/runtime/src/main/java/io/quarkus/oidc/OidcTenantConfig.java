@@ -2302,6 +2302,11 @@ public static Token fromAudience(String... audience) {
          */
         public Duration forcedJwkRefreshInterval = Duration.ofMinutes(10);
 
+        /**
+         * Maximum number of locally verified JWT tokens whose verification result is cached.
+         */
+        public int verifiedJwtCacheSize = 0;
+
         /**
          * Custom HTTP header that contains a bearer token.
          * This option is valid only when the application is of type {@link ApplicationType#SERVICE}.
@@ -2453,6 +2458,14 @@ public void setForcedJwkRefreshInterval(Duration forcedJwkRefreshInterval) {
             this.forcedJwkRefreshInterval = forcedJwkRefreshInterval;
         }
 
+        public int getVerifiedJwtCacheSize() {
+            return verifiedJwtCacheSize;
+        }
+
+        public void setVerifiedJwtCacheSize(int verifiedJwtCacheSize) {
+            this.verifiedJwtCacheSize = verifiedJwtCacheSize;
+        }
+
         public Optional<String> getTokenType() {
             return tokenType;
         }
@@ -2578,6 +2591,7 @@ private void addConfigMappingValues(io.quarkus.oidc.runtime.OidcTenantConfig.Tok
             refreshExpired = mapping.refreshExpired();
             refreshTokenTimeSkew = mapping.refreshTokenTimeSkew();
             forcedJwkRefreshInterval = mapping.forcedJwkRefreshInterval();
+            verifiedJwtCacheSize = mapping.verifiedJwtCacheSize();
             header = mapping.header();
             authorizationScheme = mapping.authorizationScheme();
             signatureAlgorithm = mapping.signatureAlgorithm().map(Enum::toString).map(SignatureAlgorithm::valueOf);
@@ -2652,6 +2666,11 @@ public Duration forcedJwkRefreshInterval() {
             return forcedJwkRefreshInterval;
         }
 
+        @Override
+        public int verifiedJwtCacheSize() {
+            return verifiedJwtCacheSize;
+        }
+
         @Override
         public Optional<String> header() {
             return header;
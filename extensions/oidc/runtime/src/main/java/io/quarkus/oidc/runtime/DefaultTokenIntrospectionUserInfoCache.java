@@ -113,6 +113,18 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
@@ -5,22 +5,47 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * Size-bounded cache whose entries expire after the same time-to-live.
+ * <p>
+ * The entries are kept in a queue in the order they were added. Since all the entries have the same time-to-live, the
+ * queue is also ordered by expiry time, so the expired entries are removed from the head of the queue without scanning the
+ * whole cache. When the cache is full, a clock hand walks the queue and evicts the first entry which has not been read since
+ * the hand last passed it (CLOCK approximation of LRU). The hand never reorders the queue.
+ * <p>
+ * The removed entries are unlinked from the queue lazily. They are purged once the queue holds twice as many nodes as the
+ * cache size.
+ * <p>
+ * The expired entries are never returned, the optional clean-up timer only releases the memory earlier.
+ */
 public class MemoryCache<T> {
+    // Maximum number of queue nodes drained when a new entry is added
+    private static final int MAX_DRAIN = 4;
+
     private volatile Long timerId = null;
 
     private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final ConcurrentLinkedQueue<CacheEntry<T>> queue = new ConcurrentLinkedQueue<>();
+    // Approximate number of queue nodes, including the removed entries which are not unlinked yet
+    private final AtomicInteger queued = new AtomicInteger();
+    // The clock hand, guarded by the queue monitor
+    private Iterator<CacheEntry<T>> hand;
+    private final long cacheTimeToLive;
     private final int cacheSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this.cacheTimeToLive = cacheTimeToLive.toMillis();
         this.cacheSize = cacheSize;
         init(vertx, cleanUpTimerInterval);
     }
@@ -30,8 +55,8 @@ private void init(Vertx vertx, Optional<Duration> cleanUpTimerInterval) {
             timerId = vertx.setPeriodic(cleanUpTimerInterval.get().toMillis(), new Handler<Long>() {
                 @Override
                 public void handle(Long event) {
-                    // Remove all the entries which have expired
-                    removeInvalidEntries();
+                    // Remove the entries which have expired, starting with the oldest one
+                    removeInvalidEntries(Integer.MAX_VALUE);
                 }
             });
         }
@@ -39,65 +64,132 @@ public void handle(Long event) {
 
     public void add(String key, T result) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+            removeInvalidEntries(MAX_DRAIN);
+            while (cacheMap.size() >= cacheSize && !cacheMap.containsKey(key)) {
+                if (!evictOldestEntry()) {
+                    break;
+                }
+            }
+            CacheEntry<T> entry = new CacheEntry<T>(key, result);
+            CacheEntry<T> previous = cacheMap.put(key, entry);
+            if (previous != null) {
+                previous.removed = true;
+            }
+            queue.offer(entry);
+            if (queued.incrementAndGet() > cacheSize * 2) {
+                purgeRemovedEntries();
             }
-            cacheMap.put(key, new CacheEntry<T>(result));
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        CacheEntry<T> entry = cacheMap.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        // The entry is removed from the queue lazily
+        entry.removed = true;
+        return isEntryExpired(entry, now()) ? null : entry.result;
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        CacheEntry<T> entry = getValidEntry(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (!entry.accessed) {
+            entry.accessed = true;
+        }
+        return entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        return getValidEntry(key) != null;
     }
 
-    private void removeInvalidEntries() {
+    private CacheEntry<T> getValidEntry(String key) {
+        CacheEntry<T> entry = cacheMap.get(key);
+        if (entry != null && isEntryExpired(entry, now())) {
+            if (cacheMap.remove(key, entry)) {
+                entry.removed = true;
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the removed and expired entries from the head of the queue.
+     *
+     * @param max the maximum number of queue nodes to check
+     */
+    private void removeInvalidEntries(int max) {
         long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
+        CacheEntry<T> entry;
+        for (int i = 0; i < max && (entry = queue.peek()) != null; i++) {
+            if (!entry.removed && !isEntryExpired(entry, now)) {
+                // All the next entries were added later and have not expired either
+                return;
+            }
+            if (queue.remove(entry)) {
+                queued.decrementAndGet();
+                if (!entry.removed && cacheMap.remove(entry.key, entry)) {
+                    entry.removed = true;
                 }
             }
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
+    /**
+     * Unlinks the removed entries from the whole queue, for example the entries which were replaced or evicted.
+     */
+    private void purgeRemovedEntries() {
+        synchronized (queue) {
+            if (queued.get() <= cacheSize * 2) {
+                // Purged concurrently
+                return;
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+            queue.removeIf(entry -> entry.removed);
+            queued.set(queue.size());
+        }
     }
 
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
+    private boolean evictOldestEntry() {
+        long now = now();
+        synchronized (queue) {
+            // Every live entry is given at most one second chance
+            int attempts = queued.get() * 2 + 1;
+            while (attempts-- > 0) {
+                if (hand == null || !hand.hasNext()) {
+                    // Start again from the oldest entry
+                    hand = queue.iterator();
+                    if (!hand.hasNext()) {
+                        return false;
+                    }
+                }
+                CacheEntry<T> entry = hand.next();
+                if (entry.removed) {
+                    // Unlinked by the next sweep or purge
+                    continue;
+                }
+                if (entry.accessed && !isEntryExpired(entry, now)) {
+                    entry.accessed = false;
+                    continue;
+                }
+                if (cacheMap.remove(entry.key, entry)) {
+                    entry.removed = true;
+                    evictions.increment();
+                    return true;
+                }
+            }
+            return false;
         }
-        return entry;
     }
 
     private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+        return entry.createdTime + cacheTimeToLive < now;
     }
 
     private static long now() {
@@ -105,10 +197,14 @@ private static long now() {
     }
 
     private static class CacheEntry<T> {
+        final String key;
         volatile T result;
-        long createdTime = System.currentTimeMillis();
+        final long createdTime = System.currentTimeMillis();
+        volatile boolean accessed;
+        volatile boolean removed;
 
-        public CacheEntry(T result) {
+        public CacheEntry(String key, T result) {
+            this.key = key;
             this.result = result;
         }
     }
@@ -117,9 +213,38 @@ public int getCacheSize() {
         return cacheMap.size();
     }
 
+    int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of lookups which returned a cached entry
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which did not find a valid entry
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries evicted because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
     public void clearCache() {
         cacheMap.clear();
-        size.set(0);
+        synchronized (queue) {
+            queue.clear();
+            queued.set(0);
+            hand = null;
+        }
     }
 
     public void stopTimer(Vertx vertx) {
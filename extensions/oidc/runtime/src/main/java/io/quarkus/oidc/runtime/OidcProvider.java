@@ -14,6 +14,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -87,6 +88,9 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, Set<String>> requiredClaims;
     final AlgorithmConstraints requiredAlgorithmConstraints;
+    final VerifiedJwtCache verifiedJwtCache;
+    // JwtConsumers reused to verify the tokens without a nonce, indexed by the audience and subject requirements
+    private final AtomicReferenceArray<JwtConsumer> jwtConsumers = new AtomicReferenceArray<>(4);
 
     public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks) {
         this(client, oidcConfig, jwks, TenantFeatureFinder.find(oidcConfig),
@@ -116,6 +120,7 @@ public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig,
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = customValidators == null ? List.of() : customValidators;
+        this.verifiedJwtCache = createVerifiedJwtCache();
         if (client != null) {
             this.client.setOidcProvider(this);
         }
@@ -138,6 +143,16 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig) {
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = TenantFeatureFinder.find(oidcConfig, Validator.class);
+        this.verifiedJwtCache = createVerifiedJwtCache();
+    }
+
+    private VerifiedJwtCache createVerifiedJwtCache() {
+        // Custom validators may depend on more than the token claims, the tokens must be verified every time
+        if (oidcConfig != null && oidcConfig.token().verifiedJwtCacheSize() > 0 && customValidators.isEmpty()) {
+            return new VerifiedJwtCache(oidcConfig.token().verifiedJwtCacheSize(), getLifespanGrace(),
+                    oidcConfig.token().age());
+        }
+        return null;
     }
 
     private AlgorithmConstraints checkSignatureAlgorithm() {
@@ -174,21 +189,36 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token, Key genera
             throws InvalidJwtException {
         return verifyJwtTokenInternal(token, true, false, null, SYMMETRIC_ALGORITHM_CONSTRAINTS,
                 new InternalSignatureKeyResolver(generatedInternalSignatureKey),
-                true, oidcConfig.token().issuedAtRequired());
+                true, oidcConfig.token().issuedAtRequired(), false);
     }
 
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
             String nonce)
             throws InvalidJwtException {
-        return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+        String customizedToken = customizeJwtToken(token);
+        String tokenDigest = null;
+        if (nonce == null && verifiedJwtCache != null) {
+            tokenDigest = VerifiedJwtCache.digest(customizedToken);
+            TokenVerificationResult cached = verifiedJwtCache.get(tokenDigest, enforceAudienceVerification,
+                    subjectRequired);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        TokenVerificationResult result = verifyJwtTokenInternal(customizedToken, enforceAudienceVerification,
+                subjectRequired, nonce,
                 (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
-                asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+                asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired(), nonce == null);
+        if (tokenDigest != null) {
+            verifiedJwtCache.add(tokenDigest, enforceAudienceVerification, subjectRequired, result);
+        }
+        return result;
     }
 
     public TokenVerificationResult verifyLogoutJwtToken(String token) throws InvalidJwtException {
         final boolean enforceExpReq = !oidcConfig.token().age().isPresent();
         TokenVerificationResult result = verifyJwtTokenInternal(token, true, false, null, ASYMMETRIC_ALGORITHM_CONSTRAINTS,
-                asymmetricKeyResolver, enforceExpReq, oidcConfig.token().issuedAtRequired());
+                asymmetricKeyResolver, enforceExpReq, oidcConfig.token().issuedAtRequired(), false);
         if (!enforceExpReq) {
             // Expiry check was skipped during the initial verification but if the logout token contains the exp claim
             // then it must be verified
@@ -206,8 +236,65 @@ private TokenVerificationResult verifyJwtTokenInternal(String token,
             boolean subjectRequired,
             String nonce,
             AlgorithmConstraints algConstraints,
-            VerificationKeyResolver verificationKeyResolver, boolean enforceExpReq, boolean issuedAtRequired)
+            VerificationKeyResolver verificationKeyResolver, boolean enforceExpReq, boolean issuedAtRequired,
+            boolean reuseJwtConsumer)
             throws InvalidJwtException {
+        final List<CatchingErrorCodeValidator> validators = createValidators();
+        final JwtConsumer jwtConsumer;
+        if (reuseJwtConsumer && validators == null) {
+            // The consumer is stateless if no validators are registered
+            int index = (enforceAudienceVerification ? 1 : 0) | (subjectRequired ? 2 : 0);
+            JwtConsumer consumer = jwtConsumers.get(index);
+            if (consumer == null) {
+                consumer = buildJwtConsumer(enforceAudienceVerification, subjectRequired, null, algConstraints,
+                        verificationKeyResolver, enforceExpReq, issuedAtRequired, null);
+                jwtConsumers.compareAndSet(index, null, consumer);
+            }
+            jwtConsumer = consumer;
+        } else {
+            jwtConsumer = buildJwtConsumer(enforceAudienceVerification, subjectRequired, nonce, algConstraints,
+                    verificationKeyResolver, enforceExpReq, issuedAtRequired, validators);
+        }
+
+        try {
+            jwtConsumer.processToClaims(token);
+        } catch (InvalidJwtException ex) {
+            String detail = "";
+            List<ErrorCodeValidator.Error> details = ex.getErrorDetails();
+            if (!details.isEmpty()) {
+                detail = details.get(0).getErrorMessage();
+            }
+            if (oidcConfig.clientId().isPresent()) {
+                LOG.debugf("Verification of the token issued to client %s has failed: %s.", oidcConfig.clientId().get(),
+                        detail);
+                if (oidcConfig.clientName().isPresent()) {
+                    LOG.debugf(" Client name: %s", oidcConfig.clientName().get());
+                }
+            } else {
+                LOG.debugf("Token verification has failed: %s", detail);
+            }
+            throw ex;
+        }
+        if (validators != null) {
+            // this is workaround for we want to give custom validators option to fail authentication over 'acr' values
+            for (CatchingErrorCodeValidator validator : validators) {
+                if (validator.authenticationFailure != null) {
+                    throw validator.authenticationFailure;
+                }
+            }
+        }
+        TokenVerificationResult result = new TokenVerificationResult(OidcCommonUtils.decodeJwtContent(token), null);
+
+        verifyTokenAge(result.localVerificationResult.getLong(Claims.iat.name()));
+        return result;
+    }
+
+    private JwtConsumer buildJwtConsumer(boolean enforceAudienceVerification,
+            boolean subjectRequired,
+            String nonce,
+            AlgorithmConstraints algConstraints,
+            VerificationKeyResolver verificationKeyResolver, boolean enforceExpReq, boolean issuedAtRequired,
+            List<CatchingErrorCodeValidator> validators) {
         JwtConsumerBuilder builder = new JwtConsumerBuilder();
 
         builder.setVerificationKeyResolver(verificationKeyResolver);
@@ -225,20 +312,10 @@ private TokenVerificationResult verifyJwtTokenInternal(String token,
             builder.registerValidator(new CustomClaimsValidator(Map.of(OidcConstants.NONCE, Set.of(nonce))));
         }
 
-        final List<CatchingErrorCodeValidator> validators;
-        if (!customValidators.isEmpty() || requiredClaims != null) {
-            validators = new ArrayList<>();
-            for (Validator customValidator : customValidators) {
-                validators.add(new CatchingErrorCodeValidator(customValidator));
-            }
-            if (requiredClaims != null) {
-                validators.add(new CatchingErrorCodeValidator(new CustomClaimsValidator(requiredClaims)));
-            }
+        if (validators != null) {
             for (var validator : validators) {
                 builder.registerValidator(validator);
             }
-        } else {
-            validators = null;
         }
 
         if (issuedAtRequired) {
@@ -267,38 +344,21 @@ private TokenVerificationResult verifyJwtTokenInternal(String token,
 
         builder.setRelaxVerificationKeyValidation();
 
-        try {
-            JwtConsumer jwtConsumer = builder.build();
-            jwtConsumer.processToClaims(token);
-        } catch (InvalidJwtException ex) {
-            String detail = "";
-            List<ErrorCodeValidator.Error> details = ex.getErrorDetails();
-            if (!details.isEmpty()) {
-                detail = details.get(0).getErrorMessage();
-            }
-            if (oidcConfig.clientId().isPresent()) {
-                LOG.debugf("Verification of the token issued to client %s has failed: %s.", oidcConfig.clientId().get(),
-                        detail);
-                if (oidcConfig.clientName().isPresent()) {
-                    LOG.debugf(" Client name: %s", oidcConfig.clientName().get());
-                }
-            } else {
-                LOG.debugf("Token verification has failed: %s", detail);
-            }
-            throw ex;
+        return builder.build();
+    }
+
+    private List<CatchingErrorCodeValidator> createValidators() {
+        if (customValidators.isEmpty() && requiredClaims == null) {
+            return null;
         }
-        if (validators != null) {
-            // this is workaround for we want to give custom validators option to fail authentication over 'acr' values
-            for (CatchingErrorCodeValidator validator : validators) {
-                if (validator.authenticationFailure != null) {
-                    throw validator.authenticationFailure;
-                }
-            }
+        List<CatchingErrorCodeValidator> validators = new ArrayList<>();
+        for (Validator customValidator : customValidators) {
+            validators.add(new CatchingErrorCodeValidator(customValidator));
         }
-        TokenVerificationResult result = new TokenVerificationResult(OidcCommonUtils.decodeJwtContent(token), null);
-
-        verifyTokenAge(result.localVerificationResult.getLong(Claims.iat.name()));
-        return result;
+        if (requiredClaims != null) {
+            validators.add(new CatchingErrorCodeValidator(new CustomClaimsValidator(requiredClaims)));
+        }
+        return validators;
     }
 
     private String customizeJwtToken(String token) {
@@ -364,7 +424,7 @@ public Uni<? extends TokenVerificationResult> apply(VerificationKeyResolver reso
                                             subjectRequired, nonce,
                                             (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints
                                                     : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
-                                            resolver, true, issuedAtRequired));
+                                            resolver, true, issuedAtRequired, false));
                         } catch (Throwable t) {
                             return Uni.createFrom().failure(t);
                         }
@@ -626,6 +686,10 @@ public Uni<Void> refresh() {
                             @Override
                             public Uni<? extends Void> apply(JsonWebKeySet t) {
                                 jwks = t;
+                                if (verifiedJwtCache != null) {
+                                    // The tokens signed with the keys which have been removed must not be accepted
+                                    verifiedJwtCache.clearCache();
+                                }
                                 return Uni.createFrom().voidItem();
                             }
 
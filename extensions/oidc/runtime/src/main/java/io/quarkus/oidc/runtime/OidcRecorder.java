@@ -9,6 +9,7 @@
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.inject.CreationException;
@@ -17,6 +18,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.oidc.AccessTokenCredential;
 import io.quarkus.oidc.OIDCException;
@@ -26,6 +28,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -52,6 +55,33 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("oidc.token-cache.size")
+                        .description("Number of entries in the OIDC token introspection and UserInfo cache")
+                        .buildGauge(() -> tokenCacheMetric(DefaultTokenIntrospectionUserInfoCache::getCacheSize));
+                metricsFactory.builder("oidc.token-cache.hits")
+                        .description("Number of OIDC token cache lookups which found an entry")
+                        .buildCounter(() -> tokenCacheMetric(DefaultTokenIntrospectionUserInfoCache::getHitCount));
+                metricsFactory.builder("oidc.token-cache.misses")
+                        .description("Number of OIDC token cache lookups which did not find a valid entry")
+                        .buildCounter(() -> tokenCacheMetric(DefaultTokenIntrospectionUserInfoCache::getMissCount));
+                metricsFactory.builder("oidc.token-cache.evictions")
+                        .description("Number of OIDC token cache entries evicted because the cache was full")
+                        .buildCounter(() -> tokenCacheMetric(DefaultTokenIntrospectionUserInfoCache::getEvictionCount));
+            }
+        };
+    }
+
+    private static long tokenCacheMetric(ToLongFunction<DefaultTokenIntrospectionUserInfoCache> metric) {
+        // the cache is a runtime-init synthetic bean, it may not exist yet when the metrics are registered
+        InstanceHandle<DefaultTokenIntrospectionUserInfoCache> cache = Arc.container()
+                .instance(DefaultTokenIntrospectionUserInfoCache.class);
+        return cache.isAvailable() ? metric.applyAsLong(cache.get()) : 0;
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
@@ -1092,6 +1092,15 @@ interface Token {
         @WithDefault("10M")
         Duration forcedJwkRefreshInterval();
 
+        /**
+         * Maximum number of locally verified JWT tokens whose verification result is cached.
+         * Set it to a positive value to avoid verifying the signature of the same bearer token on every request.
+         * A cached result is valid until the token expires, and the cache is cleared when the JWK set is refreshed.
+         * This property is ignored if custom token validators are registered.
+         */
+        @WithDefault("0")
+        int verifiedJwtCacheSize();
+
         /**
          * Custom HTTP header that contains a bearer token.
          * This option is valid only when the application is of type {@link ApplicationType#SERVICE}.
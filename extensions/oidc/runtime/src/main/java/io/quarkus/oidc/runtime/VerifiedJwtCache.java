@@ -0,0 +1,116 @@
+package io.quarkus.oidc.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.jwt.Claims;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Caches the results of the successful local JWT verifications, keyed by the token digest.
+ * <p>
+ * A cached result is only valid until the token expires, taking the lifespan grace and the maximum token age into account.
+ * The cache must be cleared when the verification keys change.
+ */
+final class VerifiedJwtCache {
+
+    private final Map<Key, CacheEntry> cacheMap = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long lifespanGraceMillis;
+    private final long maxAgeMillis;
+    private volatile long lastCleanUp;
+
+    VerifiedJwtCache(int maxSize, int lifespanGrace, Optional<Duration> maxAge) {
+        this.maxSize = maxSize;
+        this.lifespanGraceMillis = lifespanGrace * 1000L;
+        this.maxAgeMillis = maxAge.map(Duration::toMillis).orElse(-1L);
+    }
+
+    TokenVerificationResult get(String tokenDigest, boolean enforceAudienceVerification, boolean subjectRequired) {
+        Key key = new Key(tokenDigest, enforceAudienceVerification, subjectRequired);
+        CacheEntry entry = cacheMap.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < now()) {
+            cacheMap.remove(key, entry);
+            return null;
+        }
+        return new TokenVerificationResult(entry.claims, null);
+    }
+
+    void add(String tokenDigest, boolean enforceAudienceVerification, boolean subjectRequired, TokenVerificationResult result) {
+        JsonObject claims = result.localVerificationResult;
+        Long exp = claims.getLong(Claims.exp.name());
+        if (exp == null) {
+            return;
+        }
+        long expiresAt = exp * 1000 + lifespanGraceMillis;
+        if (maxAgeMillis >= 0) {
+            Long iat = claims.getLong(Claims.iat.name());
+            if (iat != null) {
+                expiresAt = Math.min(expiresAt, iat * 1000 + maxAgeMillis + lifespanGraceMillis);
+            }
+        }
+        long now = now();
+        if (expiresAt < now) {
+            return;
+        }
+        if (cacheMap.size() >= maxSize) {
+            // Scan the cache at most once per second if it is full
+            if (now - lastCleanUp > 1000) {
+                lastCleanUp = now;
+                removeExpiredEntries(now);
+            }
+            if (cacheMap.size() >= maxSize) {
+                return;
+            }
+        }
+        cacheMap.put(new Key(tokenDigest, enforceAudienceVerification, subjectRequired),
+                new CacheEntry(claims, expiresAt));
+    }
+
+    void clearCache() {
+        cacheMap.clear();
+    }
+
+    int getCacheSize() {
+        return cacheMap.size();
+    }
+
+    private void removeExpiredEntries(long now) {
+        for (Iterator<CacheEntry> it = cacheMap.values().iterator(); it.hasNext();) {
+            if (it.next().expiresAt < now) {
+                it.remove();
+            }
+        }
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private record Key(String digest, boolean enforceAudienceVerification, boolean subjectRequired) {
+    }
+
+    private record CacheEntry(JsonObject claims, long expiresAt) {
+    }
+}
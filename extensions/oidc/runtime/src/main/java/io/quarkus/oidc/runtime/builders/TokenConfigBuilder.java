@@ -25,7 +25,8 @@ public final class TokenConfigBuilder {
     private record TokenImpl(Optional<String> issuer, Optional<List<String>> audience, boolean subjectRequired,
             Map<String, Set<String>> requiredClaims, Optional<String> tokenType, OptionalInt lifespanGrace,
             Optional<Duration> age, boolean issuedAtRequired, Optional<String> principalClaim, boolean refreshExpired,
-            Optional<Duration> refreshTokenTimeSkew, Duration forcedJwkRefreshInterval, Optional<String> header,
+            Optional<Duration> refreshTokenTimeSkew, Duration forcedJwkRefreshInterval, int verifiedJwtCacheSize,
+            Optional<String> header,
             String authorizationScheme, Optional<OidcTenantConfig.SignatureAlgorithm> signatureAlgorithm,
             Optional<String> decryptionKeyLocation, Optional<Boolean> decryptIdToken, boolean decryptAccessToken,
             boolean allowJwtIntrospection, boolean requireJwtIntrospectionOnly,
@@ -46,6 +47,7 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
     private boolean refreshExpired;
     private Optional<Duration> refreshTokenTimeSkew;
     private Duration forcedJwkRefreshInterval;
+    private int verifiedJwtCacheSize;
     private Optional<String> header;
     private String authorizationScheme;
     private Optional<OidcTenantConfig.SignatureAlgorithm> signatureAlgorithm;
@@ -82,6 +84,7 @@ public TokenConfigBuilder(OidcTenantConfigBuilder builder) {
         this.refreshExpired = token.refreshExpired();
         this.refreshTokenTimeSkew = token.refreshTokenTimeSkew();
         this.forcedJwkRefreshInterval = token.forcedJwkRefreshInterval();
+        this.verifiedJwtCacheSize = token.verifiedJwtCacheSize();
         this.header = token.header();
         this.authorizationScheme = token.authorizationScheme();
         this.signatureAlgorithm = token.signatureAlgorithm();
@@ -301,6 +304,15 @@ public TokenConfigBuilder forcedJwkRefreshInterval(Duration forcedJwkRefreshInte
         return this;
     }
 
+    /**
+     * @param verifiedJwtCacheSize {@link OidcTenantConfig.Token#verifiedJwtCacheSize()}
+     * @return this builder
+     */
+    public TokenConfigBuilder verifiedJwtCacheSize(int verifiedJwtCacheSize) {
+        this.verifiedJwtCacheSize = verifiedJwtCacheSize;
+        return this;
+    }
+
     /**
      * @param header {@link OidcTenantConfig.Token#header()}
      * @return this builder
@@ -487,8 +499,8 @@ public OidcTenantConfig.Token build() {
                 : Optional.of(List.copyOf(audience));
         return new TokenImpl(issuer, optionalAudience, subjectRequired, Map.copyOf(requiredClaims), tokenType,
                 lifespanGrace, age, issuedAtRequired, principalClaim, refreshExpired, refreshTokenTimeSkew,
-                forcedJwkRefreshInterval, header, authorizationScheme, signatureAlgorithm, decryptionKeyLocation,
-                decryptIdToken,
+                forcedJwkRefreshInterval, verifiedJwtCacheSize, header, authorizationScheme, signatureAlgorithm,
+                decryptionKeyLocation, decryptIdToken,
                 decryptAccessToken, allowJwtIntrospection, requireJwtIntrospectionOnly, allowOpaqueTokenIntrospection,
                 customizerName,
                 verifyAccessTokenWithUserInfo, binding);
@@ -80,15 +80,112 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
+        // If the cache is full and a new entry has to be added, then the oldest entry is evicted
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(1, cache.getEvictionCount());
 
         assertNull(cache.get("1"));
+        assertEquals("2", cache.get("2").name);
+        assertEquals("3", cache.get("3").name);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // "2" and "3" have been read since they were added, "2" is evicted after both are given a second chance
+        cache.add("4", new Bean("4"));
+        assertEquals(2, cache.getCacheSize());
         assertNull(cache.get("2"));
         assertEquals("3", cache.get("3").name);
+        assertEquals("4", cache.get("4").name);
+    }
+
+    @Test
+    public void testRecentlyReadEntryIsNotEvicted() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 2);
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
+        assertEquals("1", cache.get("1").name);
+
+        cache.add("3", new Bean("3"));
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("1", cache.get("1").name);
+        assertNull(cache.get("2"));
+        assertEquals("3", cache.get("3").name);
+    }
+
+    @Test
+    public void testReplacedEntriesAreUnlinked() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 2);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("1", new Bean("1." + i));
+            cache.add("2", new Bean("2." + i));
+            cache.get("1");
+        }
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("1.999", cache.get("1").name);
+        assertTrue(cache.getQueuedCount() <= 4);
+    }
+
+    @Test
+    public void testExpiredEntriesAreSweptAfterEviction() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.of(Duration.ofMillis(100)), Duration.ofMillis(500),
+                2);
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
+        cache.get("1");
+        // "1" is given a second chance, "2" is evicted
+        cache.add("3", new Bean("3"));
+        assertEquals("1", cache.get("1").name);
+        assertNull(cache.get("2"));
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return cache.getCacheSize() == 0 && cache.getQueuedCount() == 0;
+            }
+
+        });
+        cache.stopTimer(vertx);
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // no timer, expired entries are removed when they are read or when new entries are added
+                Optional.empty(),
+                Duration.ofMillis(100),
+                10);
+        cache.add("1", new Bean("1"));
+        assertTrue(cache.containsKey("1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return !cache.containsKey("1");
+            }
+
+        });
+        assertNull(cache.get("1"));
+        assertEquals(0, cache.getCacheSize());
+
+        cache.add("2", new Bean("2"));
+        cache.add("3", new Bean("3"));
+        await().atMost(Duration.ofSeconds(5)).pollDelay(Duration.ofMillis(200)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                cache.add("4", new Bean("4"));
+                return cache.getCacheSize() == 1;
+            }
+
+        });
+        assertEquals("4", cache.get("4").name);
     }
 
     static class Bean {
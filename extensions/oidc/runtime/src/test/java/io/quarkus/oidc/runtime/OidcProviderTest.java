@@ -311,4 +311,60 @@ public String validate(JwtContext jwtContext) throws MalformedClaimException {
         }
     }
 
+    @Test
+    public void testVerifiedJwtCache() throws Exception {
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.verifiedJwtCacheSize = 2;
+
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet)) {
+            String token = Jwt.issuer("http://keycloak/realm").jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertEquals(1, provider.verifiedJwtCache.getCacheSize());
+            TokenVerificationResult cached = provider.verifyJwtToken(token, false, false, null);
+            assertEquals(result.localVerificationResult, cached.localVerificationResult);
+            assertEquals(1, provider.verifiedJwtCache.getCacheSize());
+
+            // The verification requirements are part of the cache key
+            try {
+                provider.verifyJwtToken(token, false, true, null);
+                fail("InvalidJwtException expected");
+            } catch (InvalidJwtException ex) {
+                // subject is required
+            }
+            assertEquals(1, provider.verifiedJwtCache.getCacheSize());
+
+            // The results of the verifications with a nonce are not cached
+            String tokenWithNonce = Jwt.issuer("http://keycloak/realm").claim("nonce", "123").jws().keyId("k1")
+                    .sign(rsaJsonWebKey.getPrivateKey());
+            provider.verifyJwtToken(tokenWithNonce, false, false, "123");
+            assertEquals(1, provider.verifiedJwtCache.getCacheSize());
+
+            // Expired tokens are not cached
+            String expiredToken = Jwt.issuer("http://keycloak/realm").expiresAt(Instant.now().minusSeconds(10)).jws()
+                    .keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+            try {
+                provider.verifyJwtToken(expiredToken, false, false, null);
+                fail("InvalidJwtException expected");
+            } catch (InvalidJwtException ex) {
+                // expired
+            }
+            assertEquals(1, provider.verifiedJwtCache.getCacheSize());
+        }
+
+        // The cache is disabled if custom validators are registered
+        Validator validator = new Validator() {
+            @Override
+            public String validate(JwtContext jwtContext) {
+                return null;
+            }
+        };
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet, null, List.of(validator))) {
+            assertNull(provider.verifiedJwtCache);
+        }
+    }
+
 }
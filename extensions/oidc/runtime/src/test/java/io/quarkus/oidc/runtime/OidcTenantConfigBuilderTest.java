@@ -91,6 +91,7 @@ public void testDefaultValues() {
         assertFalse(token.refreshExpired());
         assertTrue(token.refreshTokenTimeSkew().isEmpty());
         assertEquals(10, token.forcedJwkRefreshInterval().toMinutes());
+        assertEquals(0, token.verifiedJwtCacheSize());
         assertTrue(token.header().isEmpty());
         assertEquals(OidcConstants.BEARER_SCHEME, token.authorizationScheme());
         assertTrue(token.signatureAlgorithm().isEmpty());
@@ -287,6 +288,7 @@ public void testSetEveryProperty() {
                 .authorizationScheme("bearer-1234")
                 .header("doloris")
                 .forcedJwkRefreshInterval(Duration.ofMinutes(100))
+                .verifiedJwtCacheSize(500)
                 .refreshTokenTimeSkew(Duration.ofMinutes(99))
                 .refreshExpired()
                 .principalClaim("potter")
@@ -477,6 +479,7 @@ public void testSetEveryProperty() {
         assertTrue(token.refreshExpired());
         assertEquals(99, token.refreshTokenTimeSkew().get().toMinutes());
         assertEquals(100, token.forcedJwkRefreshInterval().toMinutes());
+        assertEquals(500, token.verifiedJwtCacheSize());
         assertEquals("doloris", token.header().orElse(null));
         assertEquals("bearer-1234", token.authorizationScheme());
         assertEquals(PS384, token.signatureAlgorithm().orElse(null));
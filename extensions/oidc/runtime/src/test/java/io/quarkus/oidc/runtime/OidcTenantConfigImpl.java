@@ -183,6 +183,7 @@ enum ConfigMappingMethods {
         TOKEN_REFRESH_EXPIRED,
         TOKEN_REFRESH_TOKEN_TIME_SKEW,
         TOKEN_FORCED_JWK_REFRESH_INTERNAL,
+        TOKEN_VERIFIED_JWT_CACHE_SIZE,
         TOKEN_HEADER,
         TOKEN_AUTHORIZATION_SCHEME,
         TOKEN_SIGNATURE_ALGORITHM,
@@ -392,6 +393,12 @@ public Duration forcedJwkRefreshInterval() {
                 return null;
             }
 
+            @Override
+            public int verifiedJwtCacheSize() {
+                invocationsRecorder.put(ConfigMappingMethods.TOKEN_VERIFIED_JWT_CACHE_SIZE, true);
+                return 0;
+            }
+
             @Override
             public Optional<String> header() {
                 invocationsRecorder.put(ConfigMappingMethods.TOKEN_HEADER, true);
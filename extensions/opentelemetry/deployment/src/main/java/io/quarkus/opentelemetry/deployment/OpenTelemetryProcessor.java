@@ -71,6 +71,7 @@
 import io.quarkus.opentelemetry.runtime.AutoConfiguredOpenTelemetrySdkBuilderCustomizer;
 import io.quarkus.opentelemetry.runtime.DelayedAttributes;
 import io.quarkus.opentelemetry.runtime.OpenTelemetryRecorder;
+import io.quarkus.opentelemetry.runtime.OpenTelemetryUtil;
 import io.quarkus.opentelemetry.runtime.QuarkusContextStorage;
 import io.quarkus.opentelemetry.runtime.config.build.ExporterType;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
@@ -81,6 +82,7 @@
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
+import io.quarkus.vertx.core.deployment.MdcKeyBuildItem;
 
 @BuildSteps(onlyIf = OpenTelemetryEnabled.class)
 public class OpenTelemetryProcessor {
@@ -321,6 +323,15 @@ void createOpenTelemetry(
         recorder.storeVertxOnContextStorage(vertx.getVertx());
     }
 
+    @BuildStep
+    void registerMdcKeys(BuildProducer<MdcKeyBuildItem> mdcKeys) {
+        // Set by OpenTelemetryUtil for every traced request
+        mdcKeys.produce(new MdcKeyBuildItem(OpenTelemetryUtil.TRACE_ID));
+        mdcKeys.produce(new MdcKeyBuildItem(OpenTelemetryUtil.SPAN_ID));
+        mdcKeys.produce(new MdcKeyBuildItem(OpenTelemetryUtil.PARENT_ID));
+        mdcKeys.produce(new MdcKeyBuildItem(OpenTelemetryUtil.SAMPLED));
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupVertx(InstrumentationRecorder recorder, BeanContainerBuildItem beanContainerBuildItem,
@@ -44,4 +44,16 @@ public interface BatchSpanProcessorConfig {
     @WithName("export.timeout")
     @WithDefault("30s")
     Duration exportTimeout();
+
+    /**
+     * If enabled, the spans are handed over to the export thread through a lock-free ring buffer instead of the blocking
+     * queue of the SDK Batch Span Processor.
+     * <p>
+     * The threads ending spans never block. The export thread adapts the batch size and the export delay to the load: larger
+     * batches while there is a backlog, smaller batches and a shorter delay when spans trickle in. The maximum export batch
+     * size and the schedule delay are the upper bounds.
+     */
+    @WithName("ring-buffer.enabled")
+    @WithDefault("false")
+    boolean ringBufferEnabled();
 }
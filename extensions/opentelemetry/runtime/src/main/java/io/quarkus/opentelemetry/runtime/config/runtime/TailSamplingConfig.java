@@ -0,0 +1,68 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * If enabled, the spans exported by the OTLP exporter are buffered per trace and the sampling decision is made
+     * once the local root span ends.
+     * <p>
+     * A trace is kept if any of its spans has an error status, a latency over
+     * <code>quarkus.otel.traces.tail-sampling.latency-threshold</code> or one of the
+     * <code>quarkus.otel.traces.tail-sampling.attributes</code>. All other traces are dropped.
+     * <p>
+     * This is a Quarkus specific property. Tail sampling is disabled by default.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum time a trace is buffered if its local root span does not end. The decision is made with the spans
+     * received so far.
+     * <p>
+     * Default is `30s`.
+     */
+    @WithName("decision-wait")
+    @WithDefault("30s")
+    Duration decisionWait();
+
+    /**
+     * The maximum number of traces buffered at the same time. If the limit is reached the oldest trace is evicted, i.e.
+     * the decision is made with the spans received so far.
+     * <p>
+     * Default is `10000`.
+     */
+    @WithName("max-traces")
+    @WithDefault("10000")
+    int maxTraces();
+
+    /**
+     * The maximum number of spans buffered per trace. The spans over the limit are dropped.
+     * <p>
+     * Default is `1000`.
+     */
+    @WithName("max-spans-per-trace")
+    @WithDefault("1000")
+    int maxSpansPerTrace();
+
+    /**
+     * Keep the traces with at least one span whose latency exceeds this threshold.
+     * <p>
+     * By default, the latency is not taken into account.
+     */
+    @WithName("latency-threshold")
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * Comma-separated attribute keys. Keep the traces with at least one span that has one of these attributes.
+     */
+    Optional<List<String>> attributes();
+}
@@ -63,4 +63,10 @@ public interface TracesRuntimeConfig {
     @WithName("sampler.arg")
     @WithDefault("1.0d")
     Optional<String> samplerArg();
+
+    /**
+     * Tail sampling of the exported traces.
+     */
+    @WithName("tail-sampling")
+    TailSamplingConfig tailSampling();
 }
@@ -11,6 +11,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -18,6 +19,7 @@
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
@@ -34,15 +36,19 @@
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregationUtil;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.BatchSpanProcessorConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.*;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.NoopLogRecordExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.VertxGrpcLogRecordExporter;
@@ -54,8 +60,10 @@
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxHttpSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundSpanProcessor;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RingBufferSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxHttpSpanExporter;
+import io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.tls.TlsConfiguration;
 import io.quarkus.tls.TlsConfigurationRegistry;
@@ -98,9 +106,18 @@ public LateBoundSpanProcessor apply(
                     var spanExporter = createSpanExporter(exporterRuntimeConfig, vertx.get(), baseUri,
                             tlsConfigurationRegistry);
 
+                    SpanProcessor spanProcessor;
                     if (oTelBuildConfig.simple()) {
                         SimpleSpanProcessorBuilder processorBuilder = SimpleSpanProcessor.builder(spanExporter);
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        spanProcessor = processorBuilder.build();
+                    } else if (otelRuntimeConfig.bsp().ringBufferEnabled()) {
+                        BatchSpanProcessorConfig bspc = otelRuntimeConfig.bsp();
+                        spanProcessor = new RingBufferSpanProcessor(spanExporter,
+                                bspc.scheduleDelay(),
+                                bspc.maxQueueSize(),
+                                bspc.maxExportBatchSize(),
+                                bspc.exportTimeout(),
+                                meterProvider());
                     } else {
                         BatchSpanProcessorBuilder processorBuilder = BatchSpanProcessor.builder(spanExporter);
 
@@ -111,13 +128,35 @@ public LateBoundSpanProcessor apply(
                         processorBuilder.setExporterTimeout(bspc.exportTimeout());
                         // processorBuilder.setMeterProvider() // TODO add meter provider to span processor.
 
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        spanProcessor = processorBuilder.build();
+                    }
+
+                    TailSamplingConfig tailSampling = otelRuntimeConfig.traces().tailSampling();
+                    if (tailSampling.enabled()) {
+                        spanProcessor = new TailSamplingSpanProcessor(spanProcessor,
+                                tailSampling.decisionWait(),
+                                tailSampling.maxTraces(),
+                                tailSampling.maxSpansPerTrace(),
+                                tailSampling.latencyThreshold().orElse(null),
+                                Set.copyOf(tailSampling.attributes().orElse(List.of())),
+                                meterProvider());
                     }
+                    return new LateBoundSpanProcessor(spanProcessor);
                 } catch (IllegalArgumentException iae) {
                     throw new IllegalStateException("Unable to install OTLP Exporter", iae);
                 }
             }
 
+            private Supplier<MeterProvider> meterProvider() {
+                return new Supplier<MeterProvider>() {
+                    @Override
+                    public MeterProvider get() {
+                        InstanceHandle<OpenTelemetry> openTelemetry = Arc.container().instance(OpenTelemetry.class);
+                        return openTelemetry.isAvailable() ? openTelemetry.get().getMeterProvider() : MeterProvider.noop();
+                    }
+                };
+            }
+
             private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig,
                     Vertx vertx,
                     URI baseUri,
@@ -0,0 +1,120 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer ring buffer.
+ * <p>
+ * Each slot holds a sequence number that tells producers and the consumer whether the slot is free or published. Producers
+ * only contend on a CAS of the tail counter; the consumer never writes to shared counters except for its own head.
+ *
+ * @param <E>
+ */
+final class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    // Only written by the consumer
+    private volatile long head;
+
+    /**
+     * @param capacity The minimal capacity; rounded up to the next power of two
+     */
+    MpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * May be called by any thread.
+     *
+     * @param element
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // Publish the element
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // The consumer did not free the slot yet
+                return false;
+            } else {
+                // Another producer claimed the slot
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Must only be called by the consumer thread.
+     *
+     * @return the next element or {@code null} if the buffer is empty
+     */
+    E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            // Empty or not published yet
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // Free the slot for the next round
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Must only be called by the consumer thread.
+     *
+     * @param limit the maximum number of elements to take
+     * @param consumer the consumer of the taken elements
+     * @return the number of taken elements
+     */
+    int drain(int limit, Consumer<E> consumer) {
+        int count = 0;
+        E element;
+        while (count < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the approximate number of elements
+     */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+}
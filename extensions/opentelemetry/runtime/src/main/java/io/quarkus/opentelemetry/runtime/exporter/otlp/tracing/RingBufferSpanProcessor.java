@@ -0,0 +1,343 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * A batching {@link SpanProcessor} that hands the ended spans over to the export thread through a lock-free
+ * multi-producer single-consumer ring buffer.
+ * <p>
+ * The threads that end spans never block and never allocate; if the queue is full the span is dropped and counted. The
+ * export thread wakes up when a batch is available or when the export delay elapses, and adapts both to the load:
+ * <ul>
+ * <li>the batch size doubles, up to the maximum export batch size, while a backlog of at least one batch remains after an
+ * export, so that fewer and larger requests are sent under load; it halves, down to a sixteenth of the maximum, when the
+ * delay elapses before half a batch is buffered, so that the spans do not wait for a batch that is not coming</li>
+ * <li>the export delay halves, down to a sixteenth of the schedule delay, when the delay elapses and some spans are buffered,
+ * so that the spans of a low rate are exported sooner; it doubles, up to the schedule delay, when nothing is buffered, so that
+ * an idle application does not wake up the export thread</li>
+ * </ul>
+ * <p>
+ * The metrics use the same names as the SDK {@code BatchSpanProcessor}, i.e. a {@code queueSize} gauge and a
+ * {@code processedSpans} counter with the {@code dropped} attribute.
+ */
+public final class RingBufferSpanProcessor implements SpanProcessor {
+
+    private static final Logger log = Logger.getLogger(RingBufferSpanProcessor.class);
+
+    private static final AttributeKey<String> PROCESSOR_TYPE_LABEL = AttributeKey.stringKey("processorType");
+    private static final AttributeKey<Boolean> DROPPED_LABEL = AttributeKey.booleanKey("dropped");
+    private static final String PROCESSOR_TYPE_VALUE = RingBufferSpanProcessor.class.getSimpleName();
+
+    private final SpanExporter spanExporter;
+    private final MpscRingBuffer<ReadableSpan> queue;
+    private final int capacity;
+    private final int maxExportBatchSize;
+    private final int minExportBatchSize;
+    private final long scheduleDelayNanos;
+    private final long minDelayNanos;
+    private final long exportTimeoutNanos;
+    private final Supplier<MeterProvider> meterProvider;
+    private final Thread worker;
+
+    // true if the worker was asked to export a full batch
+    private final AtomicBoolean exportRequested = new AtomicBoolean();
+    private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final CompletableResultCode shutdownResult = new CompletableResultCode();
+
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+
+    // Only written by the export thread
+    private volatile int batchSize;
+    private volatile long delayNanos;
+
+    public RingBufferSpanProcessor(SpanExporter spanExporter, Duration scheduleDelay, int maxQueueSize,
+            int maxExportBatchSize, Duration exportTimeout, Supplier<MeterProvider> meterProvider) {
+        this.spanExporter = spanExporter;
+        this.queue = new MpscRingBuffer<>(maxQueueSize);
+        this.capacity = queue.capacity();
+        this.maxExportBatchSize = Math.min(maxExportBatchSize, capacity);
+        this.minExportBatchSize = Math.max(1, this.maxExportBatchSize / 16);
+        this.scheduleDelayNanos = scheduleDelay.toNanos();
+        this.minDelayNanos = Math.max(1, scheduleDelayNanos / 16);
+        this.batchSize = this.maxExportBatchSize;
+        this.delayNanos = scheduleDelayNanos;
+        this.exportTimeoutNanos = exportTimeout.toNanos();
+        this.meterProvider = meterProvider;
+        this.worker = new Thread(this::run, "quarkus-otel-span-exporter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled() || shutdown.get()) {
+            return;
+        }
+        if (!queue.offer(span)) {
+            droppedSpans.increment();
+            return;
+        }
+        if (queue.size() >= batchSize && exportRequested.compareAndSet(false, true)) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (shutdown.get()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        CompletableResultCode result = new CompletableResultCode();
+        if (!flushRequested.compareAndSet(null, result)) {
+            // A flush is already in progress
+            CompletableResultCode pending = flushRequested.get();
+            return pending != null ? pending : CompletableResultCode.ofSuccess();
+        }
+        LockSupport.unpark(worker);
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (shutdown.compareAndSet(false, true)) {
+            LockSupport.unpark(worker);
+        }
+        return shutdownResult;
+    }
+
+    /**
+     * @return the number of spans dropped because the buffer was full
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    /**
+     * @return the number of spans passed to the exporter
+     */
+    public long getExportedSpans() {
+        return exportedSpans.sum();
+    }
+
+    /**
+     * @return the current batch size
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the current export delay
+     */
+    long getDelayNanos() {
+        return delayNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferSpanProcessor{spanExporter=" + spanExporter + ", capacity=" + capacity
+                + ", maxExportBatchSize=" + maxExportBatchSize + ", scheduleDelayNanos=" + scheduleDelayNanos + "}";
+    }
+
+    private void run() {
+        List<SpanData> batch = new ArrayList<>(maxExportBatchSize);
+        LongCounter processedSpans = null;
+        Attributes exportedAttrs = Attributes.of(PROCESSOR_TYPE_LABEL, PROCESSOR_TYPE_VALUE, DROPPED_LABEL, false);
+        Attributes droppedAttrs = Attributes.of(PROCESSOR_TYPE_LABEL, PROCESSOR_TYPE_VALUE, DROPPED_LABEL, true);
+        long reportedDropped = 0;
+        long reportedExported = 0;
+        long nextExport = System.nanoTime() + delayNanos;
+
+        while (!shutdown.get()) {
+            CompletableResultCode flush = flushRequested.get();
+            long now = System.nanoTime();
+            int currentBatchSize = batchSize;
+            if (flush == null && queue.size() < currentBatchSize && now - nextExport < 0) {
+                exportRequested.set(false);
+                // Check again to avoid a lost wakeup
+                if (queue.size() < currentBatchSize) {
+                    LockSupport.parkNanos(this, nextExport - now);
+                }
+                continue;
+            }
+            if (processedSpans == null) {
+                // Initialize the metrics lazily because the MeterProvider may not be available when the processor is created
+                processedSpans = initMetrics();
+            }
+            if (flush != null) {
+                // Export all the spans that were buffered before the flush was requested
+                int pending = queue.size();
+                int exported;
+                while (pending > 0 && (exported = exportBatch(batch, maxExportBatchSize)) > 0) {
+                    pending -= exported;
+                }
+                flushRequested.set(null);
+                completeFlush(flush);
+            } else {
+                boolean full = queue.size() >= currentBatchSize;
+                int exported = exportBatch(batch, currentBatchSize);
+                adapt(full, exported);
+            }
+            long dropped = droppedSpans.sum();
+            if (dropped > reportedDropped) {
+                processedSpans.add(dropped - reportedDropped, droppedAttrs);
+                log.debugf("%s spans dropped because the span export buffer is full", dropped - reportedDropped);
+                reportedDropped = dropped;
+            }
+            long exported = exportedSpans.sum();
+            if (exported > reportedExported) {
+                processedSpans.add(exported - reportedExported, exportedAttrs);
+                reportedExported = exported;
+            }
+            // The next batch is exported immediately if there is a backlog
+            nextExport = System.nanoTime() + delayNanos;
+        }
+
+        // Export the remaining spans and shutdown the exporter
+        while (exportBatch(batch, maxExportBatchSize) > 0) {
+        }
+        CompletableResultCode pendingFlush = flushRequested.getAndSet(null);
+        if (pendingFlush != null) {
+            completeFlush(pendingFlush);
+        }
+        CompletableResultCode exporterShutdown = spanExporter.shutdown();
+        exporterShutdown.whenComplete(() -> {
+            if (exporterShutdown.isSuccess()) {
+                shutdownResult.succeed();
+            } else {
+                shutdownResult.fail();
+            }
+        });
+    }
+
+    /**
+     * Adapts the batch size and the export delay after an export.
+     *
+     * @param full {@code true} if the export was triggered by a full batch, {@code false} if the delay elapsed
+     * @param exported the number of exported spans
+     */
+    private void adapt(boolean full, int exported) {
+        int currentBatchSize = batchSize;
+        if (full) {
+            if (queue.size() >= currentBatchSize && currentBatchSize < maxExportBatchSize) {
+                batchSize = Math.min(maxExportBatchSize, currentBatchSize * 2);
+            }
+            return;
+        }
+        if (exported < currentBatchSize / 2 && currentBatchSize > minExportBatchSize) {
+            batchSize = Math.max(minExportBatchSize, currentBatchSize / 2);
+        }
+        long currentDelay = delayNanos;
+        if (exported > 0) {
+            delayNanos = Math.max(minDelayNanos, currentDelay / 2);
+        } else {
+            delayNanos = Math.min(scheduleDelayNanos, currentDelay * 2);
+        }
+    }
+
+    /**
+     * Completes the given flush once the exporter has sent the spans it was given.
+     */
+    private void completeFlush(CompletableResultCode flush) {
+        CompletableResultCode exporterFlush;
+        try {
+            exporterFlush = spanExporter.flush();
+        } catch (RuntimeException e) {
+            log.debugf(e, "Exporter threw an exception while flushing");
+            flush.fail();
+            return;
+        }
+        exporterFlush.whenComplete(() -> {
+            if (exporterFlush.isSuccess()) {
+                flush.succeed();
+            } else {
+                flush.fail();
+            }
+        });
+    }
+
+    private int exportBatch(List<SpanData> batch, int limit) {
+        queue.drain(limit, span -> batch.add(span.toSpanData()));
+        int size = batch.size();
+        if (size == 0) {
+            return 0;
+        }
+        try {
+            CompletableResultCode result = spanExporter.export(batch);
+            result.join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (result.isSuccess()) {
+                exportedSpans.add(size);
+            } else {
+                log.debugf("Exporter failed to export %s spans", size);
+            }
+        } catch (RuntimeException e) {
+            log.debugf(e, "Exporter threw an exception while exporting %s spans", size);
+        } finally {
+            // The exporter must not keep a reference to the list
+            batch.clear();
+        }
+        return size;
+    }
+
+    private LongCounter initMetrics() {
+        MeterProvider provider;
+        try {
+            provider = meterProvider.get();
+        } catch (RuntimeException e) {
+            log.debug("Unable to obtain the MeterProvider", e);
+            provider = MeterProvider.noop();
+        }
+        Meter meter = provider.meterBuilder("io.opentelemetry.sdk.trace").build();
+        Attributes attrs = Attributes.of(PROCESSOR_TYPE_LABEL, PROCESSOR_TYPE_VALUE);
+        meter.gaugeBuilder("queueSize")
+                .ofLongs()
+                .setDescription("The number of items queued")
+                .setUnit("1")
+                .buildWithCallback(measurement -> measurement.record(queue.size(), attrs));
+        return meter.counterBuilder("processedSpans")
+                .setUnit("1")
+                .setDescription(
+                        "The number of spans processed by the RingBufferSpanProcessor. [dropped=true if they were dropped due to high throughput]")
+                .build();
+    }
+
+}
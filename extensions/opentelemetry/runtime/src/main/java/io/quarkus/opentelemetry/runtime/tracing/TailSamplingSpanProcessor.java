@@ -0,0 +1,468 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationLibraryInfo;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * A {@link SpanProcessor} that buffers the ended spans per trace and decides whether the trace is kept once its local root
+ * span ends.
+ * <p>
+ * A trace is kept if any of its spans has an error status, a latency over the threshold or one of the configured attributes.
+ * The spans of a kept trace are passed to the delegate processor, the spans of other traces are dropped.
+ * <p>
+ * The memory is bounded: a trace whose local root span does not end within the decision wait is decided with the spans
+ * received so far, and so is the oldest trace if the maximum number of buffered traces is reached. The spans ended after the
+ * decision are buffered as a new trace.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final Logger log = Logger.getLogger(TailSamplingSpanProcessor.class);
+
+    private static final AttributeKey<String> DECISION_LABEL = AttributeKey.stringKey("decision");
+    private static final AttributeKey<String> REASON_LABEL = AttributeKey.stringKey("reason");
+
+    static final String COMPLETED = "completed";
+    static final String EXPIRED = "expired";
+    static final String EVICTED = "evicted";
+
+    private final SpanProcessor delegate;
+    private final long decisionWaitNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final long latencyThresholdNanos;
+    private final Set<String> attributes;
+    private final Supplier<MeterProvider> meterProvider;
+
+    private final ConcurrentMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    // Buffers in the order of creation; the decided ones are removed lazily, polling is guarded by the queue monitor
+    private final ConcurrentLinkedQueue<TraceBuffer> order = new ConcurrentLinkedQueue<>();
+    // The number of buffers in the queue, the decided ones are purged when it exceeds twice the maximum number of traces
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ScheduledExecutorService sweeper;
+
+    private final LongAdder droppedSpans = new LongAdder();
+    private volatile Metrics metrics;
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, Duration decisionWait, int maxTraces, int maxSpansPerTrace,
+            Duration latencyThreshold, Set<String> attributes, Supplier<MeterProvider> meterProvider) {
+        if (maxTraces < 1 || maxSpansPerTrace < 1) {
+            throw new IllegalArgumentException("The maximum number of traces and spans per trace must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.decisionWaitNanos = decisionWait.toNanos();
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.latencyThresholdNanos = latencyThreshold != null ? latencyThreshold.toNanos() : Long.MAX_VALUE;
+        this.attributes = Set.copyOf(attributes);
+        this.meterProvider = meterProvider;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "quarkus-otel-tail-sampling");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(TimeUnit.MILLISECONDS.toNanos(100), Math.min(decisionWaitNanos, TimeUnit.SECONDS.toNanos(1)));
+        this.sweeper.scheduleAtFixedRate(this::expire, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        boolean localRoot = isLocalRoot(span);
+        TraceBuffer buffer = traces.get(traceId);
+        if (buffer == null) {
+            if (localRoot) {
+                // All the other spans of the trace ended before the root span or were decided already
+                buffer = new TraceBuffer(traceId);
+                buffer.add(span);
+                decide(buffer, COMPLETED);
+                return;
+            }
+            buffer = new TraceBuffer(traceId);
+            TraceBuffer existing = traces.putIfAbsent(traceId, buffer);
+            if (existing != null) {
+                buffer = existing;
+            } else {
+                order.add(buffer);
+                if (queued.incrementAndGet() > 2 * maxTraces) {
+                    purgeDecided();
+                }
+                if (traces.size() > maxTraces) {
+                    evictOldest();
+                }
+            }
+        }
+        if (!buffer.add(span)) {
+            // The trace was decided concurrently, or the buffer is full
+            if (buffer.isDecided()) {
+                onEnd(span);
+            } else {
+                droppedSpans.increment();
+            }
+            return;
+        }
+        if (localRoot && traces.remove(traceId, buffer)) {
+            decide(buffer, COMPLETED);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        sweeper.shutdownNow();
+        // Decide the buffered traces with the spans received so far
+        for (TraceBuffer buffer : traces.values()) {
+            if (traces.remove(buffer.traceId, buffer)) {
+                decide(buffer, EXPIRED);
+            }
+        }
+        synchronized (order) {
+            order.clear();
+            queued.set(0);
+        }
+        return delegate.shutdown();
+    }
+
+    /**
+     * @return the number of buffered traces
+     */
+    int bufferedTraces() {
+        return traces.size();
+    }
+
+    /**
+     * @return the number of buffers in the creation order queue, including the decided ones not purged yet
+     */
+    int queuedBuffers() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of spans dropped because the trace buffer was full
+     */
+    long droppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    void expire() {
+        long now = System.nanoTime();
+        List<TraceBuffer> expired = new ArrayList<>();
+        synchronized (order) {
+            TraceBuffer buffer;
+            while ((buffer = order.peek()) != null) {
+                if (!buffer.isDecided() && now - buffer.created < decisionWaitNanos) {
+                    // Buffers are ordered by creation
+                    break;
+                }
+                order.poll();
+                queued.decrementAndGet();
+                if (!buffer.isDecided() && traces.remove(buffer.traceId, buffer)) {
+                    expired.add(buffer);
+                }
+            }
+        }
+        for (TraceBuffer buffer : expired) {
+            decide(buffer, EXPIRED);
+        }
+    }
+
+    private void evictOldest() {
+        TraceBuffer evicted = null;
+        synchronized (order) {
+            TraceBuffer buffer;
+            while ((buffer = order.poll()) != null) {
+                queued.decrementAndGet();
+                if (!buffer.isDecided() && traces.remove(buffer.traceId, buffer)) {
+                    evicted = buffer;
+                    break;
+                }
+            }
+        }
+        if (evicted != null) {
+            decide(evicted, EVICTED);
+        }
+    }
+
+    /**
+     * Removes the decided buffers from the queue. Most traces are decided when their root span ends, while an older trace
+     * may still be waiting at the head of the queue.
+     */
+    private void purgeDecided() {
+        synchronized (order) {
+            if (queued.get() <= 2 * maxTraces) {
+                // Purged concurrently
+                return;
+            }
+            int removed = 0;
+            for (Iterator<TraceBuffer> it = order.iterator(); it.hasNext();) {
+                if (it.next().isDecided()) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            queued.addAndGet(-removed);
+        }
+    }
+
+    private void decide(TraceBuffer buffer, String reason) {
+        List<ReadableSpan> spans = buffer.close();
+        boolean keep = false;
+        for (ReadableSpan span : spans) {
+            if (isInteresting(span)) {
+                keep = true;
+                break;
+            }
+        }
+        if (!keep) {
+            // The status is only available from a snapshot, which is passed to the delegate so that it is taken once
+            for (int i = 0; i < spans.size() && !keep; i++) {
+                ReadableSpan span = spans.get(i);
+                SpanData data = span.toSpanData();
+                keep = data.getStatus().getStatusCode() == StatusCode.ERROR;
+                spans.set(i, new SnapshotSpan(span, data));
+            }
+        }
+        if (keep) {
+            for (ReadableSpan span : spans) {
+                try {
+                    delegate.onEnd(span);
+                } catch (RuntimeException e) {
+                    log.debugf(e, "Unable to process span %s", span.getName());
+                }
+            }
+        }
+        metrics().record(keep, reason, droppedSpans);
+    }
+
+    /**
+     * @return {@code true} if the latency or the attributes of the span make the trace interesting, the status is checked
+     *         separately
+     */
+    private boolean isInteresting(ReadableSpan span) {
+        if (span.getLatencyNanos() > latencyThresholdNanos) {
+            return true;
+        }
+        if (!attributes.isEmpty()) {
+            for (AttributeKey<?> key : span.getAttributes().asMap().keySet()) {
+                if (attributes.contains(key.getKey())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private Metrics metrics() {
+        Metrics m = metrics;
+        if (m == null) {
+            // Initialize the metrics lazily because the MeterProvider may not be available when the processor is created
+            synchronized (this) {
+                m = metrics;
+                if (m == null) {
+                    MeterProvider provider;
+                    try {
+                        provider = meterProvider.get();
+                    } catch (RuntimeException e) {
+                        log.debug("Unable to obtain the MeterProvider", e);
+                        provider = MeterProvider.noop();
+                    }
+                    m = new Metrics(provider.meterBuilder("io.quarkus.opentelemetry").build(), traces);
+                    metrics = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    private final class TraceBuffer {
+
+        final String traceId;
+        final long created = System.nanoTime();
+        private List<ReadableSpan> spans = new ArrayList<>();
+
+        TraceBuffer(String traceId) {
+            this.traceId = traceId;
+        }
+
+        synchronized boolean add(ReadableSpan span) {
+            if (spans == null || spans.size() >= maxSpansPerTrace) {
+                return false;
+            }
+            spans.add(span);
+            return true;
+        }
+
+        synchronized boolean isDecided() {
+            return spans == null;
+        }
+
+        synchronized List<ReadableSpan> close() {
+            List<ReadableSpan> ret = spans;
+            spans = null;
+            return ret;
+        }
+    }
+
+    /**
+     * An ended span whose snapshot was already taken.
+     */
+    private static final class SnapshotSpan implements ReadableSpan {
+
+        private final ReadableSpan span;
+        private final SpanData data;
+
+        SnapshotSpan(ReadableSpan span, SpanData data) {
+            this.span = span;
+            this.data = data;
+        }
+
+        @Override
+        public SpanContext getSpanContext() {
+            return span.getSpanContext();
+        }
+
+        @Override
+        public SpanContext getParentSpanContext() {
+            return span.getParentSpanContext();
+        }
+
+        @Override
+        public String getName() {
+            return span.getName();
+        }
+
+        @Override
+        public SpanData toSpanData() {
+            return data;
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+            return span.getInstrumentationLibraryInfo();
+        }
+
+        @Override
+        public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+            return span.getInstrumentationScopeInfo();
+        }
+
+        @Override
+        public boolean hasEnded() {
+            return true;
+        }
+
+        @Override
+        public long getLatencyNanos() {
+            return span.getLatencyNanos();
+        }
+
+        @Override
+        public SpanKind getKind() {
+            return span.getKind();
+        }
+
+        @Override
+        public <T> T getAttribute(AttributeKey<T> key) {
+            return span.getAttribute(key);
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return span.getAttributes();
+        }
+    }
+
+    private static final class Metrics {
+
+        private final LongCounter traces;
+        private final LongCounter spans;
+        private long reportedDroppedSpans;
+
+        Metrics(Meter meter, ConcurrentMap<String, TraceBuffer> buffered) {
+            this.traces = meter.counterBuilder("quarkus.otel.tail_sampling.traces")
+                    .setUnit("1")
+                    .setDescription(
+                            "The number of traces decided by the tail sampler. [decision=sampled|dropped, reason=completed|expired|evicted]")
+                    .build();
+            this.spans = meter.counterBuilder("quarkus.otel.tail_sampling.dropped_spans")
+                    .setUnit("1")
+                    .setDescription("The number of spans dropped because the trace buffer was full")
+                    .build();
+            meter.gaugeBuilder("quarkus.otel.tail_sampling.buffered_traces")
+                    .ofLongs()
+                    .setUnit("1")
+                    .setDescription("The number of traces waiting for a decision")
+                    .buildWithCallback(measurement -> measurement.record(buffered.size()));
+        }
+
+        void record(boolean keep, String reason, LongAdder droppedSpans) {
+            traces.add(1, Attributes.of(DECISION_LABEL, keep ? "sampled" : "dropped", REASON_LABEL, reason));
+            long dropped = droppedSpans.sum();
+            synchronized (this) {
+                if (dropped > reportedDroppedSpans) {
+                    spans.add(dropped - reportedDroppedSpans);
+                    reportedDroppedSpans = dropped;
+                }
+            }
+        }
+    }
+
+}
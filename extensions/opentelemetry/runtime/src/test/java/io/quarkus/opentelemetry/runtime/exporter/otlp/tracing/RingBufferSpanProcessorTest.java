@@ -0,0 +1,250 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+public class RingBufferSpanProcessorTest {
+
+    @Test
+    public void testRingBuffer() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drain(3, drained::add));
+        assertEquals(List.of(1, 2, 3), drained);
+        assertEquals(4, buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void testFullBatchesAreExportedWithoutDelay() throws InterruptedException {
+        CollectingExporter exporter = new CollectingExporter();
+        RingBufferSpanProcessor processor = new RingBufferSpanProcessor(exporter, Duration.ofMinutes(1), 2048, 10,
+                Duration.ofSeconds(5), MeterProvider::noop);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        Tracer tracer = tracerProvider.get("test");
+        exporter.expect(3);
+        for (int i = 0; i < 30; i++) {
+            tracer.spanBuilder("span" + i).startSpan().end();
+        }
+        // The schedule delay is one minute
+        assertTrue(exporter.await());
+        assertTrue(tracerProvider.shutdown().join(5, TimeUnit.SECONDS).isSuccess());
+        assertThat(exporter.batches).hasSize(3).allSatisfy(batch -> assertEquals(10, batch.size()));
+        assertEquals(30, processor.getExportedSpans());
+    }
+
+    @Test
+    public void testFlushAndShutdown() {
+        CollectingExporter exporter = new CollectingExporter();
+        RingBufferSpanProcessor processor = new RingBufferSpanProcessor(exporter, Duration.ofMinutes(1), 2048, 512,
+                Duration.ofSeconds(5), MeterProvider::noop);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        Tracer tracer = tracerProvider.get("test");
+        tracer.spanBuilder("one").startSpan().end();
+        tracer.spanBuilder("two").startSpan().end();
+        assertTrue(tracerProvider.forceFlush().join(5, TimeUnit.SECONDS).isSuccess());
+        assertEquals(List.of("one", "two"), exporter.names());
+
+        tracer.spanBuilder("three").startSpan().end();
+        assertTrue(tracerProvider.shutdown().join(5, TimeUnit.SECONDS).isSuccess());
+        assertEquals(List.of("one", "two", "three"), exporter.names());
+        assertTrue(exporter.shutdown);
+        assertEquals(3, processor.getExportedSpans());
+    }
+
+    @Test
+    public void testFlushCompletesWithTheExporterFlush() {
+        CompletableResultCode exporterFlush = new CompletableResultCode();
+        CollectingExporter exporter = new CollectingExporter() {
+            @Override
+            public CompletableResultCode flush() {
+                return exporterFlush;
+            }
+        };
+        RingBufferSpanProcessor processor = new RingBufferSpanProcessor(exporter, Duration.ofMinutes(1), 2048, 512,
+                Duration.ofSeconds(5), MeterProvider::noop);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        tracerProvider.get("test").spanBuilder("one").startSpan().end();
+        CompletableResultCode flush = tracerProvider.forceFlush();
+        // The span is exported but the exporter has not sent it yet
+        assertFalse(flush.join(500, TimeUnit.MILLISECONDS).isDone());
+        assertEquals(List.of("one"), exporter.names());
+        exporterFlush.succeed();
+        assertTrue(flush.join(5, TimeUnit.SECONDS).isSuccess());
+        assertTrue(tracerProvider.shutdown().join(5, TimeUnit.SECONDS).isSuccess());
+    }
+
+    @Test
+    public void testUnsampledSpansAreIgnored() {
+        CollectingExporter exporter = new CollectingExporter();
+        RingBufferSpanProcessor processor = new RingBufferSpanProcessor(exporter, Duration.ofMinutes(1), 2048, 512,
+                Duration.ofSeconds(5), MeterProvider::noop);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().setSampler(Sampler.alwaysOff())
+                .addSpanProcessor(processor).build();
+        tracerProvider.get("test").spanBuilder("dropped").startSpan().end();
+        assertTrue(tracerProvider.shutdown().join(5, TimeUnit.SECONDS).isSuccess());
+        assertTrue(exporter.names().isEmpty());
+    }
+
+    @Test
+    public void testSpansAreDroppedIfBufferIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CollectingExporter exporter = new CollectingExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                started.countDown();
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.export(spans);
+            }
+        };
+        RingBufferSpanProcessor processor = new RingBufferSpanProcessor(exporter, Duration.ofMinutes(1), 4, 4,
+                Duration.ofSeconds(5), MeterProvider::noop);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        Tracer tracer = tracerProvider.get("test");
+        // The first batch blocks the exporter, the next one fills the buffer
+        for (int i = 0; i < 4; i++) {
+            tracer.spanBuilder("span" + i).startSpan().end();
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 4; i < 10; i++) {
+            tracer.spanBuilder("span" + i).startSpan().end();
+        }
+        assertEquals(2, processor.getDroppedSpans());
+        blocked.countDown();
+        assertTrue(tracerProvider.shutdown().join(5, TimeUnit.SECONDS).isSuccess());
+        assertEquals(8, processor.getExportedSpans());
+    }
+
+    @Test
+    public void testBatchSizeAndDelayAdaptToTheLoad() throws InterruptedException {
+        CollectingExporter exporter = new CollectingExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                // Each request takes some time
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.export(spans);
+            }
+        };
+        RingBufferSpanProcessor processor = new RingBufferSpanProcessor(exporter, Duration.ofMillis(160), 2048, 64,
+                Duration.ofSeconds(5), MeterProvider::noop);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        Tracer tracer = tracerProvider.get("test");
+        assertEquals(64, processor.getBatchSize());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(160), processor.getDelayNanos());
+
+        // A low rate: the batch size and the delay shrink
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((processor.getBatchSize() > 4 || processor.getDelayNanos() > TimeUnit.MILLISECONDS.toNanos(10))
+                && System.nanoTime() < deadline) {
+            tracer.spanBuilder("slow").startSpan().end();
+            Thread.sleep(5);
+        }
+        assertEquals(4, processor.getBatchSize());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), processor.getDelayNanos());
+
+        // Idle: the delay grows back
+        assertTrue(await(() -> processor.getDelayNanos() == TimeUnit.MILLISECONDS.toNanos(160)));
+
+        // A burst: the batch size grows back
+        for (int i = 0; i < 1024; i++) {
+            tracer.spanBuilder("fast").startSpan().end();
+        }
+        assertTrue(await(() -> processor.getBatchSize() == 64));
+        assertTrue(tracerProvider.shutdown().join(5, TimeUnit.SECONDS).isSuccess());
+        assertEquals(exporter.names().size(), processor.getExportedSpans());
+        assertThat(exporter.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(64));
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    static class CollectingExporter implements SpanExporter {
+
+        final List<List<SpanData>> batches = new CopyOnWriteArrayList<>();
+        volatile boolean shutdown;
+        volatile CountDownLatch latch = new CountDownLatch(0);
+
+        void expect(int batches) {
+            latch = new CountDownLatch(batches);
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (List<SpanData> batch : batches) {
+                batch.forEach(span -> names.add(span.getName()));
+            }
+            return names;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            batches.add(List.copyOf(spans));
+            latch.countDown();
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+}
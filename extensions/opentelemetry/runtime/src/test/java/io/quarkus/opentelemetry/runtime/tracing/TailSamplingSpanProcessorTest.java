@@ -0,0 +1,164 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+class TailSamplingSpanProcessorTest {
+
+    CollectingProcessor collected = new CollectingProcessor();
+    SdkTracerProvider tracerProvider;
+    TailSamplingSpanProcessor processor;
+
+    @AfterEach
+    void shutdown() {
+        tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testOnlyInterestingTracesAreKept() {
+        Tracer tracer = init(Duration.ofMinutes(1), 100, 100, Duration.ofMillis(200), Set.of("keep.me"));
+
+        // Regular trace
+        trace(tracer, "regular", child -> {
+        });
+        // Error in a child span
+        trace(tracer, "error", child -> child.setStatus(StatusCode.ERROR));
+        // Slow child span
+        trace(tracer, "slow", child -> child.end(Instant.now().plusSeconds(1)));
+        // Attribute
+        trace(tracer, "attribute", child -> child.setAttribute("keep.me", true));
+
+        assertEquals(List.of("error-child", "error", "slow-child", "slow", "attribute-child", "attribute"),
+                collected.names());
+        assertEquals(0, processor.bufferedTraces());
+    }
+
+    @Test
+    void testUnfinishedTracesExpire() throws InterruptedException {
+        Tracer tracer = init(Duration.ofMillis(100), 100, 100, null, Set.of());
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan()
+                .setStatus(StatusCode.ERROR).end();
+        assertEquals(1, processor.bufferedTraces());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (processor.bufferedTraces() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(0, processor.bufferedTraces());
+        assertEquals(List.of("child"), collected.names());
+    }
+
+    @Test
+    void testMemoryIsBounded() {
+        Tracer tracer = init(Duration.ofMinutes(1), 2, 3, null, Set.of());
+        List<Span> roots = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Span root = tracer.spanBuilder("root" + i).startSpan();
+            roots.add(root);
+            Span child = tracer.spanBuilder("child" + i).setParent(Context.current().with(root)).startSpan();
+            if (i == 0) {
+                child.setStatus(StatusCode.ERROR);
+            }
+            child.end();
+        }
+        // The oldest trace was evicted and decided with the spans received so far
+        assertEquals(2, processor.bufferedTraces());
+        assertEquals(List.of("child0"), collected.names());
+
+        Span root = roots.get(2);
+        for (int i = 0; i < 5; i++) {
+            tracer.spanBuilder("extra" + i).setParent(Context.current().with(root)).startSpan().end();
+        }
+        assertEquals(3, processor.droppedSpans());
+    }
+
+    @Test
+    void testDecidedTracesAreNotRetained() {
+        Tracer tracer = init(Duration.ofMinutes(1), 10, 10, null, Set.of());
+        // A young trace at the head of the queue is not decided before the decision wait
+        Span pending = tracer.spanBuilder("pending").startSpan();
+        tracer.spanBuilder("pending-child").setParent(Context.current().with(pending)).startSpan().end();
+        for (int i = 0; i < 1000; i++) {
+            trace(tracer, "completed" + i, child -> {
+            });
+        }
+        assertEquals(1, processor.bufferedTraces());
+        assertTrue(processor.queuedBuffers() <= 20);
+    }
+
+    private Tracer init(Duration decisionWait, int maxTraces, int maxSpansPerTrace, Duration latencyThreshold,
+            Set<String> attributes) {
+        processor = new TailSamplingSpanProcessor(collected, decisionWait, maxTraces, maxSpansPerTrace, latencyThreshold,
+                attributes, MeterProvider::noop);
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        return tracerProvider.get("test");
+    }
+
+    private static void trace(Tracer tracer, String name, Consumer<Span> childCustomizer) {
+        Span root = tracer.spanBuilder(name).startSpan();
+        Span child = tracer.spanBuilder(name + "-child").setParent(Context.current().with(root)).startSpan();
+        childCustomizer.accept(child);
+        child.end();
+        root.end();
+    }
+
+    static class CollectingProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> spans = Collections.synchronizedList(new ArrayList<>());
+
+        List<String> names() {
+            synchronized (spans) {
+                return spans.stream().map(ReadableSpan::getName).toList();
+            }
+        }
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+}
@@ -2,6 +2,8 @@
 
 import java.lang.reflect.Type;
 
+import io.vertx.core.buffer.Buffer;
+
 /**
  * Redis codec interface.
  * <p>
@@ -38,4 +40,19 @@ public interface Codec {
      */
     Object decode(byte[] item);
 
+    /**
+     * Decodes the content of the given buffer to an object.
+     * The codec must return an instance of the type used to call the {@link #canHandle(Type)} method.
+     * <p>
+     * The buffer is a view of the response received from Redis: reading it does not copy the content, but the buffer
+     * must not be retained once the method returns. The default implementation copies the content and calls
+     * {@link #decode(byte[])}; codecs able to read from a buffer should override this method.
+     *
+     * @param item the buffer
+     * @return the object
+     */
+    default Object decodeFromBuffer(Buffer item) {
+        return decode(item.getBytes());
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.quarkus.redis.datasource.codecs;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -8,12 +9,20 @@
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.quarkus.vertx.runtime.jackson.QuarkusJacksonJsonCodec;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
 public class Codecs {
 
@@ -44,24 +53,20 @@ public static Codec getDefaultCodecFor(Type type) {
     }
 
     public static class JsonCodec implements Codec {
-        private final TypeReference<?> type;
-        private final Class<?> clazz;
-        private final ObjectMapper mapper;
+        private final Class<?> vertxType;
+        private final ObjectReader reader;
+        private final ObjectWriter writer;
 
         public JsonCodec(Type clazz) {
-            if (clazz instanceof Class) {
-                this.clazz = (Class<?>) clazz;
-                this.type = null;
-            } else {
-                this.type = new TypeReference<>() {
-                    @Override
-                    public Type getType() {
-                        return clazz;
-                    }
-                };
-                this.clazz = null;
-            }
-            this.mapper = QuarkusJacksonJsonCodec.mapper();
+            ObjectMapper mapper = QuarkusJacksonJsonCodec.mapper();
+            // Object is decoded as JsonObject or JsonArray, as Vert.x does
+            this.vertxType = clazz == Object.class || clazz == JsonObject.class || clazz == JsonArray.class
+                    ? (Class<?>) clazz
+                    : null;
+            // the reader and writer are resolved once, instead of looking up the (de)serializers for each value
+            this.reader = mapper.readerFor(mapper.constructType(clazz))
+                    .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+            this.writer = mapper.writer();
         }
 
         @Override
@@ -71,19 +76,34 @@ public boolean canHandle(Type clazz) {
 
         @Override
         public byte[] encode(Object item) {
-            return Json.encodeToBuffer(item).getBytes();
+            try {
+                return writer.writeValueAsBytes(item);
+            } catch (JsonProcessingException e) {
+                throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+            }
         }
 
         @Override
         public Object decode(byte[] payload) {
+            if (vertxType != null) {
+                return Json.decodeValue(Buffer.buffer(payload), vertxType);
+            }
             try {
-                if (clazz != null) {
-                    return Json.decodeValue(Buffer.buffer(payload), clazz);
-                } else {
-                    return mapper.readValue(payload, type);
-                }
+                return reader.readValue(payload);
+            } catch (IOException e) {
+                throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public Object decodeFromBuffer(Buffer item) {
+            if (vertxType != null) {
+                return Json.decodeValue(item, vertxType);
+            }
+            try (InputStream stream = new ByteBufInputStream(item.getByteBuf())) {
+                return reader.readValue(stream);
             } catch (IOException e) {
-                throw new RuntimeException(e);
+                throw new DecodeException("Failed to decode: " + e.getMessage(), e);
             }
         }
     }
@@ -110,6 +130,11 @@ public byte[] encode(Object item) {
         public String decode(byte[] item) {
             return new String(item, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public String decodeFromBuffer(Buffer item) {
+            return item.toString(StandardCharsets.UTF_8);
+        }
     }
 
     public static class DoubleCodec implements Codec {
@@ -140,6 +165,11 @@ public Double decode(byte[] item) {
             }
             return Double.parseDouble(new String(item, StandardCharsets.UTF_8));
         }
+
+        @Override
+        public Double decodeFromBuffer(Buffer item) {
+            return Double.parseDouble(item.toString(StandardCharsets.UTF_8));
+        }
     }
 
     public static class IntegerCodec implements Codec {
@@ -170,6 +200,11 @@ public Integer decode(byte[] item) {
             }
             return Integer.parseInt(new String(item, StandardCharsets.UTF_8));
         }
+
+        @Override
+        public Integer decodeFromBuffer(Buffer item) {
+            return Integer.parseInt(item.toString(StandardCharsets.UTF_8));
+        }
     }
 
     public static class ByteArrayCodec implements Codec {
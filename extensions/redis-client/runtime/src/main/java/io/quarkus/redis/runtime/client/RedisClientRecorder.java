@@ -3,6 +3,7 @@
 import static io.quarkus.redis.runtime.client.config.RedisConfig.DEFAULT_CLIENT_NAME;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,8 @@
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
@@ -21,7 +24,9 @@
 import io.quarkus.redis.datasource.codecs.Codecs;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
+import io.quarkus.redis.runtime.datasource.AutoPipeliner;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ClientSideCache;
 import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -33,14 +38,19 @@
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.mutiny.redis.client.Request;
+import io.vertx.redis.client.RedisClientType;
+import io.vertx.redis.client.RedisOptions;
 
 @Recorder
 public class RedisClientRecorder {
 
+    private static final Logger LOGGER = Logger.getLogger(RedisClientRecorder.class);
+
     // Split client and DS recorders
     private final RedisConfig config;
     private static final Map<String, RedisClientAndApi> clients = new HashMap<>();
     private static final Map<String, ReactiveRedisDataSourceImpl> dataSources = new HashMap<>();
+    private static final List<AutoPipeliner> pipeliners = new ArrayList<>();
     private Vertx vertx;
     private ObservableRedisMetrics metrics;
 
@@ -92,12 +102,12 @@ public ConfigurationException get() {
                             }
                         });
                 clients.computeIfAbsent(name,
-                        x -> new RedisClientAndApi(name, VertxRedisClientFactory.create(name, vertx, actualConfig, tlsRegistry),
-                                metrics));
+                        x -> new RedisClientAndApi(name, vertx,
+                                VertxRedisClientFactory.createOptions(name, actualConfig, tlsRegistry), metrics));
             } else if (DEFAULT_CLIENT_NAME.equalsIgnoreCase(name) && maybe.isPresent()) {
                 clients.computeIfAbsent(name,
-                        x -> new RedisClientAndApi(name,
-                                VertxRedisClientFactory.create(DEFAULT_CLIENT_NAME, vertx, maybe.get(), tlsRegistry), metrics));
+                        x -> new RedisClientAndApi(name, vertx,
+                                VertxRedisClientFactory.createOptions(DEFAULT_CLIENT_NAME, maybe.get(), tlsRegistry), metrics));
             }
             // Do not throw an error. We would need to check if the default redis client is used.
         }
@@ -161,7 +171,8 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, createAutoPipeliner(name, redisClientAndApi),
+                            createClientSideCache(name, redis));
                 });
             }
         };
@@ -192,6 +203,42 @@ public RedisClient get() {
         };
     }
 
+    private AutoPipeliner createAutoPipeliner(String name, RedisClientAndApi redisClientAndApi) {
+        RedisClientConfig clientConfig = RedisConfig.isDefaultClient(name) ? config.defaultRedisClient()
+                : config.namedRedisClients().get(name);
+        if (clientConfig == null || !clientConfig.autoPipelining()) {
+            return null;
+        }
+        if (clientConfig.clientType() == RedisClientType.CLUSTER) {
+            LOGGER.warnf("Automatic pipelining is not supported by the cluster Redis client '%s', it is ignored", name);
+            return null;
+        }
+        // each pipeline uses its own connection, from a client created on the event loop of the pipeline
+        RedisOptions options = new RedisOptions(redisClientAndApi.options).setMaxPoolSize(1);
+        AutoPipeliner pipeliner = new AutoPipeliner(vertx.getDelegate(), redisClientAndApi.redis.getDelegate(),
+                () -> new ObservableRedis(io.vertx.redis.client.Redis.createClient(vertx.getDelegate(), options), name,
+                        metrics),
+                clientConfig.autoPipeliningMaxBatchSize());
+        pipeliners.add(pipeliner);
+        return pipeliner;
+    }
+
+    private ClientSideCache createClientSideCache(String name, Redis redis) {
+        RedisClientConfig clientConfig = RedisConfig.isDefaultClient(name) ? config.defaultRedisClient()
+                : config.namedRedisClients().get(name);
+        if (clientConfig == null || !clientConfig.clientSideCaching()) {
+            return null;
+        }
+        if (clientConfig.clientType() != RedisClientType.STANDALONE
+                && clientConfig.clientType() != RedisClientType.SENTINEL) {
+            LOGGER.warnf("Client-side caching is not supported by the Redis client '%s' of type %s, it is ignored", name,
+                    clientConfig.clientType());
+            return null;
+        }
+        return new ClientSideCache(redis.getDelegate(), clientConfig.clientSideCachingMaxSize(),
+                clientConfig.clientSideCachingTtl(), clientConfig.clientSideCachingPrefixes().orElse(List.of()));
+    }
+
     private Duration getTimeoutForClient(String name) {
         Duration timeout;
         if (RedisConfig.isDefaultClient(name)) {
@@ -216,9 +263,13 @@ public void cleanup(ShutdownContext context) {
         context.addShutdownTask(new Runnable() {
             @Override
             public void run() {
+                for (AutoPipeliner pipeliner : pipeliners) {
+                    pipeliner.close();
+                }
                 for (RedisClientAndApi value : clients.values()) {
                     value.redis.close();
                 }
+                pipeliners.clear();
                 clients.clear();
                 dataSources.clear();
             }
@@ -252,9 +303,12 @@ private static class RedisClientAndApi {
         private final Redis redis;
         private final RedisAPI api;
         private final ObservableRedis observable;
+        private final RedisOptions options;
 
-        private RedisClientAndApi(String name, io.vertx.redis.client.Redis redis, ObservableRedisMetrics metrics) {
-            this.observable = new ObservableRedis(redis, name, metrics);
+        private RedisClientAndApi(String name, io.vertx.core.Vertx vertx, RedisOptions options,
+                ObservableRedisMetrics metrics) {
+            this.options = options;
+            this.observable = new ObservableRedis(io.vertx.redis.client.Redis.createClient(vertx, options), name, metrics);
             this.redis = Redis.newInstance(this.observable);
             this.api = RedisAPI.api(this.redis);
         }
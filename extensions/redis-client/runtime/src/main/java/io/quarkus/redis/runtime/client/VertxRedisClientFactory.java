@@ -30,15 +30,13 @@
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.quarkus.tls.runtime.config.TlsConfigUtils;
 import io.smallrye.common.annotation.Identifier;
-import io.vertx.core.Vertx;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.ProxyOptions;
-import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisClientType;
 import io.vertx.redis.client.RedisOptions;
 
 /**
- * Creates Vert.x Redis client for a given {@link RedisClientConfig}.
+ * Creates the options of the Vert.x Redis client for a given {@link RedisClientConfig}.
  */
 public class VertxRedisClientFactory {
 
@@ -51,7 +49,7 @@ private VertxRedisClientFactory() {
         // Avoid direct instantiation.
     }
 
-    public static Redis create(String name, Vertx vertx, RedisClientConfig config, TlsConfigurationRegistry tlsRegistry) {
+    public static RedisOptions createOptions(String name, RedisClientConfig config, TlsConfigurationRegistry tlsRegistry) {
         RedisOptions options = new RedisOptions();
 
         Consumer<Set<URI>> configureOptions = new Consumer<Set<URI>>() {
@@ -120,7 +118,7 @@ public void accept(Set<URI> uris) {
 
         customize(name, options);
 
-        return Redis.createClient(vertx, options);
+        return options;
     }
 
     public static String applyClientQueryParam(String client, URI uri) {
@@ -2,6 +2,7 @@
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -221,6 +222,63 @@ public interface RedisClientConfig {
     @WithDefault("false")
     Boolean configureClientName();
 
+    /**
+     * Whether the commands issued concurrently through the Redis data source are automatically pipelined.
+     * <p>
+     * When enabled, the commands issued from the same event loop during the same task are sent back to back on a
+     * connection dedicated to this event loop, without waiting for the reply of the previous command, and the consecutive
+     * read-only commands are written at once. The result of each command is still reported independently. Blocking
+     * commands, pub/sub commands and the commands issued in a transaction or on a dedicated connection are not pipelined.
+     * <p>
+     * Automatic pipelining is not supported with the {@code cluster} client type.
+     */
+    @WithDefault("false")
+    boolean autoPipelining();
+
+    /**
+     * The maximum number of pipelined commands waiting for their reply on the connection of an event loop when automatic
+     * pipelining is enabled, the other commands are sent when replies are received. It should be lower than
+     * {@code max-waiting-handlers}.
+     */
+    @WithDefault("128")
+    int autoPipeliningMaxBatchSize();
+
+    /**
+     * Whether the replies of the {@code GET}, {@code HGET} and {@code HGETALL} commands issued through the value and hash
+     * command groups of the data source are kept in memory.
+     * <p>
+     * The Redis server-assisted client-side caching ({@code CLIENT TRACKING}, Redis 6+) is used to evict the keys as soon
+     * as they are modified. It uses two connections of the pool, and the commands are sent to Redis while these
+     * connections are not ready. Commands issued in a transaction or on a dedicated connection are not cached.
+     * <p>
+     * Client-side caching is only supported with the {@code standalone} and {@code sentinel} client types.
+     */
+    @WithDefault("false")
+    boolean clientSideCaching();
+
+    /**
+     * The maximum number of keys, and of replies, kept in memory when client-side caching is enabled. Each reply counts,
+     * for instance reading two fields of a hash with {@code HGET} stores two replies. The oldest keys are evicted first.
+     */
+    @WithDefault("10000")
+    int clientSideCachingMaxSize();
+
+    /**
+     * The maximum time a key is kept in memory when client-side caching is enabled.
+     * <p>
+     * Redis only notifies the expiration of a key when it deletes it, which may happen after the expiration time.
+     */
+    @WithDefault("60s")
+    Duration clientSideCachingTtl();
+
+    /**
+     * The prefixes of the keys that are cached when client-side caching is enabled. All the keys are cached if not set.
+     * <p>
+     * Redis notifies the modifications of all the keys matching these prefixes, restricting them avoids receiving the
+     * notifications of unrelated keys.
+     */
+    Optional<List<String>> clientSideCachingPrefixes();
+
     /**
      * The name of the TLS configuration to use.
      * <p>
@@ -258,6 +316,8 @@ default String toDebugString() {
                 ", tls=" + tls() +
                 ", clientName=" + clientName() +
                 ", configureClientName=" + configureClientName() +
+                ", autoPipelining=" + autoPipelining() +
+                ", clientSideCaching=" + clientSideCaching() +
                 '}';
     }
 
@@ -6,6 +6,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -48,7 +49,10 @@ Uni<Response> _hexists(K key, F field) {
     Uni<Response> _hget(K key, F field) {
         nonNull(key, "key");
         nonNull(field, "field");
-        return execute(RedisCommand.of(Command.HGET).put(marshaller.encode(key)).put(marshaller.encode(field)));
+        byte[] encodedKey = marshaller.encode(key);
+        byte[] encodedField = marshaller.encode(field);
+        return executeCacheable(RedisCommand.of(Command.HGET).put(encodedKey).put(encodedField), encodedKey,
+                "HGET " + new String(encodedField, StandardCharsets.ISO_8859_1));
     }
 
     Uni<Response> _hincrby(K key, F field, long amount) {
@@ -67,7 +71,8 @@ Uni<Response> _hincrbyfloat(K key, F field, double amount) {
 
     Uni<Response> _hgetall(K key) {
         nonNull(key, "key");
-        return execute((RedisCommand.of(Command.HGETALL).put(marshaller.encode(key))));
+        byte[] encodedKey = marshaller.encode(key);
+        return executeCacheable(RedisCommand.of(Command.HGETALL).put(encodedKey), encodedKey, "HGETALL");
     }
 
     Uni<Response> _hkeys(K key) {
@@ -20,6 +20,10 @@ public Uni<Response> execute(RedisCommand cmd) {
         return redis.execute(cmd.toRequest());
     }
 
+    public Uni<Response> executeCacheable(RedisCommand cmd, byte[] key, String variant) {
+        return redis.executeCacheable(cmd, key, variant);
+    }
+
     static boolean isMap(Response response) {
         try {
             return response != null && response.type() == ResponseType.MULTI && notEmptyOrNull(response.getKeys());
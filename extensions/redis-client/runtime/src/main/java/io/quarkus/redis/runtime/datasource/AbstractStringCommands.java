@@ -150,8 +150,9 @@ Uni<Response> _decrby(K key, long amount) {
 
     Uni<Response> _get(K key) {
         nonNull(key, "key");
-        return execute(RedisCommand.of(Command.GET)
-                .put(marshaller.encode(key)));
+        byte[] encodedKey = marshaller.encode(key);
+        return executeCacheable(RedisCommand.of(Command.GET)
+                .put(encodedKey), encodedKey, "GET");
     }
 
     Uni<Response> _getdel(K key) {
@@ -0,0 +1,285 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.netty.channel.EventLoop;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Pipelines the commands issued concurrently through a data source.
+ * <p>
+ * Each event loop issuing commands gets its own pipeline: a client created on this event loop, holding a single
+ * connection, so the commands are written from the thread of their caller and the replies are handled there. The commands
+ * issued from threads that are not Vert.x threads share one pipeline.
+ * <p>
+ * The commands are queued and, at the end of the current event loop task, sent back to back on the connection of the
+ * pipeline, without waiting for the replies of the previous commands. The consecutive read-only commands are encoded
+ * into a single buffer and written at once with {@link RedisConnection#batch(List)}. As a batch fails as a whole when
+ * one of its commands fails, without reporting the replies of the other commands, these read-only commands are then sent
+ * again one by one, so each reply, or error, is reported to the command it belongs to. The other commands are sent one by
+ * one, so a failing command does not affect the others. The commands of a pipeline are sent on the same connection, so
+ * they are executed in the order they were issued, except for the read-only commands sent again after the failure of
+ * their batch.
+ * <p>
+ * The number of commands waiting for their reply is bounded per pipeline, the other commands stay queued until replies
+ * are received. If the connection fails, a new connection is opened for the next commands.
+ * <p>
+ * Commands that would hold the connection or change its state (blocking commands, transactions, pub/sub...) are sent
+ * directly.
+ */
+public class AutoPipeliner {
+
+    private static final Set<Command> NOT_PIPELINABLE = Set.of(
+            // transactions
+            Command.MULTI, Command.EXEC, Command.DISCARD, Command.WATCH, Command.UNWATCH,
+            // blocking commands, which would delay the replies of the following commands
+            Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH, Command.BLMOVE, Command.BLMPOP, Command.BZPOPMIN,
+            Command.BZPOPMAX, Command.BZMPOP, Command.XREAD, Command.XREADGROUP, Command.WAIT,
+            // pub/sub
+            Command.SUBSCRIBE, Command.PSUBSCRIBE, Command.SSUBSCRIBE, Command.UNSUBSCRIBE, Command.PUNSUBSCRIBE,
+            Command.SUNSUBSCRIBE, Command.MONITOR,
+            // connection state
+            Command.SELECT, Command.QUIT, Command.RESET, Command.HELLO, Command.AUTH, Command.CLIENT);
+
+    // commands without side effects, which can be sent again if their batch fails
+    private static final Set<Command> READ_ONLY = Set.of(
+            // keys and strings
+            Command.GET, Command.MGET, Command.STRLEN, Command.GETRANGE, Command.LCS, Command.EXISTS,
+            Command.TYPE, Command.TTL, Command.PTTL, Command.EXPIRETIME, Command.PEXPIRETIME, Command.DBSIZE,
+            Command.GETBIT, Command.BITCOUNT, Command.BITPOS,
+            // hashes
+            Command.HGET, Command.HMGET, Command.HGETALL, Command.HEXISTS, Command.HKEYS, Command.HVALS, Command.HLEN,
+            Command.HSTRLEN, Command.HRANDFIELD,
+            // lists
+            Command.LINDEX, Command.LLEN, Command.LRANGE, Command.LPOS,
+            // sets
+            Command.SCARD, Command.SISMEMBER, Command.SMISMEMBER, Command.SMEMBERS, Command.SRANDMEMBER, Command.SINTER,
+            Command.SUNION, Command.SDIFF, Command.SINTERCARD,
+            // sorted sets
+            Command.ZCARD, Command.ZCOUNT, Command.ZSCORE, Command.ZMSCORE, Command.ZRANK, Command.ZREVRANK,
+            Command.ZRANGE, Command.ZRANGEBYSCORE, Command.ZREVRANGE, Command.ZREVRANGEBYSCORE, Command.ZRANGEBYLEX,
+            Command.ZREVRANGEBYLEX, Command.ZLEXCOUNT, Command.ZRANDMEMBER,
+            // streams and geo
+            Command.XLEN, Command.XRANGE, Command.XREVRANGE, Command.GEOPOS, Command.GEODIST, Command.GEOHASH,
+            Command.GEOSEARCH);
+
+    private final VertxInternal vertx;
+    private final Redis redis;
+    private final Supplier<Redis> clients;
+    private final int maxInFlight;
+    private final EventLoop defaultEventLoop;
+    private final Map<EventLoop, Pipeline> pipelines = new ConcurrentHashMap<>();
+
+    /**
+     * @param vertx the Vert.x instance
+     * @param redis the pooled client, used for the commands that are not pipelined
+     * @param clients creates the client of a pipeline, called on the event loop of the pipeline
+     * @param maxInFlight the maximum number of commands waiting for their reply, per pipeline
+     */
+    public AutoPipeliner(Vertx vertx, Redis redis, Supplier<Redis> clients, int maxInFlight) {
+        this.vertx = (VertxInternal) vertx;
+        this.redis = redis;
+        this.clients = clients;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.defaultEventLoop = vertx.nettyEventLoopGroup().next();
+    }
+
+    public Uni<io.vertx.mutiny.redis.client.Response> send(io.vertx.mutiny.redis.client.Request request) {
+        Request delegate = request.getDelegate();
+        if (NOT_PIPELINABLE.contains(delegate.command())) {
+            return Uni.createFrom().completionStage(() -> redis.send(delegate).toCompletionStage())
+                    .map(io.vertx.mutiny.redis.client.Response::newInstance);
+        }
+        return Uni.createFrom().emitter(emitter -> pipeline().add(new Pending(delegate, emitter)));
+    }
+
+    /**
+     * Closes the clients of the pipelines, the commands waiting for their reply are failed.
+     */
+    public void close() {
+        for (Pipeline pipeline : pipelines.values()) {
+            pipeline.context.runOnContext(ignored -> pipeline.close());
+        }
+    }
+
+    private Pipeline pipeline() {
+        ContextInternal current = ContextInternal.current();
+        EventLoop eventLoop = current != null ? current.nettyEventLoop() : defaultEventLoop;
+        return pipelines.computeIfAbsent(eventLoop, Pipeline::new);
+    }
+
+    private final class Pipeline {
+
+        private final ContextInternal context;
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // only accessed on the context, the client being created on the context, its connection uses the same event loop
+        private Redis client;
+        private RedisConnection connection;
+        private boolean connecting;
+        private int inFlight;
+
+        Pipeline(EventLoop eventLoop) {
+            this.context = vertx.createEventLoopContext(eventLoop, null, Thread.currentThread().getContextClassLoader());
+        }
+
+        void add(Pending pending) {
+            queue.add(pending);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                context.runOnContext(ignored -> flush());
+            }
+        }
+
+        private void flush() {
+            scheduled.set(false);
+            if (queue.isEmpty()) {
+                return;
+            }
+            RedisConnection current = connection;
+            if (current == null) {
+                connect();
+                return;
+            }
+            List<Pending> reads = new ArrayList<>();
+            Pending pending;
+            while (inFlight < maxInFlight && (pending = queue.poll()) != null) {
+                inFlight++;
+                if (READ_ONLY.contains(pending.request.command())) {
+                    reads.add(pending);
+                } else {
+                    // the pending read-only commands are written first to keep the order
+                    batch(current, reads);
+                    reads = new ArrayList<>();
+                    send(current, pending);
+                }
+            }
+            batch(current, reads);
+        }
+
+        private void send(RedisConnection current, Pending pending) {
+            current.send(pending.request).onComplete(ar -> {
+                inFlight--;
+                pending.complete(ar);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            });
+        }
+
+        private void batch(RedisConnection current, List<Pending> reads) {
+            if (reads.size() < 2) {
+                for (Pending read : reads) {
+                    send(current, read);
+                }
+                return;
+            }
+            List<Request> requests = new ArrayList<>(reads.size());
+            for (Pending read : reads) {
+                requests.add(read.request);
+            }
+            current.batch(requests).onComplete(ar -> {
+                if (ar.failed()) {
+                    // the replies of the other commands are not reported, these read-only commands are sent again
+                    for (Pending read : reads) {
+                        send(current, read);
+                    }
+                    return;
+                }
+                List<Response> replies = ar.result();
+                inFlight -= reads.size();
+                for (int i = 0; i < reads.size(); i++) {
+                    reads.get(i).emitter.complete(io.vertx.mutiny.redis.client.Response.newInstance(replies.get(i)));
+                }
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            });
+        }
+
+        private void connect() {
+            if (connecting) {
+                return;
+            }
+            connecting = true;
+            if (client == null) {
+                client = clients.get();
+            }
+            client.connect().onComplete(ar -> {
+                connecting = false;
+                if (ar.failed()) {
+                    Pending pending;
+                    while ((pending = queue.poll()) != null) {
+                        pending.emitter.fail(ar.cause());
+                    }
+                    return;
+                }
+                RedisConnection opened = ar.result();
+                opened.exceptionHandler(failure -> closed(opened));
+                opened.endHandler(end -> closed(opened));
+                connection = opened;
+                flush();
+            });
+        }
+
+        private void close() {
+            connection = null;
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        }
+
+        private void closed(RedisConnection closed) {
+            if (connection == closed) {
+                // the commands waiting for their reply are failed by the connection, the next ones use a new connection
+                connection = null;
+                closed.close();
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    private static final class Pending {
+
+        final Request request;
+        final UniEmitter<? super io.vertx.mutiny.redis.client.Response> emitter;
+
+        Pending(Request request, UniEmitter<? super io.vertx.mutiny.redis.client.Response> emitter) {
+            this.request = request;
+            this.emitter = emitter;
+        }
+
+        void complete(AsyncResult<Response> ar) {
+            if (ar.succeeded()) {
+                emitter.complete(io.vertx.mutiny.redis.client.Response.newInstance(ar.result()));
+            } else {
+                emitter.fail(ar.cause());
+            }
+        }
+    }
+}
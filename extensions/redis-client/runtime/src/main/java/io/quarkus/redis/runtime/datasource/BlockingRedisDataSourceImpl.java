@@ -66,7 +66,7 @@ public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
         ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+                connection, reactive.cache);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -75,7 +75,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
             connection.send(Request.cmd(Command.MULTI)).await().atMost(timeout);
             ds.accept(source);
             if (!source.discarded()) {
-                Response response = connection.send((Request.cmd(Command.EXEC))).await().atMost(timeout);
+                Response response = dataSource.execute(Request.cmd(Command.EXEC)).await().atMost(timeout);
                 return toTransactionResult(response, th);
             } else {
                 return toTransactionResult(null, th);
@@ -89,7 +89,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
         ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+                connection, reactive.cache);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -104,7 +104,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
 
             ds.accept(source);
             if (!source.discarded()) {
-                Response response = connection.send(Request.cmd(Command.EXEC)).await().atMost(timeout);
+                Response response = dataSource.execute(Request.cmd(Command.EXEC)).await().atMost(timeout);
                 // exec produce null is the transaction has been discarded
                 return toTransactionResult(response, th);
             } else {
@@ -121,7 +121,7 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
         ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+                connection, reactive.cache);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -134,13 +134,14 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
             connection.send(cmd).await().atMost(timeout);
 
             I input = preTxBlock
-                    .apply(new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, connection, timeout));
+                    .apply(new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
+                            connection, reactive.cache), timeout));
 
             connection.send(Request.cmd(Command.MULTI)).await().atMost(timeout);
 
             tx.accept(input, source);
             if (!source.discarded()) {
-                Response response = connection.send(Request.cmd(Command.EXEC)).await().atMost(timeout);
+                Response response = dataSource.execute(Request.cmd(Command.EXEC)).await().atMost(timeout);
                 // exec produce null is the transaction has been discarded
                 return toTransactionResult(response, input, th);
             } else {
@@ -161,7 +162,8 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
 
         BlockingRedisDataSourceImpl source = reactive.redis.connect()
-                .map(rc -> new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, timeout))
+                .map(rc -> new BlockingRedisDataSourceImpl(
+                        new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, reactive.cache), timeout))
                 .await().atMost(timeout);
 
         try {
@@ -0,0 +1,374 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.CommandImpl;
+import io.vertx.redis.client.impl.RequestImpl;
+
+/**
+ * Keeps the replies of read commands in memory, relying on the Redis server-assisted client-side caching
+ * ({@code CLIENT TRACKING}) to evict them when the keys are modified.
+ * <p>
+ * The tracking uses the broadcasting and redirect modes, so it works with the RESP2 and RESP3 protocols and with pooled
+ * connections: a dedicated connection subscribes to the {@code __redis__:invalidate} channel, and a second connection
+ * enables the tracking of the (optionally prefixed) keys, redirecting the invalidation messages to the first one. Until
+ * both connections are ready, and whenever one of them is closed, the cache is emptied and the commands are sent to
+ * Redis.
+ * <p>
+ * The generation of the key is read before sending a command, and its reply is only stored if the key has not been
+ * invalidated in the meantime, so a reply racing with an invalidation message is never cached.
+ * <p>
+ * The invalidation messages are received on another connection than the replies, after them. So the keys of the other
+ * commands sent through the data source are evicted when the commands are sent and again when their replies are
+ * received: a read following a write always sees the write. The commands whose keys are unknown, and the commands
+ * modifying the whole database such as {@code FLUSHALL} or {@code EXEC}, empty the cache.
+ * <p>
+ * Each reply, for instance the reply of {@code HGET} for a given field, counts against the maximum size, as well as each
+ * key. The oldest keys are evicted first.
+ * <p>
+ * When prefixes are configured, Redis only sends the invalidation messages of the keys matching them, so the other keys
+ * are never cached.
+ */
+public class ClientSideCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ClientSideCache.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+    private static final long RETRY_DELAY = Duration.ofSeconds(1).toNanos();
+
+    // replies stored for keys that do not exist
+    private static final Object NULL = new Object();
+
+    private static final Runnable NO_INVALIDATION = () -> {
+    };
+
+    // the commands that may modify keys they do not name
+    private static final Set<Command> DATABASE_COMMANDS = Set.of(Command.FLUSHALL, Command.FLUSHDB, Command.SWAPDB,
+            Command.SELECT, Command.EXEC, Command.EVAL, Command.EVALSHA, Command.FCALL);
+
+    private final Redis redis;
+    private final int maxSize;
+    private final long ttl;
+    private final List<String> prefixes;
+    private final byte[][] encodedPrefixes;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // the entries in insertion order, an entry is only removed from the map when evicted
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger replies = new AtomicInteger();
+    private final AtomicReference<Tracking> tracking = new AtomicReference<>();
+    private volatile long nextAttempt = System.nanoTime();
+    private volatile boolean closed;
+
+    /**
+     * @param redis the client
+     * @param maxSize the maximum number of keys, and of replies, kept in memory
+     * @param ttl the maximum time a key is kept in memory
+     * @param prefixes the prefixes of the keys to track, all the keys are tracked if empty
+     */
+    public ClientSideCache(Redis redis, int maxSize, Duration ttl, List<String> prefixes) {
+        this.redis = redis;
+        this.maxSize = maxSize;
+        this.ttl = ttl.toNanos();
+        this.prefixes = List.copyOf(prefixes);
+        this.encodedPrefixes = new byte[prefixes.size()][];
+        for (int i = 0; i < encodedPrefixes.length; i++) {
+            encodedPrefixes[i] = prefixes.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Gets the reply of a read command, from memory or by calling the given loader.
+     *
+     * @param key the key read by the command
+     * @param variant identifies the command reading the key, and its arguments
+     * @param loader sends the command
+     * @return the reply
+     */
+    public Uni<io.vertx.mutiny.redis.client.Response> get(byte[] key, String variant,
+            Supplier<Uni<io.vertx.mutiny.redis.client.Response>> loader) {
+        if (!isTracked(key)) {
+            // the modifications of the key are not notified
+            return loader.get();
+        }
+        Tracking current = tracking.get();
+        if (current == null) {
+            start();
+            return loader.get();
+        }
+        if (!current.active) {
+            return loader.get();
+        }
+        String k = new String(key, StandardCharsets.ISO_8859_1);
+        Entry entry = entries.get(k);
+        if (entry == null) {
+            Entry created = new Entry(k);
+            entry = entries.putIfAbsent(k, created);
+            if (entry == null) {
+                entry = created;
+                order.add(created);
+                evict();
+            }
+        }
+        Object cached = entry.lookup(variant, System.nanoTime());
+        if (cached != null) {
+            return Uni.createFrom().item(cached == NULL ? null : (io.vertx.mutiny.redis.client.Response) cached);
+        }
+        Entry pending = entry;
+        int generation = entry.generation();
+        return loader.get().invoke(reply -> {
+            // otherwise the key has been modified, or the tracking stopped, while the command was sent
+            if (tracking.get() == current && pending.store(generation, variant, reply == null ? NULL : reply)) {
+                evict();
+            }
+        });
+    }
+
+    /**
+     * Sends a command that is not served from memory, evicting the keys it may modify.
+     *
+     * @param request the command
+     * @param sender sends the command
+     * @return the reply
+     */
+    public Uni<io.vertx.mutiny.redis.client.Response> write(Request request,
+            Supplier<Uni<io.vertx.mutiny.redis.client.Response>> sender) {
+        Runnable invalidation = invalidation(request);
+        invalidation.run();
+        // a read sent before the reply of the command could store the previous value
+        return sender.get().onTermination().invoke(invalidation);
+    }
+
+    private Runnable invalidation(Request request) {
+        RequestImpl impl = (RequestImpl) request;
+        CommandImpl command = (CommandImpl) impl.command();
+        if (command.needsGetKeys() || DATABASE_COMMANDS.contains(command)) {
+            return this::invalidateAll;
+        }
+        List<byte[]> keys = impl.keys();
+        if (keys.isEmpty()) {
+            return NO_INVALIDATION;
+        }
+        return () -> {
+            for (byte[] key : keys) {
+                if (isTracked(key)) {
+                    Entry entry = entries.get(new String(key, StandardCharsets.ISO_8859_1));
+                    if (entry != null) {
+                        entry.invalidate();
+                    }
+                }
+            }
+        };
+    }
+
+    private boolean isTracked(byte[] key) {
+        if (encodedPrefixes.length == 0) {
+            return true;
+        }
+        for (byte[] prefix : encodedPrefixes) {
+            if (key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void invalidate(Response message) {
+        Response keys;
+        if (message == null) {
+            return;
+        } else if (message.size() == 2 && "invalidate".equals(message.get(0).toString())) {
+            // RESP3 push message
+            keys = message.get(1);
+        } else if (message.size() == 3 && "message".equals(message.get(0).toString())
+                && INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            // RESP2 pub/sub message
+            keys = message.get(2);
+        } else {
+            return;
+        }
+        if (keys == null) {
+            // the database has been flushed
+            invalidateAll();
+            return;
+        }
+        for (Response key : keys) {
+            Entry entry = entries.get(new String(key.toBytes(), StandardCharsets.ISO_8859_1));
+            if (entry != null) {
+                entry.invalidate();
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        for (Entry entry : entries.values()) {
+            entry.invalidate();
+        }
+    }
+
+    private void evict() {
+        while (replies.get() > maxSize || entries.size() > maxSize) {
+            Entry eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest.key, eldest);
+            eldest.evict();
+        }
+    }
+
+    /**
+     * Stops the tracking, releasing its connections, and empties the cache. The commands are then always sent to Redis.
+     */
+    public void close() {
+        closed = true;
+        Tracking current = tracking.get();
+        if (current != null) {
+            stop(current);
+        }
+    }
+
+    private void start() {
+        long now = System.nanoTime();
+        if (closed || now - nextAttempt < 0) {
+            return;
+        }
+        Tracking attempt = new Tracking();
+        if (!tracking.compareAndSet(null, attempt)) {
+            return;
+        }
+        nextAttempt = now + RETRY_DELAY;
+        attempt.start().onComplete(ar -> {
+            if (ar.succeeded()) {
+                attempt.active = true;
+            } else {
+                LOGGER.warnf("Unable to enable the Redis client-side caching, the commands are sent to Redis: %s",
+                        ar.cause().getMessage());
+                stop(attempt);
+            }
+        });
+    }
+
+    private void stop(Tracking stopped) {
+        if (tracking.compareAndSet(stopped, null)) {
+            invalidateAll();
+        }
+        stopped.active = false;
+        stopped.close();
+    }
+
+    private final class Entry {
+
+        final String key;
+        // the replies per variant, guarded by this entry
+        private final Map<String, Object> cached = new HashMap<>();
+        private long created = System.nanoTime();
+        private int generation;
+        private boolean evicted;
+
+        Entry(String key) {
+            this.key = key;
+        }
+
+        synchronized Object lookup(String variant, long now) {
+            if (now - created > ttl) {
+                invalidate();
+                created = now;
+                return null;
+            }
+            return cached.get(variant);
+        }
+
+        synchronized int generation() {
+            return generation;
+        }
+
+        synchronized boolean store(int expected, String variant, Object reply) {
+            if (evicted || generation != expected || cached.putIfAbsent(variant, reply) != null) {
+                return false;
+            }
+            replies.incrementAndGet();
+            return true;
+        }
+
+        synchronized void invalidate() {
+            replies.addAndGet(-cached.size());
+            cached.clear();
+            generation++;
+        }
+
+        synchronized void evict() {
+            invalidate();
+            evicted = true;
+        }
+    }
+
+    private final class Tracking {
+
+        volatile boolean active;
+        volatile RedisConnection subscriber;
+        volatile RedisConnection tracker;
+
+        Future<Response> start() {
+            return redis.connect()
+                    .compose(connection -> {
+                        subscriber = watch(connection);
+                        connection.handler(ClientSideCache.this::invalidate);
+                        return connection.send(Request.cmd(Command.CLIENT).arg("ID"));
+                    })
+                    .compose(id -> subscriber.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL))
+                            .map(ignored -> id.toLong()))
+                    .compose(id -> redis.connect().compose(connection -> {
+                        tracker = watch(connection);
+                        Request request = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                .arg("REDIRECT").arg(id).arg("BCAST");
+                        for (String prefix : prefixes) {
+                            request.arg("PREFIX").arg(prefix);
+                        }
+                        return connection.send(request);
+                    }));
+        }
+
+        private RedisConnection watch(RedisConnection connection) {
+            connection.exceptionHandler(failure -> stop(this));
+            connection.endHandler(ignored -> stop(this));
+            return connection;
+        }
+
+        void close() {
+            RedisConnection connection = subscriber;
+            if (connection != null) {
+                subscriber = null;
+                connection.close();
+            }
+            RedisConnection trackingConnection = tracker;
+            if (trackingConnection != null) {
+                tracker = null;
+                // the connection may be recycled by the pool
+                trackingConnection.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("OFF"))
+                        .onComplete(ignored -> trackingConnection.close());
+            }
+        }
+    }
+}
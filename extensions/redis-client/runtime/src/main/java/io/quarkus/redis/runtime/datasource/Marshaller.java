@@ -20,6 +20,7 @@
 
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.mutiny.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
 
@@ -85,9 +86,22 @@ public final <T> T decode(Type clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
+        if (r.type() == ResponseType.BULK) {
+            // decode from the received buffer, without copying it
+            return decode(clazz, r.getDelegate().toBuffer());
+        }
         return decode(clazz, r.toBytes());
     }
 
+    @SuppressWarnings("unchecked")
+    final <T> T decode(Type clazz, Buffer r) {
+        if (r == null) {
+            return null;
+        }
+        Codec codec = codec(clazz);
+        return (T) codec.decodeFromBuffer(r);
+    }
+
     @SuppressWarnings("unchecked")
     public final <T> T decode(Type clazz, byte[] r) {
         if (r == null) {
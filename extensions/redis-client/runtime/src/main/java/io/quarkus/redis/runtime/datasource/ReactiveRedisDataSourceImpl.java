@@ -50,45 +50,102 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    private final AutoPipeliner pipeliner;
+    final ClientSideCache cache;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, null);
+    }
+
+    /**
+     * Creates a data source whose commands are automatically pipelined.
+     *
+     * @param pipeliner the pipeliner, {@code null} to send each command on its own
+     */
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, AutoPipeliner pipeliner) {
+        this(vertx, redis, api, pipeliner, null);
+    }
+
+    /**
+     * Creates a data source whose commands are automatically pipelined, and whose reads are served from the client-side
+     * cache.
+     *
+     * @param pipeliner the pipeliner, {@code null} to send each command on its own
+     * @param cache the client-side cache, {@code null} to always read from Redis
+     */
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, AutoPipeliner pipeliner,
+            ClientSideCache cache) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeliner = pipeliner;
+        this.cache = cache;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
+        this(vertx, redis, connection, null);
+    }
+
+    /**
+     * Creates a data source using the given connection, whose commands evict the keys they modify from the client-side
+     * cache. Its reads are never served from the cache, as they may belong to a transaction.
+     *
+     * @param cache the client-side cache, {@code null} if none
+     */
+    ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection, ClientSideCache cache) {
         nonNull(redis, "redis");
         nonNull(connection, "connection");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeliner = null;
+        this.cache = cache;
     }
 
     @Override
     public Uni<Response> execute(Request request) {
+        if (cache != null) {
+            // otherwise a read following the command could be served the previous value
+            return cache.write(request.getDelegate(), () -> send(request));
+        }
+        return send(request);
+    }
+
+    private Uni<Response> send(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (pipeliner != null) {
+            return pipeliner.send(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public Uni<Response> executeCacheable(RedisCommand cmd, byte[] key, String variant) {
+        if (cache == null || connection != null) {
+            return execute(cmd);
+        }
+        return cache.get(key, variant, () -> send(cmd.toRequest()));
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
         nonNull(function, "function");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            cache);
                     TransactionHolder th = new TransactionHolder();
                     return connection.send(Request.cmd(Command.MULTI))
                             .chain(x -> function.apply(new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
                             .chain(ignored -> {
                                 if (!th.discarded()) {
-                                    return connection.send(Request.cmd(Command.EXEC));
+                                    return singleConnectionDS.execute(Request.cmd(Command.EXEC));
                                 } else {
                                     return Uni.createFrom().nullItem();
                                 }
@@ -106,7 +163,8 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         doesNotContainNull(keys, "keys");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            cache);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, keys) // WATCH keys
                             .chain(() -> connection.send(Request.cmd(Command.MULTI))
@@ -114,7 +172,7 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
                                             .apply(new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
                                     .onItemOrFailure().transformToUni((x, failure) -> {
                                         if (!th.discarded() && failure == null) {
-                                            return connection.send(Request.cmd(Command.EXEC));
+                                            return singleConnectionDS.execute(Request.cmd(Command.EXEC));
                                         } else {
                                             if (!th.discarded()) {
                                                 return connection.send(Request.cmd(Command.DISCARD));
@@ -147,16 +205,18 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
 
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            cache);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, watchedKeys) // WATCH keys
-                            .chain(x -> preTxBlock.apply(new ReactiveRedisDataSourceImpl(vertx, redis, connection)))// Execute the pre-tx-block
+                            // Execute the pre-tx-block
+                            .chain(x -> preTxBlock.apply(new ReactiveRedisDataSourceImpl(vertx, redis, connection, cache)))
                             .chain(input -> connection.send(Request.cmd(Command.MULTI))
                                     .chain(x -> tx
                                             .apply(input, new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
                                     .onItemOrFailure().transformToUni((x, failure) -> {
                                         if (!th.discarded() && failure == null) {
-                                            return connection.send(Request.cmd(Command.EXEC));
+                                            return singleConnectionDS.execute(Request.cmd(Command.EXEC));
                                         } else {
                                             if (!th.discarded()) {
                                                 return connection.send(Request.cmd(Command.DISCARD))
@@ -223,7 +283,8 @@ public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> fun
         }
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection,
+                            cache);
                     return function.apply(singleConnectionDS)
                             .onTermination().call(connection::close);
                 });
@@ -12,4 +12,17 @@ default Uni<Response> execute(RedisCommand cmd) {
 
     Uni<Response> execute(Request toRequest);
 
+    /**
+     * Executes a read command whose reply only depends on the given key, so that it may be served from the client-side
+     * cache.
+     *
+     * @param cmd the command
+     * @param key the key read by the command
+     * @param variant identifies the command and the arguments other than the key
+     * @return the reply
+     */
+    default Uni<Response> executeCacheable(RedisCommand cmd, byte[] key, String variant) {
+        return execute(cmd);
+    }
+
 }
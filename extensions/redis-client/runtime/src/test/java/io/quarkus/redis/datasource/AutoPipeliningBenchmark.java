@@ -0,0 +1,92 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.datasource.AutoPipeliner;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.vertx.core.Context;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisOptions;
+
+/**
+ * Measures the throughput, in operations per second, of many callers issuing {@code SET} and {@code GET} commands
+ * concurrently from all the event loops, with and without automatic pipelining.
+ * <p>
+ * Run it with {@code -Dtest-containers -Dredis-benchmark -Dtest=AutoPipeliningBenchmark}.
+ */
+@EnabledIfSystemProperty(named = "redis-benchmark", matches = ".*")
+public class AutoPipeliningBenchmark extends DatasourceTestBase {
+
+    private static final Logger LOGGER = Logger.getLogger(AutoPipeliningBenchmark.class);
+
+    private static final int CALLERS = 512;
+    private static final long DURATION = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void throughput() throws InterruptedException {
+        String connectionString = "redis://" + RedisServerExtension.getHost() + ":"
+                + RedisServerExtension.getFirstMappedPort();
+        // the callers wait for a connection of the pool without automatic pipelining
+        Redis pooled = Redis.createClient(vertx,
+                new RedisOptions().setConnectionString(connectionString).setMaxPoolWaiting(CALLERS));
+        ReactiveRedisDataSource plain = new ReactiveRedisDataSourceImpl(vertx, pooled, RedisAPI.api(pooled));
+        AutoPipeliner pipeliner = new AutoPipeliner(vertx.getDelegate(), redis.getDelegate(),
+                () -> io.vertx.redis.client.Redis.createClient(vertx.getDelegate(), connectionString), 128);
+        ReactiveRedisDataSource pipelined = new ReactiveRedisDataSourceImpl(vertx, redis, api, pipeliner);
+        try {
+            // warm up
+            run(plain);
+            run(pipelined);
+
+            LOGGER.infof("Without automatic pipelining: %d ops/s", run(plain));
+            LOGGER.infof("With automatic pipelining: %d ops/s", run(pipelined));
+        } finally {
+            plain.flushall().await().indefinitely();
+            pipeliner.close();
+            pooled.close();
+        }
+    }
+
+    private long run(ReactiveRedisDataSource ds) throws InterruptedException {
+        ReactiveValueCommands<String, String> values = ds.value(String.class);
+        AtomicLong operations = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(CALLERS);
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLERS; i++) {
+            String callerKey = key + i;
+            // each caller runs on its own context, the contexts being spread over the event loops
+            Context context = ((VertxInternal) vertx.getDelegate()).createEventLoopContext();
+            context.runOnContext(ignored -> loop(values, callerKey, start, operations, done));
+        }
+        assertThat(done.await(DURATION * 3, TimeUnit.NANOSECONDS)).isTrue();
+        return operations.get() * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - start);
+    }
+
+    private void loop(ReactiveValueCommands<String, String> values, String callerKey, long start, AtomicLong operations,
+            CountDownLatch done) {
+        if (System.nanoTime() - start > DURATION) {
+            done.countDown();
+            return;
+        }
+        values.set(callerKey, "value")
+                .chain(() -> values.get(callerKey))
+                .subscribe().with(value -> {
+                    operations.addAndGet(2);
+                    loop(values, callerKey, start, operations, done);
+                }, failure -> {
+                    LOGGER.error("Benchmark command failed", failure);
+                    done.countDown();
+                });
+    }
+}
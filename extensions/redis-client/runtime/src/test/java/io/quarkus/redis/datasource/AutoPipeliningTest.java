@@ -0,0 +1,97 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.string.ReactiveStringCommands;
+import io.quarkus.redis.runtime.datasource.AutoPipeliner;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.tuples.Tuple3;
+
+public class AutoPipeliningTest extends DatasourceTestBase {
+
+    private AutoPipeliner pipeliner;
+    private ReactiveRedisDataSource ds;
+    private ReactiveStringCommands<String, String> strings;
+
+    @BeforeEach
+    void initialize() {
+        pipeliner = new AutoPipeliner(vertx.getDelegate(), redis.getDelegate(),
+                () -> io.vertx.redis.client.Redis.createClient(vertx.getDelegate(),
+                        "redis://" + RedisServerExtension.getHost() + ":" + RedisServerExtension.getFirstMappedPort()),
+                16);
+        ds = new ReactiveRedisDataSourceImpl(vertx, redis, api, pipeliner);
+        strings = ds.string(String.class);
+    }
+
+    @AfterEach
+    void clear() {
+        ds.flushall().await().indefinitely();
+        pipeliner.close();
+    }
+
+    @Test
+    void concurrentCommandsKeepTheirOrderAndResults() {
+        List<Uni<String>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            strings.set(key + i, "value-" + i).await().indefinitely();
+        }
+        for (int i = 0; i < 100; i++) {
+            results.add(strings.get(key + i));
+        }
+        List<String> values = Uni.join().all(results).andFailFast().await().atMost(Duration.ofSeconds(10));
+        for (int i = 0; i < 100; i++) {
+            assertThat(values.get(i)).isEqualTo("value-" + i);
+        }
+
+        List<Uni<Long>> increments = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            increments.add(strings.incr(key));
+        }
+        List<Long> counters = Uni.join().all(increments).andFailFast().await().atMost(Duration.ofSeconds(10));
+        for (int i = 0; i < 50; i++) {
+            assertThat(counters.get(i)).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void errorsAreReportedToTheFailingCommandOnly() {
+        strings.set(key, "not-a-number").await().indefinitely();
+        Uni<String> before = strings.get(key);
+        Uni<Long> failing = strings.incr(key);
+        Uni<String> after = strings.get(key);
+
+        Tuple3<String, Long, String> results = Uni.combine().all()
+                .unis(before, failing.onFailure().recoverWithItem(-1L), after).asTuple()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(results.getItem1()).isEqualTo("not-a-number");
+        assertThat(results.getItem2()).isEqualTo(-1L);
+        assertThat(results.getItem3()).isEqualTo("not-a-number");
+        assertThatThrownBy(() -> strings.incr(key).await().indefinitely()).hasMessageContaining("not an integer");
+    }
+
+    @Test
+    void errorsAreReportedToTheFailingReadOnlyCommandOnly() {
+        strings.set(key, "value").await().indefinitely();
+        ds.hash(String.class).hset(key + "-hash", "field", "value").await().indefinitely();
+        Uni<String> before = strings.get(key);
+        Uni<String> failing = strings.get(key + "-hash");
+        Uni<String> after = strings.get(key);
+
+        Tuple3<String, String, String> results = Uni.combine().all()
+                .unis(before, failing.onFailure().recoverWithItem(Throwable::getMessage), after).asTuple()
+                .await().atMost(Duration.ofSeconds(10));
+        assertThat(results.getItem1()).isEqualTo("value");
+        assertThat(results.getItem2()).startsWith("WRONGTYPE");
+        assertThat(results.getItem3()).isEqualTo("value");
+    }
+}
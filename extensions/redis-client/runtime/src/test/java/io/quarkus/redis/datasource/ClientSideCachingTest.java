@@ -0,0 +1,177 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ClientSideCache;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+
+@RequiresRedis6OrHigher
+public class ClientSideCachingTest extends DatasourceTestBase {
+
+    private final List<ClientSideCache> caches = new ArrayList<>();
+    private RedisDataSource cached;
+    private RedisDataSource ds;
+
+    @BeforeEach
+    void initialize() {
+        cached = cached(100);
+        ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void clear() {
+        // release the tracking connections
+        caches.forEach(ClientSideCache::close);
+        ds.flushall();
+    }
+
+    @Test
+    void valuesAreInvalidatedWhenModified() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        ValueCommands<String, String> other = ds.value(String.class);
+        other.set(key, "hello");
+
+        // once the tracking is enabled, the second read is served from memory, so it is not seen by the server
+        await().untilAsserted(() -> {
+            assertThat(values.get(key)).isEqualTo("hello");
+            long hits = keyspaceHits();
+            assertThat(values.get(key)).isEqualTo("hello");
+            assertThat(keyspaceHits()).isEqualTo(hits);
+        });
+
+        other.set(key, "bonjour");
+        await().untilAsserted(() -> assertThat(values.get(key)).isEqualTo("bonjour"));
+
+        other.getdel(key);
+        await().untilAsserted(() -> assertThat(values.get(key)).isNull());
+    }
+
+    @Test
+    void hashesAreInvalidatedWhenModified() {
+        HashCommands<String, String, String> hashes = cached.hash(String.class);
+        HashCommands<String, String, String> other = ds.hash(String.class);
+        other.hset(key, Map.of("a", "1", "b", "2"));
+
+        await().untilAsserted(() -> {
+            assertThat(hashes.hget(key, "a")).isEqualTo("1");
+            assertThat(hashes.hgetall(key)).containsExactlyInAnyOrderEntriesOf(Map.of("a", "1", "b", "2"));
+        });
+
+        other.hset(key, "a", "3");
+        await().untilAsserted(() -> {
+            assertThat(hashes.hget(key, "a")).isEqualTo("3");
+            assertThat(hashes.hgetall(key)).containsExactlyInAnyOrderEntriesOf(Map.of("a", "3", "b", "2"));
+        });
+    }
+
+    @Test
+    void writesAreSeenByTheFollowingReads() {
+        ValueCommands<String, String> values = cached.value(String.class);
+        HashCommands<String, String, String> hashes = cached.hash(String.class);
+        values.set(key, "hello");
+        hashes.hset(key + "-hash", "a", "1");
+
+        await().untilAsserted(() -> {
+            assertThat(values.get(key)).isEqualTo("hello");
+            assertThat(hashes.hget(key + "-hash", "a")).isEqualTo("1");
+            long hits = keyspaceHits();
+            assertThat(values.get(key)).isEqualTo("hello");
+            assertThat(hashes.hget(key + "-hash", "a")).isEqualTo("1");
+            assertThat(keyspaceHits()).isEqualTo(hits);
+        });
+
+        // the invalidation messages of these writes may not have been received yet
+        for (int i = 0; i < 100; i++) {
+            values.set(key, "value-" + i);
+            assertThat(values.get(key)).isEqualTo("value-" + i);
+            hashes.hset(key + "-hash", "a", Integer.toString(i));
+            assertThat(hashes.hget(key + "-hash", "a")).isEqualTo(Integer.toString(i));
+        }
+
+        cached.withTransaction(tx -> tx.value(String.class).set(key, "transaction"));
+        assertThat(values.get(key)).isEqualTo("transaction");
+
+        cached.key().del(key);
+        assertThat(values.get(key)).isNull();
+    }
+
+    @Test
+    void repliesAreBounded() {
+        HashCommands<String, String, String> hashes = cached(3).hash(String.class);
+        ds.hash(String.class).hset(key, Map.of("a", "1", "b", "2", "c", "3", "d", "4"));
+
+        await().untilAsserted(() -> {
+            assertThat(hashes.hget(key, "a")).isEqualTo("1");
+            long hits = keyspaceHits();
+            assertThat(hashes.hget(key, "a")).isEqualTo("1");
+            assertThat(keyspaceHits()).isEqualTo(hits);
+        });
+
+        // the replies of the 4 fields exceed the maximum size, so the key is evicted
+        assertThat(hashes.hget(key, "b")).isEqualTo("2");
+        assertThat(hashes.hget(key, "c")).isEqualTo("3");
+        assertThat(hashes.hget(key, "d")).isEqualTo("4");
+        long hits = keyspaceHits();
+        assertThat(hashes.hget(key, "a")).isEqualTo("1");
+        assertThat(keyspaceHits()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void keysNotMatchingThePrefixesAreNotCached() {
+        ValueCommands<String, String> values = cached(100, List.of("cached:")).value(String.class);
+        ValueCommands<String, String> other = ds.value(String.class);
+        String tracked = "cached:" + key;
+        other.set(tracked, "hello");
+        other.set(key, "hello");
+
+        await().untilAsserted(() -> {
+            assertThat(values.get(tracked)).isEqualTo("hello");
+            long hits = keyspaceHits();
+            assertThat(values.get(tracked)).isEqualTo("hello");
+            assertThat(keyspaceHits()).isEqualTo(hits);
+        });
+
+        // the key does not match the prefix, so Redis does not notify its modifications: it is always read from Redis
+        assertThat(values.get(key)).isEqualTo("hello");
+        long hits = keyspaceHits();
+        assertThat(values.get(key)).isEqualTo("hello");
+        assertThat(keyspaceHits()).isEqualTo(hits + 1);
+
+        other.set(key, "bonjour");
+        assertThat(values.get(key)).isEqualTo("bonjour");
+    }
+
+    private RedisDataSource cached(int maxSize) {
+        return cached(maxSize, List.of());
+    }
+
+    private RedisDataSource cached(int maxSize, List<String> prefixes) {
+        ClientSideCache cache = new ClientSideCache(redis.getDelegate(), maxSize, Duration.ofMinutes(1), prefixes);
+        caches.add(cache);
+        return new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(vertx, redis, api, null, cache),
+                Duration.ofSeconds(5));
+    }
+
+    private long keyspaceHits() {
+        String stats = ds.execute("INFO", "stats").toString();
+        for (String line : stats.split("\r\n")) {
+            if (line.startsWith("keyspace_hits:")) {
+                return Long.parseLong(line.substring("keyspace_hits:".length()).trim());
+            }
+        }
+        throw new IllegalStateException("No keyspace_hits in " + stats);
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class CodecsTest {
+
+    @Test
+    void decodeFromBufferOnlyReadsTheGivenSlice() {
+        assertThat(decode(String.class, "hello")).isEqualTo("hello");
+        assertThat(decode(Integer.class, "42")).isEqualTo(42);
+        assertThat(decode(Double.class, "4.2")).isEqualTo(4.2);
+        assertThat(decode(byte[].class, "hello")).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(decode(Person.class, "{\"firstname\":\"luke\",\"lastname\":\"skywalker\"}"))
+                .isEqualTo(Person.person1);
+    }
+
+    @Test
+    void jsonCodecRoundTrip() {
+        Type type = new TypeReference<List<Person>>() {
+        }.getType();
+        Codec codec = Codecs.getDefaultCodecFor(type);
+        byte[] encoded = codec.encode(List.of(Person.person0, Person.person1));
+        assertThat(codec.decode(encoded)).isEqualTo(List.of(Person.person0, Person.person1));
+        assertThat(codec.decodeFromBuffer(Buffer.buffer(encoded))).isEqualTo(List.of(Person.person0, Person.person1));
+    }
+
+    @Test
+    void objectIsDecodedAsVertxJson() {
+        Codec codec = Codecs.getDefaultCodecFor(Object.class);
+        byte[] object = "{\"firstname\":\"luke\"}".getBytes(StandardCharsets.UTF_8);
+        assertThat(codec.decode(object)).isEqualTo(new JsonObject().put("firstname", "luke"));
+        assertThat(codec.decodeFromBuffer(Buffer.buffer(object))).isEqualTo(new JsonObject().put("firstname", "luke"));
+        assertThat(codec.decode("[1,2]".getBytes(StandardCharsets.UTF_8))).isEqualTo(new JsonArray().add(1).add(2));
+    }
+
+    @Test
+    void trailingTokensAreRejected() {
+        Codec codec = Codecs.getDefaultCodecFor(Person.class);
+        byte[] payload = "{\"firstname\":\"luke\"} {}".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> codec.decode(payload)).isInstanceOf(DecodeException.class);
+        assertThatThrownBy(() -> codec.decodeFromBuffer(Buffer.buffer(payload))).isInstanceOf(DecodeException.class);
+    }
+
+    private static Object decode(Type type, String content) {
+        // surround the content, so the codec is given a view of a larger buffer, as for a Redis reply
+        Buffer reply = Buffer.buffer("$" + content.length() + "\r\n" + content + "\r\n");
+        int start = reply.length() - content.length() - 2;
+        return Codecs.getDefaultCodecFor(type).decodeFromBuffer(reply.slice(start, start + content.length()));
+    }
+}
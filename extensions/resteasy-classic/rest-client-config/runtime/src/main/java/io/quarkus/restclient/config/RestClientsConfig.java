@@ -1,6 +1,8 @@
 package io.quarkus.restclient.config;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -163,6 +165,20 @@ public interface RestClientsConfig {
     @WithDefault("true")
     Optional<Boolean> keepAliveEnabled();
 
+    /**
+     * Set to true to share the connection pools of the client with the other REST clients creating their connections
+     * the same way, that is with the same TLS, proxy, protocol, timeout and pool settings. Connections are pooled per
+     * authority (scheme, host and port), and HTTP/2 connections are multiplexed, so REST clients calling the same server
+     * share the same connections instead of each opening its own.
+     * <p>
+     * Ignored when the client is {@code shared}, or when it uses a redirect handler or logging.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Boolean> sharedConnectionPool();
+
     /**
      * The maximum number of redirection a request can follow.
      * <p>
@@ -326,6 +342,20 @@ public interface RestClientsConfig {
      */
     RestClientMultipartConfig multipart();
 
+    /**
+     * HTTP cache configuration.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    RestClientHttpCacheConfig httpCache();
+
+    /**
+     * Request hedging configuration.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    RestClientHedgingConfig hedging();
+
     default RestClientConfig getClient(final Class<?> restClientInterface) {
         if (RestClientKeysProvider.KEYS.contains(restClientInterface.getName())) {
             return clients().get(restClientInterface.getName());
@@ -362,6 +392,93 @@ interface RestClientLoggingConfig {
         Integer bodyLimit();
     }
 
+    interface RestClientHttpCacheConfig {
+        /**
+         * Whether the responses are cached according to the HTTP caching rules (RFC 9111).
+         * <p>
+         * The cache behaves as a shared cache: responses marked as {@code private}, or responses to requests with an
+         * {@code Authorization} header unless explicitly allowed, are not stored.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum size of the cache. The least recently used responses are evicted when the size is exceeded.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("10M")
+        MemorySize maxSize();
+
+        /**
+         * The maximum size of a response body stored in the cache. Larger responses are not stored.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("1M")
+        MemorySize maxEntrySize();
+
+        /**
+         * The local directory the responses are stored in, so that they survive restarts. If not set, the responses are
+         * stored in memory.
+         * <p>
+         * When set globally, each client stores its responses in a subdirectory named after its configuration key, or
+         * after its interface name if it has no configuration key. A directory set for a given client must not be shared
+         * by several clients.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        Optional<Path> directory();
+    }
+
+    interface RestClientHedgingConfig {
+        /**
+         * Whether the idempotent requests ({@code GET}, {@code HEAD} and {@code OPTIONS} without entity) sent to a Stork
+         * service are hedged: if no response was received after the hedging delay, the request is also sent to another
+         * instance of the service, the first response is used and the other request is cancelled.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The percentile of the latencies observed by the client after which a request is hedged, between {@code 0} and
+         * {@code 1}.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("0.95")
+        double percentile();
+
+        /**
+         * The delay after which a request is hedged, until enough latencies have been observed.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("100ms")
+        Duration initialDelay();
+
+        /**
+         * The minimum delay after which a request is hedged.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("10ms")
+        Duration minDelay();
+
+        /**
+         * The maximum ratio of hedged requests to requests. The budget is shared by all the clients, so that hedging
+         * never multiplies the load when the services slow down.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("0.05")
+        double budget();
+    }
+
     interface RestClientMultipartConfig {
         /**
          * The max HTTP chunk size (8096 bytes by default).
@@ -570,6 +687,14 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> keepAliveEnabled();
 
+        /**
+         * Set to true to share the connection pools of the client with the other REST clients creating their
+         * connections the same way, that is with the same TLS, proxy, protocol, timeout and pool settings.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Boolean> sharedConnectionPool();
+
         /**
          * The maximum number of redirection a request can follow.
          * <p>
@@ -660,6 +785,16 @@ default Optional<String> uriReload() {
          * Logging configuration.
          */
         Optional<RestClientLoggingConfig> logging();
+
+        /**
+         * HTTP cache configuration.
+         */
+        Optional<RestClientHttpCacheConfig> httpCache();
+
+        /**
+         * Request hedging configuration.
+         */
+        Optional<RestClientHedgingConfig> hedging();
     }
 
     class RestClientKeysProvider implements Supplier<Iterable<String>> {
@@ -9,6 +9,7 @@
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAMS;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_QUERY_PARAM;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_QUERY_PARAMS;
+import static io.quarkus.rest.client.reactive.deployment.DotNames.COALESCE;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_CLIENT_HEADERS;
 import static org.jboss.resteasy.reactive.client.impl.RestClientRequestContext.INVOKED_METHOD_PARAMETERS_PROP;
 import static org.jboss.resteasy.reactive.client.impl.RestClientRequestContext.INVOKED_METHOD_PROP;
@@ -53,6 +54,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.ClientMultipartForm;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.impl.WebTargetImpl;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartForm;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
@@ -522,6 +524,13 @@ public void forMethod(ClassCreator classCreator, MethodCreator constructor,
 
         addJavaMethodToContext(javaMethodField, methodCreator, invocationBuilder);
 
+        if (isCoalesced(interfaceClass, method)) {
+            methodCreator.assign(invocationBuilder,
+                    methodCreator.invokeInterfaceMethod(INVOCATION_BUILDER_PROPERTY_METHOD, invocationBuilder,
+                            methodCreator.load(QuarkusRestClientProperties.COALESCE),
+                            methodCreator.readStaticField(FieldDescriptor.of(Boolean.class, "TRUE", Boolean.class))));
+        }
+
         // header filler
 
         Map<String, ParamData> headerFillersByName = new HashMap<>();
@@ -540,6 +549,19 @@ public void forMethod(ClassCreator classCreator, MethodCreator constructor,
                 interfaceClass + "$$" + method.name() + "$$" + methodIndex, headerFillersByName, enhancers);
     }
 
+    private static boolean isCoalesced(ClassInfo interfaceClass, MethodInfo method) {
+        boolean idempotent = method.hasDeclaredAnnotation(ResteasyReactiveDotNames.GET)
+                || method.hasDeclaredAnnotation(ResteasyReactiveDotNames.HEAD);
+        if (method.hasDeclaredAnnotation(COALESCE)) {
+            if (!idempotent) {
+                throw new RestClientDefinitionException("@Coalesce is only supported on GET and HEAD methods, found on: "
+                        + interfaceClass.name() + "#" + method.name());
+            }
+            return true;
+        }
+        return idempotent && interfaceClass.hasDeclaredAnnotation(COALESCE);
+    }
+
     private interface AddHeadersEnhancer extends Consumer<AddHeadersEnhancer.Context> {
 
         interface Context {
@@ -96,6 +96,8 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.execannotations.ExecutionModelAnnotationsAllowedBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -375,6 +377,17 @@ AdditionalBeanBuildItem registerProviderBeans(CombinedIndexBuildItem combinedInd
         return builder.build();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerCoalescingMetrics(RestClientRecorder recorder, CombinedIndexBuildItem combinedIndexBuildItem,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()
+                && !combinedIndexBuildItem.getIndex().getAnnotations(DotNames.COALESCE).isEmpty()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerCoalescingMetrics()));
+        }
+    }
+
     @BuildStep
     void handleSseEventFilter(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem) {
@@ -0,0 +1,115 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class CoalesceTest {
+
+    private static final int CALLS = 10;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Resource.class, Client.class));
+
+    @TestHTTPResource
+    URI baseUri;
+
+    @BeforeEach
+    void reset() {
+        Resource.COUNTER.set(0);
+    }
+
+    @Test
+    void identicalRequestsShareOneCall() throws Exception {
+        Client client = RestClientBuilder.newBuilder().baseUri(baseUri).build(Client.class);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            results.add(client.coalesced("a", "h").toCompletableFuture());
+        }
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("a-h-1");
+        }
+        assertThat(Resource.COUNTER.get()).isEqualTo(1);
+
+        // the flight is over, a new call reaches the server
+        assertThat(client.coalesced("a", "h").toCompletableFuture().get(10, TimeUnit.SECONDS)).isEqualTo("a-h-2");
+    }
+
+    @Test
+    void requestsWithDifferentHeadersOrUrisAreNotCoalesced() throws Exception {
+        Client client = RestClientBuilder.newBuilder().baseUri(baseUri).build(Client.class);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        results.add(client.coalesced("a", "h1").toCompletableFuture());
+        results.add(client.coalesced("a", "h2").toCompletableFuture());
+        results.add(client.coalesced("b", "h1").toCompletableFuture());
+        for (CompletableFuture<String> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(Resource.COUNTER.get()).isEqualTo(3);
+    }
+
+    @Test
+    void methodsWithoutTheAnnotationAreNotCoalesced() throws Exception {
+        Client client = RestClientBuilder.newBuilder().baseUri(baseUri).build(Client.class);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            results.add(client.notCoalesced("a", "h").toCompletableFuture());
+        }
+        for (CompletableFuture<String> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(Resource.COUNTER.get()).isEqualTo(CALLS);
+    }
+
+    @Path("/")
+    public static class Resource {
+
+        static final AtomicInteger COUNTER = new AtomicInteger(0);
+
+        @GET
+        @Path("/{id}")
+        public String get(@PathParam("id") String id, @HeaderParam("x-header") String header)
+                throws InterruptedException {
+            int count = COUNTER.incrementAndGet();
+            // keep the request in flight while the other ones are issued
+            Thread.sleep(500);
+            return id + "-" + header + "-" + count;
+        }
+    }
+
+    @Path("/")
+    public interface Client {
+
+        @GET
+        @Path("/{id}")
+        @Coalesce
+        CompletionStage<String> coalesced(@PathParam("id") String id, @HeaderParam("x-header") String header);
+
+        @GET
+        @Path("/{id}")
+        CompletionStage<String> notCoalesced(@PathParam("id") String id, @HeaderParam("x-header") String header);
+    }
+}
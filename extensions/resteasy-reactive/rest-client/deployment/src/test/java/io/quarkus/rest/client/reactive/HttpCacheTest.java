@@ -0,0 +1,127 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class HttpCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, UncachedClient.class, Resource.class))
+            .overrideRuntimeConfigKey("quarkus.rest-client.cached.url", "${test.url}")
+            .overrideRuntimeConfigKey("quarkus.rest-client.cached.http-cache.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.rest-client.uncached.url", "${test.url}");
+
+    @RestClient
+    Client client;
+
+    @RestClient
+    UncachedClient uncachedClient;
+
+    @BeforeEach
+    void reset() {
+        Resource.FRESH.set(0);
+        Resource.VALIDATED.set(0);
+        Resource.NOT_MODIFIED.set(0);
+    }
+
+    @Test
+    void freshResponsesAreReused() {
+        String first = client.fresh();
+        assertThat(client.fresh()).isEqualTo(first);
+        assertThat(client.fresh()).isEqualTo(first);
+        assertThat(Resource.FRESH.get()).isEqualTo(1);
+
+        // a successful unsafe request invalidates the stored response
+        client.update();
+        assertThat(client.fresh()).isNotEqualTo(first);
+        assertThat(Resource.FRESH.get()).isEqualTo(2);
+    }
+
+    @Test
+    void staleResponsesAreRevalidated() {
+        String first = client.validated();
+        assertThat(client.validated()).isEqualTo(first);
+        assertThat(client.validated()).isEqualTo(first);
+        assertThat(Resource.VALIDATED.get()).isEqualTo(3);
+        assertThat(Resource.NOT_MODIFIED.get()).isEqualTo(2);
+    }
+
+    @Test
+    void cacheIsDisabledByDefault() {
+        uncachedClient.fresh();
+        uncachedClient.fresh();
+        assertThat(Resource.FRESH.get()).isEqualTo(2);
+    }
+
+    @Path("/cache")
+    public static class Resource {
+
+        static final AtomicInteger FRESH = new AtomicInteger();
+        static final AtomicInteger VALIDATED = new AtomicInteger();
+        static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+
+        @GET
+        @Path("/fresh")
+        public Response fresh() {
+            return Response.ok("fresh-" + FRESH.incrementAndGet()).header("Cache-Control", "max-age=60").build();
+        }
+
+        @POST
+        @Path("/fresh")
+        public void update() {
+        }
+
+        @GET
+        @Path("/validated")
+        public Response validated(@HeaderParam("If-None-Match") String ifNoneMatch) {
+            int count = VALIDATED.incrementAndGet();
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                NOT_MODIFIED.incrementAndGet();
+                return Response.notModified().header("ETag", "\"v1\"").header("Cache-Control", "no-cache").build();
+            }
+            return Response.ok("validated-" + count).header("ETag", "\"v1\"").header("Cache-Control", "no-cache").build();
+        }
+    }
+
+    @Path("/cache")
+    @RegisterRestClient(configKey = "cached")
+    public interface Client {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+
+        @POST
+        @Path("/fresh")
+        void update();
+
+        @GET
+        @Path("/validated")
+        String validated();
+    }
+
+    @Path("/cache")
+    @RegisterRestClient(configKey = "uncached")
+    public interface UncachedClient {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.rest.client.reactive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets identical concurrent invocations of a REST Client method share a single upstream call.
+ * <p>
+ * While a request is in flight, invocations issuing a request with the same HTTP method, URI and headers do not send it
+ * again: they wait for the response of the request in flight and deserialize a copy of it. This protects slow services
+ * from bursts of identical requests.
+ * <p>
+ * Only {@code GET} and {@code HEAD} methods are coalesced. When placed on the REST Client interface, the annotation
+ * applies to all its {@code GET} and {@code HEAD} methods. Methods returning a stream ({@code InputStream}, {@code File},
+ * {@code Multi}...) are never coalesced.
+ *
+ * <pre>
+ * {@code
+ * &#64;RegisterRestClient
+ * public interface ProductService {
+ *
+ *     &#64;GET
+ *     &#64;Path("/products/{id}")
+ *     &#64;Coalesce
+ *     Product get(String id);
+ * }
+ * }
+ * </pre>
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+}
@@ -10,6 +10,7 @@
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -20,6 +21,7 @@
 import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import javax.net.ssl.HostnameVerifier;
 
@@ -43,6 +45,7 @@
     private static final String REST_URL_FORMAT = "quarkus.rest-client.%s.url";
     private static final String REST_URI_FORMAT = "quarkus.rest-client.%s.uri";
     private static final String NONE = "none";
+    private static final Pattern INVALID_DIRECTORY_CHARACTERS = Pattern.compile("[^A-Za-z0-9._-]");
 
     private final Class<T> jaxrsInterface;
     private final String baseUriFromAnnotation;
@@ -84,6 +87,8 @@ void configureBuilder(QuarkusRestClientBuilder builder) {
         configureProxy(builder);
         configureShared(builder);
         configureLogging(builder);
+        configureHttpCache(builder);
+        configureHedging(builder);
         configureCustomProperties(builder);
     }
 
@@ -96,6 +101,40 @@ private void configureLogging(QuarkusRestClientBuilder builder) {
         }
     }
 
+    private void configureHttpCache(QuarkusRestClientBuilder builder) {
+        Optional<RestClientsConfig.RestClientHttpCacheConfig> clientCacheConfig = restClientConfig.httpCache();
+        RestClientsConfig.RestClientHttpCacheConfig cacheConfig = clientCacheConfig.orElse(configRoot.httpCache());
+        if (cacheConfig.enabled()) {
+            builder.property(QuarkusRestClientProperties.HTTP_CACHE, true);
+            builder.property(QuarkusRestClientProperties.HTTP_CACHE_MAX_SIZE, cacheConfig.maxSize().asLongValue());
+            builder.property(QuarkusRestClientProperties.HTTP_CACHE_MAX_ENTRY_SIZE, cacheConfig.maxEntrySize().asLongValue());
+            if (cacheConfig.directory().isPresent()) {
+                Path directory = cacheConfig.directory().get();
+                if (clientCacheConfig.isEmpty()) {
+                    // the global directory is shared by all the clients, each of them stores its responses in a subdirectory
+                    directory = directory.resolve(cacheSubdirectory());
+                }
+                builder.property(QuarkusRestClientProperties.HTTP_CACHE_DIRECTORY, directory.toString());
+            }
+        }
+    }
+
+    private String cacheSubdirectory() {
+        String name = configKey != null ? configKey : jaxrsInterface.getName();
+        return INVALID_DIRECTORY_CHARACTERS.matcher(name).replaceAll("_");
+    }
+
+    private void configureHedging(QuarkusRestClientBuilder builder) {
+        RestClientsConfig.RestClientHedgingConfig hedgingConfig = restClientConfig.hedging().orElse(configRoot.hedging());
+        if (hedgingConfig.enabled()) {
+            builder.property(QuarkusRestClientProperties.HEDGING, true);
+            builder.property(QuarkusRestClientProperties.HEDGING_PERCENTILE, hedgingConfig.percentile());
+            builder.property(QuarkusRestClientProperties.HEDGING_INITIAL_DELAY, hedgingConfig.initialDelay().toMillis());
+            builder.property(QuarkusRestClientProperties.HEDGING_MIN_DELAY, hedgingConfig.minDelay().toMillis());
+            builder.property(QuarkusRestClientProperties.HEDGING_BUDGET, hedgingConfig.budget());
+        }
+    }
+
     private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Optional<String> encoder = oneOf(restClientConfig.multipartPostEncoderMode(), configRoot.multipartPostEncoderMode());
         if (encoder != null && encoder.isPresent()) {
@@ -121,6 +160,12 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
             builder.property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, keepAliveEnabled.get());
         }
 
+        Optional<Boolean> sharedConnectionPool = oneOf(restClientConfig.sharedConnectionPool(),
+                configRoot.sharedConnectionPool());
+        if (sharedConnectionPool.isPresent()) {
+            builder.property(QuarkusRestClientProperties.SHARED_CONNECTION_POOL, sharedConnectionPool.get());
+        }
+
         Map<String, String> headers = restClientConfig.headers();
         if (headers == null || headers.isEmpty()) {
             headers = configRoot.headers();
@@ -6,12 +6,15 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilderResolver;
+import org.jboss.resteasy.reactive.client.handlers.ClientRequestCoalescingHandler;
 
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.http.HttpClient;
 
 @Recorder
@@ -54,6 +57,17 @@ public static List<HttpClient> clientsUsingTlsConfig(String tlsConfigName) {
         return tlsConfigNameToVertxHttpClients.getOrDefault(tlsConfigName, Collections.emptyList());
     }
 
+    public Consumer<MetricsFactory> registerCoalescingMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("rest-client.requests.coalesced")
+                        .description("Number of REST Client requests that shared the response of an identical request")
+                        .buildCounter(ClientRequestCoalescingHandler::getCoalescedCount);
+            }
+        };
+    }
+
     public void cleanUp(ShutdownContext shutdown) {
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -6,10 +6,13 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.DISABLE_CONTEXTUAL_ERROR_MESSAGES;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE_DIRECTORY;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_CHUNK_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MULTIPART_ENCODER_MODE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED_CONNECTION_POOL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.STATIC_HEADERS;
 import static org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder.EncoderMode.HTML5;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -141,6 +144,7 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(CONNECTION_TTL, 10); // value converted to seconds
         verify(restClientBuilderMock).property(CONNECTION_POOL_SIZE, 103);
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, false);
+        verify(restClientBuilderMock).property(SHARED_CONNECTION_POOL, false);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 104);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
         verify(restClientBuilderMock).followRedirects(true);
@@ -195,6 +199,7 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(CONNECTION_TTL, 20);
         verify(restClientBuilderMock).property(CONNECTION_POOL_SIZE, 203);
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, true);
+        verify(restClientBuilderMock).property(SHARED_CONNECTION_POOL, true);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 204);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
         verify(restClientBuilderMock).followRedirects(true);
@@ -205,6 +210,39 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).keyStore(Mockito.any(), Mockito.anyString());
     }
 
+    @Test
+    void globalHttpCacheDirectory() {
+        RestClientsConfig configRoot = ConfigUtils.emptyConfigBuilder()
+                .setAddDefaultSources(false)
+                .withMapping(RestClientsConfig.class)
+                .withCustomizers(new SmallRyeConfigBuilderCustomizer() {
+                    @Override
+                    public void configBuilder(final SmallRyeConfigBuilder builder) {
+                        new AbstractRestClientConfigBuilder() {
+                            @Override
+                            public List<RegisteredRestClient> getRestClients() {
+                                return List.of(new RegisteredRestClient(TestClient.class, "test-client"));
+                            }
+                        }.configBuilder(builder);
+                    }
+                })
+                .withDefaultValues(Map.of(
+                        "quarkus.rest-client.http-cache.enabled", "true",
+                        "quarkus.rest-client.http-cache.directory", "target/http-cache"))
+                .build()
+                .getConfigMapping(RestClientsConfig.class);
+
+        QuarkusRestClientBuilderImpl restClientBuilderMock = Mockito.mock(QuarkusRestClientBuilderImpl.class);
+        new RestClientCDIDelegateBuilder<>(TestClient.class,
+                "http://localhost:8080",
+                "test-client",
+                configRoot).configureBuilder(restClientBuilderMock);
+
+        // the global directory is not shared by the clients
+        verify(restClientBuilderMock).property(HTTP_CACHE, true);
+        verify(restClientBuilderMock).property(HTTP_CACHE_DIRECTORY, Path.of("target/http-cache", "test-client").toString());
+    }
+
     private static Map<String, String> createSampleConfigRoot() {
         Map<String, String> rootConfig = new HashMap<>();
         // global properties:
@@ -222,6 +260,7 @@ private static Map<String, String> createSampleConfigRoot() {
         rootConfig.put("quarkus.rest-client.connection-ttl", "20000");
         rootConfig.put("quarkus.rest-client.connection-pool-size", "203");
         rootConfig.put("quarkus.rest-client.keep-alive-enabled", "true");
+        rootConfig.put("quarkus.rest-client.shared-connection-pool", "true");
         rootConfig.put("quarkus.rest-client.max-redirects", "204");
         rootConfig.put("quarkus.rest-client.multipart-max-chunk-size", "1024");
         rootConfig.put("quarkus.rest-client.follow-redirects", "true");
@@ -257,6 +296,7 @@ private static Map<String, String> createSampleClientConfig(final String restCli
         clientConfig.put("quarkus.rest-client." + restClientName + ".connection-ttl", "10000");
         clientConfig.put("quarkus.rest-client." + restClientName + ".connection-pool-size", "103");
         clientConfig.put("quarkus.rest-client." + restClientName + ".keep-alive-enabled", "false");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".shared-connection-pool", "false");
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-redirects", "104");
         clientConfig.put("quarkus.rest-client." + restClientName + ".follow-redirects", "true");
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-chunk-size", "1024");
@@ -79,7 +79,6 @@
 import io.quarkus.vertx.http.runtime.devmode.RouteMethodDescription;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityRecorder.DefaultAuthFailureHandler;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
-import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
@@ -99,7 +98,7 @@ public Executor get() {
     public static final Supplier<Executor> VTHREAD_EXECUTOR_SUPPLIER = new Supplier<>() {
         @Override
         public Executor get() {
-            return VirtualThreadsRecorder.getCurrent();
+            return VirtualThreadsRequestExecutor.INSTANCE;
         }
     };
 
@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+
+import io.quarkus.virtual.threads.RejectableTask;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+
+/**
+ * Runs the requests of the endpoints annotated with {@code @RunOnVirtualThread} on virtual threads.
+ * <p>
+ * The {@code quarkus.virtual-threads.limits} configured for an endpoint are applied to its requests. A request that
+ * waits longer than the queue timeout to start fails with a {@code 503 Service Unavailable} response.
+ */
+final class VirtualThreadsRequestExecutor implements Executor {
+
+    static final VirtualThreadsRequestExecutor INSTANCE = new VirtualThreadsRequestExecutor();
+
+    private VirtualThreadsRequestExecutor() {
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command instanceof ResteasyReactiveRequestContext) {
+            ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) command;
+            executor(requestContext.getTarget()).execute(new RequestTask(requestContext));
+        } else {
+            VirtualThreadsRecorder.getCurrent().execute(command);
+        }
+    }
+
+    private static ExecutorService executor(RuntimeResource target) {
+        if (target == null || !VirtualThreadsRecorder.hasLimits()) {
+            return VirtualThreadsRecorder.getCurrent();
+        }
+        return VirtualThreadsRecorder.getCurrent(target.getResourceClass().getName() + "#" + target.getJavaMethodName());
+    }
+
+    private static final class RequestTask implements RejectableTask {
+
+        private final ResteasyReactiveRequestContext requestContext;
+
+        RequestTask(ResteasyReactiveRequestContext requestContext) {
+            this.requestContext = requestContext;
+        }
+
+        @Override
+        public void run() {
+            requestContext.run();
+        }
+
+        @Override
+        public void reject(RejectedExecutionException failure) {
+            // Switch to the abort chain, which maps the exception to the response
+            requestContext.handleException(new ServiceUnavailableException(failure.getMessage(), (Long) null, failure),
+                    true);
+            requestContext.run();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.scheduler.test.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.InMemoryLeaseStore;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, LeaseStoreProducer.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.cluster.partitions", "1")
+            .overrideConfigKey("quarkus.scheduler.cluster.lease-duration", "3s")
+            .overrideConfigKey("quarkus.scheduler.cluster.node-id", "alpha");
+
+    private static final String PARTITION_LEASE = "quarkus-scheduler.partition.0";
+
+    @Inject
+    LeaseStore leaseStore;
+
+    @Test
+    public void testJobIsFiredByTheLeaseHolder() throws InterruptedException {
+        // The partition is held by another node
+        assertFalse(Jobs.LATCH.await(3, TimeUnit.SECONDS));
+        leaseStore.release(PARTITION_LEASE, "bravo");
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(1);
+
+        @Scheduled(every = "1s")
+        void countDownSecond() {
+            LATCH.countDown();
+        }
+
+    }
+
+    static class LeaseStoreProducer {
+
+        @Singleton
+        @Produces
+        LeaseStore leaseStore() {
+            InMemoryLeaseStore store = new InMemoryLeaseStore();
+            Instant now = Instant.now();
+            store.acquire(PARTITION_LEASE, "bravo", now, now.plus(Duration.ofHours(1)));
+            return store;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.quarkus.scheduler.test.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.scheduler.runtime.JdbcLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcLeaseStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url", "jdbc:h2:mem:leases;DB_CLOSE_DELAY=-1");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    JdbcLeaseStore store;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + JdbcLeaseStore.DEFAULT_TABLE_NAME);
+            statement.execute("CREATE TABLE " + JdbcLeaseStore.DEFAULT_TABLE_NAME
+                    + " (LEASE_NAME VARCHAR(255) NOT NULL PRIMARY KEY, OWNER VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+        }
+        store = new JdbcLeaseStore(dataSource);
+    }
+
+    @Test
+    public void testLeaseIsExclusive() {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(Duration.ofMinutes(1));
+        assertTrue(store.acquire("partition.0", "alpha", now, expiresAt));
+        assertFalse(store.acquire("partition.0", "bravo", now, expiresAt));
+        // The owner renews its lease
+        assertTrue(store.acquire("partition.0", "alpha", now.plusSeconds(10), expiresAt.plusSeconds(10)));
+        assertEquals(Set.of("alpha"), store.owners("partition.", now));
+
+        store.release("partition.0", "bravo");
+        assertFalse(store.acquire("partition.0", "bravo", now, expiresAt));
+        store.release("partition.0", "alpha");
+        assertEquals(Set.of(), store.owners("partition.", now));
+        assertTrue(store.acquire("partition.0", "bravo", now, expiresAt));
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() {
+        Instant now = Instant.now();
+        assertTrue(store.acquire("partition.0", "alpha", now, now.plusSeconds(10)));
+        assertTrue(store.acquire("node.alpha", "alpha", now, now.plusSeconds(10)));
+        assertTrue(store.acquire("node.bravo", "bravo", now, now.plusSeconds(30)));
+        assertEquals(Set.of("alpha", "bravo"), store.owners("node.", now));
+
+        Instant later = now.plusSeconds(20);
+        assertEquals(Set.of("bravo"), store.owners("node.", later));
+        assertTrue(store.acquire("partition.0", "bravo", later, later.plusSeconds(10)));
+        assertFalse(store.acquire("partition.0", "alpha", later, later.plusSeconds(10)));
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.quarkus.scheduler.spi.LeaseStore;
+
+/**
+ * A {@link LeaseStore} that keeps the leases in memory.
+ * <p>
+ * It's only useful for tests and for multiple scheduler instances running in the same JVM.
+ */
+public class InMemoryLeaseStore implements LeaseStore {
+
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean acquire(String lease, String owner, Instant now, Instant expiresAt) {
+        Objects.requireNonNull(owner);
+        Lease result = leases.compute(lease, (name, existing) -> {
+            if (existing == null || existing.owner.equals(owner) || existing.expiresAt.isBefore(now)) {
+                return new Lease(owner, expiresAt);
+            }
+            return existing;
+        });
+        return result.owner.equals(owner) && result.expiresAt.equals(expiresAt);
+    }
+
+    @Override
+    public void release(String lease, String owner) {
+        leases.computeIfPresent(lease, (name, existing) -> existing.owner.equals(owner) ? null : existing);
+    }
+
+    @Override
+    public Set<String> owners(String leasePrefix, Instant now) {
+        Set<String> owners = new HashSet<>();
+        for (Map.Entry<String, Lease> e : leases.entrySet()) {
+            if (e.getKey().startsWith(leasePrefix) && !e.getValue().expiresAt.isBefore(now)) {
+                owners.add(e.getValue().owner);
+            }
+        }
+        return owners;
+    }
+
+    private static final class Lease {
+
+        private final String owner;
+        private final Instant expiresAt;
+
+        Lease(String owner, Instant expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
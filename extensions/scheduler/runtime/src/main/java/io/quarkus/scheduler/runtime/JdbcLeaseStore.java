@@ -0,0 +1,120 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import io.quarkus.scheduler.spi.LeaseStore;
+
+/**
+ * A {@link LeaseStore} backed by a database table.
+ * <p>
+ * The table must exist before the scheduler is started:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_LEASES (
+ *     LEASE_NAME VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     OWNER VARCHAR(255) NOT NULL,
+ *     EXPIRES_AT BIGINT NOT NULL
+ * )
+ * </pre>
+ *
+ * Each operation needs a single round trip, except for the first acquisition of a lease which needs two.
+ */
+public class JdbcLeaseStore implements LeaseStore {
+
+    public static final String DEFAULT_TABLE_NAME = "QUARKUS_SCHEDULER_LEASES";
+
+    private final DataSource dataSource;
+    private final String update;
+    private final String insert;
+    private final String release;
+    private final String owners;
+
+    public JdbcLeaseStore(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    public JdbcLeaseStore(DataSource dataSource, String tableName) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        Objects.requireNonNull(tableName);
+        this.update = "UPDATE " + tableName
+                + " SET OWNER = ?, EXPIRES_AT = ? WHERE LEASE_NAME = ? AND (OWNER = ? OR EXPIRES_AT < ?)";
+        this.insert = "INSERT INTO " + tableName + " (LEASE_NAME, OWNER, EXPIRES_AT) VALUES (?, ?, ?)";
+        this.release = "UPDATE " + tableName + " SET EXPIRES_AT = 0 WHERE LEASE_NAME = ? AND OWNER = ?";
+        this.owners = "SELECT DISTINCT OWNER FROM " + tableName + " WHERE LEASE_NAME LIKE ? AND EXPIRES_AT >= ?";
+    }
+
+    @Override
+    public boolean acquire(String lease, String owner, Instant now, Instant expiresAt) {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(update)) {
+                statement.setString(1, owner);
+                statement.setLong(2, expiresAt.toEpochMilli());
+                statement.setString(3, lease);
+                statement.setString(4, owner);
+                statement.setLong(5, now.toEpochMilli());
+                if (statement.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                statement.setString(1, lease);
+                statement.setString(2, owner);
+                statement.setLong(3, expiresAt.toEpochMilli());
+                return statement.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (isIntegrityConstraintViolation(e)) {
+                    // The lease exists and is held by another owner
+                    return false;
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the lease: " + lease, e);
+        }
+    }
+
+    @Override
+    public void release(String lease, String owner) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(release)) {
+            statement.setString(1, lease);
+            statement.setString(2, owner);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to release the lease: " + lease, e);
+        }
+    }
+
+    @Override
+    public Set<String> owners(String leasePrefix, Instant now) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(owners)) {
+            statement.setString(1, leasePrefix + "%");
+            statement.setLong(2, now.toEpochMilli());
+            Set<String> result = new HashSet<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString(1));
+                }
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read the lease owners", e);
+        }
+    }
+
+    private static boolean isIntegrityConstraintViolation(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("23");
+    }
+
+}
@@ -0,0 +1,198 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.LeaseStore;
+
+/**
+ * Partitions the jobs of the simple scheduler across the nodes of a cluster.
+ * <p>
+ * Every job identity is mapped to one of a fixed number of partitions. A node fires a job only if it holds the lease of the
+ * relevant partition. The leases are renewed periodically and each node attempts to hold an equal share of the partitions;
+ * the number of live nodes is derived from the node leases. Therefore, the number of round trips to the {@link LeaseStore} does
+ * not depend on the number of jobs or executions.
+ * <p>
+ * A lease is only considered valid locally for two thirds of the lease duration after it was renewed. The rest is a safety
+ * margin for clock skew between the nodes and for slow renewals.
+ * <p>
+ * Every node also publishes a digest of the identities of its jobs as the owner of a node-specific lease. If the nodes do not
+ * publish the same digest for two consecutive renewals then a warning is logged, because a job that is not scheduled on the
+ * node that holds its partition is never executed.
+ */
+final class PartitionLeases {
+
+    private static final Logger LOG = Logger.getLogger(PartitionLeases.class);
+
+    static final String NODE_LEASE_PREFIX = "quarkus-scheduler.node.";
+    static final String PARTITION_LEASE_PREFIX = "quarkus-scheduler.partition.";
+    static final String JOBS_LEASE_PREFIX = "quarkus-scheduler.jobs.";
+
+    private final LeaseStore store;
+    private final String nodeId;
+    private final int partitions;
+    private final Duration leaseDuration;
+    // Supplies the digest of the identities of the jobs scheduled on this node
+    private final Supplier<String> jobs;
+    // System.nanoTime() until which the lease of a partition is valid; 0 if not held
+    private final AtomicLongArray validUntil;
+    // guarded by this
+    private boolean released;
+    // guarded by this
+    private String publishedJobs;
+    // guarded by this; the number of consecutive renewals during which the nodes did not publish the same jobs
+    private int jobsMismatches;
+
+    PartitionLeases(LeaseStore store, String nodeId, int partitions, Duration leaseDuration, Supplier<String> jobs) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("The number of partitions must be greater than zero: " + partitions);
+        }
+        this.store = store;
+        this.nodeId = nodeId;
+        this.partitions = partitions;
+        this.leaseDuration = leaseDuration;
+        this.jobs = jobs;
+        this.validUntil = new AtomicLongArray(partitions);
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    Duration renewalPeriod() {
+        return leaseDuration.dividedBy(3);
+    }
+
+    int partition(String identity) {
+        return Math.floorMod(identity.hashCode(), partitions);
+    }
+
+    /**
+     * @param identity
+     * @return {@code true} if this node should fire the job with the given identity
+     */
+    boolean owns(String identity) {
+        return isValid(partition(identity), System.nanoTime());
+    }
+
+    int ownedPartitions() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (int i = 0; i < partitions; i++) {
+            if (isValid(i, now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return {@code true} if the nodes of the cluster do not schedule the same jobs
+     */
+    synchronized boolean jobsDiffer() {
+        return jobsMismatches > 1;
+    }
+
+    /**
+     * Renews the held leases and attempts to acquire or release partitions so that every live node holds an equal share.
+     */
+    synchronized void renew() {
+        if (released) {
+            // A renewal must not acquire the leases again once they were released
+            return;
+        }
+        long start = System.nanoTime();
+        long until = start + (leaseDuration.toNanos() / 3 * 2);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(leaseDuration);
+        try {
+            store.acquire(NODE_LEASE_PREFIX + nodeId, nodeId, now, expiresAt);
+            checkJobs(now, expiresAt);
+            int nodes = Math.max(1, store.owners(NODE_LEASE_PREFIX, now).size());
+            int target = (partitions + nodes - 1) / nodes;
+            int held = 0;
+            // Renew the held leases first and release the partitions over the target
+            for (int i = 0; i < partitions; i++) {
+                if (validUntil.get(i) == 0) {
+                    continue;
+                }
+                if (held < target && store.acquire(PARTITION_LEASE_PREFIX + i, nodeId, now, expiresAt)) {
+                    validUntil.set(i, until);
+                    held++;
+                } else {
+                    validUntil.set(i, 0);
+                    store.release(PARTITION_LEASE_PREFIX + i, nodeId);
+                    LOG.debugf("Partition %s released by node %s", i, nodeId);
+                }
+            }
+            // Start at a node-specific offset to reduce contention
+            int offset = Math.floorMod(nodeId.hashCode(), partitions);
+            for (int j = 0; j < partitions && held < target; j++) {
+                int i = (offset + j) % partitions;
+                if (validUntil.get(i) == 0 && store.acquire(PARTITION_LEASE_PREFIX + i, nodeId, now, expiresAt)) {
+                    validUntil.set(i, until);
+                    held++;
+                    LOG.debugf("Partition %s acquired by node %s", i, nodeId);
+                }
+            }
+            LOG.tracef("Node %s holds %s of %s partitions [live nodes: %s]", nodeId, held, partitions, nodes);
+        } catch (RuntimeException e) {
+            // Stop firing the jobs of all partitions; the leases will be acquired again during the next renewal
+            for (int i = 0; i < partitions; i++) {
+                validUntil.set(i, 0);
+            }
+            LOG.warnf(e, "Unable to renew the scheduler leases of node %s", nodeId);
+        }
+    }
+
+    /**
+     * Releases all the leases held by this node. The leases are not renewed afterwards.
+     */
+    synchronized void releaseAll() {
+        released = true;
+        try {
+            for (int i = 0; i < partitions; i++) {
+                if (validUntil.getAndSet(i, 0) != 0) {
+                    store.release(PARTITION_LEASE_PREFIX + i, nodeId);
+                }
+            }
+            if (publishedJobs != null) {
+                store.release(JOBS_LEASE_PREFIX + nodeId, publishedJobs);
+            }
+            store.release(NODE_LEASE_PREFIX + nodeId, nodeId);
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Unable to release the scheduler leases of node %s", nodeId);
+        }
+    }
+
+    private void checkJobs(Instant now, Instant expiresAt) {
+        String digest = jobs.get();
+        if (!digest.equals(publishedJobs)) {
+            if (publishedJobs != null) {
+                store.release(JOBS_LEASE_PREFIX + nodeId, publishedJobs);
+            }
+            publishedJobs = digest;
+        }
+        store.acquire(JOBS_LEASE_PREFIX + nodeId, digest, now, expiresAt);
+        if (store.owners(JOBS_LEASE_PREFIX, now).size() > 1) {
+            // The differences are tolerated for one renewal, e.g. while a node is scheduling its programmatic jobs
+            if (++jobsMismatches == 2) {
+                LOG.warnf("The nodes of the cluster do not schedule the same jobs [node: %s]. A job is only executed by the node"
+                        + " that holds the lease of its partition, so a job that is not scheduled on every node, such as a"
+                        + " programmatic job scheduled on a single node, may never be executed.", nodeId);
+            }
+        } else {
+            jobsMismatches = 0;
+        }
+    }
+
+    private boolean isValid(int partition, long now) {
+        long until = validUntil.get(partition);
+        return until != 0 && now - until < 0;
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A {@link LeaseStore} backed by Redis.
+ * <p>
+ * All the leases are stored in a single hash; the name of a lease is the field and the value consists of the expiration time
+ * and the owner. Each operation is a Lua script, i.e. a single atomic round trip. The expired leases are removed from the hash
+ * when the owners are read.
+ * <p>
+ * The {@code quarkus-redis-client} extension must be present.
+ */
+public class RedisLeaseStore implements LeaseStore {
+
+    public static final String DEFAULT_KEY = "quarkus-scheduler-leases";
+
+    // ARGV: lease, owner, now, expiresAt
+    private static final String ACQUIRE = """
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if value then
+                local separator = string.find(value, ':', 1, true)
+                if string.sub(value, separator + 1) ~= ARGV[2]
+                        and tonumber(string.sub(value, 1, separator - 1)) >= tonumber(ARGV[3]) then
+                    return 0
+                end
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[4] .. ':' .. ARGV[2])
+            return 1
+            """;
+
+    // ARGV: lease, owner
+    private static final String RELEASE = """
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if value and string.sub(value, string.find(value, ':', 1, true) + 1) == ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 0
+            """;
+
+    // ARGV: leasePrefix, now
+    private static final String OWNERS = """
+            local owners = {}
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+                local value = entries[i + 1]
+                local separator = string.find(value, ':', 1, true)
+                if tonumber(string.sub(value, 1, separator - 1)) < tonumber(ARGV[2]) then
+                    redis.call('HDEL', KEYS[1], entries[i])
+                elseif string.sub(entries[i], 1, #ARGV[1]) == ARGV[1] then
+                    table.insert(owners, string.sub(value, separator + 1))
+                end
+            end
+            return owners
+            """;
+
+    private final RedisDataSource dataSource;
+    private final String key;
+
+    public RedisLeaseStore(RedisDataSource dataSource) {
+        this(dataSource, DEFAULT_KEY);
+    }
+
+    public RedisLeaseStore(RedisDataSource dataSource, String key) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.key = Objects.requireNonNull(key);
+    }
+
+    @Override
+    public boolean acquire(String lease, String owner, Instant now, Instant expiresAt) {
+        Response response = dataSource.execute("EVAL", ACQUIRE, "1", key, lease, Objects.requireNonNull(owner),
+                Long.toString(now.toEpochMilli()), Long.toString(expiresAt.toEpochMilli()));
+        return response.toInteger() == 1;
+    }
+
+    @Override
+    public void release(String lease, String owner) {
+        dataSource.execute("EVAL", RELEASE, "1", key, lease, owner);
+    }
+
+    @Override
+    public Set<String> owners(String leasePrefix, Instant now) {
+        Response response = dataSource.execute("EVAL", OWNERS, "1", key, leasePrefix,
+                Long.toString(now.toEpochMilli()));
+        Set<String> result = new HashSet<>();
+        if (response != null) {
+            for (Response owner : response) {
+                result.add(owner.toString());
+            }
+        }
+        return result;
+    }
+
+}
@@ -1,10 +1,12 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.spi.LeaseStore;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
@@ -31,6 +33,11 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * Clustering of the simple scheduler.
+     */
+    ClusterConfig cluster();
+
     enum StartMode {
 
         /**
@@ -53,4 +60,41 @@ enum StartMode {
          */
         HALTED;
     }
+
+    interface ClusterConfig {
+
+        /**
+         * If set to {@code true} then the jobs of the simple scheduler are partitioned across the nodes of a cluster, so that
+         * each job is executed by a single node.
+         * <p>
+         * The application must provide exactly one CDI bean that implements {@link LeaseStore}. Programmatic jobs must be
+         * scheduled on every node with the same identity, a warning is logged if the nodes do not schedule the same jobs.
+         * <p>
+         * The fire times of the {@code every()} triggers are aligned to the epoch, i.e. they are multiples of the interval.
+         * Therefore, the execution right after the application starts is skipped and a job is first executed at the next
+         * multiple of its interval.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of partitions the jobs are distributed to. All nodes of a cluster must use the same value.
+         */
+        @WithDefault("16")
+        int partitions();
+
+        /**
+         * The duration of a lease. The leases are renewed every third of this duration.
+         * <p>
+         * If a node fails then its jobs are taken over by other nodes after the leases expire.
+         */
+        @WithDefault("30s")
+        Duration leaseDuration();
+
+        /**
+         * The identifier of the node. A random identifier is used by default.
+         */
+        Optional<String> nodeId();
+
+    }
 }
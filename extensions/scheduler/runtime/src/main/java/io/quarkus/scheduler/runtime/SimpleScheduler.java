@@ -2,21 +2,25 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -60,6 +64,7 @@
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.spi.JobInstrumenter;
+import io.quarkus.scheduler.spi.LeaseStore;
 import io.vertx.core.Vertx;
 
 @Typed(Scheduler.class)
@@ -68,13 +73,21 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    public static final long CHECK_PERIOD = 1000L;
+    // milliseconds; the due triggers are found in the timing wheel so a check is cheap even with a short period
+    public static final long CHECK_PERIOD = 100L;
 
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // Tasks keyed on the next evaluation time; only accessed by the trigger check thread
+    private final TimingWheel<ScheduledTask> timingWheel;
+    // Tasks that should be evaluated during the next check; only accessed by the trigger check thread
+    private final List<ScheduledTask> dueTasks;
+    // Tasks that were scheduled/resumed and should be added to the timing wheel during the next check
+    private final Queue<ScheduledTask> pendingTasks;
+    // null if clustering is disabled
+    private final PartitionLeases partitionLeases;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,7 +95,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<LeaseStore> leaseStore) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -90,9 +104,13 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.timingWheel = new TimingWheel<>(CHECK_PERIOD, TimingWheel.DEFAULT_WHEEL_SIZE, System.currentTimeMillis());
+        this.dueTasks = new ArrayList<>();
+        this.pendingTasks = new ConcurrentLinkedQueue<>();
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
+            this.partitionLeases = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -101,10 +119,25 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.partitionLeases = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
 
+        SchedulerRuntimeConfig.ClusterConfig clusterConfig = schedulerRuntimeConfig.cluster();
+        if (clusterConfig.enabled()) {
+            if (!leaseStore.isResolvable()) {
+                throw new IllegalStateException(
+                        "Clustering of the simple scheduler is enabled but no unambiguous LeaseStore bean is available");
+            }
+            String nodeId = clusterConfig.nodeId().orElseGet(() -> UUID.randomUUID().toString());
+            this.partitionLeases = new PartitionLeases(leaseStore.get(), nodeId, clusterConfig.partitions(),
+                    clusterConfig.leaseDuration(), this::jobsDigest);
+            LOG.infof("Simple scheduler clustering enabled [node: %s, partitions: %s]", nodeId, clusterConfig.partitions());
+        } else {
+            this.partitionLeases = null;
+        }
+
         ThreadFactory tf = new ThreadFactory() {
 
             private final AtomicInteger threadNumber = new AtomicInteger(1);
@@ -123,8 +156,9 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check the triggers that are due every CHECK_PERIOD
+        // An additional thread is used to renew the leases if clustering is enabled
+        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(partitionLeases != null ? 2 : 1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
@@ -157,7 +191,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, scheduledTask);
+                    pendingTasks.add(scheduledTask);
                 }
             }
         }
@@ -196,6 +232,8 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    // The task is removed from the timing wheel lazily
+                    task.cancelled = true;
                     return task.trigger;
                 }
             }
@@ -208,12 +246,14 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
+        // Try to compute the initial delay to execute the checks near to the start of a tick
         // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        long initialDelay = CHECK_PERIOD - System.currentTimeMillis() % CHECK_PERIOD;
+        if (partitionLeases != null) {
+            long renewalPeriod = partitionLeases.renewalPeriod().toMillis();
+            scheduledExecutor.scheduleAtFixedRate(partitionLeases::renew, 0, renewalPeriod, TimeUnit.MILLISECONDS);
+        }
+        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, initialDelay, CHECK_PERIOD, TimeUnit.MILLISECONDS);
     }
 
     @PreDestroy
@@ -221,10 +261,31 @@ void stop() {
         try {
             if (scheduledExecutor != null) {
                 scheduledExecutor.shutdownNow();
+                if (partitionLeases != null && !scheduledExecutor
+                        .awaitTermination(partitionLeases.renewalPeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                    LOG.warn("The renewal of the scheduler leases did not terminate in time");
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (partitionLeases != null) {
+            // Let other nodes take over the jobs immediately
+            partitionLeases.releaseAll();
+        }
+    }
+
+    private String jobsDigest() {
+        // The digest does not depend on the order of the identities
+        int hash = 0;
+        int count = 0;
+        for (String identity : scheduledTasks.keySet()) {
+            hash += identity.hashCode();
+            count++;
+        }
+        return count + "-" + Integer.toHexString(hash);
     }
 
     void checkTriggers() {
@@ -234,8 +295,48 @@ void checkTriggers() {
         }
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        ScheduledTask pending;
+        while ((pending = pendingTasks.poll()) != null) {
+            schedule(pending);
+        }
+        // Only the tasks that are due are evaluated
+        timingWheel.advance(now.toInstant().toEpochMilli(), dueTasks::add);
+        if (dueTasks.isEmpty()) {
+            return;
+        }
+        ScheduledTask[] tasks = dueTasks.toArray(new ScheduledTask[0]);
+        dueTasks.clear();
+        for (ScheduledTask task : tasks) {
+            if (task.cancelled) {
+                continue;
+            }
+            if (!task.trigger.isRunning()) {
+                park(task);
+                continue;
+            }
+            task.execute(now, vertx, partitionLeases);
+            schedule(task);
+        }
+    }
+
+    private void schedule(ScheduledTask task) {
+        long nextEvaluation = task.trigger.nextEvaluation();
+        if (nextEvaluation < 0) {
+            LOG.debugf("%s will never fire again", task.trigger);
+            return;
+        }
+        if (!timingWheel.add(nextEvaluation, task)) {
+            // Already due - evaluate during the next check
+            dueTasks.add(task);
+        }
+    }
+
+    private void park(ScheduledTask task) {
+        // A paused task is not added to the timing wheel until resumed
+        task.parked.set(true);
+        if (task.trigger.isRunning() && task.parked.compareAndSet(true, false)) {
+            // Resumed in the meantime
+            schedule(task);
         }
     }
 
@@ -306,6 +407,9 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            if (task.parked.compareAndSet(true, false)) {
+                pendingTasks.add(task);
+            }
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -342,7 +446,7 @@ public Trigger getScheduledJob(String identity) {
 
     Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Scheduled scheduled,
             Duration defaultGracePeriod) {
-        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
         Long millisToAdd = null;
         if (scheduled.delay() > 0) {
             millisToAdd = scheduled.delayUnit().toMillis(scheduled.delay());
@@ -367,7 +471,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    partitionLeases != null));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -378,19 +483,29 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // true if paused and removed from the timing wheel
+        final AtomicBoolean parked;
+        volatile boolean cancelled;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
+            this.parked = new AtomicBoolean();
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        void execute(ZonedDateTime now, Vertx vertx, PartitionLeases partitionLeases) {
             if (!trigger.isRunning()) {
                 return;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
+                if (partitionLeases != null && !partitionLeases.owns(trigger.id)) {
+                    // The trigger is evaluated on every node so that its state is up-to-date when the partition moves
+                    LOG.tracef("%s not fired - partition %s is not held by node %s", trigger,
+                            partitionLeases.partition(trigger.id), partitionLeases.nodeId());
+                    return;
+                }
                 try {
                     invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
                 } catch (Throwable t) {
@@ -422,6 +537,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * The trigger is not evaluated before this time.
+         *
+         * @return the epoch millis of the next evaluation, or {@code -1} if the trigger will never fire again
+         */
+        abstract long nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,11 +573,16 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // If true then the fire times are multiples of the interval since the epoch, so that all the nodes of a cluster
+        // compute the same fire times and a job does not fire twice when its partition moves to another node
+        private final boolean aligned;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                boolean aligned) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
+            this.aligned = aligned;
             if (interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
@@ -469,20 +596,43 @@ ZonedDateTime evaluate(ZonedDateTime now) {
                 return null;
             }
             if (lastFireTime == null) {
+                if (aligned) {
+                    // The current fire time may have been fired by another node already
+                    lastFireTime = alignedFireTime(now);
+                    return null;
+                }
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncateToTick(now);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (aligned) {
+                    lastFireTime = alignedFireTime(now);
+                } else if (diff < 2 * interval) {
+                    // The check may happen up to one tick after the scheduled fire time - do not accumulate the delay
+                    lastFireTime = scheduledFireTime;
+                } else {
+                    // Missed executions are skipped
+                    lastFireTime = truncateToTick(now);
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        private static ZonedDateTime truncateToTick(ZonedDateTime now) {
+            long millis = now.toInstant().toEpochMilli();
+            return Instant.ofEpochMilli(millis - Math.floorMod(millis, CHECK_PERIOD)).atZone(now.getZone());
+        }
+
+        private ZonedDateTime alignedFireTime(ZonedDateTime now) {
+            long millis = now.toInstant().toEpochMilli();
+            return Instant.ofEpochMilli(millis - Math.floorMod(millis, interval)).atZone(now.getZone());
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -492,6 +642,16 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        long nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                // First execution
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -533,6 +693,12 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        long nextEvaluation() {
+            Instant next = getNextFireTime();
+            return next != null ? next.toEpochMilli() : -1;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -672,6 +838,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                pendingTasks.add(scheduledTask);
                 return simpleTrigger;
             }
             return null;
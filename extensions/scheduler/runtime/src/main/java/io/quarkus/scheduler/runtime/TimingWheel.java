@@ -0,0 +1,167 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel that is used to find the tasks that are due at a given point in time.
+ * <p>
+ * Each level consists of a fixed number of buckets; the tick duration of a level equals the interval covered by the level
+ * below. Only the buckets that actually contain entries are tracked in a priority queue, so the cost of an
+ * {@link #advance(long, Consumer)} is proportional to the number of expired buckets and entries, not to the total number of
+ * entries.
+ * <p>
+ * This class is not thread-safe. It's expected to be accessed by a single thread.
+ *
+ * @param <T>
+ */
+final class TimingWheel<T> {
+
+    static final int DEFAULT_WHEEL_SIZE = 64;
+
+    private final PriorityQueue<Bucket<T>> buckets;
+    private final Level<T> root;
+    private int size;
+
+    /**
+     * @param tickMillis The duration of a tick of the lowest level
+     * @param wheelSize The number of buckets per level
+     * @param startMillis The initial time
+     */
+    TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 ms: " + tickMillis);
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be at least 2: " + wheelSize);
+        }
+        this.buckets = new PriorityQueue<>();
+        this.root = new Level<>(tickMillis, wheelSize, startMillis, buckets);
+    }
+
+    /**
+     * @param deadlineMillis
+     * @param item
+     * @return {@code true} if the item was added, {@code false} if the deadline has already expired
+     */
+    boolean add(long deadlineMillis, T item) {
+        if (root.add(new Entry<>(deadlineMillis, item))) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves the clock forward and passes all the items with a deadline before the next tick to the given consumer.
+     *
+     * @param nowMillis
+     * @param expired
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        Bucket<T> bucket = buckets.peek();
+        while (bucket != null && bucket.expiration <= nowMillis) {
+            buckets.poll();
+            root.advance(bucket.expiration);
+            bucket.expiration = -1;
+            Entry<T> entry;
+            while ((entry = bucket.entries.poll()) != null) {
+                // Either cascade the entry to a lower level or expire it
+                if (!root.add(entry)) {
+                    size--;
+                    expired.accept(entry.item);
+                }
+            }
+            bucket = buckets.peek();
+        }
+        root.advance(nowMillis);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket<T>[] buckets;
+        private final PriorityQueue<Bucket<T>> queue;
+        private long currentTime;
+        private Level<T> overflow;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMillis, int wheelSize, long startMillis, PriorityQueue<Bucket<T>> queue) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.queue = queue;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        boolean add(Entry<T> entry) {
+            long deadline = entry.deadline;
+            if (deadline < currentTime + tickMillis) {
+                // Already expired
+                return false;
+            } else if (deadline < currentTime + interval) {
+                long virtualId = deadline / tickMillis;
+                Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.entries.add(entry);
+                long expiration = virtualId * tickMillis;
+                if (bucket.expiration != expiration) {
+                    // The bucket was empty and is reused for a new round
+                    bucket.expiration = expiration;
+                    queue.add(bucket);
+                }
+                return true;
+            } else {
+                if (overflow == null) {
+                    overflow = new Level<>(interval, wheelSize, currentTime, queue);
+                }
+                return overflow.add(entry);
+            }
+        }
+
+        void advance(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflow != null) {
+                    overflow.advance(currentTime);
+                }
+            }
+        }
+
+    }
+
+    private static final class Bucket<T> implements Comparable<Bucket<T>> {
+
+        private final ArrayDeque<Entry<T>> entries = new ArrayDeque<>();
+        private long expiration = -1;
+
+        @Override
+        public int compareTo(Bucket<T> other) {
+            return Long.compare(expiration, other.expiration);
+        }
+
+    }
+
+    private static final class Entry<T> {
+
+        private final long deadline;
+        private final T item;
+
+        Entry(long deadline, T item) {
+            this.deadline = deadline;
+            this.item = item;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+
+public class IntervalTriggerTest {
+
+    @Test
+    public void testSubSecondInterval() {
+        ZonedDateTime start = Instant.ofEpochMilli(1_000_000).atZone(ZoneOffset.UTC);
+        IntervalTrigger trigger = new IntervalTrigger("foo", start, 250, Duration.ofSeconds(1), null, false);
+        List<Long> fireTimes = new ArrayList<>();
+        // The checks happen shortly after each tick
+        for (int i = 0; i <= 100; i++) {
+            ZonedDateTime now = start.plusNanos((i * SimpleScheduler.CHECK_PERIOD + 3) * 1_000_000);
+            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
+            if (scheduledFireTime != null) {
+                fireTimes.add(scheduledFireTime.toInstant().toEpochMilli() - 1_000_000);
+            }
+        }
+        // The first execution and then one every 250 ms, without accumulating the delay of the checks
+        assertEquals(41, fireTimes.size());
+        for (int i = 1; i < fireTimes.size(); i++) {
+            assertEquals(i * 250L, fireTimes.get(i));
+        }
+    }
+
+    @Test
+    public void testMissedExecutionsAreSkipped() {
+        ZonedDateTime start = Instant.ofEpochMilli(1_000_000).atZone(ZoneOffset.UTC);
+        IntervalTrigger trigger = new IntervalTrigger("foo", start, 500, Duration.ofSeconds(1), null, false);
+        assertNotNull(trigger.evaluate(start));
+        // Paused for a while
+        assertNotNull(trigger.evaluate(start.plusSeconds(10).plusNanos(42_000_000)));
+        assertNull(trigger.evaluate(start.plusSeconds(10).plusNanos(420_000_000)));
+        assertNotNull(trigger.evaluate(start.plusSeconds(10).plusNanos(503_000_000)));
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class PartitionLeasesTest {
+
+    @Test
+    public void testPartitionsAreShared() {
+        InMemoryLeaseStore store = new InMemoryLeaseStore();
+        PartitionLeases alpha = new PartitionLeases(store, "alpha", 8, Duration.ofMinutes(1), () -> "jobs");
+        PartitionLeases bravo = new PartitionLeases(store, "bravo", 8, Duration.ofMinutes(1), () -> "jobs");
+
+        alpha.renew();
+        // The only live node holds all partitions
+        assertEquals(8, alpha.ownedPartitions());
+
+        bravo.renew();
+        assertEquals(0, bravo.ownedPartitions());
+        // Alpha releases the partitions over its share
+        alpha.renew();
+        assertEquals(4, alpha.ownedPartitions());
+        bravo.renew();
+        assertEquals(4, bravo.ownedPartitions());
+
+        // Each identity is owned by exactly one node
+        for (int i = 0; i < 100; i++) {
+            String identity = "job" + i;
+            assertNotEquals(alpha.owns(identity), bravo.owns(identity));
+        }
+
+        alpha.releaseAll();
+        assertEquals(0, alpha.ownedPartitions());
+        assertFalse(store.owners(PartitionLeases.NODE_LEASE_PREFIX, Instant.now()).contains("alpha"));
+        bravo.renew();
+        assertEquals(8, bravo.ownedPartitions());
+        assertTrue(bravo.owns("job1"));
+    }
+
+    @Test
+    public void testReleasedLeasesAreNotRenewed() {
+        InMemoryLeaseStore store = new InMemoryLeaseStore();
+        PartitionLeases alpha = new PartitionLeases(store, "alpha", 2, Duration.ofMinutes(1), () -> "jobs");
+        alpha.renew();
+        assertEquals(2, alpha.ownedPartitions());
+        alpha.releaseAll();
+        alpha.renew();
+        assertEquals(0, alpha.ownedPartitions());
+        assertTrue(store.owners(PartitionLeases.PARTITION_LEASE_PREFIX, Instant.now()).isEmpty());
+    }
+
+    @Test
+    public void testJobsDiffer() {
+        InMemoryLeaseStore store = new InMemoryLeaseStore();
+        AtomicReference<String> bravoJobs = new AtomicReference<>("jobs");
+        PartitionLeases alpha = new PartitionLeases(store, "alpha", 2, Duration.ofMinutes(1), () -> "jobs");
+        PartitionLeases bravo = new PartitionLeases(store, "bravo", 2, Duration.ofMinutes(1), bravoJobs::get);
+        alpha.renew();
+        bravo.renew();
+        assertFalse(alpha.jobsDiffer());
+
+        // A programmatic job is only scheduled on bravo
+        bravoJobs.set("more jobs");
+        bravo.renew();
+        assertFalse(bravo.jobsDiffer());
+        bravo.renew();
+        assertTrue(bravo.jobsDiffer());
+        alpha.renew();
+        alpha.renew();
+        assertTrue(alpha.jobsDiffer());
+
+        bravoJobs.set("jobs");
+        bravo.renew();
+        assertFalse(bravo.jobsDiffer());
+        alpha.renew();
+        assertFalse(alpha.jobsDiffer());
+    }
+
+    @Test
+    public void testStoreFailure() {
+        AtomicBoolean fail = new AtomicBoolean();
+        InMemoryLeaseStore store = new InMemoryLeaseStore() {
+
+            @Override
+            public boolean acquire(String lease, String owner, Instant now, Instant expiresAt) {
+                if (fail.get()) {
+                    throw new IllegalStateException("Store unavailable");
+                }
+                return super.acquire(lease, owner, now, expiresAt);
+            }
+        };
+        PartitionLeases alpha = new PartitionLeases(store, "alpha", 2, Duration.ofMinutes(1), () -> "jobs");
+        alpha.renew();
+        assertEquals(2, alpha.ownedPartitions());
+        fail.set(true);
+        alpha.renew();
+        // No job is fired if the leases cannot be renewed
+        assertEquals(0, alpha.ownedPartitions());
+    }
+
+}
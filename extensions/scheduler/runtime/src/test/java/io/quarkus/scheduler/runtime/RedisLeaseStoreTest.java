@@ -0,0 +1,87 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+
+public class RedisLeaseStoreTest {
+
+    @SuppressWarnings("resource")
+    static final GenericContainer<?> server = new GenericContainer<>(DockerImageName.parse("redis:7")).withExposedPorts(6379);
+
+    static Vertx vertx;
+    static Redis redis;
+    static RedisDataSource dataSource;
+
+    RedisLeaseStore store;
+
+    @BeforeAll
+    static void startRedis() {
+        server.start();
+        vertx = Vertx.vertx();
+        redis = Redis.createClient(vertx, "redis://" + server.getHost() + ":" + server.getFirstMappedPort());
+        dataSource = new BlockingRedisDataSourceImpl(vertx, redis, RedisAPI.api(redis), Duration.ofSeconds(10));
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.close();
+        vertx.closeAndAwait();
+        server.stop();
+    }
+
+    @BeforeEach
+    void createStore() {
+        dataSource.key().del(RedisLeaseStore.DEFAULT_KEY);
+        store = new RedisLeaseStore(dataSource);
+    }
+
+    @Test
+    public void testLeaseIsExclusive() {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(Duration.ofMinutes(1));
+        assertTrue(store.acquire("partition.0", "alpha", now, expiresAt));
+        assertFalse(store.acquire("partition.0", "bravo", now, expiresAt));
+        // The owner renews its lease
+        assertTrue(store.acquire("partition.0", "alpha", now.plusSeconds(10), expiresAt.plusSeconds(10)));
+        assertEquals(Set.of("alpha"), store.owners("partition.", now));
+
+        store.release("partition.0", "bravo");
+        assertFalse(store.acquire("partition.0", "bravo", now, expiresAt));
+        store.release("partition.0", "alpha");
+        assertEquals(Set.of(), store.owners("partition.", now));
+        assertTrue(store.acquire("partition.0", "bravo", now, expiresAt));
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() {
+        Instant now = Instant.now();
+        assertTrue(store.acquire("partition.0", "alpha", now, now.plusSeconds(10)));
+        assertTrue(store.acquire("node.alpha", "alpha", now, now.plusSeconds(10)));
+        assertTrue(store.acquire("node.bravo", "bravo:1", now, now.plusSeconds(30)));
+        assertEquals(Set.of("alpha", "bravo:1"), store.owners("node.", now));
+
+        Instant later = now.plusSeconds(20);
+        assertEquals(Set.of("bravo:1"), store.owners("node.", later));
+        assertTrue(store.acquire("partition.0", "bravo", later, later.plusSeconds(10)));
+        assertFalse(store.acquire("partition.0", "alpha", later, later.plusSeconds(10)));
+    }
+
+}
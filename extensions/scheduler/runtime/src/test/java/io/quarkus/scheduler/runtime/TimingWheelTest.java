@@ -0,0 +1,71 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testExpiration() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 4, 0);
+        assertFalse(wheel.add(500, "past"));
+        assertTrue(wheel.add(1000, "1s"));
+        assertTrue(wheel.add(2500, "2.5s"));
+        assertTrue(wheel.add(3000, "3s"));
+        assertEquals(3, wheel.size());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(999, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(1001, expired::add);
+        assertEquals(List.of("1s"), expired);
+        expired.clear();
+        // Items with a deadline before the next tick are expired
+        wheel.advance(2001, expired::add);
+        assertEquals(List.of("2.5s"), expired);
+        expired.clear();
+        wheel.advance(3001, expired::add);
+        assertEquals(List.of("3s"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testOverflow() {
+        // Level 0: 4s, level 1: 16s, level 2: 64s, ...
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 4, 0);
+        List<Long> deadlines = List.of(5_000L, 17_000L, 70_000L, 1_000_000L);
+        for (Long deadline : deadlines) {
+            assertTrue(wheel.add(deadline, deadline));
+        }
+        List<Long> expired = new ArrayList<>();
+        for (long now = 0; now <= 1_000_000; now += 1000) {
+            long current = now;
+            wheel.advance(now, deadline -> {
+                assertTrue(deadline <= current);
+                assertTrue(deadline > current - 1000);
+                expired.add(deadline);
+            });
+        }
+        assertEquals(deadlines, expired);
+    }
+
+    @Test
+    public void testClockJump() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 64, 0);
+        wheel.add(10_000, "foo");
+        wheel.add(100_000_000, "bar");
+        List<String> expired = new ArrayList<>();
+        wheel.advance(200_000_000, expired::add);
+        assertEquals(List.of("foo", "bar"), expired);
+        // The clock was moved forward
+        assertFalse(wheel.add(200_000_500, "baz"));
+        assertTrue(wheel.add(200_001_000, "baz"));
+    }
+
+}
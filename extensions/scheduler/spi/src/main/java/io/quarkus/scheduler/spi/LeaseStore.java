@@ -0,0 +1,44 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Stores the leases used to partition the jobs of the simple scheduler across the nodes of a cluster.
+ * <p>
+ * If clustering is enabled then the application must provide exactly one CDI bean of this type. The scope must be either
+ * {@link jakarta.inject.Singleton} or {@link jakarta.enterprise.context.ApplicationScoped}. The methods are never invoked on
+ * an event loop and may block.
+ * <p>
+ * A lease is identified by its name. At most one owner may hold a lease at any given time.
+ */
+public interface LeaseStore {
+
+    /**
+     * Acquires a new lease or renews an existing one. The lease is granted if it does not exist yet, if it's expired or if
+     * it's already held by the given owner.
+     *
+     * @param lease The name of the lease
+     * @param owner The node that requests the lease
+     * @param now The current time
+     * @param expiresAt The time the lease expires unless renewed
+     * @return {@code true} if the owner holds the lease until {@code expiresAt}, {@code false} otherwise
+     */
+    boolean acquire(String lease, String owner, Instant now, Instant expiresAt);
+
+    /**
+     * Releases the lease if held by the given owner.
+     *
+     * @param lease The name of the lease
+     * @param owner The node that holds the lease
+     */
+    void release(String lease, String owner);
+
+    /**
+     * @param leasePrefix The prefix of the lease names
+     * @param now The current time
+     * @return the owners of all non-expired leases whose name starts with the given prefix
+     */
+    Set<String> owners(String leasePrefix, Instant now);
+
+}
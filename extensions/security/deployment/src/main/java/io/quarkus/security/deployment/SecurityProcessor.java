@@ -91,6 +91,8 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
 import io.quarkus.deployment.execannotations.ExecutionModelAnnotationsAllowedBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.gizmo.CatchBlockCreator;
@@ -111,6 +113,7 @@
 import io.quarkus.security.runtime.QuarkusSecurityRolesAllowedConfigBuilder;
 import io.quarkus.security.runtime.SecurityCheckRecorder;
 import io.quarkus.security.runtime.SecurityIdentityAssociation;
+import io.quarkus.security.runtime.SecurityIdentityCacheRecorder;
 import io.quarkus.security.runtime.SecurityIdentityProxy;
 import io.quarkus.security.runtime.SecurityProviderRecorder;
 import io.quarkus.security.runtime.SecurityProviderUtils;
@@ -499,6 +502,16 @@ void recordRuntimeConfigReady(SecurityCheckRecorder recorder, ShutdownContextBui
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerIdentityCacheMetrics(SecurityIdentityCacheRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerIdentityCacheMetrics()));
+        }
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep
     void registerSecurityInterceptors(BuildProducer<InterceptorBindingRegistrarBuildItem> registrars,
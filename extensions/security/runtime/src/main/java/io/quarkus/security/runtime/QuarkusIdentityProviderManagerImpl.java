@@ -8,6 +8,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -33,9 +34,12 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider<? extends AuthenticationRequest>>> providers;
     private final SecurityIdentityAugmentor[] augmenters;
     private final AuthenticationRequestContext blockingRequestContext;
+    private final SecurityIdentityCache identityCache;
 
     QuarkusIdentityProviderManagerImpl(Builder builder) {
         this.providers = builder.providers;
+        this.identityCache = builder.identityCache != null && builder.identityCache.isEnabled() ? builder.identityCache
+                : null;
         this.augmenters = builder.augmentors.toArray(SecurityIdentityAugmentor[]::new);
         this.blockingRequestContext = new AuthenticationRequestContext() {
             @Override
@@ -50,6 +54,9 @@ public Uni<SecurityIdentity> runBlocking(Supplier<SecurityIdentity> function) {
      * <p>
      * If authentication succeeds the resulting identity will be augmented with any configured {@link SecurityIdentityAugmentor}
      * instances that have been registered.
+     * <p>
+     * If the {@link SecurityIdentityCache} is enabled and the request can be cached, the identity previously created by
+     * the identity providers is augmented without running the identity providers.
      *
      * @param request The authentication request
      * @return The first identity provider that was registered with this type
@@ -61,6 +68,10 @@ public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
                 return Uni.createFrom().failure(new IllegalArgumentException(
                         "No IdentityProviders were registered to handle AuthenticationRequest " + request));
             }
+            var cacheKey = identityCache == null ? null : identityCache.key(request);
+            if (cacheKey != null) {
+                return authenticateWithCache(cacheKey, providers, request);
+            }
             if (providers.size() == 1) {
                 return handleSingleProvider(getProvider(0, request, providers), request);
             }
@@ -70,6 +81,31 @@ public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
         }
     }
 
+    private Uni<SecurityIdentity> authenticateWithCache(SecurityIdentityCache.Key cacheKey,
+            List<IdentityProvider<? extends AuthenticationRequest>> providers, AuthenticationRequest request) {
+        // the identity created by the providers is cached, the augmentors run for every request
+        // as they can depend on the request attributes
+        SecurityIdentity cached = identityCache.get(cacheKey);
+        Uni<SecurityIdentity> authenticated;
+        if (cached != null) {
+            authenticated = Uni.createFrom().item(cached);
+        } else {
+            authenticated = handleProvider(0, providers, request)
+                    .invoke(new Consumer<SecurityIdentity>() {
+                        @Override
+                        public void accept(SecurityIdentity securityIdentity) {
+                            identityCache.add(cacheKey, securityIdentity);
+                        }
+                    });
+        }
+        return authenticated.flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
+            @Override
+            public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
+                return handleIdentityFromProvider(0, securityIdentity, request.getAttributes());
+            }
+        });
+    }
+
     private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleSingleProvider(IdentityProvider<T> identityProvider,
             T request) {
         Uni<SecurityIdentity> authenticated = identityProvider.authenticate(request, blockingRequestContext)
@@ -107,6 +143,10 @@ public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
+        var cacheKey = identityCache == null ? null : identityCache.key(request);
+        if (cacheKey != null) {
+            return authenticateWithCache(cacheKey, providers, request).await().indefinitely();
+        }
         return handleProviders(providers, request).await().indefinitely();
     }
 
@@ -184,6 +224,7 @@ public static class Builder {
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private QuarkusPermissionSecurityIdentityAugmentor quarkusPermissionAugmentor = null;
         private BlockingSecurityExecutor blockingExecutor;
+        private SecurityIdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -233,6 +274,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param identityCache The cache of the authenticated identities, it is only used if it is enabled
+         * @return this builder
+         */
+        public Builder setIdentityCache(SecurityIdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
@@ -35,6 +35,22 @@ private QuarkusSecurityIdentity(Builder builder) {
         this.anonymous = builder.anonymous;
     }
 
+    private QuarkusSecurityIdentity(QuarkusSecurityIdentity identity, Set<Credential> credentials) {
+        this.principal = identity.principal;
+        this.roles = identity.roles;
+        this.credentials = Collections.unmodifiableSet(credentials);
+        this.attributes = identity.attributes;
+        this.permissionCheckers = identity.permissionCheckers;
+        this.anonymous = identity.anonymous;
+    }
+
+    /**
+     * @return a copy of this identity with the given credentials, which does not reference this identity
+     */
+    QuarkusSecurityIdentity withCredentials(Set<Credential> credentials) {
+        return new QuarkusSecurityIdentity(this, credentials);
+    }
+
     @Override
     public Principal getPrincipal() {
         return principal;
@@ -1,5 +1,7 @@
 package io.quarkus.security.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -17,6 +19,11 @@ public interface SecurityConfig {
      */
     SecurityEventsConfig events();
 
+    /**
+     * Authenticated identity cache configuration.
+     */
+    IdentityCacheConfig identityCache();
+
     interface SecurityEventsConfig {
 
         /**
@@ -27,4 +34,31 @@ interface SecurityEventsConfig {
 
     }
 
+    interface IdentityCacheConfig {
+
+        /**
+         * Whether the identities created for the successful username and password authentication requests, for example,
+         * by the HTTP Basic authentication mechanism, should be cached.
+         * The identity providers are not invoked when the cached identity is returned, but the identity augmentors are
+         * invoked for every request. The cached identity does not contain the password credential.
+         * The cached identity of a user must be invalidated with `io.quarkus.security.runtime.SecurityIdentityCache`
+         * when the credentials or the roles of the user are updated.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Maximum amount of time a cached identity is valid for.
+         */
+        @WithDefault("1M")
+        Duration timeToLive();
+
+        /**
+         * Maximum number of cached identities.
+         */
+        @WithDefault("1000")
+        int maxSize();
+
+    }
+
 }
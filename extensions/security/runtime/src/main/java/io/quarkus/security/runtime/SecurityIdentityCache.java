@@ -0,0 +1,267 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.security.credential.Credential;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * Cache of the {@link SecurityIdentity} instances created for the successful username and password authentication requests.
+ * <p>
+ * The entries are keyed by the username and a digest of the credentials, computed with a random salt generated when the
+ * cache is created, so that the passwords are never kept in memory. The cached identities are the identities created by the
+ * identity providers, without their password credentials, and they are augmented again for every request resolved from
+ * the cache. An entry is valid until its time-to-live elapses or the identity expires, whichever comes first. When the
+ * cache is full, the oldest entry is evicted.
+ * <p>
+ * The cache is disabled by default. When the credentials or the roles of a user are updated, the application must call
+ * {@link #invalidate(String)}, otherwise the previous identity remains valid until the entry expires.
+ */
+public class SecurityIdentityCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String IDENTITY_EXPIRE_TIME = "quarkus.identity.expire-time";
+
+    private final boolean enabled;
+    private final long timeToLive;
+    private final int maxSize;
+    private final SecretKeySpec salt;
+    private final ThreadLocal<Mac> mac = new ThreadLocal<>();
+    private final Map<Key, CacheEntry> cacheMap = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CacheEntry> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SecurityIdentityCache(boolean enabled, Duration timeToLive, int maxSize) {
+        this.enabled = enabled && maxSize > 0;
+        this.timeToLive = timeToLive.toMillis();
+        this.maxSize = maxSize;
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.salt = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Removes the cached identities of the user with the given name.
+     *
+     * @param username the username
+     */
+    public void invalidate(String username) {
+        // The queue first: an entry added concurrently is then either removed from both or only from the map,
+        // and the eviction skips the queue entries that are no longer in the map
+        queue.removeIf(entry -> entry.key.username.equals(username));
+        cacheMap.values().removeIf(entry -> entry.key.username.equals(username));
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateAll() {
+        cacheMap.clear();
+        queue.clear();
+    }
+
+    /**
+     * @return the number of cached identities
+     */
+    public int getCacheSize() {
+        return cacheMap.size();
+    }
+
+    /**
+     * @return the number of entries in the eviction queue
+     */
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of authentication requests resolved from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of cacheable authentication requests not found in the cache
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries evicted because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the cache key of the request, or null if the request cannot be cached
+     */
+    Key key(AuthenticationRequest request) {
+        if (!enabled || !(request instanceof UsernamePasswordAuthenticationRequest usernamePassword)
+                || usernamePassword.getUsername() == null || usernamePassword.getPassword() == null) {
+            return null;
+        }
+        char[] password = usernamePassword.getPassword().getPassword();
+        if (password == null) {
+            return null;
+        }
+        ByteBuffer encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        try {
+            Mac mac = mac();
+            mac.update(usernamePassword.getUsername().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(encoded);
+            return new Key(usernamePassword.getUsername(), Base64.getEncoder().encodeToString(mac.doFinal()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (encoded.hasArray()) {
+                Arrays.fill(encoded.array(), (byte) 0);
+            }
+        }
+    }
+
+    private Mac mac() throws GeneralSecurityException {
+        Mac mac = this.mac.get();
+        if (mac == null) {
+            // the MAC is reset by doFinal, so it can be reused by the next requests of the thread
+            mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(salt);
+            this.mac.set(mac);
+        }
+        return mac;
+    }
+
+    SecurityIdentity get(Key key) {
+        CacheEntry entry = cacheMap.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            cacheMap.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.identity;
+    }
+
+    void add(Key key, SecurityIdentity identity) {
+        if (identity == null || identity.isAnonymous()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + timeToLive;
+        if (identity.getAttribute(IDENTITY_EXPIRE_TIME) instanceof Long identityExpiresAt) {
+            expiresAt = Math.min(expiresAt, TimeUnit.SECONDS.toMillis(identityExpiresAt));
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        identity = withoutPasswordCredentials(identity);
+        if (identity == null) {
+            return;
+        }
+        removeInvalidEntries(now);
+        while (cacheMap.size() >= maxSize && !cacheMap.containsKey(key)) {
+            if (!evictOldestEntry()) {
+                break;
+            }
+        }
+        CacheEntry entry = new CacheEntry(key, identity, expiresAt);
+        cacheMap.put(key, entry);
+        queue.offer(entry);
+    }
+
+    /**
+     * @return the identity without its password credentials, or null if they cannot be removed
+     */
+    private static SecurityIdentity withoutPasswordCredentials(SecurityIdentity identity) {
+        Set<Credential> credentials = new HashSet<>();
+        for (Credential credential : identity.getCredentials()) {
+            if (!(credential instanceof PasswordCredential)) {
+                credentials.add(credential);
+            }
+        }
+        if (credentials.size() == identity.getCredentials().size()) {
+            return identity;
+        }
+        if (identity instanceof QuarkusSecurityIdentity quarkusIdentity) {
+            return quarkusIdentity.withCredentials(credentials);
+        }
+        // other identities may reference the password, they are not cached
+        return null;
+    }
+
+    private void removeInvalidEntries(long now) {
+        CacheEntry entry;
+        // The queue is ordered by creation time, so the head entries expire first unless the identity expired earlier
+        while ((entry = queue.peek()) != null) {
+            if (cacheMap.get(entry.key) == entry && entry.createdAt + timeToLive >= now) {
+                return;
+            }
+            if (queue.remove(entry)) {
+                cacheMap.remove(entry.key, entry);
+            }
+        }
+    }
+
+    private boolean evictOldestEntry() {
+        CacheEntry entry;
+        while ((entry = queue.poll()) != null) {
+            if (cacheMap.remove(entry.key, entry)) {
+                evictions.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    record Key(String username, String digest) {
+    }
+
+    private static final class CacheEntry {
+        final Key key;
+        final SecurityIdentity identity;
+        final long createdAt = System.currentTimeMillis();
+        final long expiresAt;
+
+        CacheEntry(Key key, SecurityIdentity identity, long expiresAt) {
+            this.key = key;
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.security.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class SecurityIdentityCacheRecorder {
+
+    public Consumer<MetricsFactory> registerIdentityCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // the cache is only enabled by the runtime configuration
+                InstanceHandle<SecurityIdentityCache> handle = Arc.container().instance(SecurityIdentityCache.class);
+                if (!handle.isAvailable() || !handle.get().isEnabled()) {
+                    return;
+                }
+                SecurityIdentityCache cache = handle.get();
+                metricsFactory.builder("security.identity-cache.size")
+                        .description("Number of cached authenticated identities")
+                        .buildGauge(cache, SecurityIdentityCache::getCacheSize);
+                metricsFactory.builder("security.identity-cache.hits")
+                        .description("Number of authentication requests resolved from the identity cache")
+                        .buildCounter(cache, SecurityIdentityCache::getHitCount);
+                metricsFactory.builder("security.identity-cache.misses")
+                        .description("Number of cacheable authentication requests not found in the identity cache")
+                        .buildCounter(cache, SecurityIdentityCache::getMissCount);
+                metricsFactory.builder("security.identity-cache.evictions")
+                        .description("Number of cached identities evicted because the identity cache was full")
+                        .buildCounter(cache, SecurityIdentityCache::getEvictionCount);
+            }
+        };
+    }
+}
@@ -1,23 +1,30 @@
 package io.quarkus.security.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.SecurityIdentityAugmentor;
 import io.quarkus.security.identity.request.BaseAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
 import io.smallrye.mutiny.Uni;
 
 class QuarkusIdentityProviderManagerImplTest {
@@ -53,6 +60,93 @@ void testIdentityProviderAugmentOnlyOnce() {
         verify(augmentor, times(1)).augment(any(), any());
     }
 
+    @Test
+    void testIdentityCache() {
+        TestUsernamePasswordIdentityProvider provider = new TestUsernamePasswordIdentityProvider();
+        TestSecurityAugmentor augmentor = spy(new TestSecurityAugmentor());
+        SecurityIdentityCache identityCache = new SecurityIdentityCache(true, Duration.ofMinutes(1), 2);
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(augmentor)
+                .setIdentityCache(identityCache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+
+        SecurityIdentity identity = identityProviderManager.authenticateBlocking(request("alice", "alice"));
+        assertTrue(identity.getRoles().contains("role"));
+        assertNotNull(identity.getCredential(PasswordCredential.class));
+        // the cached identity is augmented again, without the password
+        SecurityIdentity cached = identityProviderManager.authenticate(request("alice", "alice")).await().indefinitely();
+        assertEquals(identity.getPrincipal(), cached.getPrincipal());
+        assertTrue(cached.getRoles().contains("role"));
+        assertNull(cached.getCredential(PasswordCredential.class));
+        assertEquals(1, provider.invocations.get());
+        verify(augmentor, times(2)).augment(any(), any());
+        assertEquals(1, identityCache.getHitCount());
+        assertEquals(1, identityCache.getMissCount());
+
+        // wrong password is never resolved from the cache
+        assertThrows(AuthenticationFailedException.class,
+                () -> identityProviderManager.authenticateBlocking(request("alice", "bob")));
+        assertEquals(2, provider.invocations.get());
+        assertEquals(1, identityCache.getCacheSize());
+
+        identityCache.invalidate("alice");
+        assertEquals(0, identityCache.getCacheSize());
+        assertEquals(0, identityCache.getQueueSize());
+        identityProviderManager.authenticateBlocking(request("alice", "alice"));
+        assertEquals(3, provider.invocations.get());
+
+        // the oldest entry is evicted when the cache is full
+        identityProviderManager.authenticateBlocking(request("bob", "bob"));
+        identityProviderManager.authenticateBlocking(request("carol", "carol"));
+        assertEquals(2, identityCache.getCacheSize());
+        assertEquals(1, identityCache.getEvictionCount());
+        identityProviderManager.authenticateBlocking(request("alice", "alice"));
+        assertEquals(6, provider.invocations.get());
+    }
+
+    @Test
+    void testIdentityCacheDisabled() {
+        TestUsernamePasswordIdentityProvider provider = new TestUsernamePasswordIdentityProvider();
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .setIdentityCache(new SecurityIdentityCache(false, Duration.ofMinutes(1), 2))
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+
+        identityProviderManager.authenticateBlocking(request("alice", "alice"));
+        identityProviderManager.authenticateBlocking(request("alice", "alice"));
+        assertEquals(2, provider.invocations.get());
+    }
+
+    private static UsernamePasswordAuthenticationRequest request(String username, String password) {
+        return new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray()));
+    }
+
+    static class TestUsernamePasswordIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+            return UsernamePasswordAuthenticationRequest.class;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                AuthenticationRequestContext context) {
+            invocations.incrementAndGet();
+            if (!request.getUsername().equals(new String(request.getPassword().getPassword()))) {
+                return Uni.createFrom().failure(new AuthenticationFailedException());
+            }
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal(request.getUsername()))
+                    .addCredential(request.getPassword())
+                    .build());
+        }
+    }
+
     static class TestAuthenticationRequest extends BaseAuthenticationRequest {
     }
 
@@ -0,0 +1,401 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * The JSON properties of a class, as detected by Jackson databind with its default configuration.
+ * <p>
+ * Only the classes whose properties are plain fields, getters and setters, or record components, possibly annotated with
+ * {@code @JsonProperty} or {@code @JsonIgnore}, are described. The other classes are left to Jackson databind.
+ */
+final class JacksonBean {
+
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final DotName JSON_PROPERTY = DotName.createSimple("com.fasterxml.jackson.annotation.JsonProperty");
+    private static final DotName JSON_IGNORE = DotName.createSimple("com.fasterxml.jackson.annotation.JsonIgnore");
+    private static final DotName KOTLIN_METADATA = DotName.createSimple("kotlin.Metadata");
+    private static final DotName CONSTRUCTOR_PROPERTIES = DotName.createSimple("java.beans.ConstructorProperties");
+    private static final DotName OBJECT = DotName.createSimple(Object.class);
+    private static final DotName BOOLEAN = DotName.createSimple(Boolean.class);
+
+    final ClassInfo classInfo;
+    // in the order Jackson writes them
+    final List<Property> serialized;
+    // null when Jackson sets some properties in a way the generated code cannot, a private field for instance
+    final List<Property> deserialized;
+    // the names of the properties ignored with @JsonIgnore, skipped silently when deserializing
+    final Set<String> ignored;
+
+    private JacksonBean(ClassInfo classInfo, List<Property> serialized, List<Property> deserialized, Set<String> ignored) {
+        this.classInfo = classInfo;
+        this.serialized = serialized;
+        this.deserialized = deserialized;
+        this.ignored = ignored;
+    }
+
+    static final class Property {
+        final String name;
+        final Type type;
+        // exactly one of the following is set: the accessor reading the property when serializing, or the one writing it
+        // when deserializing, the record components being passed to the canonical constructor
+        final MethodInfo method;
+        final FieldInfo field;
+        final int parameter;
+
+        private Property(String name, Type type, MethodInfo method, FieldInfo field, int parameter) {
+            this.name = name;
+            this.type = type;
+            this.method = method;
+            this.field = field;
+            this.parameter = parameter;
+        }
+    }
+
+    /**
+     * @return the properties of the given class, or {@code null} if Jackson handles them in a way that is not described
+     */
+    static JacksonBean of(IndexView index, ClassInfo classInfo) {
+        if (!Modifier.isPublic(classInfo.flags()) || classInfo.isAbstract() || classInfo.isInterface()
+                || classInfo.isEnum() || !classInfo.typeParameters().isEmpty()
+                || classInfo.name().toString().startsWith("java.")
+                || (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL && !Modifier.isStatic(classInfo.flags()))) {
+            return null;
+        }
+        return classInfo.isRecord() ? ofRecord(index, classInfo) : ofClass(index, classInfo);
+    }
+
+    private static JacksonBean ofRecord(IndexView index, ClassInfo classInfo) {
+        if (!isPlain(index, classInfo, true) || classInfo.constructors().size() != 1) {
+            return null;
+        }
+        List<RecordComponentInfo> components = classInfo.recordComponentsInDeclarationOrder();
+        Set<String> accessors = new HashSet<>();
+        List<Property> serialized = new ArrayList<>();
+        List<Property> deserialized = new ArrayList<>();
+        MethodInfo constructor = classInfo.canonicalRecordConstructor();
+        boolean deserializable = Modifier.isPublic(constructor.flags());
+        for (int i = 0; i < components.size(); i++) {
+            RecordComponentInfo component = components.get(i);
+            MethodInfo accessor = component.accessor();
+            if (accessor == null || !Modifier.isPublic(accessor.flags())) {
+                return null;
+            }
+            accessors.add(accessor.name());
+            List<AnnotationInstance> annotations = new ArrayList<>(component.annotations());
+            annotations.addAll(accessor.annotations());
+            annotations.addAll(constructor.parameters().get(i).declaredAnnotations());
+            Set<String> names = explicitNames(annotations);
+            if (names.size() > 1) {
+                return null;
+            }
+            String name = names.isEmpty() ? component.name() : names.iterator().next();
+            serialized.add(new Property(name, component.type(), accessor, null, -1));
+            deserialized.add(new Property(name, component.type(), null, null, i));
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            // Jackson also writes the getters of a record
+            if (!accessors.contains(method.name()) && Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags())
+                    && getterName(method) != null) {
+                return null;
+            }
+        }
+        return new JacksonBean(classInfo, serialized, deserializable ? deserialized : null, Set.of());
+    }
+
+    private static JacksonBean ofClass(IndexView index, ClassInfo classInfo) {
+        // from the class to its topmost superclass
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = classInfo;
+        while (true) {
+            if (!isPlain(index, current, false)) {
+                return null;
+            }
+            hierarchy.add(current);
+            DotName superName = current.superName();
+            if (superName == null || superName.equals(OBJECT)) {
+                break;
+            }
+            current = index.getClassByName(superName);
+            if (current == null) {
+                return null;
+            }
+        }
+
+        // the candidate properties by implicit name: the fields first, from the superclasses down, then the methods
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            for (FieldInfo field : hierarchy.get(i).fieldsInDeclarationOrder()) {
+                if (Modifier.isStatic(field.flags()) || field.isSynthetic()) {
+                    continue;
+                }
+                if (Modifier.isTransient(field.flags())) {
+                    if (hasJacksonAnnotation(field.annotations())) {
+                        return null;
+                    }
+                    continue;
+                }
+                Candidate candidate = candidates.computeIfAbsent(field.name(), Candidate::new);
+                if (candidate.field != null) {
+                    // hidden field
+                    return null;
+                }
+                candidate.field = field;
+            }
+        }
+        Set<String> signatures = new HashSet<>();
+        for (ClassInfo declaringClass : hierarchy) {
+            for (MethodInfo method : declaringClass.methodsInDeclarationOrder()) {
+                boolean annotated = hasJacksonAnnotation(method.annotations());
+                if (Modifier.isStatic(method.flags()) || method.isSynthetic() || method.isConstructor()) {
+                    if (annotated) {
+                        return null;
+                    }
+                    continue;
+                }
+                if (!signatures.add(method.name() + method.parameterTypes())) {
+                    // overridden, Jackson merges the annotations of both methods
+                    if (annotated) {
+                        return null;
+                    }
+                    continue;
+                }
+                String getterName = getterName(method);
+                String setterName = method.parametersCount() == 1 && method.name().length() > 3
+                        && method.name().startsWith("set") ? mangle(method.name().substring(3)) : null;
+                if (getterName != null && Modifier.isPublic(method.flags())) {
+                    Candidate candidate = candidates.computeIfAbsent(getterName, Candidate::new);
+                    if (candidate.getter != null) {
+                        return null;
+                    }
+                    candidate.getter = method;
+                } else if (setterName != null) {
+                    // Jackson also uses the setters that are not public
+                    Candidate candidate = candidates.computeIfAbsent(setterName, Candidate::new);
+                    if (candidate.setter != null) {
+                        return null;
+                    }
+                    candidate.setter = method;
+                } else if (annotated) {
+                    return null;
+                }
+            }
+        }
+
+        List<Property> serialized = new ArrayList<>();
+        List<Property> deserialized = new ArrayList<>();
+        boolean deserializable = true;
+        Set<String> ignored = new HashSet<>();
+        for (Candidate candidate : candidates.values()) {
+            List<AnnotationInstance> annotations = candidate.annotations();
+            Set<String> names = explicitNames(annotations);
+            if (names.size() > 1) {
+                return null;
+            }
+            if (isIgnored(annotations)) {
+                if (!names.isEmpty()) {
+                    return null;
+                }
+                ignored.add(candidate.name);
+                continue;
+            }
+            String name = names.isEmpty() ? candidate.name : names.iterator().next();
+
+            FieldInfo field = candidate.field;
+            boolean fieldVisible = field != null
+                    && (Modifier.isPublic(field.flags()) || hasJacksonAnnotation(field.annotations()));
+            if (candidate.getter != null) {
+                serialized.add(new Property(name, candidate.getter.returnType(), candidate.getter, null, -1));
+            } else if (fieldVisible) {
+                if (!Modifier.isPublic(field.flags())) {
+                    return null;
+                }
+                serialized.add(new Property(name, field.type(), null, field, -1));
+            }
+
+            if (candidate.setter != null) {
+                if (Modifier.isPublic(candidate.setter.flags())) {
+                    deserialized.add(new Property(name, candidate.setter.parameterType(0), candidate.setter, null, -1));
+                } else {
+                    deserializable = false;
+                }
+            } else if (fieldVisible) {
+                if (Modifier.isPublic(field.flags()) && !Modifier.isFinal(field.flags())) {
+                    deserialized.add(new Property(name, field.type(), null, field, -1));
+                } else {
+                    deserializable = false;
+                }
+            } else if (field != null && candidate.getter != null) {
+                // Jackson sets the field of a property having a getter
+                deserializable = false;
+            }
+        }
+        if (hasDuplicateNames(serialized) || hasDuplicateNames(deserialized)) {
+            return null;
+        }
+        return new JacksonBean(classInfo, serialized, deserializable ? deserialized : null, ignored);
+    }
+
+    // the class and its interfaces only use the supported Jackson annotations
+    private static boolean isPlain(IndexView index, ClassInfo classInfo, boolean record) {
+        if (classInfo.hasDeclaredAnnotation(KOTLIN_METADATA) || classInfo.hasAnnotation(CONSTRUCTOR_PROPERTIES)) {
+            return false;
+        }
+        for (AnnotationInstance annotation : classInfo.annotations()) {
+            if (!annotation.name().toString().startsWith(JACKSON_PACKAGE)) {
+                continue;
+            }
+            AnnotationTarget.Kind kind = annotation.target().kind();
+            if (annotation.name().equals(JSON_PROPERTY)) {
+                boolean supportedTarget = kind == AnnotationTarget.Kind.FIELD || kind == AnnotationTarget.Kind.METHOD
+                        || (record && (kind == AnnotationTarget.Kind.METHOD_PARAMETER
+                                || kind == AnnotationTarget.Kind.RECORD_COMPONENT));
+                if (!supportedTarget || annotation.values().size() > 1
+                        || (annotation.values().size() == 1 && annotation.value() == null)) {
+                    return false;
+                }
+            } else if (record || !annotation.name().equals(JSON_IGNORE)
+                    || (kind != AnnotationTarget.Kind.FIELD && kind != AnnotationTarget.Kind.METHOD)) {
+                return false;
+            }
+        }
+        return interfacesArePlain(index, classInfo);
+    }
+
+    private static boolean interfacesArePlain(IndexView index, ClassInfo classInfo) {
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (interfaceName.toString().startsWith("java.")) {
+                continue;
+            }
+            ClassInfo interfaceInfo = index.getClassByName(interfaceName);
+            if (interfaceInfo == null || hasJacksonAnnotation(interfaceInfo.annotations())
+                    || !interfacesArePlain(index, interfaceInfo)) {
+                return false;
+            }
+            for (MethodInfo method : interfaceInfo.methods()) {
+                // Jackson also writes the default getters of the interfaces
+                if (!Modifier.isAbstract(method.flags()) && !Modifier.isStatic(method.flags())
+                        && getterName(method) != null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasJacksonAnnotation(List<AnnotationInstance> annotations) {
+        for (AnnotationInstance annotation : annotations) {
+            if (annotation.name().toString().startsWith(JACKSON_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // the names given to a property by its @JsonProperty annotations
+    private static Set<String> explicitNames(List<AnnotationInstance> annotations) {
+        Set<String> names = new HashSet<>();
+        for (AnnotationInstance annotation : annotations) {
+            AnnotationValue value = annotation.name().equals(JSON_PROPERTY) ? annotation.value() : null;
+            if (value != null && !value.asString().isEmpty()) {
+                names.add(value.asString());
+            }
+        }
+        return names;
+    }
+
+    private static boolean isIgnored(List<AnnotationInstance> annotations) {
+        for (AnnotationInstance annotation : annotations) {
+            if (annotation.name().equals(JSON_IGNORE)) {
+                AnnotationValue value = annotation.value();
+                return value == null || value.asBoolean();
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasDuplicateNames(List<Property> properties) {
+        Set<String> names = new HashSet<>();
+        for (Property property : properties) {
+            if (!names.add(property.name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getterName(MethodInfo method) {
+        if (method.parametersCount() != 0 || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (name.length() > 3 && name.startsWith("get")) {
+            return mangle(name.substring(3));
+        }
+        Type returnType = method.returnType();
+        if (name.length() > 2 && name.startsWith("is")
+                && (returnType.equals(PrimitiveType.BOOLEAN) || returnType.name().equals(BOOLEAN))) {
+            return mangle(name.substring(2));
+        }
+        return null;
+    }
+
+    // the leading upper case characters are lower cased, as Jackson does by default: getURL() is the getter of "url"
+    private static String mangle(String basename) {
+        StringBuilder name = null;
+        for (int i = 0; i < basename.length(); i++) {
+            char upper = basename.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (name == null) {
+                name = new StringBuilder(basename);
+            }
+            name.setCharAt(i, lower);
+        }
+        return name != null ? name.toString() : basename;
+    }
+
+    private static final class Candidate {
+        final String name;
+        FieldInfo field;
+        MethodInfo getter;
+        MethodInfo setter;
+
+        Candidate(String name) {
+            this.name = name;
+        }
+
+        List<AnnotationInstance> annotations() {
+            List<AnnotationInstance> annotations = new ArrayList<>();
+            if (field != null) {
+                annotations.addAll(field.annotations());
+            }
+            if (getter != null) {
+                annotations.addAll(getter.annotations());
+            }
+            if (setter != null) {
+                annotations.addAll(setter.annotations());
+            }
+            return annotations;
+        }
+    }
+}
@@ -0,0 +1,545 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
+import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.WildcardType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.Switch;
+
+/**
+ * Generates Jackson serializers and deserializers reading and writing the properties of a class directly, without
+ * reflection, as the reflection-free serializers of Quarkus REST Jackson do. For instance, for a class like
+ *
+ * <pre>{@code
+ * public class Price {
+ *     private String currency;
+ *     private long amount;
+ *
+ *     // getters and setters omitted
+ * }
+ * }</pre>
+ *
+ * it generates
+ *
+ * <pre>{@code
+ * public class Price$quarkuskafkaserializer extends StdSerializer {
+ *     private static final SerializedString name0 = new SerializedString("currency");
+ *     private static final SerializedString name1 = new SerializedString("amount");
+ *
+ *     public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+ *         Price price = (Price) value;
+ *         generator.writeStartObject(price);
+ *         generator.writeFieldName(name0);
+ *         generator.writeString(price.getCurrency());
+ *         generator.writeFieldName(name1);
+ *         generator.writeNumber(price.getAmount());
+ *         generator.writeEndObject();
+ *     }
+ * }
+ *
+ * public class Price$quarkuskafkadeserializer extends StdDeserializer implements ResolvableDeserializer {
+ *     private JsonDeserializer deserializer0;
+ *     private JsonDeserializer deserializer1;
+ *
+ *     public void resolve(DeserializationContext context) {
+ *         deserializer0 = context.findRootValueDeserializer(context.getTypeFactory().constructType(String.class));
+ *         deserializer1 = context.findRootValueDeserializer(context.getTypeFactory().constructType(long.class));
+ *     }
+ *
+ *     public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+ *         // checks the parser is at the start of an object, then
+ *         Price price = new Price();
+ *         for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+ *             String name = parser.currentName();
+ *             parser.nextToken();
+ *             switch (name) {
+ *                 case "currency":
+ *                     price.setCurrency(parser.currentToken() == JsonToken.VALUE_STRING ? parser.getText()
+ *                             : (String) deserializer0.deserialize(parser, context));
+ *                     break;
+ *                 case "amount":
+ *                     price.setAmount(parser.currentToken() == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue()
+ *                             : (Long) deserializer1.deserialize(parser, context));
+ *                     break;
+ *                 default:
+ *                     context.handleUnknownProperty(parser, this, price, name);
+ *             }
+ *         }
+ *         return price;
+ *     }
+ * }
+ * }</pre>
+ *
+ * The strings, numbers and booleans are read and written directly, the other values, and the values of unexpected JSON
+ * types, go through the Jackson serializers and deserializers of their type, generated ones if any.
+ * <p>
+ * The classes that are not described by {@link JacksonBean}, or whose deserialization needs reflection, are left to Jackson
+ * databind.
+ */
+final class JacksonBeanSerdeGenerator {
+
+    static final String SERIALIZER_SUFFIX = "$quarkuskafkaserializer";
+    static final String DESERIALIZER_SUFFIX = "$quarkuskafkadeserializer";
+
+    private static final MethodDescriptor CURRENT_TOKEN = ofMethod(JsonParser.class, "currentToken", JsonToken.class);
+    private static final MethodDescriptor NEXT_TOKEN = ofMethod(JsonParser.class, "nextToken", JsonToken.class);
+
+    private final BuildProducer<GeneratedClassBuildItem> generatedClass;
+    private final IndexView index;
+
+    // the generated classes by bean class, the value being null for the classes left to databind
+    private final Map<DotName, String> serializers = new HashMap<>();
+    private final Map<DotName, String> deserializers = new HashMap<>();
+    // the classes of the properties of the beans
+    private final Map<DotName, Set<DotName>> serializedTypes = new HashMap<>();
+    private final Map<DotName, Set<DotName>> deserializedTypes = new HashMap<>();
+
+    JacksonBeanSerdeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClass, IndexView index) {
+        this.generatedClass = generatedClass;
+        this.index = index;
+    }
+
+    /**
+     * @return the serializers generated for the given type and for the classes of its properties
+     */
+    List<String> serializers(Type type) {
+        return generate(type, true);
+    }
+
+    /**
+     * @return the deserializers generated for the given type and for the classes of its properties
+     */
+    List<String> deserializers(Type type) {
+        return generate(type, false);
+    }
+
+    private List<String> generate(Type type, boolean serializer) {
+        List<String> generated = new ArrayList<>();
+        Set<DotName> visited = new HashSet<>();
+        Deque<DotName> toBeVisited = new ArrayDeque<>();
+        toBeVisited.add(type.name());
+        while (!toBeVisited.isEmpty()) {
+            DotName name = toBeVisited.removeFirst();
+            if (!visited.add(name)) {
+                continue;
+            }
+            String generatedName = serializer ? serializer(name) : deserializer(name);
+            if (generatedName != null) {
+                generated.add(generatedName);
+                toBeVisited.addAll((serializer ? serializedTypes : deserializedTypes).get(name));
+            }
+        }
+        return generated;
+    }
+
+    private String serializer(DotName name) {
+        if (serializers.containsKey(name)) {
+            return serializers.get(name);
+        }
+        ClassInfo classInfo = index.getClassByName(name);
+        JacksonBean bean = classInfo != null ? JacksonBean.of(index, classInfo) : null;
+        // a class without properties is left to databind, which fails or writes an empty object depending on the
+        // configuration
+        String generatedName = bean != null && !bean.serialized.isEmpty() ? generateSerializer(bean) : null;
+        serializers.put(name, generatedName);
+        return generatedName;
+    }
+
+    private String deserializer(DotName name) {
+        if (deserializers.containsKey(name)) {
+            return deserializers.get(name);
+        }
+        ClassInfo classInfo = index.getClassByName(name);
+        JacksonBean bean = classInfo != null ? JacksonBean.of(index, classInfo) : null;
+        String generatedName = bean != null && isDeserializable(bean) ? generateDeserializer(bean) : null;
+        deserializers.put(name, generatedName);
+        return generatedName;
+    }
+
+    private static boolean isDeserializable(JacksonBean bean) {
+        if (bean.deserialized == null || bean.deserialized.isEmpty()) {
+            return false;
+        }
+        if (!bean.classInfo.isRecord()) {
+            MethodInfo constructor = bean.classInfo.method("<init>");
+            if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+                return false;
+            }
+        }
+        for (JacksonBean.Property property : bean.deserialized) {
+            if (!isResolved(property.type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the type does not depend on type variables, so its Jackson type can be built once
+    private static boolean isResolved(Type type) {
+        return switch (type.kind()) {
+            case PRIMITIVE, CLASS -> true;
+            case ARRAY -> isResolved(type.asArrayType().elementType());
+            case PARAMETERIZED_TYPE -> type.asParameterizedType().owner() == null
+                    && type.asParameterizedType().arguments().stream().allMatch(JacksonBeanSerdeGenerator::isResolved);
+            case WILDCARD_TYPE -> type.asWildcardType().superBound() == null
+                    && isResolved(type.asWildcardType().extendsBound());
+            default -> false;
+        };
+    }
+
+    private String generateSerializer(JacksonBean bean) {
+        String beanClassName = bean.classInfo.name().toString();
+        String generatedName = beanClassName + SERIALIZER_SUFFIX;
+        Set<DotName> types = new LinkedHashSet<>();
+        try (ClassCreator creator = new ClassCreator(new GeneratedClassGizmoAdaptor(generatedClass, true), generatedName,
+                null, StdSerializer.class.getName())) {
+            createConstructor(creator, StdSerializer.class, beanClassName);
+
+            // the names are written as pre-encoded strings
+            MethodCreator clinit = creator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC);
+            List<FieldDescriptor> names = new ArrayList<>();
+            for (JacksonBean.Property property : bean.serialized) {
+                FieldDescriptor name = creator.getFieldCreator("name" + names.size(), SerializedString.class)
+                        .setModifiers(ACC_PRIVATE | ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+                clinit.writeStaticField(name, clinit.newInstance(ofConstructor(SerializedString.class, String.class),
+                        clinit.load(property.name)));
+                names.add(name);
+            }
+            clinit.returnVoid();
+
+            MethodCreator serialize = creator.getMethodCreator("serialize", void.class, Object.class, JsonGenerator.class,
+                    SerializerProvider.class).setModifiers(ACC_PUBLIC).addException(IOException.class);
+            ResultHandle instance = serialize.checkCast(serialize.getMethodParam(0), beanClassName);
+            ResultHandle generator = serialize.getMethodParam(1);
+            ResultHandle provider = serialize.getMethodParam(2);
+            serialize.invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeStartObject", void.class, Object.class),
+                    generator, instance);
+            for (int i = 0; i < bean.serialized.size(); i++) {
+                JacksonBean.Property property = bean.serialized.get(i);
+                serialize.invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeFieldName", void.class,
+                        SerializableString.class), generator, serialize.readStaticField(names.get(i)));
+                ResultHandle value = property.method != null
+                        ? serialize.invokeVirtualMethod(property.method, instance)
+                        : serialize.readInstanceField(property.field, instance);
+                writeValue(serialize, generator, provider, property.type, value);
+                collectClasses(property.type, types);
+            }
+            serialize.invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeEndObject", void.class), generator);
+            serialize.returnVoid();
+        }
+        serializedTypes.put(bean.classInfo.name(), types);
+        return generatedName;
+    }
+
+    private static void writeValue(BytecodeCreator bytecode, ResultHandle generator, ResultHandle provider, Type type,
+            ResultHandle value) {
+        String writeMethod = switch (type.name().toString()) {
+            case "java.lang.String" -> "writeString";
+            case "int", "long", "double", "float", "short",
+                    "java.lang.Integer", "java.lang.Long", "java.lang.Double", "java.lang.Float", "java.lang.Short" ->
+                "writeNumber";
+            case "boolean", "java.lang.Boolean" -> "writeBoolean";
+            default -> null;
+        };
+        if (writeMethod == null || (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PRIMITIVE)) {
+            // handles the null values and finds the serializer of the class of the value
+            bytecode.invokeVirtualMethod(ofMethod(SerializerProvider.class, "defaultSerializeValue", void.class,
+                    Object.class, JsonGenerator.class), provider, bytecode.smartCast(value, Object.class), generator);
+            return;
+        }
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            bytecode.invokeVirtualMethod(ofMethod(JsonGenerator.class, writeMethod, void.class, type.name().toString()),
+                    generator, value);
+            return;
+        }
+        if (type.name().toString().equals("java.lang.String")) {
+            // writes null for a null string
+            bytecode.invokeVirtualMethod(ofMethod(JsonGenerator.class, writeMethod, void.class, String.class),
+                    generator, value);
+            return;
+        }
+        BranchResult isNull = bytecode.ifNull(value);
+        isNull.trueBranch().invokeVirtualMethod(ofMethod(JsonGenerator.class, "writeNull", void.class), generator);
+        BytecodeCreator notNull = isNull.falseBranch();
+        String primitive = PrimitiveType.unbox(type.asClassType()).name().toString();
+        notNull.invokeVirtualMethod(ofMethod(JsonGenerator.class, writeMethod, void.class, primitive), generator,
+                notNull.smartCast(value, primitive));
+    }
+
+    private String generateDeserializer(JacksonBean bean) {
+        String beanClassName = bean.classInfo.name().toString();
+        String generatedName = beanClassName + DESERIALIZER_SUFFIX;
+        Set<DotName> types = new LinkedHashSet<>();
+        boolean record = bean.classInfo.isRecord();
+        try (ClassCreator creator = new ClassCreator(new GeneratedClassGizmoAdaptor(generatedClass, true), generatedName,
+                null, StdDeserializer.class.getName(), ResolvableDeserializer.class.getName())) {
+            createConstructor(creator, StdDeserializer.class, beanClassName);
+
+            // as for the Jackson bean deserializers, the deserializers of the properties are looked up once
+            MethodCreator resolve = creator.getMethodCreator("resolve", void.class, DeserializationContext.class)
+                    .setModifiers(ACC_PUBLIC).addException(JsonMappingException.class);
+            ResultHandle typeFactory = resolve.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "getTypeFactory", TypeFactory.class), resolve.getMethodParam(0));
+            Map<JacksonBean.Property, FieldDescriptor> deserializers = new HashMap<>();
+            for (JacksonBean.Property property : bean.deserialized) {
+                FieldDescriptor deserializer = creator.getFieldCreator("deserializer" + deserializers.size(),
+                        JsonDeserializer.class).setModifiers(ACC_PRIVATE).getFieldDescriptor();
+                resolve.writeInstanceField(deserializer, resolve.getThis(), resolve.invokeVirtualMethod(
+                        ofMethod(DeserializationContext.class, "findRootValueDeserializer", JsonDeserializer.class,
+                                JavaType.class),
+                        resolve.getMethodParam(0), javaType(resolve, typeFactory, property.type)));
+                deserializers.put(property, deserializer);
+            }
+            resolve.returnVoid();
+
+            // cached by Jackson once resolved, rather than looked up again for each value
+            MethodCreator isCachable = creator.getMethodCreator("isCachable", boolean.class).setModifiers(ACC_PUBLIC);
+            isCachable.returnBoolean(true);
+
+            MethodCreator deserialize = creator.getMethodCreator("deserialize", Object.class, JsonParser.class,
+                    DeserializationContext.class).setModifiers(ACC_PUBLIC).addException(IOException.class);
+            ResultHandle parser = deserialize.getMethodParam(0);
+            ResultHandle context = deserialize.getMethodParam(1);
+
+            // the parser is either at the start of the object or, as for the other Jackson deserializers, at its first name
+            AssignableResultHandle token = deserialize.createVariable(JsonToken.class);
+            deserialize.assign(token, deserialize.invokeVirtualMethod(CURRENT_TOKEN, parser));
+            BranchResult isStart = deserialize.ifReferencesEqual(token, token(deserialize, JsonToken.START_OBJECT));
+            isStart.trueBranch().assign(token, isStart.trueBranch().invokeVirtualMethod(NEXT_TOKEN, parser));
+            BytecodeCreator notStart = isStart.falseBranch();
+            BytecodeCreator unexpected = notStart
+                    .ifReferencesEqual(token, token(notStart, JsonToken.FIELD_NAME)).falseBranch();
+            unexpected.returnValue(unexpected.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "handleUnexpectedToken", Object.class, Class.class,
+                            JsonParser.class),
+                    context, unexpected.loadClass(beanClassName), parser));
+
+            // a bean is created and its properties set, or the components of a record are read and passed to its constructor
+            ResultHandle instance = record ? null : deserialize.newInstance(ofConstructor(beanClassName));
+            List<AssignableResultHandle> components = new ArrayList<>();
+            if (record) {
+                for (JacksonBean.Property property : bean.deserialized) {
+                    AssignableResultHandle component = deserialize
+                            .createVariable(DescriptorUtils.typeToString(property.type));
+                    deserialize.assign(component, defaultValue(deserialize, property.type));
+                    components.add(component);
+                }
+            }
+
+            BytecodeCreator loop = deserialize
+                    .whileLoop(bytecode -> bytecode.ifReferencesEqual(token, token(bytecode, JsonToken.FIELD_NAME)))
+                    .block();
+            ResultHandle name = loop.invokeVirtualMethod(ofMethod(JsonParser.class, "currentName", String.class), parser);
+            loop.invokeVirtualMethod(NEXT_TOKEN, parser);
+            Switch.StringSwitch names = loop.stringSwitch(name);
+            for (JacksonBean.Property property : bean.deserialized) {
+                names.caseOf(property.name, bytecode -> {
+                    ResultHandle value = readValue(bytecode, parser, context, property.type,
+                            bytecode.readInstanceField(deserializers.get(property), bytecode.getThis()));
+                    if (record) {
+                        bytecode.assign(components.get(property.parameter), value);
+                    } else if (property.method != null) {
+                        bytecode.invokeVirtualMethod(property.method, instance, value);
+                    } else {
+                        bytecode.writeInstanceField(property.field, instance, value);
+                    }
+                });
+                collectClasses(property.type, types);
+            }
+            for (String ignored : bean.ignored) {
+                names.caseOf(ignored, bytecode -> bytecode
+                        .invokeVirtualMethod(ofMethod(JsonParser.class, "skipChildren", JsonParser.class), parser));
+            }
+            names.defaultCase(bytecode -> bytecode.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "handleUnknownProperty", boolean.class, JsonParser.class,
+                            JsonDeserializer.class, Object.class, String.class),
+                    context, parser, bytecode.getThis(), record ? bytecode.loadClass(beanClassName) : instance, name));
+            loop.assign(token, loop.invokeVirtualMethod(NEXT_TOKEN, parser));
+
+            if (record) {
+                MethodInfo constructor = bean.classInfo.canonicalRecordConstructor();
+                deserialize.returnValue(deserialize.newInstance(constructor,
+                        components.toArray(new ResultHandle[0])));
+            } else {
+                deserialize.returnValue(instance);
+            }
+        }
+        deserializedTypes.put(bean.classInfo.name(), types);
+        return generatedName;
+    }
+
+    private static ResultHandle readValue(BytecodeCreator bytecode, ResultHandle parser, ResultHandle context, Type type,
+            ResultHandle deserializer) {
+        String typeName = type.name().toString();
+        String descriptor = DescriptorUtils.typeToString(type);
+        AssignableResultHandle value = bytecode.createVariable(descriptor);
+        ResultHandle token = bytecode.invokeVirtualMethod(CURRENT_TOKEN, parser);
+        BytecodeCreator other = bytecode;
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            // as for the other Jackson bean properties, null is not passed to the deserializer
+            BranchResult isNull = other.ifReferencesEqual(token, token(other, JsonToken.VALUE_NULL));
+            isNull.trueBranch().assign(value, isNull.trueBranch().loadNull());
+            other = isNull.falseBranch();
+        }
+        String unboxed = PrimitiveType.isBox(type) ? PrimitiveType.unbox(type.asClassType()).name().toString() : typeName;
+        switch (unboxed) {
+            case "java.lang.String" -> other = readToken(other, value, descriptor, token, JsonToken.VALUE_STRING,
+                    branch -> branch.invokeVirtualMethod(ofMethod(JsonParser.class, "getText", String.class), parser));
+            case "int" -> other = readToken(other, value, descriptor, token, JsonToken.VALUE_NUMBER_INT,
+                    branch -> branch.invokeVirtualMethod(ofMethod(JsonParser.class, "getIntValue", int.class), parser));
+            case "long" -> other = readToken(other, value, descriptor, token, JsonToken.VALUE_NUMBER_INT,
+                    branch -> branch.invokeVirtualMethod(ofMethod(JsonParser.class, "getLongValue", long.class), parser));
+            case "double" -> other = readToken(other, value, descriptor, token, JsonToken.VALUE_NUMBER_FLOAT,
+                    branch -> branch.invokeVirtualMethod(ofMethod(JsonParser.class, "getDoubleValue", double.class),
+                            parser));
+            case "boolean" -> {
+                other = readToken(other, value, descriptor, token, JsonToken.VALUE_TRUE, branch -> branch.load(true));
+                other = readToken(other, value, descriptor, token, JsonToken.VALUE_FALSE, branch -> branch.load(false));
+            }
+            default -> {
+                // read by the deserializer of the type
+            }
+        }
+        // the other tokens are handled by the deserializer of the type, which coerces or rejects them
+        ResultHandle read = other.invokeVirtualMethod(
+                ofMethod(JsonDeserializer.class, "deserialize", Object.class, JsonParser.class, DeserializationContext.class),
+                deserializer, parser, context);
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            // the primitive values are read boxed
+            read = other.checkCast(read, PrimitiveType.box(type.asPrimitiveType()).name().toString());
+        }
+        other.assign(value, other.smartCast(read, descriptor));
+        return value;
+    }
+
+    // reads the value if the current token is the expected one, returns the branch handling the other tokens
+    private static BytecodeCreator readToken(BytecodeCreator bytecode, AssignableResultHandle value, String descriptor,
+            ResultHandle token, JsonToken expected, Function<BytecodeCreator, ResultHandle> read) {
+        BranchResult isExpected = bytecode.ifReferencesEqual(token, token(bytecode, expected));
+        BytecodeCreator expectedBranch = isExpected.trueBranch();
+        expectedBranch.assign(value, expectedBranch.smartCast(read.apply(expectedBranch), descriptor));
+        return isExpected.falseBranch();
+    }
+
+    private static ResultHandle javaType(BytecodeCreator bytecode, ResultHandle typeFactory, Type type) {
+        return switch (type.kind()) {
+            case PARAMETERIZED_TYPE -> {
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle argumentTypes = bytecode.newArray(JavaType.class, arguments.size());
+                for (int i = 0; i < arguments.size(); i++) {
+                    bytecode.writeArrayValue(argumentTypes, i, javaType(bytecode, typeFactory, arguments.get(i)));
+                }
+                yield bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructParametricType", JavaType.class,
+                        Class.class, JavaType[].class), typeFactory, bytecode.loadClass(type.name().toString()),
+                        argumentTypes);
+            }
+            case ARRAY -> bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructArrayType", ArrayType.class,
+                    JavaType.class), typeFactory, javaType(bytecode, typeFactory, type.asArrayType().componentType()));
+            case WILDCARD_TYPE -> javaType(bytecode, typeFactory, type.asWildcardType().extendsBound());
+            default -> bytecode.invokeVirtualMethod(ofMethod(TypeFactory.class, "constructType", JavaType.class,
+                    java.lang.reflect.Type.class), typeFactory, bytecode.loadClass(type.name().toString()));
+        };
+    }
+
+    private static ResultHandle token(BytecodeCreator bytecode, JsonToken token) {
+        return bytecode.readStaticField(FieldDescriptor.of(JsonToken.class, token.name(), JsonToken.class));
+    }
+
+    private static ResultHandle defaultValue(BytecodeCreator bytecode, Type type) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return bytecode.loadNull();
+        }
+        return switch (type.asPrimitiveType().primitive()) {
+            case BOOLEAN -> bytecode.load(false);
+            case LONG -> bytecode.load(0L);
+            case FLOAT -> bytecode.load(0F);
+            case DOUBLE -> bytecode.load(0D);
+            case CHAR -> bytecode.load((char) 0);
+            case BYTE -> bytecode.load((byte) 0);
+            case SHORT -> bytecode.load((short) 0);
+            default -> bytecode.load(0);
+        };
+    }
+
+    private static void createConstructor(ClassCreator creator, Class<?> superClass, String beanClassName) {
+        MethodCreator constructor = creator.getConstructorCreator(new String[0]);
+        constructor.invokeSpecialMethod(ofConstructor(superClass, Class.class), constructor.getThis(),
+                constructor.loadClass(beanClassName));
+        constructor.returnVoid();
+    }
+
+    // the classes appearing in the given type, their serializers or deserializers being generated as well
+    private static void collectClasses(Type type, Set<DotName> classes) {
+        switch (type.kind()) {
+            case CLASS -> classes.add(type.name());
+            case ARRAY -> collectClasses(type.asArrayType().elementType(), classes);
+            case PARAMETERIZED_TYPE -> {
+                ParameterizedType parameterizedType = type.asParameterizedType();
+                classes.add(parameterizedType.name());
+                for (Type argument : parameterizedType.arguments()) {
+                    collectClasses(argument, classes);
+                }
+            }
+            case WILDCARD_TYPE -> {
+                WildcardType wildcardType = type.asWildcardType();
+                collectClasses(wildcardType.extendsBound(), classes);
+            }
+            default -> {
+                // primitives and type variables
+            }
+        }
+    }
+}
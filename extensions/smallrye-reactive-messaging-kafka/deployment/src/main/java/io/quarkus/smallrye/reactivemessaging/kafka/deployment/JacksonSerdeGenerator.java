@@ -1,27 +1,46 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.kafka.client.serialization.GeneratedSerdesModule;
 import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
 import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
 import io.quarkus.runtime.util.HashUtil;
 
 public class JacksonSerdeGenerator {
 
-    private JacksonSerdeGenerator() {
-        // Avoid direct instantiation
+    private final BuildProducer<GeneratedClassBuildItem> generatedClass;
+    // null if the serdes use Jackson databind
+    private final JacksonBeanSerdeGenerator beanSerdeGenerator;
+
+    /**
+     * @param reflectionFree whether the generated serdes use Jackson serializers and deserializers generated for the
+     *        payload types rather than Jackson databind
+     */
+    public JacksonSerdeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClass, IndexView index,
+            boolean reflectionFree) {
+        this.generatedClass = generatedClass;
+        this.beanSerdeGenerator = reflectionFree ? new JacksonBeanSerdeGenerator(generatedClass, index) : null;
     }
 
-    public static String generateSerializer(BuildProducer<GeneratedClassBuildItem> generatedClass, Type type) {
+    public String generateSerializer(Type type) {
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
         String baseName = type.name().withoutPackagePrefix();
         String targetPackage = io.quarkus.arc.processor.DotNames
@@ -30,11 +49,21 @@ public static String generateSerializer(BuildProducer<GeneratedClassBuildItem> g
         String generatedName = targetPackage + out;
         ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(ObjectMapperSerializer.class).build();
+        List<String> serializers = beanSerdeGenerator != null ? beanSerdeGenerator.serializers(type) : List.of();
+        if (!serializers.isEmpty()) {
+            MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+            MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperSerializer.class,
+                    ObjectMapper.class);
+            constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                    objectMapper(constructor, serializers, List.of()));
+            constructor.returnValue(null);
+            constructor.close();
+        }
         creator.close();
         return type.name().packagePrefix() + "." + out;
     }
 
-    public static String generateDeserializer(BuildProducer<GeneratedClassBuildItem> generatedClass, Type type) {
+    public String generateDeserializer(Type type) {
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
         String baseName = type.name().withoutPackagePrefix();
         String targetPackage = io.quarkus.arc.processor.DotNames
@@ -43,13 +72,39 @@ public static String generateDeserializer(BuildProducer<GeneratedClassBuildItem>
         String generatedName = targetPackage + out;
         ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(ObjectMapperDeserializer.class).build();
+        List<String> deserializers = beanSerdeGenerator != null ? beanSerdeGenerator.deserializers(type) : List.of();
         MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
-        MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperDeserializer.class, Class.class);
-        constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
-                constructor.loadClassFromTCCL(type.name().toString()));
+        if (deserializers.isEmpty()) {
+            MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperDeserializer.class, Class.class);
+            constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                    constructor.loadClassFromTCCL(type.name().toString()));
+        } else {
+            MethodDescriptor superConstructor = MethodDescriptor.ofConstructor(ObjectMapperDeserializer.class, Class.class,
+                    ObjectMapper.class);
+            constructor.invokeSpecialMethod(superConstructor, constructor.getThis(),
+                    constructor.loadClassFromTCCL(type.name().toString()),
+                    objectMapper(constructor, List.of(), deserializers));
+        }
         constructor.returnValue(null);
         constructor.close();
         creator.close();
         return type.name().packagePrefix() + "." + out;
     }
+
+    // the application object mapper, using the given generated serializers and deserializers if its configuration allows
+    private static ResultHandle objectMapper(BytecodeCreator bytecode, List<String> serializers,
+            List<String> deserializers) {
+        MethodDescriptor objectMapper = MethodDescriptor.ofMethod(GeneratedSerdesModule.class, "objectMapper",
+                ObjectMapper.class, StdSerializer[].class, StdDeserializer[].class);
+        return bytecode.invokeStaticMethod(objectMapper, newInstances(bytecode, StdSerializer.class, serializers),
+                newInstances(bytecode, StdDeserializer.class, deserializers));
+    }
+
+    private static ResultHandle newInstances(BytecodeCreator bytecode, Class<?> type, List<String> classNames) {
+        ResultHandle array = bytecode.newArray(type, classNames.size());
+        for (int i = 0; i < classNames.size(); i++) {
+            bytecode.writeArrayValue(array, i, bytecode.newInstance(MethodDescriptor.ofConstructor(classNames.get(i))));
+        }
+        return array;
+    }
 }
@@ -24,6 +24,17 @@ public interface ReactiveMessagingKafkaBuildTimeConfig {
     @WithDefault("true")
     boolean serializerGenerationEnabled();
 
+    /**
+     * Whether the generated Jackson-based serdes (de)serialize the payload types without reflection.
+     * When enabled, Quarkus also generates, for the payload types and the types of their properties, Jackson serializers
+     * and deserializers reading and writing the properties directly.
+     * The types relying on Jackson features other than `@JsonProperty` and `@JsonIgnore` are still handled by Jackson
+     * databind.
+     */
+    @WithName("serializer-generation.reflection-free")
+    @WithDefault("false")
+    boolean serializerGenerationReflectionFree();
+
     /**
      * Enables the graceful shutdown in dev and test modes.
      * The graceful shutdown waits until the inflight records have been processed and the offset committed to Kafka.
@@ -2,6 +2,7 @@
 
 import static io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore.HIBERNATE_ORM_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore.HIBERNATE_REACTIVE_STATE_STORE;
+import static io.quarkus.smallrye.reactivemessaging.kafka.MappedFileStateStore.MAPPED_FILE_STATE_STORE;
 import static io.quarkus.smallrye.reactivemessaging.kafka.RedisStateStore.REDIS_STATE_STORE;
 
 import java.util.ArrayList;
@@ -46,6 +47,8 @@
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.KafkaConfigCustomizer;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaOrderingKeyDecorator;
+import io.quarkus.smallrye.reactivemessaging.kafka.MappedFileStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.RedisStateStore;
 import io.smallrye.mutiny.tuples.Functions.TriConsumer;
 import io.smallrye.reactive.messaging.kafka.KafkaConnector;
@@ -73,6 +76,7 @@ public void build(BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
                 .reason(getClass().getName())
                 .methods().fields().build());
         additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KafkaConfigCustomizer.class));
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KafkaOrderingKeyDecorator.class));
     }
 
     @BuildStep
@@ -167,6 +171,20 @@ public void checkpointHibernateOrm(BuildProducer<AdditionalBeanBuildItem> additi
         }
     }
 
+    @BuildStep
+    public void checkpointMappedFile(BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (hasStateStoreConfig(MAPPED_FILE_STATE_STORE, ConfigProvider.getConfig())) {
+            Optional<String> checkpointStateType = getConnectorProperty("checkpoint.state-type", ConfigProvider.getConfig());
+            checkpointStateType.ifPresent(
+                    s -> reflectiveClass.produce(ReflectiveClassBuildItem.builder(s)
+                            .reason(getClass().getName())
+                            .methods().fields().build()));
+            additionalBean.produce(new AdditionalBeanBuildItem(MappedFileStateStore.Factory.class));
+            additionalBean.produce(new AdditionalBeanBuildItem(DatabindProcessingStateCodec.Factory.class));
+        }
+    }
+
     @BuildStep
     public void additionalJpaModel(BuildProducer<AdditionalJpaModelBuildItem> additionalJpaModel) {
         additionalJpaModel.produce(new AdditionalJpaModelBuildItem(CHECKPOINT_ENTITY_NAME));
@@ -188,8 +206,12 @@ public void defaultChannelConfiguration(
 
         DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
         if (buildTimeConfig.serializerAutodetectionEnabled()) {
+            JacksonSerdeGenerator serdeGenerator = buildTimeConfig.serializerGenerationEnabled()
+                    ? new JacksonSerdeGenerator(generatedClass, combinedIndex.getIndex(),
+                            buildTimeConfig.serializerGenerationReflectionFree())
+                    : null;
             discoverDefaultSerdeConfig(discoveryState, channelsManagedByConnectors, defaultConfigProducer,
-                    buildTimeConfig.serializerGenerationEnabled() ? generatedClass : null, reflection);
+                    serdeGenerator, reflection);
         }
 
         if (launchMode.getLaunchMode().isDevOrTest()) {
@@ -219,7 +241,7 @@ public void defaultChannelConfiguration(
     void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
             List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
             BuildProducer<RunTimeConfigurationDefaultBuildItem> config,
-            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            JacksonSerdeGenerator serdeGenerator,
             BuildProducer<ReflectiveClassBuildItem> reflection) {
         Map<String, Result> alreadyGeneratedSerializers = new HashMap<>();
         Map<String, Result> alreadyGeneratedDeserializers = new HashMap<>();
@@ -233,7 +255,7 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
 
             Type incomingType = getIncomingTypeFromMethod(method);
 
-            processIncomingType(discovery, config, incomingType, channelName, generatedClass, reflection,
+            processIncomingType(discovery, config, incomingType, channelName, serdeGenerator, reflection,
                     alreadyGeneratedDeserializers, alreadyGeneratedSerializers);
         }
 
@@ -253,7 +275,7 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
                         getChannelPropertyKey(channelName, "value.serializer", false), valueSerializer);
 
                 handleAdditionalProperties(channelName, false, discovery, config, keySerializer, valueSerializer);
-            }, generatedClass, reflection, alreadyGeneratedSerializers);
+            }, serdeGenerator, reflection, alreadyGeneratedSerializers);
         }
 
         for (AnnotationInstance annotation : discovery.findAnnotationsOnInjectionPoints(DotNames.CHANNEL)) {
@@ -270,7 +292,7 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
 
             Type incomingType = getIncomingTypeFromChannelInjectionPoint(injectionPointType);
 
-            processIncomingType(discovery, config, incomingType, channelName, generatedClass, reflection,
+            processIncomingType(discovery, config, incomingType, channelName, serdeGenerator, reflection,
                     alreadyGeneratedDeserializers, alreadyGeneratedSerializers);
 
             processKafkaTransactions(discovery, config, channelName, injectionPointType);
@@ -283,11 +305,11 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
                             getChannelPropertyKey(channelName, "key.serializer", false), keySerializer);
                     produceRuntimeConfigurationDefaultBuildItem(discovery, config,
                             getChannelPropertyKey(channelName, "value.serializer", false), valueSerializer);
-                }, generatedClass, reflection, alreadyGeneratedSerializers);
+                }, serdeGenerator, reflection, alreadyGeneratedSerializers);
                 extractKeyValueType(replyType, (key, value, isBatchType) -> {
-                    Result keyDeserializer = deserializerFor(discovery, key, true, channelName, generatedClass, reflection,
+                    Result keyDeserializer = deserializerFor(discovery, key, true, channelName, serdeGenerator, reflection,
                             alreadyGeneratedDeserializers, alreadyGeneratedSerializers);
-                    Result valueDeserializer = deserializerFor(discovery, value, false, channelName, generatedClass, reflection,
+                    Result valueDeserializer = deserializerFor(discovery, value, false, channelName, serdeGenerator, reflection,
                             alreadyGeneratedDeserializers, alreadyGeneratedSerializers);
 
                     produceRuntimeConfigurationDefaultBuildItem(discovery, config,
@@ -305,7 +327,7 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
                             getChannelPropertyKey(channelName, "value.serializer", false), valueSerializer);
 
                     handleAdditionalProperties(channelName, false, discovery, config, keySerializer, valueSerializer);
-                }, generatedClass, reflection, alreadyGeneratedSerializers);
+                }, serdeGenerator, reflection, alreadyGeneratedSerializers);
             }
         }
     }
@@ -329,12 +351,12 @@ private void processKafkaTransactions(DefaultSerdeDiscoveryState discovery,
 
     private void processIncomingType(DefaultSerdeDiscoveryState discovery,
             BuildProducer<RunTimeConfigurationDefaultBuildItem> config, Type incomingType, String channelName,
-            BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflection,
+            JacksonSerdeGenerator serdeGenerator, BuildProducer<ReflectiveClassBuildItem> reflection,
             Map<String, Result> alreadyGeneratedDeserializers, Map<String, Result> alreadyGeneratedSerializers) {
         extractKeyValueType(incomingType, (key, value, isBatchType) -> {
-            Result keyDeserializer = deserializerFor(discovery, key, true, channelName, generatedClass, reflection,
+            Result keyDeserializer = deserializerFor(discovery, key, true, channelName, serdeGenerator, reflection,
                     alreadyGeneratedDeserializers, alreadyGeneratedSerializers);
-            Result valueDeserializer = deserializerFor(discovery, value, false, channelName, generatedClass, reflection,
+            Result valueDeserializer = deserializerFor(discovery, value, false, channelName, serdeGenerator, reflection,
                     alreadyGeneratedDeserializers, alreadyGeneratedSerializers);
 
             produceRuntimeConfigurationDefaultBuildItem(discovery, config,
@@ -547,12 +569,12 @@ private Type getOutgoingTypeFromChannelInjectionPoint(Type injectionPointType) {
     }
 
     private void processOutgoingType(DefaultSerdeDiscoveryState discovery, Type outgoingType,
-            BiConsumer<Result, Result> serializerAcceptor, BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BiConsumer<Result, Result> serializerAcceptor, JacksonSerdeGenerator serdeGenerator,
             BuildProducer<ReflectiveClassBuildItem> reflection, Map<String, Result> alreadyGeneratedSerializer) {
         extractKeyValueType(outgoingType, (key, value, isBatch) -> {
-            Result keySerializer = serializerFor(discovery, key, generatedClass, reflection,
+            Result keySerializer = serializerFor(discovery, key, serdeGenerator, reflection,
                     alreadyGeneratedSerializer);
-            Result valueSerializer = serializerFor(discovery, value, generatedClass, reflection,
+            Result valueSerializer = serializerFor(discovery, value, serdeGenerator, reflection,
                     alreadyGeneratedSerializer);
             serializerAcceptor.accept(keySerializer, valueSerializer);
         });
@@ -866,7 +888,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
             Type type,
             boolean key,
             String channelName,
-            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            JacksonSerdeGenerator serdeGenerator,
             BuildProducer<ReflectiveClassBuildItem> reflection,
             Map<String, Result> alreadyGeneratedDeserializers,
             Map<String, Result> alreadyGeneratedSerializers) {
@@ -875,13 +897,13 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
             // avoid returning Result.nonexistent() to callers, they expect a non-null Result to always be known
             return null;
         }
-        // if result is null, generate a jackson serializer, generatedClass is null if the generation is disabled.
+        // if result is null, generate a jackson serializer, serdeGenerator is null if the generation is disabled.
         // also, only generate the serializer/deserializer for classes and only generate once
-        if (result == null && type != null && generatedClass != null && type.kind() == Type.Kind.CLASS) {
+        if (result == null && type != null && serdeGenerator != null && type.kind() == Type.Kind.CLASS) {
             // Check if already generated
             result = alreadyGeneratedDeserializers.get(type.toString());
             if (result == null) {
-                String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
+                String clazz = serdeGenerator.generateDeserializer(type);
                 LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
                 // Deserializers are access by reflection.
                 reflection.produce(
@@ -891,7 +913,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
                 alreadyGeneratedDeserializers.put(type.toString(), result);
                 // if the channel has a DLQ config generate a serializer as well
                 if (hasDLQConfig(channelName, discovery.getConfig())) {
-                    Result serializer = serializerFor(discovery, type, generatedClass, reflection, alreadyGeneratedSerializers);
+                    Result serializer = serializerFor(discovery, type, serdeGenerator, reflection, alreadyGeneratedSerializers);
                     if (serializer != null) {
                         result = Result.of(clazz)
                                 .with(key, "dead-letter-queue.key.serializer", serializer.value)
@@ -906,7 +928,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
     }
 
     private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
-            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            JacksonSerdeGenerator serdeGenerator,
             BuildProducer<ReflectiveClassBuildItem> reflection,
             Map<String, Result> alreadyGeneratedSerializers) {
         Result result = serializerDeserializerFor(discovery, type, true);
@@ -914,13 +936,13 @@ private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
             // avoid returning Result.nonexistent() to callers, they expect a non-null Result to always be known
             return null;
         }
-        // if result is null, generate a jackson deserializer, generatedClass is null if the generation is disabled.
+        // if result is null, generate a jackson deserializer, serdeGenerator is null if the generation is disabled.
         // also, only generate the serializer/deserializer for classes and only generate once
-        if (result == null && type != null && generatedClass != null && type.kind() == Type.Kind.CLASS) {
+        if (result == null && type != null && serdeGenerator != null && type.kind() == Type.Kind.CLASS) {
             // Check if already generated
             result = alreadyGeneratedSerializers.get(type.toString());
             if (result == null) {
-                String clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
+                String clazz = serdeGenerator.generateSerializer(type);
                 LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
                 // Serializers are access by reflection.
                 reflection.produce(
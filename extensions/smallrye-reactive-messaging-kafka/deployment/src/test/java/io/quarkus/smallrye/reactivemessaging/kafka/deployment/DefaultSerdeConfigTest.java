@@ -94,7 +94,8 @@ private static void doTest(Config customConfig, Tuple[] expectations,
         classes.add(io.quarkus.kafka.client.serialization.ObjectMapperSerializer.class);
         classes.add(io.quarkus.kafka.client.serialization.JsonbSerializer.class);
         classes.add(io.quarkus.kafka.client.serialization.JsonbDeserializer.class);
-        DefaultSerdeDiscoveryState discovery = new DefaultSerdeDiscoveryState(index(classes)) {
+        IndexView index = index(classes);
+        DefaultSerdeDiscoveryState discovery = new DefaultSerdeDiscoveryState(index) {
             @Override
             Config getConfig() {
                 return customConfig != null ? customConfig : super.getConfig();
@@ -108,7 +109,7 @@ boolean isKafkaConnector(List<ConnectorManagedChannelBuildItem> list, boolean in
         try {
             new SmallRyeReactiveMessagingKafkaProcessor().discoverDefaultSerdeConfig(discovery, Collections.emptyList(),
                     configs::add,
-                    (generatedNames == null) ? null : generated::add,
+                    (generatedNames == null) ? null : new JacksonSerdeGenerator(generated::add, index, false),
                     (reflectiveNames == null) ? null : reflective::add);
 
             assertThat(configs)
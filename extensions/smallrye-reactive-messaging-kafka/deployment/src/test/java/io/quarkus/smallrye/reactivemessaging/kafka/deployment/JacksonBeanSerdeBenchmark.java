@@ -0,0 +1,80 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
+import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
+import io.quarkus.smallrye.reactivemessaging.kafka.deployment.JacksonBeanSerdeGeneratorTest.Line;
+import io.quarkus.smallrye.reactivemessaging.kafka.deployment.JacksonBeanSerdeGeneratorTest.Order;
+import io.quarkus.smallrye.reactivemessaging.kafka.deployment.JacksonBeanSerdeGeneratorTest.Price;
+import io.quarkus.smallrye.reactivemessaging.kafka.deployment.JacksonBeanSerdeGeneratorTest.Renamed;
+import io.quarkus.smallrye.reactivemessaging.kafka.deployment.JacksonBeanSerdeGeneratorTest.Status;
+
+/**
+ * Measures the throughput of a single thread, in records per second, of the Kafka serializer and deserializer of a
+ * payload type, using Jackson databind and using the serializers and deserializers generated for the type.
+ * <p>
+ * Run it with {@code -Dkafka-serde-benchmark -Dtest=JacksonBeanSerdeBenchmark}.
+ */
+@EnabledIfSystemProperty(named = "kafka-serde-benchmark", matches = ".*")
+public class JacksonBeanSerdeBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(JacksonBeanSerdeBenchmark.class);
+
+    private static final long DURATION = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void throughput() {
+        ObjectMapper databind = new ObjectMapper();
+        ObjectMapper generated = JacksonBeanSerdeGeneratorTest.objectMapper(Order.class, Order.class, Price.class,
+                Line.class, Renamed.class, Status.class);
+        assertThat(generated).isNotSameAs(databind);
+
+        // warm up
+        serialize(databind);
+        serialize(generated);
+        deserialize(databind);
+        deserialize(generated);
+
+        LOGGER.infof("Serializer with Jackson databind: %d records/s", serialize(databind));
+        LOGGER.infof("Serializer with the generated serializers: %d records/s", serialize(generated));
+        LOGGER.infof("Deserializer with Jackson databind: %d records/s", deserialize(databind));
+        LOGGER.infof("Deserializer with the generated deserializers: %d records/s", deserialize(generated));
+    }
+
+    private long serialize(ObjectMapper objectMapper) {
+        ObjectMapperSerializer<Order> serializer = new ObjectMapperSerializer<>(objectMapper);
+        Order order = JacksonBeanSerdeGeneratorTest.order();
+        long records = 0;
+        long size = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < DURATION) {
+            size += serializer.serialize("orders", order).length;
+            records++;
+        }
+        assertThat(size).isPositive();
+        return records * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - start);
+    }
+
+    private long deserialize(ObjectMapper objectMapper) {
+        ObjectMapperDeserializer<Order> deserializer = new ObjectMapperDeserializer<>(Order.class, objectMapper);
+        byte[] data = new ObjectMapperSerializer<Order>(new ObjectMapper())
+                .serialize("orders", JacksonBeanSerdeGeneratorTest.order());
+        long records = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < DURATION) {
+            if (deserializer.deserialize("orders", data) != null) {
+                records++;
+            }
+        }
+        return records * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - start);
+    }
+}
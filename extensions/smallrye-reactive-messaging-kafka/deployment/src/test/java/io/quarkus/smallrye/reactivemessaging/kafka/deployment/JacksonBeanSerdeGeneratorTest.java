@@ -0,0 +1,311 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.kafka.client.serialization.GeneratedSerdesModule;
+
+public class JacksonBeanSerdeGeneratorTest {
+
+    @Test
+    void serdesAreGeneratedForThePropertyClasses() {
+        Generated generated = generate(Order.class, Order.class, Price.class, Line.class, Renamed.class, Status.class);
+
+        assertThat(generated.serializers).extracting(serializer -> serializer.handledType().getSimpleName())
+                .containsExactlyInAnyOrder("Order", "Price", "Line", "Renamed");
+        assertThat(generated.deserializers).extracting(deserializer -> deserializer.handledType().getSimpleName())
+                .containsExactlyInAnyOrder("Order", "Price", "Line", "Renamed");
+    }
+
+    @Test
+    void serializersWriteAsDatabind() throws IOException {
+        ObjectMapper generated = objectMapper(Order.class, Order.class, Price.class, Line.class, Renamed.class,
+                Status.class);
+
+        assertThat(generated.writeValueAsString(order())).isEqualTo(new ObjectMapper().writeValueAsString(order()));
+        assertThat(generated.writeValueAsString(new Order())).isEqualTo(new ObjectMapper().writeValueAsString(new Order()));
+    }
+
+    @Test
+    void deserializersReadAsDatabind() throws IOException {
+        ObjectMapper generated = objectMapper(Order.class, Order.class, Price.class, Line.class, Renamed.class,
+                Status.class);
+        ObjectMapper databind = new ObjectMapper();
+        String json = databind.writeValueAsString(order());
+
+        Order order = generated.readValue(json, Order.class);
+        assertThat(databind.writeValueAsString(order)).isEqualTo(json);
+        assertThat(databind.writeValueAsString(generated.readValue("{}", Order.class)))
+                .isEqualTo(databind.writeValueAsString(new Order()));
+    }
+
+    @Test
+    void unexpectedValuesAreHandledAsDatabind() throws IOException {
+        ObjectMapper generated = objectMapper(Price.class, Price.class);
+
+        // coerced by the Jackson deserializers of the types
+        Price price = generated.readValue("{\"currency\":12,\"amount\":\"42\",\"quantity\":null,\"available\":\"true\"}",
+                Price.class);
+        assertThat(price.getCurrency()).isEqualTo("12");
+        assertThat(price.getAmount()).isEqualTo(42L);
+        assertThat(price.getQuantity()).isNull();
+        assertThat(price.isAvailable()).isTrue();
+
+        // unknown properties are skipped or rejected depending on the configuration
+        String unknown = "{\"currency\":\"EUR\",\"unknown\":{\"nested\":[1,2]},\"amount\":1}";
+        assertThat(generated.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(unknown, Price.class).getAmount()).isEqualTo(1L);
+        assertThatThrownBy(() -> generated.readValue(unknown, Price.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+    }
+
+    @Test
+    void ignoredPropertiesAreSkipped() throws IOException {
+        ObjectMapper generated = objectMapper(Renamed.class, Renamed.class);
+
+        Renamed renamed = generated.readValue("{\"label\":\"a\",\"secret\":\"b\"}", Renamed.class);
+        assertThat(renamed.name).isEqualTo("a");
+        assertThat(renamed.getSecret()).isNull();
+        assertThat(generated.writeValueAsString(renamed)).isEqualTo("{\"label\":\"a\"}");
+    }
+
+    @Test
+    void unsupportedClassesAreLeftToDatabind() {
+        Generated generated = generate(Formatted.class, Formatted.class, Price.class);
+
+        assertThat(generated.serializers).isEmpty();
+        assertThat(generated.deserializers).isEmpty();
+    }
+
+    @Test
+    void namingStrategyDisablesTheGeneratedSerdes() {
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        Generated generated = generate(Price.class, Price.class);
+
+        assertThat(GeneratedSerdesModule.objectMapper(objectMapper, generated.serializers, generated.deserializers))
+                .isSameAs(objectMapper);
+    }
+
+    static Order order() {
+        Order order = new Order();
+        order.id = "order-1";
+        order.status = Status.SHIPPED;
+        order.setPrice(new Price("EUR", 1250, 3, true, 0.5));
+        order.setLines(List.of(new Line("sku-1", 2, new Price("EUR", 500, null, false, 1.0)),
+                new Line("sku-2", 1, null)));
+        order.setTags(new String[] { "a", "b" });
+        order.setAttributes(Map.of("gift", "true"));
+        order.renamed = new Renamed();
+        order.renamed.name = "renamed";
+        return order;
+    }
+
+    static ObjectMapper objectMapper(Class<?> type, Class<?>... classes) {
+        Generated generated = generate(type, classes);
+        return GeneratedSerdesModule.objectMapper(new ObjectMapper(), generated.serializers, generated.deserializers);
+    }
+
+    static Generated generate(Class<?> type, Class<?>... classes) {
+        List<GeneratedClassBuildItem> classItems = new ArrayList<>();
+        JacksonBeanSerdeGenerator generator;
+        try {
+            generator = new JacksonBeanSerdeGenerator(classItems::add, Index.of(classes));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        List<String> serializers = generator.serializers(ClassType.create(type));
+        List<String> deserializers = generator.deserializers(ClassType.create(type));
+
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(classItems);
+        return new Generated(newInstances(classLoader, serializers, new StdSerializer<?>[serializers.size()]),
+                newInstances(classLoader, deserializers, new StdDeserializer<?>[deserializers.size()]));
+    }
+
+    private static <T> T[] newInstances(ClassLoader classLoader, List<String> classNames, T[] instances) {
+        for (int i = 0; i < instances.length; i++) {
+            try {
+                @SuppressWarnings("unchecked")
+                T instance = (T) classLoader.loadClass(classNames.get(i)).getConstructor().newInstance();
+                instances[i] = instance;
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return instances;
+    }
+
+    record Generated(StdSerializer<?>[] serializers, StdDeserializer<?>[] deserializers) {
+    }
+
+    private static class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        GeneratedClassLoader(List<GeneratedClassBuildItem> classItems) {
+            super(JacksonBeanSerdeGeneratorTest.class.getClassLoader());
+            for (GeneratedClassBuildItem classItem : classItems) {
+                classes.put(classItem.internalName().replace('/', '.'), classItem.getClassData());
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] classData = classes.get(name);
+            if (classData == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, classData, 0, classData.length);
+        }
+    }
+
+    public enum Status {
+        CREATED,
+        SHIPPED
+    }
+
+    public static class Price {
+        private String currency;
+        private long amount;
+        private Integer quantity;
+        private boolean available;
+        private double ratio;
+
+        public Price() {
+        }
+
+        public Price(String currency, long amount, Integer quantity, boolean available, double ratio) {
+            this.currency = currency;
+            this.amount = amount;
+            this.quantity = quantity;
+            this.available = available;
+            this.ratio = ratio;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public void setAvailable(boolean available) {
+            this.available = available;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+    }
+
+    public record Line(String sku, int quantity, Price price) {
+    }
+
+    public static class Order {
+        public String id;
+        public Status status;
+        public Renamed renamed;
+        private Price price;
+        private List<Line> lines;
+        private String[] tags;
+        private Map<String, String> attributes;
+
+        public Price getPrice() {
+            return price;
+        }
+
+        public void setPrice(Price price) {
+            this.price = price;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+
+        public void setTags(String[] tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    public static class Renamed {
+        @JsonProperty("label")
+        public String name;
+        private String secret;
+
+        @JsonIgnore
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+
+    public static class Formatted {
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public long amount;
+        public Price price;
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.smallrye.reactivemessaging.kafka.MappedFileStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingStateCodec;
+import io.vertx.mutiny.core.Vertx;
+
+public class MappedFileStateStoreTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("prices", 0);
+
+    @TempDir
+    Path directory;
+
+    Vertx vertx;
+
+    @BeforeEach
+    void createVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void closeVertx() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testStatesAreRecovered() {
+        MappedFileStateStore store = store(1024);
+        persist(store, 10, "first");
+        persist(store, 20, "second");
+        // outdated
+        persist(store, 15, "third");
+        assertThat(fetch(store).getOffset()).isEqualTo(20);
+        store.close();
+
+        MappedFileStateStore recovered = store(1024);
+        ProcessingState<?> state = fetch(recovered);
+        assertThat(state.getOffset()).isEqualTo(20);
+        assertThat(state.getState()).isEqualTo("second");
+        assertThat(recovered.fetchProcessingState(List.of(new TopicPartition("prices", 1))).await().indefinitely())
+                .isEmpty();
+        recovered.close();
+    }
+
+    @Test
+    void testLogIsCompacted() throws IOException {
+        MappedFileStateStore store = store(128);
+        for (int i = 0; i < 1000; i++) {
+            persist(store, i, "state-" + i);
+        }
+        store.close();
+        assertThat(Files.size(log())).isEqualTo(128);
+
+        MappedFileStateStore recovered = store(128);
+        ProcessingState<?> state = fetch(recovered);
+        assertThat(state.getOffset()).isEqualTo(999);
+        assertThat(state.getState()).isEqualTo("state-999");
+        recovered.close();
+    }
+
+    @Test
+    void testIncompleteRecordIsIgnored() throws IOException {
+        MappedFileStateStore store = store(1024);
+        persist(store, 10, "first");
+        persist(store, 20, "second");
+        store.close();
+
+        // corrupt the state of the second record, which follows the first one
+        int firstRecord = Integer.BYTES + Long.BYTES + "first".length() + Integer.BYTES;
+        try (RandomAccessFile file = new RandomAccessFile(log().toFile(), "rw")) {
+            file.seek(firstRecord + Integer.BYTES + Long.BYTES);
+            file.write('S');
+        }
+
+        MappedFileStateStore recovered = store(1024);
+        assertThat(fetch(recovered).getOffset()).isEqualTo(10);
+        persist(recovered, 30, "third");
+        recovered.close();
+
+        recovered = store(1024);
+        assertThat(fetch(recovered).getState()).isEqualTo("third");
+        recovered.close();
+    }
+
+    @Test
+    void testFailedCompactionKeepsTheLog() throws IOException {
+        // the compacted file cannot be created
+        Path obstacle = Files.createDirectories(directory.resolve("prices-0.log.compacted"));
+        Files.createFile(obstacle.resolve("file"));
+
+        MappedFileStateStore store = store(128);
+        long failedAt = -1;
+        for (int i = 0; i < 100 && failedAt < 0; i++) {
+            try {
+                persist(store, i, "state-" + i);
+            } catch (UncheckedIOException e) {
+                failedAt = i;
+            }
+        }
+        assertThat(failedAt).isPositive();
+        assertThat(fetch(store).getOffset()).isEqualTo(failedAt - 1);
+        long offset = failedAt;
+        assertThatThrownBy(() -> persist(store, offset, "again")).isInstanceOf(UncheckedIOException.class);
+
+        Files.delete(obstacle.resolve("file"));
+        Files.delete(obstacle);
+        persist(store, failedAt, "compacted");
+        store.close();
+
+        MappedFileStateStore recovered = store(128);
+        ProcessingState<?> state = fetch(recovered);
+        assertThat(state.getOffset()).isEqualTo(failedAt);
+        assertThat(state.getState()).isEqualTo("compacted");
+        recovered.close();
+    }
+
+    private MappedFileStateStore store(int logSize) {
+        return new MappedFileStateStore(vertx, directory, new StringStateCodec(), logSize, false);
+    }
+
+    private Path log() {
+        return directory.resolve("prices-0.log");
+    }
+
+    private static void persist(MappedFileStateStore store, long offset, String state) {
+        store.persistProcessingState(Map.of(PARTITION, new ProcessingState<>(state, offset))).await().indefinitely();
+    }
+
+    private static ProcessingState<?> fetch(MappedFileStateStore store) {
+        return store.fetchProcessingState(List.of(PARTITION)).await().indefinitely().get(PARTITION);
+    }
+
+    private static class StringStateCodec implements ProcessingStateCodec {
+
+        @Override
+        public ProcessingState<?> decode(byte[] bytes) {
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            return new ProcessingState<>(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+        }
+
+        @Override
+        public byte[] encode(ProcessingState<?> state) {
+            return (state.getOffset() + ":" + state.getState()).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
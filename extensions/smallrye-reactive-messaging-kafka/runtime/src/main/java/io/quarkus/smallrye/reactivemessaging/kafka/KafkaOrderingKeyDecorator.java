@@ -0,0 +1,55 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+
+/**
+ * Stores the ordering key of the incoming Kafka records in their message context, so that the worker pools configured
+ * with {@code keyed-ordering} process the records sharing a key in order, and the others concurrently.
+ * <p>
+ * The ordering key is the record key, or the topic-partition for the records without key.
+ */
+@ApplicationScoped
+public class KafkaOrderingKeyDecorator implements PublisherDecorator {
+
+    @Inject
+    QuarkusWorkerPoolRegistry workerPoolRegistry;
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, List<String> channelName,
+            boolean isConnector) {
+        if (!isConnector || !workerPoolRegistry.hasKeyedWorkers()) {
+            return publisher;
+        }
+        return publisher.invoke(message -> {
+            Optional<IncomingKafkaRecordMetadata> metadata = message.getMetadata(IncomingKafkaRecordMetadata.class);
+            Optional<LocalContextMetadata> localContextMetadata = message.getMetadata(LocalContextMetadata.class);
+            if (metadata.isPresent() && localContextMetadata.isPresent()) {
+                localContextMetadata.get().context().putLocal(QuarkusWorkerPoolRegistry.ORDERING_KEY,
+                        orderingKey(metadata.get()));
+            }
+        });
+    }
+
+    static Object orderingKey(IncomingKafkaRecordMetadata<?, ?> metadata) {
+        Object key = metadata.getKey();
+        if (key == null) {
+            return new TopicPartition(metadata.getTopic(), metadata.getPartition());
+        }
+        // arrays do not implement equals
+        return key instanceof byte[] ? ByteBuffer.wrap((byte[]) key) : key;
+    }
+}
@@ -0,0 +1,344 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+
+import io.smallrye.common.annotation.Identifier;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.KafkaConsumer;
+import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingStateCodec;
+import io.smallrye.reactive.messaging.kafka.commit.VertxJsonProcessingStateCodec;
+import io.smallrye.reactive.messaging.providers.helpers.CDIUtils;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Persists the processing states in local files, one per topic-partition, so that checkpoints do not require a remote
+ * round-trip.
+ * <p>
+ * Each file is a memory-mapped, append-only log of the successive states of the partition. When the log is full, it is
+ * compacted: the latest state is written to a new file, which atomically replaces the log. On recovery, the log is read
+ * up to the last complete record, protected by a checksum.
+ * <p>
+ * The files are read and written on worker threads, as mapping them, compacting them or forcing them to the storage
+ * device blocks.
+ * <p>
+ * The states written to the mapped files survive the crash of the application, but not the crash of the host unless
+ * {@code sync} is enabled, which forces each checkpoint to the storage device.
+ */
+public class MappedFileStateStore implements CheckpointStateStore {
+
+    public static final String MAPPED_FILE_STATE_STORE = "quarkus-mapped-file";
+
+    static final String DEFAULT_STATE_DIR = "kafka-checkpoints";
+    static final int DEFAULT_LOG_SIZE = 1024 * 1024;
+
+    // the logs are shared by the consumers of the application, as a partition can move from one to another
+    private static final Map<Path, PartitionLog> LOGS = new HashMap<>();
+
+    private final Vertx vertx;
+    private final Path directory;
+    private final ProcessingStateCodec stateCodec;
+    private final int logSize;
+    private final boolean sync;
+    private final Map<TopicPartition, PartitionLog> logs = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * @param vertx the Vert.x instance, running the blocking file operations
+     * @param directory the directory of the log files
+     * @param stateCodec the codec of the processing states
+     * @param logSize the size of a log file, before compaction
+     * @param sync whether each checkpoint is forced to the storage device
+     */
+    public MappedFileStateStore(Vertx vertx, Path directory, ProcessingStateCodec stateCodec, int logSize, boolean sync) {
+        this.vertx = vertx;
+        this.directory = directory;
+        this.stateCodec = stateCodec;
+        this.logSize = logSize;
+        this.sync = sync;
+    }
+
+    @ApplicationScoped
+    @Identifier(MAPPED_FILE_STATE_STORE)
+    public static class Factory implements CheckpointStateStore.Factory {
+
+        @Inject
+        Instance<ProcessingStateCodec.Factory> stateCodecFactory;
+
+        @Override
+        public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
+                KafkaConsumer<?, ?> consumer, Class<?> stateType) {
+            String consumerGroupId = (String) consumer.configuration().get(ConsumerConfig.GROUP_ID_CONFIG);
+            String prefix = KafkaCommitHandler.Strategy.CHECKPOINT + "." + MAPPED_FILE_STATE_STORE + ".";
+            Path stateDir = Path.of(config.config().getOptionalValue(prefix + "state-dir", String.class)
+                    .orElse(DEFAULT_STATE_DIR));
+            int logSize = config.config().getOptionalValue(prefix + "log-size", Integer.class)
+                    .orElse(DEFAULT_LOG_SIZE);
+            boolean sync = config.config().getOptionalValue(prefix + "sync", Boolean.class)
+                    .orElse(false);
+            ProcessingStateCodec stateCodec = CDIUtils.getInstanceById(stateCodecFactory, config.getChannel(), () -> {
+                if (stateCodecFactory.isUnsatisfied()) {
+                    return VertxJsonProcessingStateCodec.FACTORY;
+                } else {
+                    return stateCodecFactory.get();
+                }
+            }).create(stateType);
+            // the dots are encoded as well, so that a group id cannot designate a parent directory
+            String groupDir = URLEncoder.encode(consumerGroupId, StandardCharsets.UTF_8).replace(".", "%2E");
+            return new MappedFileStateStore(vertx, stateDir.resolve(groupDir), stateCodec, logSize, sync);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            for (PartitionLog log : logs.values()) {
+                release(log);
+            }
+            logs.clear();
+        }
+    }
+
+    @Override
+    public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
+        return vertx.executeBlocking(Uni.createFrom().item(() -> {
+            Map<TopicPartition, ProcessingState<?>> states = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                PartitionLog log = log(partition);
+                if (log == null) {
+                    return Collections.emptyMap();
+                }
+                byte[] state = log.state();
+                if (state != null) {
+                    states.put(partition, ProcessingState.getOrEmpty(stateCodec.decode(state)));
+                }
+            }
+            return states;
+        }));
+    }
+
+    @Override
+    public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> states) {
+        return vertx.executeBlocking(Uni.createFrom().item(() -> {
+            for (Map.Entry<TopicPartition, ProcessingState<?>> entry : states.entrySet()) {
+                ProcessingState<?> state = entry.getValue();
+                if (ProcessingState.isEmptyOrNull(state)) {
+                    continue;
+                }
+                PartitionLog log = log(entry.getKey());
+                if (log == null) {
+                    break;
+                }
+                log.append(state.getOffset(), stateCodec.encode(state), sync);
+            }
+            return null;
+        }));
+    }
+
+    private PartitionLog log(TopicPartition partition) {
+        synchronized (this) {
+            if (closed) {
+                return null;
+            }
+            PartitionLog log = logs.get(partition);
+            if (log == null) {
+                log = acquire(directory.resolve(partition.topic() + "-" + partition.partition() + ".log"), logSize);
+                logs.put(partition, log);
+            }
+            return log;
+        }
+    }
+
+    private static PartitionLog acquire(Path path, int logSize) {
+        synchronized (LOGS) {
+            PartitionLog log = LOGS.get(path);
+            if (log == null) {
+                try {
+                    log = new PartitionLog(path, logSize);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to open the checkpoint log " + path, e);
+                }
+                LOGS.put(path, log);
+            }
+            log.references++;
+            return log;
+        }
+    }
+
+    private static void release(PartitionLog log) {
+        synchronized (LOGS) {
+            if (--log.references == 0) {
+                LOGS.remove(log.path);
+                log.close();
+            }
+        }
+    }
+
+    /**
+     * The log of the states of a partition. A record is made of its length, the offset, the encoded state and a checksum
+     * of the offset and the state. The unused part of the file is filled with zeros, which ends the log.
+     */
+    static final class PartitionLog {
+
+        private static final int LENGTH_SIZE = Integer.BYTES;
+        private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+        final Path path;
+        private final int logSize;
+        private final CRC32C checksum = new CRC32C();
+        int references;
+
+        private FileChannel channel;
+        private MappedByteBuffer buffer;
+        private int position;
+        private long offset = -1;
+        private byte[] state;
+
+        PartitionLog(Path path, int logSize) throws IOException {
+            this.path = path;
+            this.logSize = logSize;
+            Files.createDirectories(path.getParent());
+            open();
+        }
+
+        synchronized byte[] state() {
+            return state;
+        }
+
+        synchronized void append(long offset, byte[] state, boolean sync) {
+            if (channel == null || offset < this.offset) {
+                // closed, or an outdated state
+                return;
+            }
+            try {
+                int recordSize = LENGTH_SIZE + Long.BYTES + state.length + CHECKSUM_SIZE;
+                if (position + recordSize > buffer.capacity()) {
+                    compact(recordSize);
+                }
+                position = write(buffer, position, offset, state);
+                this.offset = offset;
+                this.state = state;
+                if (sync) {
+                    buffer.force();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write the checkpoint log " + path, e);
+            }
+        }
+
+        private int write(MappedByteBuffer target, int at, long offset, byte[] state) {
+            int length = Long.BYTES + state.length;
+            target.putLong(at + LENGTH_SIZE, offset);
+            target.put(at + LENGTH_SIZE + Long.BYTES, state);
+            checksum.reset();
+            checksum.update(target.slice(at + LENGTH_SIZE, length));
+            target.putInt(at + LENGTH_SIZE + length, (int) checksum.getValue());
+            // the length is written last, a record is ignored until it is complete
+            target.putInt(at, length);
+            return at + LENGTH_SIZE + length + CHECKSUM_SIZE;
+        }
+
+        /**
+         * Replaces the log with a new file containing the latest state, with room for a record of the given size.
+         * <p>
+         * The new file is written and renamed before the current one is closed, its channel then becomes the channel of
+         * the log. If it fails, the current log is kept.
+         */
+        private void compact(int recordSize) throws IOException {
+            int latestSize = state == null ? 0 : LENGTH_SIZE + Long.BYTES + state.length + CHECKSUM_SIZE;
+            int capacity = Math.max(logSize, 2 * (latestSize + recordSize));
+            Path compacted = path.resolveSibling(path.getFileName() + ".compacted");
+            FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer mapped;
+            int end = 0;
+            try {
+                mapped = target.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                if (state != null) {
+                    end = write(mapped, 0, offset, state);
+                }
+                mapped.force();
+                Files.move(compacted, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException | RuntimeException e) {
+                target.close();
+                Files.deleteIfExists(compacted);
+                throw e;
+            }
+            close();
+            channel = target;
+            buffer = mapped;
+            position = end;
+        }
+
+        private void open() throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(channel.size(), logSize);
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The checkpoint log is too large: " + size);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            recover();
+        }
+
+        private void recover() {
+            position = 0;
+            offset = -1;
+            state = null;
+            while (position + LENGTH_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                int end = position + LENGTH_SIZE + length + CHECKSUM_SIZE;
+                if (length < Long.BYTES || end > buffer.capacity()) {
+                    break;
+                }
+                checksum.reset();
+                checksum.update(buffer.slice(position + LENGTH_SIZE, length));
+                if ((int) checksum.getValue() != buffer.getInt(end - CHECKSUM_SIZE)) {
+                    // a record which was not completely written
+                    break;
+                }
+                offset = buffer.getLong(position + LENGTH_SIZE);
+                state = new byte[length - Long.BYTES];
+                buffer.get(position + LENGTH_SIZE + Long.BYTES, state);
+                position = end;
+            }
+        }
+
+        synchronized void close() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing to do, the states have been written to the mapped buffer
+            }
+            channel = null;
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.smallrye.reactivemessaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.smallrye.reactivemessaging.runtime.KeyedDispatcher;
+import io.smallrye.mutiny.Uni;
+
+public class KeyedDispatcherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testMessagesAreOrderedPerKey() {
+        KeyedDispatcher dispatcher = new KeyedDispatcher(8);
+        Map<Object, List<Integer>> processed = new ConcurrentHashMap<>();
+        Map<Object, AtomicInteger> inProgress = new ConcurrentHashMap<>();
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        List<Uni<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int value = i;
+            String key = i % 5 == 0 ? null : "key-" + (i % 4);
+            results.add(dispatcher.dispatch(key, Uni.createFrom().item(() -> {
+                // the processing of a key is never concurrent
+                assertThat(inProgress.computeIfAbsent(String.valueOf(key), k -> new AtomicInteger()).incrementAndGet())
+                        .isEqualTo(1);
+                maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                sleep();
+                processed.computeIfAbsent(String.valueOf(key), k -> new CopyOnWriteArrayList<>()).add(value);
+                concurrency.decrementAndGet();
+                inProgress.get(String.valueOf(key)).decrementAndGet();
+                return value;
+            }).runSubscriptionOn(executor)));
+        }
+
+        List<Integer> values = Uni.join().all(results).andFailFast().await().atMost(Duration.ofSeconds(30));
+        assertThat(values).hasSize(200);
+        assertThat(processed).hasSize(5);
+        assertThat(processed.values()).allSatisfy(list -> assertThat(list).isSorted());
+        assertThat(maxConcurrency.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void testConcurrencyIsBounded() {
+        KeyedDispatcher dispatcher = new KeyedDispatcher(2);
+        AtomicInteger concurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        List<Uni<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            results.add(dispatcher.dispatch(value, Uni.createFrom().item(() -> {
+                maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                sleep();
+                concurrency.decrementAndGet();
+                return value;
+            }).runSubscriptionOn(executor)));
+        }
+
+        assertThat(Uni.join().all(results).andFailFast().await().atMost(Duration.ofSeconds(30))).hasSize(50);
+        assertThat(maxConcurrency.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailureDoesNotBlockTheKey() {
+        KeyedDispatcher dispatcher = new KeyedDispatcher(1);
+        Uni<Integer> failed = dispatcher.dispatch("key",
+                Uni.createFrom().<Integer> failure(new IllegalStateException("boom")).runSubscriptionOn(executor));
+        Uni<Integer> next = dispatcher.dispatch("key", Uni.createFrom().item(1).runSubscriptionOn(executor));
+
+        assertThat(failed.onFailure().recoverWithItem(-1).await().atMost(Duration.ofSeconds(5))).isEqualTo(-1);
+        assertThat(next.await().atMost(Duration.ofSeconds(5))).isEqualTo(1);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Dispatches the processing of messages so that the messages sharing an ordering key are processed one after the
+ * other, in the order of subscription, while messages with different keys are processed concurrently.
+ * <p>
+ * Each key has a lane, the queue of its pending processing. At most {@code maxConcurrency} lanes are processed at the
+ * same time, the others wait for a free slot. When a lane has more messages to process while other lanes are waiting,
+ * it yields its slot, so that a hot key cannot starve the other keys.
+ */
+public class KeyedDispatcher {
+
+    private static final Object NO_KEY = new Object();
+
+    private final int maxConcurrency;
+    // the lanes being processed or waiting for a slot, a lane being processed is present even if it is empty
+    private final Map<Object, Deque<Runnable>> lanes = new HashMap<>();
+    // the keys of the non-empty lanes waiting for a slot
+    private final Deque<Object> waiting = new ArrayDeque<>();
+    private int active;
+
+    public KeyedDispatcher(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Dispatches the given processing.
+     *
+     * @param key the ordering key, {@code null} if the message has no key, in which case it is ordered with the other
+     *        messages without key
+     * @param work the processing, subscribed once the previous processing of the same key has completed
+     * @return the result of the processing
+     */
+    public <T> Uni<T> dispatch(Object key, Uni<T> work) {
+        Object lane = key == null ? NO_KEY : key;
+        return Uni.createFrom().emitter(emitter -> submit(lane, () -> work.subscribe().with(item -> {
+            done(lane);
+            emitter.complete(item);
+        }, failure -> {
+            done(lane);
+            emitter.fail(failure);
+        })));
+    }
+
+    private void submit(Object key, Runnable task) {
+        synchronized (this) {
+            Deque<Runnable> lane = lanes.get(key);
+            if (lane != null) {
+                // the key is processed or already waiting, the task runs after the previous ones
+                lane.add(task);
+                return;
+            }
+            lane = new ArrayDeque<>();
+            lanes.put(key, lane);
+            if (active == maxConcurrency) {
+                lane.add(task);
+                waiting.add(key);
+                return;
+            }
+            active++;
+        }
+        task.run();
+    }
+
+    private void done(Object key) {
+        Runnable next;
+        synchronized (this) {
+            Deque<Runnable> lane = lanes.get(key);
+            if (lane.isEmpty()) {
+                lanes.remove(key);
+            } else {
+                waiting.add(key);
+            }
+            Object nextKey = waiting.poll();
+            if (nextKey == null) {
+                active--;
+                return;
+            }
+            next = lanes.get(nextKey).poll();
+        }
+        next.run();
+    }
+}
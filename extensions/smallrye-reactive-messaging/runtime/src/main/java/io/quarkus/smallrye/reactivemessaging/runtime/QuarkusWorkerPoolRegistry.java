@@ -42,13 +42,22 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
 
     private static final String WORKER_CONFIG_PREFIX = "smallrye.messaging.worker";
     private static final String WORKER_CONCURRENCY = "max-concurrency";
+    private static final String WORKER_KEYED_ORDERING = "keyed-ordering";
     public static final String DEFAULT_VIRTUAL_THREAD_WORKER = "<virtual-thread>";
+    private static final int DEFAULT_KEYED_CONCURRENCY = 1024;
+
+    /**
+     * The key of the message context local holding the ordering key of the message, set by the connectors supporting
+     * the keyed ordering.
+     */
+    public static final String ORDERING_KEY = "io.quarkus.messaging.ordering-key";
 
     @Inject
     ExecutionHolder executionHolder;
 
     private final Map<String, Integer> workerConcurrency = new HashMap<>();
     private final Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+    private final Map<String, KeyedDispatcher> keyedDispatchers = new ConcurrentHashMap<>();
     private final Set<String> virtualThreadWorkers = initVirtualThreadWorkers();
 
     private static Set<String> initVirtualThreadWorkers() {
@@ -77,7 +86,26 @@ public <T> Uni<T> executeWork(Context msgContext, Uni<T> uni, String workerName,
                 return msgContext.executeBlocking(uni, ordered);
             }
             return executionHolder.vertx().executeBlocking(uni, ordered);
-        } else if (virtualThreadWorkers.contains(workerName)) {
+        }
+        // the ordered methods keep the total ordering, even on a pool with keyed ordering
+        KeyedDispatcher dispatcher = ordered ? null : keyedDispatchers.get(workerName);
+        Object key = dispatcher != null && msgContext != null ? msgContext.getDelegate().getLocal(ORDERING_KEY) : null;
+        if (key != null) {
+            // the messages sharing a key are processed one after the other, the others concurrently
+            return dispatcher.dispatch(key, runOnWorker(msgContext, uni, workerName, false));
+        }
+        return runOnWorker(msgContext, uni, workerName, ordered);
+    }
+
+    /**
+     * @return whether a worker pool dispatches the messages according to their ordering key
+     */
+    public boolean hasKeyedWorkers() {
+        return !keyedDispatchers.isEmpty();
+    }
+
+    private <T> Uni<T> runOnWorker(Context msgContext, Uni<T> uni, String workerName, boolean ordered) {
+        if (virtualThreadWorkers.contains(workerName)) {
             return runOnVirtualThread(msgContext, uni);
         } else {
             return runOnWorkerThread(msgContext, uni, workerName, ordered);
@@ -198,6 +226,7 @@ public void defineWorker(String className, String method, String poolName, boole
         Objects.requireNonNull(method, "Method was empty");
         if (virtualThread) {
             virtualThreadWorkers.add(poolName);
+            defineKeyedDispatcher(poolName);
             return;
         }
 
@@ -215,7 +244,20 @@ public void defineWorker(String className, String method, String poolName, boole
             }
 
             workerConcurrency.put(poolName, concurrency.get());
+            defineKeyedDispatcher(poolName);
+        }
+    }
+
+    private void defineKeyedDispatcher(String poolName) {
+        String keyedConfigKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_KEYED_ORDERING;
+        if (!ConfigProvider.getConfig().getOptionalValue(keyedConfigKey, Boolean.class).orElse(false)) {
+            return;
         }
+        // the concurrency bounds the number of keys processed at the same time
+        String workerConfigKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_CONCURRENCY;
+        int concurrency = ConfigProvider.getConfig().getOptionalValue(workerConfigKey, Integer.class)
+                .orElse(DEFAULT_KEYED_CONCURRENCY);
+        keyedDispatchers.computeIfAbsent(poolName, p -> new KeyedDispatcher(concurrency));
     }
 
     private IllegalArgumentException getBlockingError(String className, String method, String message) {
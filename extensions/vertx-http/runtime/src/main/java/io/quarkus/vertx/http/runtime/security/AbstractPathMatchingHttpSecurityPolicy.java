@@ -24,7 +24,6 @@
 import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.AuthorizationRequestContext;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.CheckResult;
-import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher.PathMatch;
 import io.smallrye.mutiny.Uni;
 import io.vertx.ext.web.RoutingContext;
 
@@ -37,8 +36,9 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private static final Uni<CheckResult> PERMITTED = Uni.createFrom().item(new CheckResult(true, null));
+    private final ImmutablePathMatcher<PathPermissions> pathMatcher;
+    private final List<ImmutablePathMatcher<PathPermissions>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> permissions,
@@ -46,8 +46,9 @@ public class AbstractPathMatchingHttpSecurityPolicy {
             PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<PathPermissions>> sharedPermsMatchers = new ArrayList<>();
+        List<PathPermissions> allPathPermissions = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<PathPermissions> builder().handlerAccumulator(PathPermissions::addAll)
                 .rootPath(rootPath);
         for (PolicyMappingConfig policyMappingConfig : permissions.values()) {
             if (appliesTo != policyMappingConfig.appliesTo()) {
@@ -57,22 +58,27 @@ public class AbstractPathMatchingHttpSecurityPolicy {
                 hasNoPermissions = false;
             }
             if (policyMappingConfig.shared()) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+                final var builder1 = ImmutablePathMatcher.<PathPermissions> builder()
+                        .handlerAccumulator(PathPermissions::addAll)
                         .rootPath(rootPath);
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1, allPathPermissions);
                 sharedPermsMatchers.add(builder1.build());
             } else {
-                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder);
+                addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder, allPathPermissions);
             }
         }
         this.hasNoPermissions = hasNoPermissions;
         this.sharedPermissionsPathMatchers = sharedPermsMatchers.isEmpty() ? null : List.copyOf(sharedPermsMatchers);
         this.pathMatcher = builder.build();
+        // all the permissions with the same path have been accumulated, the policies can now be resolved per HTTP method
+        for (PathPermissions pathPermissions : allPathPermissions) {
+            pathPermissions.compile();
+        }
     }
 
     public String getAuthMechanismName(RoutingContext routingContext) {
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<PathPermissions> matcher : sharedPermissionsPathMatchers) {
                 String authMechanismName = getAuthMechanismName(routingContext, matcher);
                 if (authMechanismName != null) {
                     return authMechanismName;
@@ -93,6 +99,26 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
+        if (additionalPolicies.length == 0) {
+            if (hasNoPermissions) {
+                return PERMITTED;
+            }
+            if (sharedPermissionsPathMatchers == null) {
+                // the most common case: a single path matcher, the policy chain is resolved without any allocation
+                PolicyChain policyChain = findPolicyChain(routingContext, pathMatcher);
+                if (policyChain.policies.isEmpty()) {
+                    return PERMITTED;
+                }
+                if (policyChain.permitAll) {
+                    routingContext.put(PATH_MATCHING_POLICY_FOUND, true);
+                    return PERMITTED;
+                }
+                if (policyChain.denyAll) {
+                    return CheckResult.deny();
+                }
+                return doPermissionCheck(routingContext, identity, 0, null, policyChain.policies, requestContext);
+            }
+        }
         final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
                 : getHttpSecurityPolicies(routingContext);
         if (additionalPolicies.length > 0) {
@@ -106,16 +132,13 @@ Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIde
     }
 
     private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingContext) {
-        final List<HttpSecurityPolicy> permissionCheckers;
-        if (sharedPermissionsPathMatchers == null) {
-            permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
-        } else {
-            permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
-                permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
+        final List<HttpSecurityPolicy> permissionCheckers = new ArrayList<>();
+        if (sharedPermissionsPathMatchers != null) {
+            for (ImmutablePathMatcher<PathPermissions> matcher : sharedPermissionsPathMatchers) {
+                permissionCheckers.addAll(findPolicyChain(routingContext, matcher).policies);
             }
-            permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
         }
+        permissionCheckers.addAll(findPolicyChain(routingContext, pathMatcher).policies);
         return permissionCheckers;
     }
 
@@ -161,22 +184,15 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
     }
 
     private static String getAuthMechanismName(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+            ImmutablePathMatcher<PathPermissions> pathMatcher) {
+        PathPermissions pathPermissions = pathMatcher.matchValue(routingContext.normalizedPath());
+        return pathPermissions == null ? null : pathPermissions.authMechanism;
     }
 
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             PolicyMappingConfig policyMappingConfig,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<PathPermissions> builder,
+            List<PathPermissions> allPathPermissions) {
         HttpSecurityPolicy checker = permissionCheckers.get(policyMappingConfig.policy());
         if (checker == null) {
             throw new RuntimeException("Unable to find HTTP security policy " + policyMappingConfig.policy());
@@ -186,39 +202,19 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
             for (String path : policyMappingConfig.paths().orElse(Collections.emptyList())) {
                 HttpMatcher m = new HttpMatcher(policyMappingConfig.authMechanism().orElse(null),
                         new HashSet<>(policyMappingConfig.methods().orElse(Collections.emptyList())), checker);
-                List<HttpMatcher> perms = new ArrayList<>();
-                perms.add(m);
+                PathPermissions perms = new PathPermissions(m);
+                allPathPermissions.add(perms);
                 builder.addPath(path, perms);
             }
         }
     }
 
-    private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        var result = new ArrayList<HttpSecurityPolicy>();
-
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(context.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return result;
+    private static PolicyChain findPolicyChain(RoutingContext context, ImmutablePathMatcher<PathPermissions> pathMatcher) {
+        PathPermissions pathPermissions = pathMatcher.matchValue(context.normalizedPath());
+        if (pathPermissions == null) {
+            return PolicyChain.EMPTY;
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i.checker);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            result.addAll(methodMatch);
-        } else if (!noMethod.isEmpty()) {
-            result.addAll(noMethod);
-        } else {
-            //we deny if we did not match due to method filtering
-            result.add(DenySecurityPolicy.INSTANCE);
-        }
-        return result;
+        return pathPermissions.getPolicyChain(context.request().method().name());
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -414,4 +410,98 @@ static ConfigurationException duplicateNamedPoliciesNotAllowedEx(HttpSecurityPol
     record HttpMatcher(String authMechanism, Set<String> methods, HttpSecurityPolicy checker) {
 
     }
+
+    /**
+     * All the permissions defined for the same path. Once the path matcher is built, the policies are resolved for each
+     * HTTP method, so that the request is only matched against the path and the method.
+     */
+    static final class PathPermissions {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>();
+        private Map<String, PolicyChain> methodToPolicyChain;
+        private PolicyChain otherMethodsPolicyChain;
+        private String authMechanism;
+
+        private PathPermissions(HttpMatcher matcher) {
+            matchers.add(matcher);
+        }
+
+        private void addAll(PathPermissions other) {
+            matchers.addAll(other.matchers);
+        }
+
+        private void compile() {
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Set<String> methods = new HashSet<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    methods.addAll(i.methods);
+                }
+                if (authMechanism == null && i.authMechanism != null) {
+                    authMechanism = i.authMechanism;
+                }
+            }
+            Map<String, PolicyChain> methodToPolicyChain = new HashMap<>();
+            for (String method : methods) {
+                List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
+                for (HttpMatcher i : matchers) {
+                    if (i.methods != null && i.methods.contains(method)) {
+                        methodMatch.add(i.checker);
+                    }
+                }
+                methodToPolicyChain.put(method, new PolicyChain(methodMatch));
+            }
+            this.methodToPolicyChain = Map.copyOf(methodToPolicyChain);
+            if (matchers.isEmpty()) {
+                this.otherMethodsPolicyChain = PolicyChain.EMPTY;
+            } else if (!noMethod.isEmpty()) {
+                this.otherMethodsPolicyChain = new PolicyChain(noMethod);
+            } else {
+                //we deny if we did not match due to method filtering
+                this.otherMethodsPolicyChain = new PolicyChain(List.of(DenySecurityPolicy.INSTANCE));
+            }
+        }
+
+        private PolicyChain getPolicyChain(String method) {
+            PolicyChain policyChain = methodToPolicyChain.get(method);
+            return policyChain == null ? otherMethodsPolicyChain : policyChain;
+        }
+    }
+
+    /**
+     * Policies that must all permit the request.
+     */
+    static final class PolicyChain {
+
+        private static final PolicyChain EMPTY = new PolicyChain(List.of());
+
+        private final List<HttpSecurityPolicy> policies;
+        /**
+         * All the policies permit the request, therefore, there is no need to check them for each request.
+         */
+        private final boolean permitAll;
+        /**
+         * All the policies deny the request, therefore, there is no need to check them for each request.
+         */
+        private final boolean denyAll;
+
+        private PolicyChain(List<HttpSecurityPolicy> policies) {
+            this.policies = List.copyOf(policies);
+            boolean permitAll = !policies.isEmpty();
+            boolean denyAll = !policies.isEmpty();
+            for (HttpSecurityPolicy policy : policies) {
+                // only exact classes, the subclasses may override the check
+                if (policy.getClass() != PermitSecurityPolicy.class) {
+                    permitAll = false;
+                }
+                if (policy.getClass() != DenySecurityPolicy.class) {
+                    denyAll = false;
+                }
+            }
+            this.permitAll = permitAll;
+            this.denyAll = denyAll;
+        }
+    }
 }
@@ -84,6 +84,40 @@ public PathMatch<T> match(String path) {
         return new PathMatch<>("", defaultHandler);
     }
 
+    /**
+     * Matches a path against the registered handlers, same as {@link #match(String)}, but only returns the matched value.
+     *
+     * @param path The relative path to match
+     * @return The matched value or the default handler, which may be null
+     */
+    public T matchValue(String path) {
+        if (hasExactPathMatches) {
+            T match = exactPathMatches.get(path);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        int length = path.length();
+        for (int pathLength : lengths) {
+            if (pathLength == length) {
+                SubstringMatch<T> next = paths.get(path, length);
+                if (next != null) {
+                    return next.getValue();
+                }
+            } else if (pathLength < length) {
+                char c = path.charAt(pathLength);
+                if (c == '/' || (hasPathWithInnerWildcard && pathLength == 1)) {
+                    SubstringMatch<T> next = paths.get(path, pathLength);
+                    if (next != null) {
+                        return next.getValue();
+                    }
+                }
+            }
+        }
+        return defaultHandler;
+    }
+
     public static <T> ImmutablePathMatcherBuilder<T> builder() {
         return new ImmutablePathMatcherBuilder<>();
     }
@@ -0,0 +1,24 @@
+package io.quarkus.vertx.core.deployment;
+
+import java.util.Objects;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A build item that allows extensions to declare an MDC key they set for most requests, for example the tracing data.
+ * <p>
+ * The values of these keys are stored at fixed slots of the Vert.x MDC, so that they are neither hashed nor stored in map
+ * entries.
+ */
+public final class MdcKeyBuildItem extends MultiBuildItem {
+
+    private final String key;
+
+    public MdcKeyBuildItem(String key) {
+        this.key = Objects.requireNonNull(key);
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -306,6 +306,16 @@ ContextHandlerBuildItem createVertxContextHandlers(VertxCoreRecorder recorder,
         return new ContextHandlerBuildItem(recorder.executionContextHandler(ignoredKeysSuppliers));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void registerMdcKeys(VertxCoreRecorder recorder, List<MdcKeyBuildItem> mdcKeys,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        recorder.setMdcKeys(mdcKeys.stream().map(MdcKeyBuildItem::getKey).distinct().toList());
+        // The MDC copy of the log records is created with the map class of the log manager
+        reflectiveClass.produce(ReflectiveClassBuildItem.builder("org.jboss.logmanager.FastCopyHashMap")
+                .constructors().methods().build());
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     public void resetMapper(VertxCoreRecorder recorder, ShutdownContextBuildItem shutdown) {
@@ -67,7 +67,8 @@ public void registerCodecs(
             boolean isLocal = local == null || local.asBoolean();
             MethodInfo method = typeTarget.asMethod();
 
-            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method);
+            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method,
+                    VertxConstants.isBatchConsumer(consumeEventAnnotationInstance));
             // If the @ConsumeEvent set the codec, use this codec. It applies to the parameter
             AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
             if (codec != null && codec.asClass().kind() == Type.Kind.CLASS) {
@@ -200,7 +201,7 @@ private static Type extractPayloadTypeFromReturn(MethodInfo method) {
         return null;
     }
 
-    private static Type extractPayloadTypeFromParameter(MethodInfo method) {
+    private static Type extractPayloadTypeFromParameter(MethodInfo method, boolean batch) {
         List<Type> parameters = method.parameterTypes();
         if (parameters.isEmpty()) {
             return null;
@@ -211,6 +212,16 @@ private static Type extractPayloadTypeFromParameter(MethodInfo method) {
          */
         int messageIndex = parameters.size() == 1 ? 0 : 1;
         Type param = method.parameterType(messageIndex);
+        if (batch) {
+            // the payload is the type of the list elements
+            if (param.kind() == Type.Kind.PARAMETERIZED_TYPE && !param.asParameterizedType().arguments().isEmpty()) {
+                Type elementType = param.asParameterizedType().arguments().get(0);
+                return elementType.kind() == Type.Kind.CLASS || elementType.kind() == Type.Kind.PARAMETERIZED_TYPE
+                        ? elementType
+                        : null;
+            }
+            return null;
+        }
         if (param.kind() == Type.Kind.CLASS) {
             return param;
         } else if (param.kind() == Type.Kind.PARAMETERIZED_TYPE) {
@@ -14,15 +14,23 @@ public final class EventConsumerBusinessMethodItem extends MultiBuildItem {
     private final boolean runOnVirtualThreadAnnotation;
     private final boolean splitHeadersBodyParams;
     private final InvokerInfo invoker;
+    private final InvokerInfo directInvoker;
 
     public EventConsumerBusinessMethodItem(BeanInfo bean, AnnotationInstance consumeEvent, boolean blockingAnnotation,
             boolean runOnVirtualThreadAnnotation, boolean splitHeadersBodyParams, InvokerInfo invoker) {
+        this(bean, consumeEvent, blockingAnnotation, runOnVirtualThreadAnnotation, splitHeadersBodyParams, invoker, null);
+    }
+
+    public EventConsumerBusinessMethodItem(BeanInfo bean, AnnotationInstance consumeEvent, boolean blockingAnnotation,
+            boolean runOnVirtualThreadAnnotation, boolean splitHeadersBodyParams, InvokerInfo invoker,
+            InvokerInfo directInvoker) {
         this.bean = bean;
         this.consumeEvent = consumeEvent;
         this.blockingAnnotation = blockingAnnotation;
         this.runOnVirtualThreadAnnotation = runOnVirtualThreadAnnotation;
         this.splitHeadersBodyParams = splitHeadersBodyParams;
         this.invoker = invoker;
+        this.directInvoker = directInvoker;
     }
 
     /**
@@ -73,4 +81,12 @@ public InvokerInfo getInvoker() {
         return invoker;
     }
 
+    /**
+     * Returns the {@linkplain InvokerInfo invoker} that accepts the event body directly, used by
+     * {@link io.quarkus.vertx.LocalEventBus}, or {@code null} if this event consumer method cannot be invoked directly.
+     */
+    public InvokerInfo getDirectInvoker() {
+        return directInvoker;
+    }
+
 }
@@ -64,6 +64,7 @@
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.deployment.spi.EventConsumerInvokerCustomizerBuildItem;
 import io.quarkus.vertx.runtime.EventConsumerInfo;
+import io.quarkus.vertx.runtime.LocalEventBusImpl;
 import io.quarkus.vertx.runtime.VertxEventBusConsumerRecorder;
 import io.quarkus.vertx.runtime.VertxProducer;
 import io.smallrye.common.annotation.Blocking;
@@ -84,6 +85,11 @@ AdditionalBeanBuildItem registerBean() {
         return AdditionalBeanBuildItem.unremovableOf(VertxProducer.class);
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem registerLocalEventBus() {
+        return new AdditionalBeanBuildItem(LocalEventBusImpl.class);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     VertxBuildItem build(CoreVertxBuildItem vertx, VertxEventBusConsumerRecorder recorder,
@@ -102,7 +108,10 @@ VertxBuildItem build(CoreVertxBuildItem vertx, VertxEventBusConsumerRecorder rec
 
             messageConsumerConfigurations.add(new EventConsumerInfo(annotation, businessMethod.isBlockingAnnotation(),
                     businessMethod.isRunOnVirtualThreadAnnotation(), businessMethod.isSplitHeadersBodyParams(),
-                    recorderContext.newInstance(businessMethod.getInvoker().getClassName())));
+                    recorderContext.newInstance(businessMethod.getInvoker().getClassName()),
+                    businessMethod.getDirectInvoker() != null
+                            ? recorderContext.newInstance(businessMethod.getDirectInvoker().getClassName())
+                            : null));
         }
 
         ClassLoader tccl = Thread.currentThread().getContextClassLoader();
@@ -160,7 +169,19 @@ void collectEventConsumers(
                     }
 
                     List<Type> params = method.parameterTypes();
-                    if (parametersCount == 2) {
+                    boolean batch = VertxConstants.isBatchConsumer(consumeEvent);
+                    if (batch) {
+                        if (parametersCount != 1 || !params.get(0).name().equals(VertxConstants.LIST)) {
+                            throw new IllegalStateException(String.format(
+                                    "An event consumer business method with a batch size must accept exactly one java.util.List parameter: %s [method: %s, bean:%s]",
+                                    params, method, bean));
+                        }
+                        if (method.returnType().kind() != Kind.VOID) {
+                            throw new IllegalStateException(String.format(
+                                    "An event consumer business method with a batch size must return void [method: %s, bean:%s]",
+                                    method, bean));
+                        }
+                    } else if (parametersCount == 2) {
                         if (!isMessageHeaders(params.get(0).name())) {
                             // If there are two parameters, the first must be message headers.
                             throw new IllegalStateException(String.format(
@@ -192,7 +213,9 @@ void collectEventConsumers(
                     InvokerBuilder builder = invokerFactory.createInvoker(bean, method)
                             .withInstanceLookup();
 
-                    if (parametersCount == 1 && method.parameterType(0).name().equals(MESSAGE)) {
+                    if (batch) {
+                        // the list of message bodies is passed as is
+                    } else if (parametersCount == 1 && method.parameterType(0).name().equals(MESSAGE)) {
                         // io.vertx.core.eventbus.Message
                         // no transformation required
                     } else if (parametersCount == 1 && method.parameterType(0).name().equals(MUTINY_MESSAGE)) {
@@ -217,9 +240,21 @@ void collectEventConsumers(
 
                     InvokerInfo invoker = builder.build();
 
+                    InvokerInfo directInvoker = null;
+                    if (!batch && parametersCount == 1 && !isMessage(params.get(0).name())
+                            && VertxConstants.isLocalConsumer(consumeEvent) && !KotlinUtils.isKotlinSuspendMethod(method)) {
+                        // the body is passed as is by io.quarkus.vertx.LocalEventBus
+                        InvokerBuilder directBuilder = invokerFactory.createInvoker(bean, method)
+                                .withInstanceLookup();
+                        if (method.returnType().name().equals(UNI)) {
+                            directBuilder.withReturnValueTransformer(Uni.class, "subscribeAsCompletionStage");
+                        }
+                        directInvoker = directBuilder.build();
+                    }
+
                     messageConsumerBusinessMethods.produce(new EventConsumerBusinessMethodItem(bean, consumeEvent,
                             method.hasAnnotation(Blocking.class), method.hasAnnotation(RunOnVirtualThread.class),
-                            parametersCount == 2, invoker));
+                            parametersCount == 2, invoker, directInvoker));
                     LOGGER.debugf("Found event consumer business method %s declared on %s", method, bean);
                 }
             }
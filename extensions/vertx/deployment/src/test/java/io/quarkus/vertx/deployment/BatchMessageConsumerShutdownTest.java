@@ -0,0 +1,46 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+
+public class BatchMessageConsumerShutdownTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(BatchBean.class))
+            .setAllowTestClassOutsideDeployment(true)
+            .setAfterUndeployListener(() -> {
+                // The incomplete batch is delivered when the application stops
+                assertEquals(List.of(List.of("m0", "m1", "m2")), BatchMessages.BATCHES);
+            });
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testIncompleteBatchIsDeliveredOnShutdown() {
+        for (int i = 0; i < 3; i++) {
+            eventBus.send("batch", "m" + i);
+        }
+    }
+
+    @ApplicationScoped
+    static class BatchBean {
+
+        @ConsumeEvent(value = "batch", batchSize = 10, maxWait = "1h")
+        void consume(List<String> messages) {
+            BatchMessages.BATCHES.add(List.copyOf(messages));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+
+public class BatchMessageConsumerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(BatchBean.class));
+
+    @Inject
+    BatchBean bean;
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testFullBatches() throws InterruptedException {
+        bean.reset(2);
+        for (int i = 0; i < 10; i++) {
+            eventBus.send("batch", "m" + i);
+        }
+        assertTrue(bean.await());
+        assertEquals(List.of(List.of("m0", "m1", "m2", "m3", "m4"), List.of("m5", "m6", "m7", "m8", "m9")),
+                bean.batches());
+        assertTrue(bean.isRequestContextActive());
+    }
+
+    @Test
+    public void testIncompleteBatchIsDeliveredAfterMaxWait() throws InterruptedException {
+        bean.reset(1);
+        eventBus.send("batch", "single");
+        assertTrue(bean.await());
+        assertEquals(List.of(List.of("single")), bean.batches());
+    }
+
+    @Test
+    public void testReply() throws InterruptedException {
+        bean.reset(1);
+        CountDownLatch replied = new CountDownLatch(1);
+        eventBus.request("batch", "request", ar -> {
+            if (ar.succeeded() && ar.result().body() == null) {
+                replied.countDown();
+            }
+        });
+        assertTrue(replied.await(2, TimeUnit.SECONDS));
+    }
+
+    @ApplicationScoped
+    static class BatchBean {
+
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch latch;
+        private volatile boolean requestContextActive;
+
+        void reset(int expectedBatches) {
+            batches.clear();
+            latch = new CountDownLatch(expectedBatches);
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(2, TimeUnit.SECONDS);
+        }
+
+        List<List<String>> batches() {
+            return batches;
+        }
+
+        boolean isRequestContextActive() {
+            return requestContextActive;
+        }
+
+        @ConsumeEvent(value = "batch", batchSize = 5, maxWait = "200ms")
+        void consume(List<String> messages) {
+            requestContextActive = Arc.container().requestContext().isActive();
+            batches.add(List.copyOf(messages));
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.quarkus.vertx.deployment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class BatchMessages {
+
+    public static final List<List<String>> BATCHES = new CopyOnWriteArrayList<>();
+}
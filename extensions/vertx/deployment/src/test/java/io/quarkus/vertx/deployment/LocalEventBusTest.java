@@ -0,0 +1,177 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.quarkus.vertx.LocalEventBus;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+
+public class LocalEventBusTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(Consumers.class));
+
+    @Inject
+    LocalEventBus localEventBus;
+
+    @Inject
+    EventBus eventBus;
+
+    @Inject
+    Consumers consumers;
+
+    @Test
+    public void testSend() throws InterruptedException {
+        consumers.reset(1);
+        localEventBus.send("direct", "foo");
+        assertTrue(consumers.await());
+        assertEquals(List.of("foo"), consumers.received());
+        assertTrue(consumers.requestContextActive.get());
+        assertTrue(consumers.eventLoop.get());
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        assertEquals("FOO", localEventBus.request("direct-reply", "foo").toCompletableFuture().get(2, TimeUnit.SECONDS));
+        assertEquals("BAR", localEventBus.request("direct-uni", "bar").toCompletableFuture().get(2, TimeUnit.SECONDS));
+        // the event bus delivers the same addresses to the same methods
+        assertEquals("BAZ", eventBus.request("direct-reply", "baz").toCompletionStage().toCompletableFuture()
+                .get(2, TimeUnit.SECONDS).body());
+    }
+
+    @Test
+    public void testBlocking() throws Exception {
+        assertEquals(Boolean.FALSE, localEventBus.request("direct-blocking", "foo").toCompletableFuture()
+                .get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPublish() throws InterruptedException {
+        consumers.reset(2);
+        localEventBus.publish("direct-publish", "foo");
+        assertTrue(consumers.await());
+        assertEquals(List.of("foo", "foo"), consumers.received());
+    }
+
+    @Test
+    public void testFailure() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> localEventBus.request("direct-failure", "foo").toCompletableFuture().get(2, TimeUnit.SECONDS));
+        assertEquals("boom", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testMessageConsumerIsDeliveredThroughTheEventBus() throws Exception {
+        assertEquals("foo!", localEventBus.request("message", "foo").toCompletableFuture().get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testManyMessages() throws InterruptedException {
+        int count = 10_000;
+        send(count, () -> localEventBus.send("direct-count", "foo"));
+        send(count, () -> eventBus.send("direct-count", "foo"));
+    }
+
+    private void send(int count, Runnable send) throws InterruptedException {
+        consumers.countDown = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            send.run();
+        }
+        assertTrue(consumers.countDown.await(10, TimeUnit.SECONDS));
+    }
+
+    @Singleton
+    static class Consumers {
+
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch latch;
+        volatile CountDownLatch countDown;
+        final AtomicReference<Boolean> requestContextActive = new AtomicReference<>();
+        final AtomicReference<Boolean> eventLoop = new AtomicReference<>();
+
+        void reset(int expected) {
+            received.clear();
+            latch = new CountDownLatch(expected);
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(2, TimeUnit.SECONDS);
+        }
+
+        List<String> received() {
+            return received;
+        }
+
+        @ConsumeEvent("direct")
+        void consume(String body) {
+            requestContextActive.set(Arc.container().requestContext().isActive());
+            eventLoop.set(Context.isOnEventLoopThread() && Vertx.currentContext() != null);
+            received.add(body);
+            latch.countDown();
+        }
+
+        @ConsumeEvent("direct-reply")
+        String upperCase(String body) {
+            return body.toUpperCase();
+        }
+
+        @ConsumeEvent("direct-uni")
+        Uni<String> upperCaseUni(String body) {
+            return Uni.createFrom().item(body.toUpperCase());
+        }
+
+        @ConsumeEvent(value = "direct-blocking", blocking = true)
+        Boolean blocking(String body) {
+            return Context.isOnEventLoopThread();
+        }
+
+        @ConsumeEvent("direct-publish")
+        void first(String body) {
+            received.add(body);
+            latch.countDown();
+        }
+
+        @ConsumeEvent("direct-publish")
+        void second(String body) {
+            received.add(body);
+            latch.countDown();
+        }
+
+        @ConsumeEvent("direct-failure")
+        String fail(String body) {
+            throw new IllegalStateException("boom");
+        }
+
+        @ConsumeEvent("direct-count")
+        void count(String body) {
+            countDown.countDown();
+        }
+
+        @ConsumeEvent("message")
+        void message(Message<String> message) {
+            message.reply(message.body() + "!");
+        }
+    }
+}
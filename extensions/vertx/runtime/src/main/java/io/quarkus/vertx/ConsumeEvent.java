@@ -133,4 +133,34 @@
      */
     Class<? extends MessageCodec> codec() default LocalEventBusCodec.class;
 
+    /**
+     * The maximum number of messages delivered to the consumer in a single invocation.
+     * <p>
+     * If set to a value greater than 1, the method must accept a single {@link java.util.List} parameter, containing the
+     * {@link Message#body() bodies} of the messages in the order they were received, and return {@code void}. The messages
+     * are delivered when the batch is full or when {@link #maxWait()} elapsed since the first message of the batch was
+     * received, whichever comes first. The CDI request context is activated once per batch. If the method completes
+     * normally, a {@code null} reply is sent to the messages that expect a reply, otherwise they are failed with
+     * {@link #FAILURE_CODE}.
+     *
+     * <pre>
+     * &#64;ConsumeEvent(value = "metrics", batchSize = 500, maxWait = "50ms")
+     * void store(List&lt;Measurement&gt; measurements) {
+     *     repository.persistAll(measurements);
+     * }
+     * </pre>
+     *
+     * @return the maximum number of messages in a batch, the messages are not batched by default
+     */
+    int batchSize() default 0;
+
+    /**
+     * The maximum time a message is kept in an incomplete batch, using the format of {@link java.time.Duration}
+     * or a number followed by {@code ms}, {@code s}, {@code m} or {@code h}. Only used if {@link #batchSize()} is greater
+     * than 1.
+     *
+     * @return the maximum waiting time of a batch
+     */
+    String maxWait() default "100ms";
+
 }
@@ -0,0 +1,60 @@
+package io.quarkus.vertx;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Delivers events to the local {@link ConsumeEvent} methods of an address without going through the Vert.x event bus.
+ * <p>
+ * An address is delivered directly if all the consumers registered by {@link ConsumeEvent} methods for the address are
+ * {@link ConsumeEvent#local() local}, accept the event body as their only parameter and do not
+ * {@link ConsumeEvent#batchSize() batch} the events. The body is passed to the method as is: no
+ * {@link io.vertx.core.eventbus.Message} is created and no codec is involved. The methods are invoked on the same
+ * context and thread as for an event bus delivery, and the CDI request context is activated the same way. The other
+ * addresses are delivered through the event bus.
+ * <p>
+ * The consumers registered programmatically with {@link io.vertx.core.eventbus.EventBus#consumer(String)} do not
+ * receive the events delivered directly, therefore an address must only be consumed by {@link ConsumeEvent} methods.
+ *
+ * <pre>
+ * &#64;Inject
+ * LocalEventBus bus;
+ *
+ * void onOrder(Order order) {
+ *     bus.send("orders", order);
+ * }
+ * </pre>
+ */
+public interface LocalEventBus {
+
+    /**
+     * Delivers the event to one of the consumers of the address, the consumers are chosen in a round-robin fashion.
+     *
+     * @param address the address
+     * @param body the event body
+     */
+    void send(String address, Object body);
+
+    /**
+     * Delivers the event to all the consumers of the address.
+     *
+     * @param address the address
+     * @param body the event body
+     */
+    void publish(String address, Object body);
+
+    /**
+     * Delivers the event to one of the consumers of the address and returns its reply.
+     * <p>
+     * If the consumer method returns a {@link CompletionStage} or a {@link io.smallrye.mutiny.Uni}, the reply is its
+     * result. If the method returns {@code void}, the reply is {@code null}. If the method fails, the returned stage is
+     * completed exceptionally with the failure; when the address is delivered through the event bus, it's a
+     * {@link io.vertx.core.eventbus.ReplyException}.
+     *
+     * @param <T> the type of the reply
+     * @param address the address
+     * @param body the event body
+     * @return the reply
+     */
+    <T> CompletionStage<T> request(String address, Object body);
+
+}
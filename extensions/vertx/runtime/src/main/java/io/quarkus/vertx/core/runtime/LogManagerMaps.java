@@ -0,0 +1,78 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+import org.jboss.logmanager.MDCProvider;
+
+/**
+ * Creates and clones the {@code org.jboss.logmanager.FastCopyHashMap} instances used by the log manager for the MDC copy
+ * of a log record.
+ * <p>
+ * The class is not public, therefore it's accessed through method handles. If it's not accessible, for example because
+ * the log manager is loaded as a named module, {@link #newMap(int)} returns {@code null} and the MDC is copied into a
+ * regular map, which the log manager copies again.
+ */
+final class LogManagerMaps {
+
+    private static final Logger LOG = Logger.getLogger(LogManagerMaps.class);
+
+    static final String FAST_COPY_HASH_MAP = "org.jboss.logmanager.FastCopyHashMap";
+
+    private static final MethodHandle CONSTRUCTOR;
+    private static final MethodHandle CLONE;
+
+    static {
+        MethodHandle constructor = null;
+        MethodHandle clone = null;
+        try {
+            Class<?> mapClass = Class.forName(FAST_COPY_HASH_MAP, false, MDCProvider.class.getClassLoader());
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(mapClass, MethodHandles.lookup());
+            constructor = lookup.findConstructor(mapClass, MethodType.methodType(void.class, int.class))
+                    .asType(MethodType.methodType(Map.class, int.class));
+            clone = lookup.findVirtual(mapClass, "clone", MethodType.methodType(mapClass))
+                    .asType(MethodType.methodType(Map.class, Map.class));
+        } catch (Throwable e) {
+            LOG.debugf(e, "Unable to access %s, the MDC of each log record is copied twice", FAST_COPY_HASH_MAP);
+            constructor = null;
+            clone = null;
+        }
+        CONSTRUCTOR = constructor;
+        CLONE = clone;
+    }
+
+    private LogManagerMaps() {
+    }
+
+    /**
+     * @return a new empty map, or {@code null} if the log manager map is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> newMap(int expectedSize) {
+        if (CONSTRUCTOR == null) {
+            return null;
+        }
+        try {
+            // The default load factor of the map is 0.67
+            return (Map<String, Object>) CONSTRUCTOR.invokeExact(Math.max(8, expectedSize * 3 / 2 + 1));
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param map a map created by {@link #newMap(int)}
+     * @return a shallow copy of the map
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> clone(Map<String, Object> map) {
+        try {
+            return (Map<String, Object>) CLONE.invokeExact(map);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable MDC map.
+ * <p>
+ * The values of the well-known keys set for every request, such as the tracing data, are stored in an array at fixed
+ * slots, so that they are neither hashed nor boxed in map entries. The well-known keys are collected at build time, see
+ * {@link #setKnownKeys(Collection)}. The other keys are stored in a regular map.
+ * <p>
+ * The log manager copies the MDC for every log record. It takes the map returned by
+ * {@link org.jboss.logmanager.MDCProvider#copyObject()} as is if it is one of its own {@code FastCopyHashMap} instances,
+ * therefore the snapshot creates such a map once and {@link #copyForLogRecord() clones} it for every record, which only
+ * copies the table of the map.
+ */
+final class MDCSnapshot extends AbstractMap<String, Object> {
+
+    private static volatile MDCSnapshot empty = new MDCSnapshot(new String[0], new Object[0], Map.of(), 0);
+
+    private final String[] knownKeys;
+    private final Object[] knownValues;
+    private final Map<String, Object> otherValues;
+    private final int size;
+    private Set<Entry<String, Object>> entrySet;
+    // Created lazily, never modified afterwards
+    private volatile Map<String, Object> logRecordCopy;
+
+    private MDCSnapshot(String[] knownKeys, Object[] knownValues, Map<String, Object> otherValues, int size) {
+        this.knownKeys = knownKeys;
+        this.knownValues = knownValues;
+        this.otherValues = otherValues;
+        this.size = size;
+    }
+
+    /**
+     * @return the empty snapshot
+     */
+    static MDCSnapshot empty() {
+        return empty;
+    }
+
+    /**
+     * Sets the keys stored at fixed slots. The existing snapshots keep their slots and are converted when they are
+     * modified.
+     *
+     * @param keys the keys
+     */
+    static void setKnownKeys(Collection<String> keys) {
+        String[] knownKeys = new LinkedHashSet<>(keys).toArray(new String[0]);
+        empty = new MDCSnapshot(knownKeys, new Object[knownKeys.length], Map.of(), 0);
+    }
+
+    static String[] getKnownKeys() {
+        return empty.knownKeys.clone();
+    }
+
+    private int slot(String key) {
+        for (int i = 0; i < knownKeys.length; i++) {
+            // the keys are usually the same constant instances
+            if (knownKeys[i] == key || knownKeys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String str) {
+            int slot = slot(str);
+            return slot >= 0 ? knownValues[slot] : otherValues.get(key);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < knownValues.length; i++) {
+            if (knownValues[i] != null) {
+                action.accept(knownKeys[i], knownValues[i]);
+            }
+        }
+        otherValues.forEach(action);
+    }
+
+    /**
+     * @return a new snapshot with the key set to the value
+     */
+    MDCSnapshot with(String key, Object value) {
+        MDCSnapshot empty = MDCSnapshot.empty;
+        if (knownKeys != empty.knownKeys) {
+            return convert(empty).with(key, value);
+        }
+        int slot = slot(key);
+        if (slot >= 0) {
+            Object[] newValues = knownValues.clone();
+            newValues[slot] = value;
+            return new MDCSnapshot(knownKeys, newValues, otherValues, knownValues[slot] == null ? size + 1 : size);
+        }
+        Map<String, Object> newOtherValues = new HashMap<>(otherValues);
+        Object previous = newOtherValues.put(key, value);
+        return new MDCSnapshot(knownKeys, knownValues, newOtherValues, previous == null ? size + 1 : size);
+    }
+
+    /**
+     * @return a new snapshot without the key, or this snapshot if the key is not present
+     */
+    MDCSnapshot without(String key) {
+        int slot = slot(key);
+        if (slot >= 0) {
+            if (knownValues[slot] == null) {
+                return this;
+            }
+            if (size == 1) {
+                return empty;
+            }
+            Object[] newValues = knownValues.clone();
+            newValues[slot] = null;
+            return new MDCSnapshot(knownKeys, newValues, otherValues, size - 1);
+        }
+        if (!otherValues.containsKey(key)) {
+            return this;
+        }
+        if (size == 1) {
+            return empty;
+        }
+        Map<String, Object> newOtherValues = new HashMap<>(otherValues);
+        newOtherValues.remove(key);
+        return new MDCSnapshot(knownKeys, knownValues, newOtherValues, size - 1);
+    }
+
+    private MDCSnapshot convert(MDCSnapshot empty) {
+        Object[] newValues = new Object[empty.knownKeys.length];
+        Map<String, Object> newOtherValues = new HashMap<>();
+        forEach((key, value) -> {
+            int slot = empty.slot(key);
+            if (slot >= 0) {
+                newValues[slot] = value;
+            } else {
+                newOtherValues.put(key, value);
+            }
+        });
+        return new MDCSnapshot(empty.knownKeys, newValues, newOtherValues, size);
+    }
+
+    /**
+     * @return a mutable copy
+     */
+    HashMap<String, Object> copy() {
+        HashMap<String, Object> copy = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        forEach(copy::put);
+        return copy;
+    }
+
+    /**
+     * @return a mutable copy, a {@code FastCopyHashMap} if possible so that the log manager does not copy it again
+     */
+    Map<String, Object> copyForLogRecord() {
+        Map<String, Object> copy = logRecordCopy;
+        if (copy == null) {
+            copy = LogManagerMaps.newMap(size);
+            if (copy == null) {
+                return copy();
+            }
+            forEach(copy::put);
+            logRecordCopy = copy;
+        }
+        return LogManagerMaps.clone(copy);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> es = entrySet;
+        if (es == null) {
+            es = entrySet = new EntrySet();
+        }
+        return es;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            Iterator<Entry<String, Object>> others = otherValues.entrySet().iterator();
+            return new Iterator<>() {
+                int slot = nextSlot(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < knownValues.length || others.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (slot < knownValues.length) {
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(knownKeys[slot], knownValues[slot]);
+                        slot = nextSlot(slot + 1);
+                        return entry;
+                    }
+                    if (others.hasNext()) {
+                        return new SimpleImmutableEntry<>(others.next());
+                    }
+                    throw new NoSuchElementException();
+                }
+            };
+        }
+
+        private int nextSlot(int from) {
+            int i = from;
+            while (i < knownValues.length && knownValues[i] == null) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -162,6 +162,10 @@ private void tryCleanTccl() {
         }
     }
 
+    public void setMdcKeys(List<String> keys) {
+        MDCSnapshot.setKnownKeys(keys);
+    }
+
     public IOThreadDetector detector() {
         return new IOThreadDetector() {
             @Override
@@ -6,7 +6,6 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.logmanager.MDCProvider;
@@ -18,18 +17,21 @@
 public enum VertxMDC implements MDCProvider {
     INSTANCE;
 
-    final InheritableThreadLocal<Map<String, Object>> inheritableThreadLocalMap = new InheritableThreadLocal<>() {
+    private static final String CONTEXT_DATA_KEY = VertxMDC.class.getName();
+
+    final InheritableThreadLocal<MDCHolder> inheritableThreadLocalMap = new InheritableThreadLocal<>() {
         @Override
-        protected Map<String, Object> childValue(Map<String, Object> parentValue) {
+        protected MDCHolder childValue(MDCHolder parentValue) {
             if (parentValue == null) {
                 return null;
             }
-            return new HashMap<>(parentValue);
+            // the snapshot is immutable and can be shared
+            return new MDCHolder(parentValue.snapshot);
         }
 
         @Override
-        protected Map<String, Object> initialValue() {
-            return new HashMap<>();
+        protected MDCHolder initialValue() {
+            return new MDCHolder(MDCSnapshot.empty());
         }
     };
 
@@ -86,7 +88,7 @@ public String get(String key, Context vertxContext) {
      */
     public Object getObject(String key, Context vertxContext) {
         Objects.requireNonNull(key);
-        return contextualDataMap(vertxContext).get(key);
+        return snapshot(vertxContext).get(key);
     }
 
     /**
@@ -145,7 +147,7 @@ public String put(String key, String value, Context vertxContext) {
     public Object putObject(String key, Object value, Context vertxContext) {
         Objects.requireNonNull(key);
         Objects.requireNonNull(value);
-        return contextualDataMap(vertxContext).put(key, value);
+        return contextualDataHolder(vertxContext).put(key, value);
     }
 
     /**
@@ -199,7 +201,7 @@ public String remove(String key, Context vertxContext) {
      */
     public Object removeObject(String key, Context vertxContext) {
         Objects.requireNonNull(key);
-        return contextualDataMap(vertxContext).remove(key);
+        return contextualDataHolder(vertxContext).remove(key);
     }
 
     /**
@@ -217,7 +219,7 @@ public Map<String, String> copy() {
     }
 
     /**
-     * Get a copy of the MDC map. This is a relatively expensive operation.
+     * Get a copy of the MDC map. This is a cheap operation, the log manager calls it for every log record.
      *
      * Tries to use the current Vert.x Context, if the context is non-existent
      * meaning that it was called out of a Vert.x thread it will fall back to
@@ -227,7 +229,7 @@ public Map<String, String> copy() {
      */
     @Override
     public Map<String, Object> copyObject() {
-        return copyObject(getContext());
+        return snapshot(getContext()).copyForLogRecord();
     }
 
     /**
@@ -236,7 +238,7 @@ public Map<String, Object> copyObject() {
      * @return {@code true} if there are no bound MDC values, or {@code false} otherwise
      */
     public boolean isEmpty() {
-        return contextualDataMap(getContext()).isEmpty();
+        return snapshot(getContext()).isEmpty();
     }
 
     /**
@@ -247,10 +249,7 @@ public boolean isEmpty() {
      */
     public Map<String, String> copy(Context vertxContext) {
         final HashMap<String, String> result = new HashMap<>();
-        Map<String, Object> contextualDataMap = contextualDataMap(vertxContext);
-        for (Map.Entry<String, Object> entry : contextualDataMap.entrySet()) {
-            result.put(entry.getKey(), entry.getValue().toString());
-        }
+        snapshot(vertxContext).forEach((key, value) -> result.put(key, value.toString()));
         return result;
     }
 
@@ -261,7 +260,7 @@ public Map<String, String> copy(Context vertxContext) {
      * @return a copy of the map
      */
     public Map<String, Object> copyObject(Context vertxContext) {
-        return new HashMap<>(contextualDataMap(vertxContext));
+        return snapshot(vertxContext).copy();
     }
 
     /**
@@ -280,7 +279,10 @@ public void clear() {
      * If the informed context is null it falls back to the thread local context map.
      */
     public void clear(Context vertxContext) {
-        contextualDataMap(vertxContext).clear();
+        MDCHolder holder = existingContextualDataHolder(vertxContext);
+        if (holder != null) {
+            holder.snapshot = MDCSnapshot.empty();
+        }
     }
 
     /**
@@ -302,19 +304,61 @@ private Context getContext() {
     }
 
     /**
-     * Gets the current Contextual Data Map from the current Vert.x Context if it is not null or the default
-     * ThreadLocal Data Map for use in non Vert.x Threads.
+     * Gets the current MDC snapshot from the current Vert.x Context if it is not null or from the default
+     * ThreadLocal holder for use in non Vert.x Threads.
      *
-     * @return the current Contextual Data Map.
+     * @return the current MDC snapshot.
      */
-    @SuppressWarnings({ "unchecked" })
-    private Map<String, Object> contextualDataMap(Context ctx) {
+    private MDCSnapshot snapshot(Context ctx) {
+        MDCHolder holder = existingContextualDataHolder(ctx);
+        return holder == null ? MDCSnapshot.empty() : holder.snapshot;
+    }
+
+    private MDCHolder existingContextualDataHolder(Context ctx) {
+        if (ctx == null) {
+            return inheritableThreadLocalMap.get();
+        }
+        return (MDCHolder) ((ContextInternal) ctx).localContextData().get(CONTEXT_DATA_KEY);
+    }
+
+    /**
+     * Gets the current Contextual Data holder from the current Vert.x Context if it is not null or the default
+     * ThreadLocal holder for use in non Vert.x Threads.
+     *
+     * @return the current Contextual Data holder.
+     */
+    private MDCHolder contextualDataHolder(Context ctx) {
         if (ctx == null) {
             return inheritableThreadLocalMap.get();
         }
 
         ConcurrentMap<Object, Object> lcd = Objects.requireNonNull((ContextInternal) ctx).localContextData();
-        return (ConcurrentMap<String, Object>) lcd.computeIfAbsent(VertxMDC.class.getName(),
-                k -> new ConcurrentHashMap<String, Object>());
+        return (MDCHolder) lcd.computeIfAbsent(CONTEXT_DATA_KEY, k -> new MDCHolder(MDCSnapshot.empty()));
+    }
+
+    /**
+     * Holds the current MDC snapshot, which is replaced on every modification (copy-on-write).
+     */
+    static final class MDCHolder {
+
+        volatile MDCSnapshot snapshot;
+
+        MDCHolder(MDCSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        synchronized Object put(String key, Object value) {
+            MDCSnapshot current = snapshot;
+            Object oldValue = current.get(key);
+            snapshot = current.with(key, value);
+            return oldValue;
+        }
+
+        synchronized Object remove(String key) {
+            MDCSnapshot current = snapshot;
+            Object oldValue = current.get(key);
+            snapshot = current.without(key);
+            return oldValue;
+        }
     }
 }
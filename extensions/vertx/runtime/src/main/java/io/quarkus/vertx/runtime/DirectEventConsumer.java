@@ -0,0 +1,90 @@
+package io.quarkus.vertx.runtime;
+
+import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setCurrentContextSafe;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * A {@link ConsumeEvent} method invoked by {@link LocalEventBusImpl} with the event body, without an event bus message.
+ * <p>
+ * The method is invoked on a duplicated context of the consumer context, and on a worker thread or a virtual thread if it's
+ * blocking, like for an event bus delivery.
+ */
+final class DirectEventConsumer {
+
+    private final ContextInternal context;
+    private final EventConsumerInvoker invoker;
+    private final boolean blocking;
+    private final boolean runOnVirtualThread;
+    private final boolean ordered;
+
+    DirectEventConsumer(ContextInternal context, EventConsumerInvoker invoker, boolean blocking, boolean runOnVirtualThread,
+            boolean ordered) {
+        this.context = context;
+        this.invoker = invoker;
+        this.blocking = blocking;
+        this.runOnVirtualThread = runOnVirtualThread;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @param body the event body
+     * @param reply the reply, or {@code null} if no reply is expected
+     */
+    void deliver(Object body, CompletableFuture<Object> reply) {
+        context.duplicate().runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void x) {
+                // A new duplicated context is created for every event
+                setCurrentContextSafe(true);
+                VertxEventBusConsumerRecorder.dispatch(context, blocking, runOnVirtualThread, ordered, new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            invoker.invokeDirect(body, reply);
+                        } catch (Exception e) {
+                            if (reply == null) {
+                                throw VertxEventBusConsumerRecorder.wrapIfNecessary(e);
+                            } else {
+                                reply.completeExceptionally(e);
+                            }
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * The consumers of an address.
+     */
+    static final class Group {
+
+        private final DirectEventConsumer[] consumers;
+        private final AtomicInteger index = new AtomicInteger();
+
+        Group(List<DirectEventConsumer> consumers) {
+            this.consumers = consumers.toArray(new DirectEventConsumer[0]);
+        }
+
+        /**
+         * @return the next consumer, in a round-robin fashion
+         */
+        DirectEventConsumer next() {
+            if (consumers.length == 1) {
+                return consumers[0];
+            }
+            return consumers[Math.floorMod(index.getAndIncrement(), consumers.length)];
+        }
+
+        DirectEventConsumer[] all() {
+            return consumers;
+        }
+    }
+}
@@ -37,13 +37,26 @@ public class EventConsumerInfo {
      */
     public final RuntimeValue<Invoker<Object, Object>> invoker;
 
-    @RecordableConstructor
+    /**
+     * The {@linkplain Invoker invoker} that accepts the event body directly, or {@code null} if the event consumer method
+     * cannot be invoked by {@link io.quarkus.vertx.LocalEventBus} without a message.
+     */
+    public final RuntimeValue<Invoker<Object, Object>> directInvoker;
+
     public EventConsumerInfo(ConsumeEvent annotation, boolean blockingAnnotation, boolean runOnVirtualThreadAnnotation,
             boolean splitHeadersBodyParams, RuntimeValue<Invoker<Object, Object>> invoker) {
+        this(annotation, blockingAnnotation, runOnVirtualThreadAnnotation, splitHeadersBodyParams, invoker, null);
+    }
+
+    @RecordableConstructor
+    public EventConsumerInfo(ConsumeEvent annotation, boolean blockingAnnotation, boolean runOnVirtualThreadAnnotation,
+            boolean splitHeadersBodyParams, RuntimeValue<Invoker<Object, Object>> invoker,
+            RuntimeValue<Invoker<Object, Object>> directInvoker) {
         this.annotation = annotation;
         this.blockingAnnotation = blockingAnnotation;
         this.runOnVirtualThreadAnnotation = runOnVirtualThreadAnnotation;
         this.splitHeadersBodyParams = splitHeadersBodyParams;
         this.invoker = invoker;
+        this.directInvoker = directInvoker;
     }
 }
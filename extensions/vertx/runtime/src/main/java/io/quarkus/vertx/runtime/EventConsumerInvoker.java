@@ -1,5 +1,8 @@
 package io.quarkus.vertx.runtime;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 
@@ -27,8 +30,19 @@ public class EventConsumerInvoker {
      */
     private final boolean splitHeadersBodyParams;
 
+    /**
+     * The {@linkplain Invoker invoker} that accepts the event body directly, may be {@code null}.
+     */
+    private final Invoker<Object, Object> directInvoker;
+
     public EventConsumerInvoker(Invoker<Object, Object> invoker, boolean splitHeadersBodyParams) {
+        this(invoker, null, splitHeadersBodyParams);
+    }
+
+    public EventConsumerInvoker(Invoker<Object, Object> invoker, Invoker<Object, Object> directInvoker,
+            boolean splitHeadersBodyParams) {
         this.invoker = invoker;
+        this.directInvoker = directInvoker;
         this.splitHeadersBodyParams = splitHeadersBodyParams;
     }
 
@@ -72,6 +86,71 @@ public void invoke(Message<Object> message) throws Exception {
         }
     }
 
+    /**
+     * Invokes a batch consumer with the bodies of the given messages. The request context is activated once for the whole
+     * batch. The messages that expect a reply receive a {@code null} reply once the method completes.
+     */
+    public void invokeBatch(List<Message<Object>> messages) throws Exception {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            invoker.invoke(null, new Object[] { bodies });
+        } else {
+            requestContext.activate();
+            try {
+                invoker.invoke(null, new Object[] { bodies });
+            } finally {
+                requestContext.terminate();
+            }
+        }
+        for (Message<Object> message : messages) {
+            if (message.replyAddress() != null) {
+                message.reply(null);
+            }
+        }
+    }
+
+    /**
+     * Invokes the business method with the event body, without a message. The reply, if any, is completed with the result
+     * of the method, or with {@code null} if the method returns {@code void}.
+     *
+     * @param body the event body
+     * @param reply the reply, or {@code null} if no reply is expected
+     */
+    public void invokeDirect(Object body, CompletableFuture<Object> reply) throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            Object ret = directInvoker.invoke(null, new Object[] { body });
+            if (ret instanceof CompletionStage) {
+                ((CompletionStage<?>) ret).whenComplete(new DirectReplyConsumer(reply, null, null));
+            } else if (reply != null) {
+                reply.complete(ret);
+            }
+        } else {
+            requestContext.activate();
+            Object ret;
+            try {
+                ret = directInvoker.invoke(null, new Object[] { body });
+            } catch (Exception e) {
+                requestContext.terminate();
+                throw e;
+            }
+            if (ret instanceof CompletionStage) {
+                ContextState endState = requestContext.getState();
+                requestContext.deactivate();
+                ((CompletionStage<?>) ret).whenComplete(new DirectReplyConsumer(reply, requestContext, endState));
+            } else {
+                requestContext.terminate();
+                if (reply != null) {
+                    reply.complete(ret);
+                }
+            }
+        }
+    }
+
     private Object invokeBean(Message<Object> message) throws Exception {
         if (splitHeadersBodyParams) {
             return invoker.invoke(null, new Object[] { message.headers(), message.body() });
@@ -104,6 +183,41 @@ public void accept(Object result, Throwable failure) {
 
     }
 
+    private static class DirectReplyConsumer implements BiConsumer<Object, Throwable> {
+
+        private final CompletableFuture<Object> reply;
+        private final ManagedContext requestContext;
+        private final ContextState endState;
+
+        DirectReplyConsumer(CompletableFuture<Object> reply, ManagedContext requestContext, ContextState endState) {
+            this.reply = reply;
+            this.requestContext = requestContext;
+            this.endState = endState;
+        }
+
+        @Override
+        public void accept(Object result, Throwable failure) {
+            if (requestContext != null) {
+                try {
+                    requestContext.destroy(endState);
+                } catch (Exception e) {
+                    throw VertxEventBusConsumerRecorder.wrapIfNecessary(e);
+                }
+            }
+            if (reply == null) {
+                if (failure != null) {
+                    // No reply expected
+                    throw VertxEventBusConsumerRecorder.wrapIfNecessary(failure);
+                }
+            } else if (failure != null) {
+                reply.completeExceptionally(failure);
+            } else {
+                reply.complete(result);
+            }
+        }
+
+    }
+
     private static class RequestActivatedConsumer implements BiConsumer<Object, Throwable> {
 
         private final Message<Object> message;
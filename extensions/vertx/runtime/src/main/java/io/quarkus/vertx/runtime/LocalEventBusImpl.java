@@ -0,0 +1,55 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.vertx.LocalEventBus;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+
+@Singleton
+public class LocalEventBusImpl implements LocalEventBus {
+
+    private final EventBus eventBus;
+
+    public LocalEventBusImpl(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void send(String address, Object body) {
+        DirectEventConsumer.Group consumers = VertxEventBusConsumerRecorder.getDirectConsumers(address);
+        if (consumers == null) {
+            eventBus.send(address, body);
+        } else {
+            consumers.next().deliver(body, null);
+        }
+    }
+
+    @Override
+    public void publish(String address, Object body) {
+        DirectEventConsumer.Group consumers = VertxEventBusConsumerRecorder.getDirectConsumers(address);
+        if (consumers == null) {
+            eventBus.publish(address, body);
+        } else {
+            for (DirectEventConsumer consumer : consumers.all()) {
+                consumer.deliver(body, null);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> CompletionStage<T> request(String address, Object body) {
+        DirectEventConsumer.Group consumers = VertxEventBusConsumerRecorder.getDirectConsumers(address);
+        if (consumers == null) {
+            return eventBus.<T> request(address, body).map(Message::body).toCompletionStage();
+        }
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        consumers.next().deliver(body, reply);
+        return (CompletionStage<T>) reply;
+    }
+
+}
@@ -5,14 +5,19 @@
 import static io.smallrye.common.expression.Expression.Flag.NO_TRIM;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -26,6 +31,7 @@
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.DurationConverter;
 import io.quarkus.vertx.ConsumeEvent;
 import io.quarkus.vertx.LocalEventBusCodec;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
@@ -49,6 +55,8 @@ public class VertxEventBusConsumerRecorder {
 
     static volatile Vertx vertx;
     static volatile List<MessageConsumer<?>> messageConsumers;
+    static volatile List<BatchingHandler> batchingHandlers = List.of();
+    static volatile Map<String, DirectEventConsumer.Group> directConsumers = Map.of();
 
     public void configureVertx(Supplier<Vertx> vertx,
             List<EventConsumerInfo> messageConsumerConfigurations,
@@ -85,7 +93,17 @@ public static Vertx getVertx() {
         return vertx;
     }
 
+    /**
+     * @return the consumers of the address that can be invoked directly, or {@code null} if the address must be delivered
+     *         through the event bus
+     */
+    static DirectEventConsumer.Group getDirectConsumers(String address) {
+        return directConsumers.get(address);
+    }
+
     void destroy() {
+        directConsumers = Map.of();
+        flushBatches();
         messageConsumers = null;
         vertx = null;
     }
@@ -96,17 +114,32 @@ void registerMessageConsumers(List<EventConsumerInfo> messageConsumerConfigurati
             VertxInternal vi = (VertxInternal) VertxEventBusConsumerRecorder.vertx;
             CountDownLatch latch = new CountDownLatch(messageConsumerConfigurations.size());
             final List<Throwable> registrationFailures = new ArrayList<>();
+            final List<BatchingHandler> batchingHandlers = new CopyOnWriteArrayList<>();
+            final Map<String, List<DirectEventConsumer>> direct = new HashMap<>();
+            final Set<String> notDirect = new HashSet<>();
             for (EventConsumerInfo info : messageConsumerConfigurations) {
-                EventConsumerInvoker invoker = new EventConsumerInvoker(info.invoker.getValue(), info.splitHeadersBodyParams);
+                EventConsumerInvoker invoker = new EventConsumerInvoker(info.invoker.getValue(),
+                        info.directInvoker != null ? info.directInvoker.getValue() : null, info.splitHeadersBodyParams);
                 String address = lookUpPropertyValue(info.annotation.value());
                 boolean local = info.annotation.local();
                 boolean blocking = info.annotation.blocking() || info.blockingAnnotation || info.runOnVirtualThreadAnnotation;
                 boolean runOnVirtualThread = info.runOnVirtualThreadAnnotation;
                 boolean ordered = info.annotation.ordered();
+                int batchSize = info.annotation.batchSize();
+                Duration maxWaitDuration = batchSize > 1
+                        ? DurationConverter.parseDuration(lookUpPropertyValue(info.annotation.maxWait()))
+                        : null;
+                long maxWait = maxWaitDuration != null ? Math.max(1, maxWaitDuration.toMillis()) : 0;
                 // Create a context attached to each consumer
                 // If we don't all consumers will use the same event loop and so published messages (dispatched to all
                 // consumers) delivery is serialized.
                 ContextInternal context = vi.createEventLoopContext();
+                if (info.directInvoker != null) {
+                    direct.computeIfAbsent(address, a -> new ArrayList<>())
+                            .add(new DirectEventConsumer(context, invoker, blocking, runOnVirtualThread, ordered));
+                } else {
+                    notDirect.add(address);
+                }
                 context.runOnContext(new Handler<Void>() {
                     @Override
                     public void handle(Void x) {
@@ -117,64 +150,54 @@ public void handle(Void x) {
                             consumer = eventBus.consumer(address);
                         }
 
-                        consumer.handler(new Handler<Message<Object>>() {
-                            @Override
-                            public void handle(Message<Object> m) {
-                                // Will run on the context used for the consumer registration.
-                                // It's a duplicated context, but we need to mark it as safe.
-                                // The safety comes from the fact that it's instantiated by Vert.x for every
-                                // message.
-                                setCurrentContextSafe(true);
-                                if (blocking) {
-                                    if (runOnVirtualThread) {
-                                        VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                                            @Override
-                                            public void run() {
-                                                try {
-                                                    invoker.invoke(m);
-                                                } catch (Exception e) {
-                                                    if (m.replyAddress() == null) {
-                                                        // No reply handler
-                                                        throw wrapIfNecessary(e);
-                                                    } else {
-                                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                        if (batchSize > 1) {
+                            BatchingHandler batchingHandler = new BatchingHandler(context, batchSize, maxWait,
+                                    new Handler<List<Message<Object>>>() {
+                                        @Override
+                                        public void handle(List<Message<Object>> messages) {
+                                            // Runs on a duplicated context created for the batch
+                                            setCurrentContextSafe(true);
+                                            dispatch(context, blocking, runOnVirtualThread, ordered, new Runnable() {
+                                                @Override
+                                                public void run() {
+                                                    try {
+                                                        invoker.invokeBatch(messages);
+                                                    } catch (Exception e) {
+                                                        failBatch(messages, e);
                                                     }
                                                 }
-                                            }
-                                        });
-                                    } else {
-                                        Future<Void> future = Vertx.currentContext().executeBlocking(new Callable<Void>() {
-                                            @Override
-                                            public Void call() {
-                                                try {
-                                                    invoker.invoke(m);
-                                                } catch (Exception e) {
-                                                    if (m.replyAddress() == null) {
-                                                        // No reply handler
-                                                        throw wrapIfNecessary(e);
-                                                    } else {
-                                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
-                                                    }
+                                            });
+                                        }
+                                    });
+                            batchingHandlers.add(batchingHandler);
+                            consumer.handler(batchingHandler);
+                        } else {
+                            consumer.handler(new Handler<Message<Object>>() {
+                                @Override
+                                public void handle(Message<Object> m) {
+                                    // Will run on the context used for the consumer registration.
+                                    // It's a duplicated context, but we need to mark it as safe.
+                                    // The safety comes from the fact that it's instantiated by Vert.x for every
+                                    // message.
+                                    setCurrentContextSafe(true);
+                                    dispatch(context, blocking, runOnVirtualThread, ordered, new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            try {
+                                                invoker.invoke(m);
+                                            } catch (Exception e) {
+                                                if (m.replyAddress() == null) {
+                                                    // No reply handler
+                                                    throw wrapIfNecessary(e);
+                                                } else {
+                                                    m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
                                                 }
-                                                return null;
                                             }
-                                        }, ordered);
-                                        future.onFailure(context::reportException);
-                                    }
-                                } else {
-                                    try {
-                                        invoker.invoke(m);
-                                    } catch (Exception e) {
-                                        if (m.replyAddress() == null) {
-                                            // No reply handler
-                                            throw wrapIfNecessary(e);
-                                        } else {
-                                            m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
                                         }
-                                    }
+                                    });
                                 }
-                            }
-                        });
+                            });
+                        }
 
                         consumer.completionHandler(new Handler<AsyncResult<Void>>() {
                             @Override
@@ -199,6 +222,52 @@ public void handle(AsyncResult<Void> ar) {
                 // just log/raise the first failure
                 throw new RuntimeException("Registration of one or more message consumers failed", registrationFailures.get(0));
             }
+            VertxEventBusConsumerRecorder.batchingHandlers = batchingHandlers;
+            // An address is only delivered directly if all its consumers can be invoked directly
+            Map<String, DirectEventConsumer.Group> directConsumers = new HashMap<>();
+            for (Map.Entry<String, List<DirectEventConsumer>> e : direct.entrySet()) {
+                if (!notDirect.contains(e.getKey())) {
+                    directConsumers.put(e.getKey(), new DirectEventConsumer.Group(e.getValue()));
+                }
+            }
+            VertxEventBusConsumerRecorder.directConsumers = Map.copyOf(directConsumers);
+        }
+    }
+
+    /**
+     * Runs the task on the current event loop, on a worker thread or on a virtual thread.
+     */
+    static void dispatch(ContextInternal context, boolean blocking, boolean runOnVirtualThread, boolean ordered,
+            Runnable task) {
+        if (blocking) {
+            if (runOnVirtualThread) {
+                VirtualThreadsRecorder.getCurrent().execute(task);
+            } else {
+                Future<Void> future = Vertx.currentContext().executeBlocking(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        task.run();
+                        return null;
+                    }
+                }, ordered);
+                future.onFailure(context::reportException);
+            }
+        } else {
+            task.run();
+        }
+    }
+
+    private static void failBatch(List<Message<Object>> messages, Exception e) {
+        boolean replyHandlerMissing = false;
+        for (Message<Object> message : messages) {
+            if (message.replyAddress() == null) {
+                replyHandlerMissing = true;
+            } else {
+                message.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+            }
+        }
+        if (replyHandlerMissing) {
+            throw wrapIfNecessary(e);
         }
     }
 
@@ -213,6 +282,7 @@ static RuntimeException wrapIfNecessary(Throwable e) {
     }
 
     void unregisterMessageConsumers() {
+        directConsumers = Map.of();
         CountDownLatch latch = new CountDownLatch(messageConsumers.size());
         for (MessageConsumer<?> messageConsumer : messageConsumers) {
             messageConsumer.unregister(ar -> {
@@ -229,6 +299,38 @@ void unregisterMessageConsumers() {
             throw new IllegalStateException("Unable to unregister all message consumer methods", e);
         }
         messageConsumers.clear();
+        flushBatches();
+    }
+
+    /**
+     * Delivers the incomplete batches, the messages received afterwards are delivered immediately.
+     */
+    private static void flushBatches() {
+        List<BatchingHandler> handlers = batchingHandlers;
+        if (handlers.isEmpty()) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(handlers.size());
+        for (BatchingHandler handler : handlers) {
+            handler.context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void x) {
+                    try {
+                        handler.close();
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Unable to deliver all the incomplete batches of the message consumer methods");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        batchingHandlers = List.of();
     }
 
     @SuppressWarnings("unchecked")
@@ -275,6 +377,69 @@ public String apply(Object messageBody) {
         });
     }
 
+    /**
+     * Collects the messages received by a batch consumer and delivers them when the batch is full or when the maximum
+     * waiting time of the first message elapsed. All the messages are received on the event loop of the consumer context,
+     * so the batch is not shared between threads.
+     * <p>
+     * When the consumer is unregistered or the application stops, the incomplete batch is delivered and the messages
+     * received afterwards are delivered one by one.
+     */
+    static final class BatchingHandler implements Handler<Message<Object>> {
+
+        private final ContextInternal context;
+        private final int batchSize;
+        private final long maxWait;
+        private final Handler<List<Message<Object>>> delegate;
+        private List<Message<Object>> batch;
+        private long timerId = -1;
+        private boolean closed;
+
+        BatchingHandler(ContextInternal context, int batchSize, long maxWait, Handler<List<Message<Object>>> delegate) {
+            this.context = context;
+            this.batchSize = batchSize;
+            this.maxWait = maxWait;
+            this.delegate = delegate;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void handle(Message<Object> message) {
+            batch.add(message);
+            if (closed || batch.size() >= batchSize) {
+                flush();
+            } else if (timerId == -1) {
+                timerId = context.setTimer(maxWait, new Handler<Long>() {
+                    @Override
+                    public void handle(Long id) {
+                        if (timerId == id) {
+                            timerId = -1;
+                            flush();
+                        }
+                    }
+                });
+            }
+        }
+
+        void close() {
+            closed = true;
+            flush();
+        }
+
+        private void flush() {
+            if (timerId != -1) {
+                context.owner().cancelTimer(timerId);
+                timerId = -1;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Message<Object>> messages = batch;
+            batch = new ArrayList<>(batchSize);
+            context.duplicate().emit(messages, delegate);
+        }
+    }
+
     public RuntimeValue<Vertx> forceStart(Supplier<Vertx> vertx) {
         return new RuntimeValue<>(vertx.get());
     }
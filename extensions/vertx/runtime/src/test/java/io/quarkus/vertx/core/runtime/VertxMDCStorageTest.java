@@ -0,0 +1,169 @@
+package io.quarkus.vertx.core.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import io.quarkus.vertx.mdc.provider.LateBoundMDCProvider;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class VertxMDCStorageTest {
+
+    VertxMDC mdc = VertxMDC.INSTANCE;
+
+    @AfterEach
+    void clear() {
+        mdc.clear();
+        MDCSnapshot.setKnownKeys(List.of());
+    }
+
+    @Test
+    void testPutGetRemove() {
+        assertTrue(mdc.isEmpty());
+        assertNull(mdc.put("traceId", "1234"));
+        assertNull(mdc.put("custom", "value"));
+        assertEquals("1234", mdc.put("traceId", "5678"));
+        assertEquals("5678", mdc.get("traceId"));
+        assertEquals("value", mdc.get("custom"));
+        assertEquals(Map.of("traceId", "5678", "custom", "value"), mdc.copy());
+        assertEquals(Map.of("traceId", "5678", "custom", "value"), mdc.copyObject());
+
+        assertEquals("5678", mdc.remove("traceId"));
+        assertNull(mdc.remove("traceId"));
+        assertNull(mdc.get("traceId"));
+        assertEquals(Map.of("custom", "value"), mdc.copyObject());
+        assertEquals("value", mdc.remove("custom"));
+        assertTrue(mdc.isEmpty());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        mdc.put("spanId", "1");
+        Map<String, Object> copy = mdc.copyObject();
+        Map<String, Object> contextCopy = mdc.copyObject(null);
+        mdc.put("spanId", "2");
+        mdc.put("other", "3");
+        assertEquals(Map.of("spanId", "1"), copy);
+        assertEquals(Map.of("spanId", "1"), contextCopy);
+        // The copies are mutable
+        copy.put("spanId", "4");
+        contextCopy.put("spanId", "5");
+        assertEquals(Map.of("spanId", "2", "other", "3"), mdc.copyObject());
+        assertEquals(Map.of("spanId", "2", "other", "3"), mdc.copyObject(null));
+        mdc.clear();
+        assertEquals(Map.of("spanId", "4"), copy);
+        assertTrue(mdc.copyObject().isEmpty());
+    }
+
+    @Test
+    void testKnownKeysChange() {
+        MDCSnapshot.setKnownKeys(List.of("traceId"));
+        mdc.put("traceId", "1");
+        mdc.put("spanId", "2");
+        // The existing snapshot is converted on the next modification
+        MDCSnapshot.setKnownKeys(List.of("spanId", "traceId", "spanId"));
+        assertArrayEquals(new String[] { "spanId", "traceId" }, MDCSnapshot.getKnownKeys());
+        assertEquals("1", mdc.get("traceId"));
+        assertEquals("2", mdc.get("spanId"));
+        mdc.put("other", "3");
+        assertEquals(Map.of("traceId", "1", "spanId", "2", "other", "3"), mdc.copyObject());
+        assertEquals("2", mdc.remove("spanId"));
+        assertEquals(Map.of("traceId", "1", "other", "3"), mdc.copyObject());
+    }
+
+    @Test
+    void testLogRecordCopyAllocation() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        LateBoundMDCProvider.setMDCProviderDelegate(mdc);
+        MDCSnapshot.setKnownKeys(List.of("traceId", "spanId", "parentId", "sampled"));
+        mdc.put("traceId", "17ceb8429b9f25b0b879fa1503259456");
+        mdc.put("spanId", "58ce77c86dd23457");
+        mdc.put("parentId", "3125c8bee75b7ad6");
+        mdc.put("sampled", "true");
+        mdc.put("user", "alice");
+        mdc.put("tenant", "acme");
+        Map<String, Object> copy = mdc.copyObject(null);
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, "message", getClass().getName());
+
+        // Warm up, the copy of the snapshot is created once
+        for (int i = 0; i < 10_000; i++) {
+            record.setMdc(copy);
+            new ExtLogRecord(Level.INFO, "message", getClass().getName()).copyMdc();
+        }
+        // The log manager copies any map that is not one of its own maps
+        long copied = allocatedBytes(threads, () -> record.setMdc(copy));
+        long cloned = allocatedBytes(threads, () -> {
+            ExtLogRecord newRecord = new ExtLogRecord(Level.INFO, "message", getClass().getName());
+            newRecord.copyMdc();
+            assertEquals("alice", newRecord.getMdc("user"));
+        });
+        long created = allocatedBytes(threads, () -> new ExtLogRecord(Level.INFO, "message", getClass().getName()));
+        // The clone only copies the table of the map, not the entries
+        assertTrue(cloned - created < copied * 3 / 4, "cloned: " + (cloned - created) + ", copied: " + copied);
+    }
+
+    private static long allocatedBytes(ThreadMXBean threads, Runnable task) {
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            task.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - start) / 10_000;
+    }
+
+    @Test
+    void testInheritedByChildThread() throws InterruptedException {
+        mdc.put("requestId", "parent");
+        AtomicReference<Object> childValue = new AtomicReference<>();
+        Thread child = new Thread(() -> {
+            childValue.set(mdc.get("requestId"));
+            mdc.put("requestId", "child");
+        });
+        child.start();
+        child.join();
+        assertEquals("parent", childValue.get());
+        assertEquals("parent", mdc.get("requestId"));
+    }
+
+    @Test
+    void testDuplicatedContexts() {
+        Vertx vertx = Vertx.vertx();
+        try {
+            ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+            Context first = context.duplicate();
+            Context second = context.duplicate();
+            mdc.put("traceId", "first", first);
+            mdc.put("traceId", "second", second);
+            assertEquals("first", mdc.get("traceId", first));
+            assertEquals("second", mdc.get("traceId", second));
+            assertNull(mdc.get("traceId"));
+
+            Map<String, Object> copy = mdc.copyObject(first);
+            assertEquals(Map.of("traceId", "first"), copy);
+            assertNotSame(copy, mdc.copyObject(first));
+            mdc.clear(first);
+            assertNull(mdc.get("traceId", first));
+            assertEquals("second", mdc.get("traceId", second));
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.virtual.threads.deployment;
 
+import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
@@ -14,6 +15,8 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.virtual.threads.VirtualThreads;
 import io.quarkus.virtual.threads.VirtualThreadsConfig;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
@@ -39,4 +42,16 @@ public void setup(VirtualThreadsConfig config, VirtualThreadsRecorder recorder,
                         .done());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void setupPinningDetection(VirtualThreadsConfig config, VirtualThreadsRecorder recorder,
+            ShutdownContextBuildItem shutdownContextBuildItem,
+            LaunchModeBuildItem launchModeBuildItem,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        recorder.setupPinningDetection(config, shutdownContextBuildItem, launchModeBuildItem.getLaunchMode());
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
 }
@@ -0,0 +1,259 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor service limiting the number of tasks running concurrently on the delegate.
+ * <p>
+ * Tasks submitted while the limit is reached are started on the delegate right away, but wait for a permit before
+ * running. Waiting is cheap on a virtual thread, so the queue is made of the waiting threads. The number of waiting
+ * tasks and the waiting time can be bounded.
+ * <p>
+ * The waiting time is only bounded for the tasks that can be notified of a late rejection: the tasks submitted with
+ * {@code submit} or {@code invoke*}, whose {@code Future} fails, and the {@link RejectableTask} instances submitted with
+ * {@link #execute(Runnable)}. The other tasks submitted with {@link #execute(Runnable)} wait until they can run.
+ * <p>
+ * The waiting threads are started on a separate executor. When it's not the delegate, for example when the delegate is
+ * the executor bounding the concurrency of the whole application, a task is only submitted to the delegate once it
+ * obtained a permit, so that the waiting tasks do not hold the permits of the delegate.
+ */
+class BoundedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final ExecutorService waitExecutor;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final int queueSize;
+    private final long queueTimeoutNanos;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param delegate the executor running the tasks
+     * @param maxConcurrency the maximum number of tasks running concurrently
+     * @param queueSize the maximum number of tasks waiting for a permit, or a negative value if not bounded
+     * @param queueTimeout the maximum time a task waits for a permit, or {@code null} if not bounded
+     */
+    BoundedExecutorService(ExecutorService delegate, int maxConcurrency, int queueSize, Duration queueTimeout) {
+        this(delegate, delegate, maxConcurrency, queueSize, queueTimeout);
+    }
+
+    /**
+     * @param delegate the executor running the tasks
+     * @param waitExecutor the executor running the tasks waiting for a permit
+     * @param maxConcurrency the maximum number of tasks running concurrently
+     * @param queueSize the maximum number of tasks waiting for a permit, or a negative value if not bounded
+     * @param queueTimeout the maximum time a task waits for a permit, or {@code null} if not bounded
+     */
+    BoundedExecutorService(ExecutorService delegate, ExecutorService waitExecutor, int maxConcurrency, int queueSize,
+            Duration queueTimeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be greater than 0: " + maxConcurrency);
+        }
+        this.delegate = delegate;
+        this.waitExecutor = waitExecutor;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.queueSize = queueSize < 0 ? Integer.MAX_VALUE : queueSize;
+        this.queueTimeoutNanos = queueTimeout == null ? -1 : queueTimeout.toNanos();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        if (permits.tryAcquire()) {
+            try {
+                delegate.execute(releasing(command));
+            } catch (Throwable t) {
+                permits.release();
+                throw t;
+            }
+            return;
+        }
+        if (queued.incrementAndGet() > queueSize) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("Too many tasks waiting to run on virtual threads: the maximum of "
+                    + maxConcurrency + " concurrent tasks is reached and " + queueSize + " tasks are waiting");
+        }
+        try {
+            waitExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    boolean acquired;
+                    try {
+                        acquired = acquire(command instanceof RejectableTask);
+                    } finally {
+                        queued.decrementAndGet();
+                    }
+                    if (!acquired) {
+                        rejected.increment();
+                        reject(command, new RejectedExecutionException(
+                                "Task not executed: it waited too long to run on virtual threads, the maximum of "
+                                        + maxConcurrency + " concurrent tasks is reached"));
+                    } else if (waitExecutor == delegate) {
+                        runAndRelease(command);
+                    } else {
+                        try {
+                            delegate.execute(releasing(command));
+                        } catch (RejectedExecutionException e) {
+                            permits.release();
+                            reject(command, e);
+                        }
+                    }
+                }
+            });
+        } catch (Throwable t) {
+            queued.decrementAndGet();
+            throw t;
+        }
+    }
+
+    private boolean acquire(boolean timed) {
+        try {
+            if (queueTimeoutNanos < 0 || !timed) {
+                permits.acquire();
+                return true;
+            }
+            return permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // The executor is shutting down
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runAndRelease(Runnable command) {
+        try {
+            command.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return a task running the command and releasing the permit, which can be rejected by the delegate if the command
+     *         can be rejected
+     */
+    private Runnable releasing(Runnable command) {
+        if (command instanceof RejectableTask) {
+            return new RejectableTask() {
+                @Override
+                public void run() {
+                    runAndRelease(command);
+                }
+
+                @Override
+                public void reject(RejectedExecutionException failure) {
+                    permits.release();
+                    ((RejectableTask) command).reject(failure);
+                }
+            };
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                runAndRelease(command);
+            }
+        };
+    }
+
+    private static void reject(Runnable command, RejectedExecutionException failure) {
+        if (command instanceof RejectableTask) {
+            ((RejectableTask) command).reject(failure);
+        } else {
+            // Only reached when the executor is shut down while the task waits, or when the delegate rejects the task,
+            // reported by the uncaught exception handler of the virtual thread
+            throw failure;
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new RejectableFutureTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new RejectableFutureTask<>(callable);
+    }
+
+    /**
+     * @return the number of tasks currently running
+     */
+    int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * @return the number of tasks waiting to run
+     */
+    int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of tasks rejected since the executor was created
+     */
+    long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private static final class RejectableFutureTask<T> extends FutureTask<T> implements RejectableTask {
+
+        RejectableFutureTask(Callable<T> callable) {
+            super(callable);
+        }
+
+        RejectableFutureTask(Runnable runnable, T result) {
+            super(runnable, result);
+        }
+
+        @Override
+        public void reject(RejectedExecutionException failure) {
+            setException(failure);
+        }
+    }
+}
@@ -8,6 +8,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -52,6 +53,47 @@ public void run() {
         }
     }
 
+    private static final class ContextPreservingRejectableTask implements RejectableTask {
+
+        private final RejectableTask task;
+        private final Context context;
+
+        public ContextPreservingRejectableTask(RejectableTask task) {
+            this.task = task;
+            this.context = Vertx.currentContext();
+        }
+
+        @Override
+        public void run() {
+            if (context instanceof ContextInternal) {
+                ContextInternal contextInternal = (ContextInternal) context;
+                final var previousContext = contextInternal.beginDispatch();
+                try {
+                    task.run();
+                } finally {
+                    contextInternal.endDispatch(previousContext);
+                }
+            } else {
+                task.run();
+            }
+        }
+
+        @Override
+        public void reject(RejectedExecutionException failure) {
+            if (context instanceof ContextInternal) {
+                ContextInternal contextInternal = (ContextInternal) context;
+                final var previousContext = contextInternal.beginDispatch();
+                try {
+                    task.reject(failure);
+                } finally {
+                    contextInternal.endDispatch(previousContext);
+                }
+            } else {
+                task.reject(failure);
+            }
+        }
+    }
+
     private static final class ContextPreservingCallable<T> implements Callable<T> {
 
         private final Callable<T> task;
@@ -80,6 +122,9 @@ public T call() throws Exception {
 
     private static Runnable decorate(Runnable command) {
         Objects.requireNonNull(command);
+        if (command instanceof RejectableTask) {
+            return new ContextPreservingRejectableTask((RejectableTask) command);
+        }
         return new ContextPreservingRunnable(command);
     }
 
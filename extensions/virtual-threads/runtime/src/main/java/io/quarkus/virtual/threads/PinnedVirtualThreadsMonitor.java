@@ -0,0 +1,139 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Records the {@code jdk.VirtualThreadPinned} JDK Flight Recorder events.
+ * <p>
+ * Pinning events are counted. When the report is enabled, pinning events are also grouped by stack trace, the stack
+ * trace of each new pinning location is logged, and a summary is logged on {@link #close()}.
+ */
+final class PinnedVirtualThreadsMonitor implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger("io.quarkus.virtual-threads");
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Limit the number of distinct locations kept for the report.
+     */
+    private static final int MAX_LOCATIONS = 100;
+
+    private static final int MAX_FRAMES = 32;
+
+    private final RecordingStream stream;
+    private final boolean report;
+    private final LongAdder pinned = new LongAdder();
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+
+    private PinnedVirtualThreadsMonitor(Duration threshold, boolean report) {
+        this.report = report;
+        this.stream = new RecordingStream();
+        if (report) {
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        } else {
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withoutStackTrace();
+        }
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    static PinnedVirtualThreadsMonitor start(Duration threshold, boolean report) {
+        PinnedVirtualThreadsMonitor monitor = new PinnedVirtualThreadsMonitor(threshold, report);
+        monitor.stream.startAsync();
+        return monitor;
+    }
+
+    long getPinnedCount() {
+        return pinned.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        if (!report) {
+            return;
+        }
+        String stackTrace = toString(event.getStackTrace());
+        Location location = locations.get(stackTrace);
+        if (location == null) {
+            if (locations.size() >= MAX_LOCATIONS) {
+                return;
+            }
+            Location existing = locations.putIfAbsent(stackTrace, location = new Location());
+            if (existing == null) {
+                logger.warnf("A virtual thread was pinned to its carrier thread for %s ms:%n%s",
+                        event.getDuration().toMillis(), stackTrace);
+            } else {
+                location = existing;
+            }
+        }
+        location.record(event.getDuration());
+    }
+
+    private static String toString(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\tat <unknown>";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        int count = Math.min(frames.size(), MAX_FRAMES);
+        for (int i = 0; i < count; i++) {
+            RecordedFrame frame = frames.get(i);
+            if (i > 0) {
+                builder.append(System.lineSeparator());
+            }
+            builder.append("\tat ").append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName());
+            if (frame.getLineNumber() >= 0) {
+                builder.append(':').append(frame.getLineNumber());
+            }
+        }
+        if (frames.size() > count || stackTrace.isTruncated()) {
+            builder.append(System.lineSeparator()).append("\t...");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+        if (report && !locations.isEmpty()) {
+            List<Map.Entry<String, Location>> entries = new ArrayList<>(locations.entrySet());
+            entries.sort((e1, e2) -> Long.compare(e2.getValue().count.sum(), e1.getValue().count.sum()));
+            StringBuilder builder = new StringBuilder("Virtual threads were pinned to their carrier thread ")
+                    .append(pinned.sum()).append(" times, at ").append(entries.size()).append(" locations:");
+            for (Map.Entry<String, Location> entry : entries) {
+                builder.append(System.lineSeparator()).append(entry.getValue().count.sum()).append(" times, max ")
+                        .append(entry.getValue().maxDurationMillis).append(" ms:")
+                        .append(System.lineSeparator()).append(entry.getKey());
+            }
+            logger.warn(builder);
+        }
+    }
+
+    private static final class Location {
+
+        final LongAdder count = new LongAdder();
+        volatile long maxDurationMillis;
+
+        void record(Duration duration) {
+            count.increment();
+            long millis = duration.toMillis();
+            if (millis > maxDurationMillis) {
+                // Events are delivered by a single thread
+                maxDurationMillis = millis;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.quarkus.virtual.threads;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A task that is notified when it does not run.
+ * <p>
+ * When the number of tasks running concurrently on virtual threads is limited, a task submitted with
+ * {@link java.util.concurrent.Executor#execute(Runnable)} waits until it can start. If the task implements this interface,
+ * it only waits for the configured queue timeout; after this delay {@link #reject(RejectedExecutionException)} is called
+ * instead of {@link #run()}, on the thread that waited.
+ */
+public interface RejectableTask extends Runnable {
+
+    /**
+     * Called instead of {@link #run()} when the task waited too long to start.
+     *
+     * @param failure the rejection
+     */
+    void reject(RejectedExecutionException failure);
+
+}
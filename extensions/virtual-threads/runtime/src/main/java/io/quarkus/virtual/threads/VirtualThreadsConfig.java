@@ -1,8 +1,11 @@
 package io.quarkus.virtual.threads;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -41,4 +44,97 @@ public interface VirtualThreadsConfig {
      */
     @WithDefault("true")
     boolean enabled();
+
+    /**
+     * The maximum number of tasks that can run concurrently on virtual threads.
+     * <p>
+     * Virtual threads are cheap to create, so an application under load can start far more concurrent tasks than the
+     * resources they use (database connections, memory...) can handle. When this limit is set, tasks submitted while
+     * the limit is reached wait for a running task to complete before starting.
+     * <p>
+     * By default, the number of concurrent tasks is not limited.
+     */
+    OptionalInt maxConcurrency();
+
+    /**
+     * The maximum number of tasks waiting to start when {@code max-concurrency} is reached.
+     * Tasks submitted while the queue is full are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * By default, the queue is not bounded. This property has no effect if {@code max-concurrency} is not set.
+     */
+    OptionalInt queueSize();
+
+    /**
+     * The maximum amount of time a task waits to start when {@code max-concurrency} is reached.
+     * Tasks that are still waiting after this delay are not executed: the {@link java.util.concurrent.Future} returned
+     * on submission fails with a {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * The requests of the REST endpoints annotated with {@code @RunOnVirtualThread} that are still waiting after this
+     * delay fail with a {@code 503 Service Unavailable} response. The timeout does not apply to the other tasks submitted
+     * with {@code execute}, for example the event consumers, which cannot be notified of a rejection once they are
+     * queued: they wait until they can start. Use {@code queue-size} to reject them on submission instead.
+     * <p>
+     * By default, tasks wait until they can start. This property has no effect if {@code max-concurrency} is not set.
+     */
+    Optional<Duration> queueTimeout();
+
+    /**
+     * Concurrency limits applied to a subset of the tasks running on virtual threads, in addition to
+     * {@code max-concurrency}.
+     * <p>
+     * The key identifies the tasks. The REST endpoints annotated with {@code @RunOnVirtualThread} use the fully qualified
+     * name of the resource class followed by {@code #} and the name of the method, for example
+     * {@code quarkus.virtual-threads.limits."org.acme.GreetingResource#hello".max-concurrency=10}.
+     */
+    @ConfigDocMapKey("name")
+    Map<String, LimitConfig> limits();
+
+    interface LimitConfig {
+
+        /**
+         * The maximum number of tasks that can run concurrently.
+         */
+        int maxConcurrency();
+
+        /**
+         * The maximum number of tasks waiting to start when {@code max-concurrency} is reached.
+         * <p>
+         * By default, the queue is not bounded.
+         */
+        OptionalInt queueSize();
+
+        /**
+         * The maximum amount of time a task waits to start when {@code max-concurrency} is reached.
+         * <p>
+         * By default, tasks wait until they can start.
+         */
+        Optional<Duration> queueTimeout();
+    }
+
+    /**
+     * Detection of carrier thread pinning.
+     */
+    PinningDetectionConfig pinningDetection();
+
+    interface PinningDetectionConfig {
+
+        /**
+         * Whether the {@code jdk.VirtualThreadPinned} JDK Flight Recorder events are recorded.
+         * <p>
+         * A virtual thread is pinned when it blocks while it cannot be unmounted from its carrier thread, for example
+         * inside a {@code synchronized} block. Pinned virtual threads monopolize carrier threads and can stall the whole
+         * application. Pinning events are counted and exposed as the {@code virtual-threads.pinned} metric when a
+         * metrics extension is present. In dev mode, the stack trace of each new pinning location is logged, and a
+         * report of the pinning locations is logged when the application stops.
+         * <p>
+         * Enabled by default in dev mode.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The minimum duration of a pinning for it to be recorded.
+         */
+        @WithDefault("20ms")
+        Duration threshold();
+    }
 }
@@ -4,9 +4,13 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
@@ -14,6 +18,7 @@
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class VirtualThreadsRecorder {
@@ -23,6 +28,13 @@ public class VirtualThreadsRecorder {
     static volatile VirtualThreadsConfig config;
 
     private static volatile ExecutorService current;
+    private static volatile BoundedExecutorService bounded;
+    /**
+     * The executor starting a virtual thread per task, set if the virtual threads are supported.
+     */
+    private static volatile ExecutorService unbounded;
+    private static final Map<String, LimitedExecutor> limited = new ConcurrentHashMap<>();
+    private static volatile PinnedVirtualThreadsMonitor pinnedMonitor;
     private static final Object lock = new Object();
 
     public static Supplier<ExecutorService> VIRTUAL_THREADS_EXECUTOR_SUPPLIER = new Supplier<ExecutorService>() {
@@ -44,6 +56,7 @@ public void run() {
                             service.shutdownNow();
                         }
                         current = null;
+                        limited.clear();
                     }
                 });
             } else {
@@ -52,6 +65,7 @@ public void run() {
                     public void run() {
                         ExecutorService service = current;
                         current = null;
+                        limited.clear();
                         if (service != null) {
                             service.shutdown();
 
@@ -84,6 +98,76 @@ public void run() {
         }
     }
 
+    public void setupPinningDetection(VirtualThreadsConfig c, ShutdownContext shutdownContext, LaunchMode launchMode) {
+        boolean devMode = launchMode == LaunchMode.DEVELOPMENT;
+        if (!c.enabled() || !c.pinningDetection().enabled().orElse(devMode)) {
+            return;
+        }
+        try {
+            pinnedMonitor = PinnedVirtualThreadsMonitor.start(c.pinningDetection().threshold(), devMode);
+        } catch (RuntimeException | LinkageError e) {
+            logger.debug("Unable to start the JDK Flight Recorder stream", e);
+            logger.warn("The detection of pinned virtual threads is disabled: the JDK Flight Recorder is not available");
+            return;
+        }
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                PinnedVirtualThreadsMonitor monitor = pinnedMonitor;
+                pinnedMonitor = null;
+                if (monitor != null) {
+                    monitor.close();
+                }
+            }
+        });
+    }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (pinnedMonitor != null) {
+                    metricsFactory.builder("virtual-threads.pinned")
+                            .description("Number of times a virtual thread was pinned to its carrier thread")
+                            .buildCounter(VirtualThreadsRecorder::getPinnedCount);
+                }
+                if (config.enabled() && config.maxConcurrency().isPresent()) {
+                    metricsFactory.builder("virtual-threads.active")
+                            .description("Number of tasks running on virtual threads")
+                            .buildGauge(() -> {
+                                BoundedExecutorService executor = bounded;
+                                return executor == null ? 0 : executor.getActiveCount();
+                            });
+                    metricsFactory.builder("virtual-threads.queued")
+                            .description("Number of tasks waiting to run on virtual threads")
+                            .buildGauge(() -> {
+                                BoundedExecutorService executor = bounded;
+                                return executor == null ? 0 : executor.getQueuedCount();
+                            });
+                }
+                if (config.enabled() && (config.maxConcurrency().isPresent() || !config.limits().isEmpty())) {
+                    metricsFactory.builder("virtual-threads.rejected")
+                            .description("Number of tasks rejected because the virtual threads queue was full or timed out")
+                            .buildCounter(VirtualThreadsRecorder::getRejectedCount);
+                }
+            }
+        };
+    }
+
+    static long getRejectedCount() {
+        BoundedExecutorService executor = bounded;
+        long count = executor == null ? 0 : executor.getRejectedCount();
+        for (LimitedExecutor limitedExecutor : limited.values()) {
+            count += limitedExecutor.bounded.getRejectedCount();
+        }
+        return count;
+    }
+
+    static long getPinnedCount() {
+        PinnedVirtualThreadsMonitor monitor = pinnedMonitor;
+        return monitor == null ? 0 : monitor.getPinnedCount();
+    }
+
     public Supplier<ExecutorService> getCurrentSupplier() {
         return VIRTUAL_THREADS_EXECUTOR_SUPPLIER;
     }
@@ -101,6 +185,45 @@ public static ExecutorService getCurrent() {
         }
     }
 
+    /**
+     * Returns the executor applying the {@code quarkus.virtual-threads.limits."name"} limits, in addition to the global
+     * limits. If there are no limits for the given name, the current executor is returned.
+     *
+     * @param name the name of the limits
+     * @return the executor
+     */
+    public static ExecutorService getCurrent(String name) {
+        ExecutorService executor = getCurrent();
+        LimitedExecutor limitedExecutor = limited.get(name);
+        if (limitedExecutor != null) {
+            return limitedExecutor.executor;
+        }
+        VirtualThreadsConfig.LimitConfig limit = config.limits().get(name);
+        ExecutorService perTask = unbounded;
+        if (limit == null || perTask == null) {
+            return executor;
+        }
+        BoundedExecutorService globallyBounded = bounded;
+        return limited.computeIfAbsent(name, new Function<String, LimitedExecutor>() {
+            @Override
+            public LimitedExecutor apply(String n) {
+                // The tasks wait for a permit on their own virtual thread, then they are submitted to the global executor
+                BoundedExecutorService limitBounded = new BoundedExecutorService(
+                        globallyBounded != null ? globallyBounded : perTask, perTask, limit.maxConcurrency(),
+                        limit.queueSize().orElse(-1), limit.queueTimeout().orElse(null));
+                return new LimitedExecutor(limitBounded, new ContextPreservingExecutorService(limitBounded));
+            }
+        }).executor;
+    }
+
+    /**
+     * @return {@code true} if {@code quarkus.virtual-threads.limits} are configured
+     */
+    public static boolean hasLimits() {
+        VirtualThreadsConfig c = config;
+        return c != null && c.enabled() && !c.limits().isEmpty();
+    }
+
     static ExecutorService newVirtualThreadPerTaskExecutorWithName(String prefix)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, ClassNotFoundException {
         Method ofVirtual = Thread.class.getMethod("ofVirtual");
@@ -135,7 +258,14 @@ private static ExecutorService createExecutor() {
         if (config.enabled()) {
             try {
                 String prefix = config.namePrefix().orElse(null);
-                return new ContextPreservingExecutorService(newVirtualThreadPerTaskExecutorWithName(prefix));
+                ExecutorService executor = newVirtualThreadPerTaskExecutorWithName(prefix);
+                unbounded = executor;
+                if (config.maxConcurrency().isPresent()) {
+                    bounded = new BoundedExecutorService(executor, config.maxConcurrency().getAsInt(),
+                            config.queueSize().orElse(-1), config.queueTimeout().orElse(null));
+                    executor = bounded;
+                }
+                return new ContextPreservingExecutorService(executor);
             } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException | ClassNotFoundException e) {
                 logger.debug("Unable to invoke java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor", e);
                 //quite ugly but works
@@ -149,4 +279,15 @@ private static ExecutorService createExecutor() {
         // Fallback to regular worker threads
         return new FallbackVirtualThreadsExecutorService();
     }
+
+    private static final class LimitedExecutor {
+
+        final BoundedExecutorService bounded;
+        final ExecutorService executor;
+
+        LimitedExecutor(BoundedExecutorService bounded, ExecutorService executor) {
+            this.bounded = bounded;
+            this.executor = executor;
+        }
+    }
 }
@@ -0,0 +1,159 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorServiceTest {
+
+    private final ExecutorService delegate = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void concurrencyIsLimited() throws Exception {
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 2, -1, null);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(maxRunning.get()).isEqualTo(2);
+        // the permit is released right after the future completes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(executor.getActiveCount()).isZero();
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void tasksAreRejectedWhenTheQueueIsFull() throws Exception {
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 1, 1, null);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = executor.submit(() -> await(release));
+        Future<?> queued = executor.submit(() -> await(release));
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        assertThat(executor.getQueuedCount()).isEqualTo(1);
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        queued.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void tasksAreRejectedAfterTheQueueTimeout() throws Exception {
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 1, -1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = executor.submit(() -> await(release));
+        Future<String> timedOut = executor.submit(() -> "never");
+
+        assertThatThrownBy(() -> timedOut.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        assertThat(executor.submit(() -> "ok").get(10, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    void executedTasksAreNotRejectedAfterTheQueueTimeout() throws Exception {
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 1, -1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+        Future<?> running = executor.submit(() -> await(release));
+        executor.execute(executed::countDown);
+
+        Thread.sleep(200);
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        assertThat(executed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void rejectableTasksAreRejectedAfterTheQueueTimeout() throws Exception {
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 1, -1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch rejected = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        Future<?> running = executor.submit(() -> await(release));
+        executor.execute(new RejectableTask() {
+            @Override
+            public void run() {
+                ran.incrementAndGet();
+            }
+
+            @Override
+            public void reject(RejectedExecutionException failure) {
+                rejected.countDown();
+            }
+        });
+
+        assertThat(rejected.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran.get()).isZero();
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void waitingTasksDoNotHoldThePermitsOfTheDelegate() throws Exception {
+        BoundedExecutorService global = new BoundedExecutorService(delegate, 1, -1, null);
+        BoundedExecutorService limited = new BoundedExecutorService(global, delegate, 1, -1, null);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = limited.submit(() -> await(release));
+        Future<?> waiting = limited.submit(() -> await(release));
+
+        // the task waiting for a permit of the limited executor does not hold the permit of the global executor
+        assertThat(limited.getQueuedCount()).isEqualTo(1);
+        assertThat(global.getActiveCount()).isEqualTo(1);
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        waiting.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -62,6 +62,13 @@ public class QuarkusRestClientProperties {
      */
     public static final String NAME = "io.quarkus.rest.client.name";
 
+    /**
+     * Set to true to share the connection pools of the client with the other REST clients creating their connections
+     * the same way (same TLS, proxy, protocol and pool settings). Connections are pooled per authority (scheme, host and
+     * port), HTTP/2 connections being multiplexed. Ignored if {@link #SHARED} is set.
+     */
+    public static final String SHARED_CONNECTION_POOL = "io.quarkus.rest.client.shared-connection-pool";
+
     /**
      * Set to true to prevent the client from providing additional contextual information (REST client class and method names)
      * when exception happens during a client invocation.
@@ -110,4 +117,61 @@ public class QuarkusRestClientProperties {
      */
     public static final String LOGGING_BODY_LIMIT = "io.quarkus.rest.client.logging.body-limit";
 
+    /**
+     * Invocation property, set to {@code true} to let identical in-flight {@code GET} and {@code HEAD} requests share a
+     * single upstream call.
+     */
+    public static final String COALESCE = "io.quarkus.rest.client.coalesce";
+
+    /**
+     * Set to {@code true} to cache the responses according to the HTTP caching rules (RFC 9111).
+     * <p>
+     * This property is applicable to reactive REST clients only.
+     */
+    public static final String HTTP_CACHE = "io.quarkus.rest.client.http-cache";
+
+    /**
+     * The maximum size, in bytes, of the HTTP cache of the client.
+     */
+    public static final String HTTP_CACHE_MAX_SIZE = "io.quarkus.rest.client.http-cache.max-size";
+
+    /**
+     * The maximum size, in bytes, of a response body stored in the HTTP cache of the client.
+     */
+    public static final String HTTP_CACHE_MAX_ENTRY_SIZE = "io.quarkus.rest.client.http-cache.max-entry-size";
+
+    /**
+     * The directory the HTTP cache of the client stores the responses in. If not set, the responses are stored in
+     * memory.
+     */
+    public static final String HTTP_CACHE_DIRECTORY = "io.quarkus.rest.client.http-cache.directory";
+
+    /**
+     * Set to {@code true} to hedge the idempotent requests sent to a Stork service: if no response was received after
+     * a delay derived from the observed latencies, the request is also sent to another instance of the service.
+     * <p>
+     * This property is applicable to reactive REST clients only.
+     */
+    public static final String HEDGING = "io.quarkus.rest.client.hedging";
+
+    /**
+     * The percentile of the observed latencies after which a request is hedged, between {@code 0} and {@code 1}.
+     */
+    public static final String HEDGING_PERCENTILE = "io.quarkus.rest.client.hedging.percentile";
+
+    /**
+     * The delay, in milliseconds, after which a request is hedged until enough latencies have been observed.
+     */
+    public static final String HEDGING_INITIAL_DELAY = "io.quarkus.rest.client.hedging.initial-delay";
+
+    /**
+     * The minimum delay, in milliseconds, after which a request is hedged.
+     */
+    public static final String HEDGING_MIN_DELAY = "io.quarkus.rest.client.hedging.min-delay";
+
+    /**
+     * The maximum ratio of hedged requests to requests, the hedging budget being shared by all the clients.
+     */
+    public static final String HEDGING_BUDGET = "io.quarkus.rest.client.hedging.budget";
+
 }
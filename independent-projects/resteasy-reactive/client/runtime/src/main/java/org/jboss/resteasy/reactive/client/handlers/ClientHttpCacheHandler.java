@@ -0,0 +1,310 @@
+package org.jboss.resteasy.reactive.client.handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.impl.cache.CacheControlDirectives;
+import org.jboss.resteasy.reactive.client.impl.cache.HttpCacheEntry;
+import org.jboss.resteasy.reactive.client.impl.cache.HttpCacheStorage;
+import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Caches the responses of the client according to the HTTP caching rules (RFC 9111), as a shared cache.
+ * <p>
+ * This handler runs before the {@link ClientSendRequestHandler}. If a fresh response to the request is stored, the
+ * request is not sent: the stored response is used and the handlers up to, and including, the handler returned by
+ * {@link #getResponseHandler()} are skipped. If the stored response is stale but has a validator, the request is made
+ * conditional with {@code If-None-Match} or {@code If-Modified-Since}.
+ * <p>
+ * The handler returned by {@link #getResponseHandler()} runs after the {@link ClientSendRequestHandler}: it replaces a
+ * {@code 304 Not Modified} response with the stored response, stores the cacheable responses and invalidates the
+ * stored response when an unsafe request succeeds.
+ * <p>
+ * If the storage blocks, its methods are invoked on a worker thread while the request is suspended, so that the event
+ * loop does not wait for the file I/O.
+ */
+public class ClientHttpCacheHandler implements ClientRestHandler {
+
+    private static final String LOOKUP_KEY = "io.quarkus.rest.client.http-cache.lookup";
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String[] CONDITIONAL_HEADERS = { IF_NONE_MATCH, IF_MODIFIED_SINCE, "If-Match",
+            "If-Unmodified-Since", "If-Range", "Range" };
+
+    private final HttpCacheStorage storage;
+    private final long maxEntrySize;
+
+    private final ClientRestHandler responseHandler = new ClientRestHandler() {
+        @Override
+        public void handle(RestClientRequestContext requestContext) throws Exception {
+            Lookup lookup = (Lookup) requestContext.getProperties().remove(LOOKUP_KEY);
+            if (lookup != null) {
+                handleResponse(requestContext, lookup);
+            }
+        }
+    };
+
+    public ClientHttpCacheHandler(HttpCacheStorage storage, long maxEntrySize) {
+        this.storage = storage;
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    /**
+     * @return the handler processing the responses, it must run after the {@link ClientSendRequestHandler}
+     */
+    public ClientRestHandler getResponseHandler() {
+        return responseHandler;
+    }
+
+    @Override
+    public void handle(RestClientRequestContext requestContext) throws Exception {
+        if (requestContext.isAborted()) {
+            return;
+        }
+        String method = requestContext.getHttpMethod();
+        String key = requestContext.getUri().toString();
+        if (!HttpMethod.GET.equals(method)) {
+            if (!isSafe(method)) {
+                requestContext.getProperties().put(LOOKUP_KEY, new Lookup(key, null, true));
+            }
+            return;
+        }
+        if (!isCacheable(requestContext)) {
+            return;
+        }
+        MultivaluedMap<String, String> requestHeaders = requestContext.getRequestHeadersAsMap();
+        for (String conditional : CONDITIONAL_HEADERS) {
+            if (requestHeaders.containsKey(conditional)) {
+                // the caller handles the validation
+                return;
+            }
+        }
+        CacheControlDirectives directives = CacheControlDirectives.parse(requestHeaders.get(HttpHeaders.CACHE_CONTROL));
+        if (directives.has(CacheControlDirectives.NO_STORE)) {
+            return;
+        }
+        boolean noCache = directives.has(CacheControlDirectives.NO_CACHE)
+                || (!requestHeaders.containsKey(HttpHeaders.CACHE_CONTROL) && hasPragmaNoCache(requestHeaders));
+        long maxAge = directives.seconds(CacheControlDirectives.MAX_AGE);
+        Context context = blockingContext();
+        if (context == null) {
+            lookup(requestContext, key, noCache, maxAge, storage.get(key));
+            return;
+        }
+        requestContext.suspend();
+        context.executeBlocking(new Callable<HttpCacheEntry>() {
+            @Override
+            public HttpCacheEntry call() {
+                return storage.get(key);
+            }
+        }, false).onComplete(new Handler<AsyncResult<HttpCacheEntry>>() {
+            @Override
+            public void handle(AsyncResult<HttpCacheEntry> result) {
+                synchronized (requestContext) {
+                    lookup(requestContext, key, noCache, maxAge, result.succeeded() ? result.result() : null);
+                    requestContext.resume();
+                }
+            }
+        });
+    }
+
+    private void lookup(RestClientRequestContext requestContext, String key, boolean noCache, long maxAge,
+            HttpCacheEntry entry) {
+        MultivaluedMap<String, String> requestHeaders = requestContext.getRequestHeadersAsMap();
+        long now = System.currentTimeMillis();
+        if (entry != null && !entry.matches(requestHeaders)) {
+            entry = null;
+        }
+        if (entry != null && !noCache && entry.isFresh(now, maxAge)) {
+            apply(entry, requestContext, now);
+            skipSend(requestContext);
+            return;
+        }
+        if (entry != null) {
+            String etag = entry.getETag();
+            String lastModified = entry.getLastModified();
+            if (etag != null) {
+                requestContext.getRequestHeaders().header(IF_NONE_MATCH, etag);
+            } else if (lastModified != null) {
+                requestContext.getRequestHeaders().header(IF_MODIFIED_SINCE, lastModified);
+            } else {
+                entry = null;
+            }
+        }
+        requestContext.getProperties().put(LOOKUP_KEY, new Lookup(key, entry, false));
+    }
+
+    private void handleResponse(RestClientRequestContext requestContext, Lookup lookup) throws Exception {
+        int status = requestContext.getResponseStatus();
+        if (lookup.invalidate) {
+            if (status >= 200 && status < 400) {
+                remove(requestContext, lookup.key);
+            }
+            return;
+        }
+        long now = System.currentTimeMillis();
+        MultivaluedMap<String, String> responseHeaders = requestContext.getResponseHeaders();
+        if (status == 304 && lookup.entry != null) {
+            HttpCacheEntry freshened = lookup.entry.freshen(responseHeaders, lookup.requestTime, now);
+            apply(freshened, requestContext, now);
+            put(requestContext, freshened);
+            return;
+        }
+        if (requestContext.getResponseMultipartParts() != null || requestContext.getTmpFilePath() != null
+                || !HttpCacheEntry.isStorable(requestContext.getRequestHeadersAsMap(), status, responseHeaders)) {
+            return;
+        }
+        if (isTooLarge(responseHeaders)) {
+            remove(requestContext, lookup.key);
+            return;
+        }
+        byte[] body = null;
+        InputStream entityStream = requestContext.getResponseEntityStream();
+        if (entityStream != null) {
+            try (InputStream in = entityStream) {
+                body = in.readAllBytes();
+            }
+            requestContext.setResponseEntityStream(new ByteArrayInputStream(body));
+            if (body.length > maxEntrySize) {
+                remove(requestContext, lookup.key);
+                return;
+            }
+        }
+        HttpCacheEntry entry = HttpCacheEntry.create(lookup.key, requestContext.getRequestHeadersAsMap(), status,
+                requestContext.getResponseReasonPhrase(), responseHeaders, body, lookup.requestTime, now);
+        if (entry != null) {
+            put(requestContext, entry);
+        }
+    }
+
+    private void put(RestClientRequestContext requestContext, HttpCacheEntry entry) {
+        update(requestContext, new Runnable() {
+            @Override
+            public void run() {
+                storage.put(entry);
+            }
+        });
+    }
+
+    private void remove(RestClientRequestContext requestContext, String key) {
+        update(requestContext, new Runnable() {
+            @Override
+            public void run() {
+                storage.remove(key);
+            }
+        });
+    }
+
+    private void update(RestClientRequestContext requestContext, Runnable update) {
+        Context context = blockingContext();
+        if (context == null) {
+            update.run();
+            return;
+        }
+        // the response is processed once the storage is updated, so that the next request sees the update
+        requestContext.suspend();
+        context.executeBlocking(new Callable<Void>() {
+            @Override
+            public Void call() {
+                update.run();
+                return null;
+            }
+        }, false).onComplete(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                requestContext.resume();
+            }
+        });
+    }
+
+    /**
+     * @return the context to run the blocking storage operations on, or {@code null} if they can run on the current thread
+     */
+    private Context blockingContext() {
+        if (!storage.isBlocking() || !Context.isOnEventLoopThread()) {
+            return null;
+        }
+        return Vertx.currentContext();
+    }
+
+    private boolean isTooLarge(MultivaluedMap<String, String> responseHeaders) {
+        String contentLength = responseHeaders.getFirst(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength.trim()) > maxEntrySize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private void skipSend(RestClientRequestContext requestContext) {
+        ClientRestHandler[] handlers = requestContext.getHandlers();
+        for (int i = requestContext.getPosition(); i < handlers.length; i++) {
+            if (handlers[i] == responseHandler) {
+                requestContext.setPosition(i + 1);
+                return;
+            }
+        }
+    }
+
+    private static void apply(HttpCacheEntry entry, RestClientRequestContext requestContext, long now) {
+        MultivaluedMap<String, String> headers = new CaseInsensitiveMap<>();
+        for (Map.Entry<String, List<String>> header : entry.getHeaders().entrySet()) {
+            headers.addAll(header.getKey(), header.getValue());
+        }
+        headers.putSingle("Age", Long.toString(entry.getAge(now)));
+        requestContext.setResponseStatus(entry.getStatus());
+        requestContext.setResponseReasonPhrase(entry.getReasonPhrase());
+        requestContext.setResponseHeaders(headers);
+        byte[] body = entry.getBody();
+        requestContext.setResponseEntityStream(body == null ? null : new ByteArrayInputStream(body));
+    }
+
+    private static boolean isCacheable(RestClientRequestContext requestContext) {
+        return requestContext.getEntity() == null
+                && requestContext.isRegisterBodyHandler()
+                && !requestContext.isFileDownload()
+                && !requestContext.isInputStreamDownload();
+    }
+
+    private static boolean isSafe(String method) {
+        return HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method) || "TRACE".equals(method);
+    }
+
+    private static boolean hasPragmaNoCache(MultivaluedMap<String, String> requestHeaders) {
+        List<String> pragma = requestHeaders.get("Pragma");
+        return pragma != null && pragma.stream().anyMatch(value -> value.toLowerCase(Locale.ROOT).contains("no-cache"));
+    }
+
+    private static final class Lookup {
+
+        final String key;
+        final HttpCacheEntry entry;
+        final boolean invalidate;
+        final long requestTime = System.currentTimeMillis();
+
+        Lookup(String key, HttpCacheEntry entry, boolean invalidate) {
+            this.key = key;
+            this.entry = entry;
+            this.invalidate = invalidate;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.jboss.resteasy.reactive.client.handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+
+/**
+ * Coalesces identical in-flight requests of the invocations enabling {@link QuarkusRestClientProperties#COALESCE}.
+ * <p>
+ * This handler runs right before the {@link ClientSendRequestHandler}. The first request for a given method, URI and set
+ * of headers is sent as usual, and the handler returned by {@link #getResponseHandler()}, which runs right after the
+ * {@link ClientSendRequestHandler}, buffers its response. Identical requests issued while the first one is in flight
+ * are suspended and, once the response is available, skip the {@link ClientSendRequestHandler} and continue with a copy
+ * of this response. Each request still deserializes the response on its own, so that callers never share mutable
+ * entities. If the first request fails, or its response cannot be buffered, the suspended requests are sent on their
+ * own.
+ */
+public class ClientRequestCoalescingHandler implements ClientRestHandler {
+
+    private static final String IN_FLIGHT_KEY = "io.quarkus.rest.client.coalescing.in-flight";
+
+    private static final LongAdder COALESCED = new LongAdder();
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final ClientRestHandler responseHandler = new ClientRestHandler() {
+        @Override
+        public void handle(RestClientRequestContext requestContext) throws Exception {
+            InFlight flight = (InFlight) requestContext.getProperties().remove(IN_FLIGHT_KEY);
+            if (flight != null) {
+                complete(flight, share(requestContext));
+            }
+        }
+    };
+
+    /**
+     * @return the number of requests that were not sent because an identical request was in flight
+     */
+    public static long getCoalescedCount() {
+        return COALESCED.sum();
+    }
+
+    /**
+     * @return the handler buffering the response of the coalesced requests, it must run right after the
+     *         {@link ClientSendRequestHandler}
+     */
+    public ClientRestHandler getResponseHandler() {
+        return responseHandler;
+    }
+
+    @Override
+    public void handle(RestClientRequestContext requestContext) throws Exception {
+        if (requestContext.isAborted() || !isCoalescable(requestContext)) {
+            return;
+        }
+        String key = key(requestContext);
+        InFlight flight = new InFlight(key);
+        InFlight existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            requestContext.getProperties().put(IN_FLIGHT_KEY, flight);
+            requestContext.getResult().whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object response, Throwable throwable) {
+                    // no-op if the response was shared, otherwise let the waiting requests be sent
+                    complete(flight, null);
+                }
+            });
+            return;
+        }
+        requestContext.suspend();
+        existing.response.whenComplete(new BiConsumer<SharedResponse, Throwable>() {
+            @Override
+            public void accept(SharedResponse response, Throwable throwable) {
+                synchronized (requestContext) {
+                    if (response != null) {
+                        COALESCED.increment();
+                        response.applyTo(requestContext);
+                        // skip the ClientSendRequestHandler
+                        requestContext.setPosition(requestContext.getPosition() + 1);
+                    }
+                    requestContext.resume();
+                }
+            }
+        });
+    }
+
+    private void complete(InFlight flight, SharedResponse response) {
+        // new requests must not join a flight that is landing
+        inFlight.remove(flight.key, flight);
+        flight.response.complete(response);
+    }
+
+    private static boolean isCoalescable(RestClientRequestContext requestContext) {
+        if (!Boolean.TRUE.equals(requestContext.getProperties().get(QuarkusRestClientProperties.COALESCE))) {
+            return false;
+        }
+        String method = requestContext.getHttpMethod();
+        return (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                && requestContext.getEntity() == null
+                && requestContext.isRegisterBodyHandler()
+                && !requestContext.isFileDownload()
+                && !requestContext.isInputStreamDownload();
+    }
+
+    private static String key(RestClientRequestContext requestContext) {
+        StringBuilder key = new StringBuilder(requestContext.getHttpMethod()).append(' ')
+                .append(requestContext.getUri());
+        MultivaluedMap<String, String> headers = requestContext.getRequestHeadersAsMap();
+        if (headers != null && !headers.isEmpty()) {
+            Map<String, List<String>> sorted = new TreeMap<>();
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                sorted.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue());
+            }
+            for (Map.Entry<String, List<String>> header : sorted.entrySet()) {
+                key.append('\n').append(header.getKey()).append(':').append(header.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    private static SharedResponse share(RestClientRequestContext requestContext) throws Exception {
+        if (requestContext.getResponseMultipartParts() != null || requestContext.getTmpFilePath() != null) {
+            return null;
+        }
+        byte[] body = null;
+        InputStream entityStream = requestContext.getResponseEntityStream();
+        if (entityStream != null) {
+            try (InputStream in = entityStream) {
+                body = in.readAllBytes();
+            }
+            requestContext.setResponseEntityStream(new ByteArrayInputStream(body));
+        }
+        return new SharedResponse(requestContext.getResponseStatus(), requestContext.getResponseReasonPhrase(),
+                requestContext.getResponseHeaders(), body);
+    }
+
+    private static final class InFlight {
+
+        final String key;
+        final CompletableFuture<SharedResponse> response = new CompletableFuture<>();
+
+        InFlight(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class SharedResponse {
+
+        final int status;
+        final String reasonPhrase;
+        final Map<String, List<String>> headers;
+        final byte[] body;
+
+        SharedResponse(int status, String reasonPhrase, MultivaluedMap<String, String> headers, byte[] body) {
+            this.status = status;
+            this.reasonPhrase = reasonPhrase;
+            this.headers = new TreeMap<>();
+            if (headers != null) {
+                for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                    this.headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+            this.body = body;
+        }
+
+        void applyTo(RestClientRequestContext requestContext) {
+            MultivaluedMap<String, String> responseHeaders = new CaseInsensitiveMap<>();
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                responseHeaders.addAll(header.getKey(), header.getValue());
+            }
+            requestContext.setResponseStatus(status);
+            requestContext.setResponseReasonPhrase(reasonPhrase);
+            requestContext.setResponseHeaders(responseHeaders);
+            requestContext.setResponseEntityStream(body == null ? null : new ByteArrayInputStream(body));
+        }
+    }
+}
@@ -9,6 +9,7 @@
 import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.CompletionStageRxInvoker;
@@ -20,6 +21,7 @@
 
 import org.jboss.resteasy.reactive.RestResponse;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
 import org.jboss.resteasy.reactive.common.util.types.Types;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
@@ -272,18 +274,43 @@ public void accept(T t, Throwable throwable) {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private <T> CompletableFuture<Response> performRequestInternal(String httpMethodName, Entity<?> entity,
             GenericType<?> responseType) {
-        return (CompletableFuture) performRequestInternal(httpMethodName, entity, responseType, true).getResult();
+        RestClientRequestContext restClientRequestContext = createRequestContext(httpMethodName, entity, responseType, true);
+        return (CompletableFuture) performRequest(restClientRequestContext, httpMethodName, entity, responseType);
     }
 
     RestClientRequestContext performRequestInternal(String httpMethodName, Entity<?> entity, GenericType<?> responseType,
             boolean registerBodyHandler) {
-        RestClientRequestContext restClientRequestContext = new RestClientRequestContext(restClient, httpClient, httpMethodName,
+        RestClientRequestContext restClientRequestContext = createRequestContext(httpMethodName, entity, responseType,
+                registerBodyHandler);
+        restClientRequestContext.run();
+        return restClientRequestContext;
+    }
+
+    RestClientRequestContext createRequestContext(String httpMethodName, Entity<?> entity, GenericType<?> responseType,
+            boolean registerBodyHandler) {
+        return new RestClientRequestContext(restClient, httpClient, httpMethodName,
                 uri, requestSpec.configuration, requestSpec.headers,
                 entity, responseType, registerBodyHandler, properties, handlerChain.createHandlerChain(configuration),
                 handlerChain.createAbortHandlerChain(configuration),
                 handlerChain.createAbortHandlerChainWithoutResponseFilters(), requestContext);
-        restClientRequestContext.run();
-        return restClientRequestContext;
+    }
+
+    /**
+     * Runs the given request, created by {@link #createRequestContext}, hedging it if the client is configured to.
+     */
+    CompletableFuture<ResponseImpl> performRequest(RestClientRequestContext restClientRequestContext, String httpMethodName,
+            Entity<?> entity, GenericType<?> responseType) {
+        ClientHedging hedging = restClient.hedging;
+        if (hedging == null || !hedging.isHedgeable(restClientRequestContext)) {
+            restClientRequestContext.run();
+            return restClientRequestContext.getResult();
+        }
+        return hedging.hedge(restClientRequestContext, new Supplier<RestClientRequestContext>() {
+            @Override
+            public RestClientRequestContext get() {
+                return createRequestContext(httpMethodName, entity, responseType, true);
+            }
+        });
     }
 
     private <T> Type getInvocationCallbackType(InvocationCallback<T> callback) {
@@ -0,0 +1,277 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.HttpMethod;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
+
+import io.smallrye.stork.Stork;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientRequest;
+
+/**
+ * Hedges the idempotent requests sent to a Stork service: if the response to a request has not been received after a
+ * delay derived from the observed latencies, the same request is sent to another instance of the service, the first
+ * successful response is used and the other request is cancelled.
+ * <p>
+ * The delay is the configured percentile of the latencies of the last {@value #WINDOW} requests, so that only the
+ * slowest requests are hedged. Hedges are paid from a budget shared by all the clients: each request adds a fraction of
+ * a token to the budget and each hedge consumes a full token, so that hedging cannot amplify the load beyond this
+ * fraction, even when a service slows down.
+ */
+class ClientHedging {
+
+    private static final Logger log = Logger.getLogger(ClientHedging.class);
+
+    private static final int WINDOW = 512;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    /**
+     * The budget, in thousandths of a hedge, shared by all the clients.
+     */
+    private static final AtomicLong BUDGET = new AtomicLong();
+    private static final long MAX_BUDGET = 10_000;
+    private static final long HEDGE_COST = 1_000;
+
+    private static final LongAdder HEDGED = new LongAdder();
+    private static final LongAdder HEDGES_WON = new LongAdder();
+
+    private final Vertx vertx;
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long budgetDeposit;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(WINDOW);
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile long delayMillis;
+
+    ClientHedging(Vertx vertx, double percentile, long initialDelayMillis, long minDelayMillis, double budgetRatio) {
+        this.vertx = vertx;
+        this.percentile = Math.min(1.0, Math.max(0.0, percentile));
+        this.minDelayMillis = Math.max(1, minDelayMillis);
+        this.delayMillis = Math.max(this.minDelayMillis, initialDelayMillis);
+        this.budgetDeposit = Math.max(0, Math.round(budgetRatio * HEDGE_COST));
+    }
+
+    /**
+     * @return the number of hedged requests sent by all the clients
+     */
+    static long getHedgedCount() {
+        return HEDGED.sum();
+    }
+
+    /**
+     * @return the number of hedged requests whose response was used
+     */
+    static long getHedgesWonCount() {
+        return HEDGES_WON.sum();
+    }
+
+    long getDelayMillis() {
+        return delayMillis;
+    }
+
+    /**
+     * @return whether the request can be sent twice
+     */
+    boolean isHedgeable(RestClientRequestContext requestContext) {
+        String method = requestContext.getHttpMethod();
+        return (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method))
+                && requestContext.getEntity() == null
+                && requestContext.getUri() != null
+                && requestContext.getUri().getScheme() != null
+                && requestContext.getUri().getScheme().startsWith(Stork.STORK);
+    }
+
+    /**
+     * Runs the primary request and, if needed, a hedged request created by the given factory.
+     *
+     * @param primary the request, not started yet
+     * @param hedgeFactory creates a copy of the request, not started yet
+     * @return the result of the first request completing successfully, cancelling it cancels both requests
+     */
+    CompletableFuture<ResponseImpl> hedge(RestClientRequestContext primary,
+            Supplier<RestClientRequestContext> hedgeFactory) {
+        deposit();
+        Context context = Vertx.currentContext();
+        HedgedResult result = new HedgedResult(primary, System.nanoTime());
+        primary.getResult().whenComplete(new BiConsumer<ResponseImpl, Throwable>() {
+            @Override
+            public void accept(ResponseImpl response, Throwable throwable) {
+                result.complete(primary, response, throwable);
+            }
+        });
+        primary.run();
+        if (result.isDone()) {
+            return result.future;
+        }
+        result.timerId = vertx.setTimer(delayMillis, new io.vertx.core.Handler<Long>() {
+            @Override
+            public void handle(Long timerId) {
+                if (context != null) {
+                    context.runOnContext(v -> sendHedge(result, hedgeFactory));
+                } else {
+                    sendHedge(result, hedgeFactory);
+                }
+            }
+        });
+        return result.future;
+    }
+
+    private void sendHedge(HedgedResult result, Supplier<RestClientRequestContext> hedgeFactory) {
+        if (result.isDone()) {
+            return;
+        }
+        Object instanceId = result.primary.getProperties().get(StorkClientRequestFilter.SELECTED_INSTANCE_ID);
+        if (instanceId == null || !withdraw()) {
+            // the primary request is still selecting its instance, or the budget is exhausted
+            return;
+        }
+        RestClientRequestContext hedge = hedgeFactory.get();
+        hedge.getProperties().put(StorkClientRequestFilter.EXCLUDED_INSTANCE_ID, instanceId);
+        result.hedge = hedge;
+        HEDGED.increment();
+        log.debugf("Hedging the request to %s after %d ms", result.primary.getUri(), delayMillis);
+        hedge.getResult().whenComplete(new BiConsumer<ResponseImpl, Throwable>() {
+            @Override
+            public void accept(ResponseImpl response, Throwable throwable) {
+                result.complete(hedge, response, throwable);
+            }
+        });
+        hedge.run();
+    }
+
+    void record(long latencyNanos) {
+        int sample = samples.getAndIncrement();
+        latencies.set(Math.floorMod(sample, WINDOW), TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        int count = sample + 1;
+        if (count >= MIN_SAMPLES && count % RECOMPUTE_EVERY == 0) {
+            int size = Math.min(count, WINDOW);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = latencies.get(i);
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.min(size - 1, Math.ceil(percentile * size) - 1);
+            delayMillis = Math.max(minDelayMillis, sorted[Math.max(0, index)]);
+        }
+    }
+
+    void deposit() {
+        if (budgetDeposit == 0) {
+            return;
+        }
+        long current;
+        do {
+            current = BUDGET.get();
+            if (current >= MAX_BUDGET) {
+                return;
+            }
+        } while (!BUDGET.compareAndSet(current, Math.min(MAX_BUDGET, current + budgetDeposit)));
+    }
+
+    static boolean withdraw() {
+        long current;
+        do {
+            current = BUDGET.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!BUDGET.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+
+    private class HedgedResult {
+
+        final RestClientRequestContext primary;
+        final long start;
+        final CompletableFuture<ResponseImpl> future = new CompletableFuture<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        volatile RestClientRequestContext hedge;
+        volatile long timerId = -1;
+        Throwable failure;
+        int failures;
+
+        HedgedResult(RestClientRequestContext primary, long start) {
+            this.primary = primary;
+            this.start = start;
+            future.whenComplete(new BiConsumer<ResponseImpl, Throwable>() {
+                @Override
+                public void accept(ResponseImpl response, Throwable throwable) {
+                    if (future.isCancelled()) {
+                        done.set(true);
+                        cancelTimer();
+                        cancel(primary);
+                        RestClientRequestContext sent = hedge;
+                        if (sent != null) {
+                            cancel(sent);
+                        }
+                    }
+                }
+            });
+        }
+
+        boolean isDone() {
+            return done.get();
+        }
+
+        void complete(RestClientRequestContext attempt, ResponseImpl response, Throwable throwable) {
+            if (throwable == null) {
+                if (done.compareAndSet(false, true)) {
+                    // the latency of the request, whichever attempt won: when the hedge wins, it is a lower bound of
+                    // the latency of the primary attempt, which keeps the delay from only learning from fast requests
+                    record(System.nanoTime() - start);
+                    cancelTimer();
+                    if (attempt == hedge) {
+                        HEDGES_WON.increment();
+                        cancel(primary);
+                    } else if (hedge != null) {
+                        cancel(hedge);
+                    }
+                    future.complete(response);
+                }
+                return;
+            }
+            boolean fail;
+            synchronized (this) {
+                if (attempt == primary || failure == null) {
+                    failure = throwable;
+                }
+                failures++;
+                // wait for the other attempt, unless no hedge was sent and none will be
+                fail = failures == 2 || (attempt == primary && hedge == null);
+            }
+            if (fail && done.compareAndSet(false, true)) {
+                cancelTimer();
+                future.completeExceptionally(failure);
+            }
+        }
+
+        private void cancelTimer() {
+            long id = timerId;
+            if (id >= 0) {
+                vertx.cancelTimer(id);
+            }
+        }
+
+        private void cancel(RestClientRequestContext attempt) {
+            HttpClientRequest request = attempt.getHttpClientRequest();
+            if (request != null) {
+                request.reset();
+            }
+        }
+    }
+}
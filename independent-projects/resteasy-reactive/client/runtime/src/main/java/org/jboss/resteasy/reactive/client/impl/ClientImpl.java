@@ -4,14 +4,25 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_BUDGET;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_INITIAL_DELAY;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_MIN_DELAY;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_PERCENTILE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE_DIRECTORY;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE_MAX_ENTRY_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP_CACHE_MAX_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED_CONNECTION_POOL;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,7 +46,11 @@
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.handlers.AdvancedRedirectHandler;
+import org.jboss.resteasy.reactive.client.handlers.ClientHttpCacheHandler;
 import org.jboss.resteasy.reactive.client.handlers.RedirectHandler;
+import org.jboss.resteasy.reactive.client.impl.cache.DiskHttpCacheStorage;
+import org.jboss.resteasy.reactive.client.impl.cache.HttpCacheStorage;
+import org.jboss.resteasy.reactive.client.impl.cache.MemoryHttpCacheStorage;
 import org.jboss.resteasy.reactive.client.spi.ClientContext;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
 import org.jboss.resteasy.reactive.common.jaxrs.MultiQueryParamMode;
@@ -90,6 +105,12 @@ public class ClientImpl implements Client {
 
     private static final int DEFAULT_CONNECT_TIMEOUT = 15000;
     private static final int DEFAULT_CONNECTION_POOL_SIZE = 50;
+    private static final long DEFAULT_HTTP_CACHE_MAX_SIZE = 10 * 1024 * 1024;
+    private static final long DEFAULT_HTTP_CACHE_MAX_ENTRY_SIZE = 1024 * 1024;
+    private static final double DEFAULT_HEDGING_PERCENTILE = 0.95;
+    private static final long DEFAULT_HEDGING_INITIAL_DELAY = 100;
+    private static final long DEFAULT_HEDGING_MIN_DELAY = 10;
+    private static final double DEFAULT_HEDGING_BUDGET = 0.05;
 
     final ClientContext clientContext;
     final boolean closeVertx;
@@ -99,6 +120,7 @@ public class ClientImpl implements Client {
     final SSLContext sslContext;
     private boolean isClosed;
     final HandlerChain handlerChain;
+    final ClientHedging hedging;
     final Vertx vertx;
     private final MultiQueryParamMode multiQueryParamMode;
     private final String userAgent;
@@ -192,15 +214,27 @@ public Vertx get() {
             options.setShared(true);
         }
 
-        var httpClientBuilder = this.vertx.httpClientBuilder().with(options).with(options.getPoolOptions());
         AdvancedRedirectHandler advancedRedirectHandler = configuration.getFromContext(AdvancedRedirectHandler.class);
+        RedirectHandler redirectHandler = advancedRedirectHandler != null ? null
+                : configuration.getFromContext(RedirectHandler.class);
+
+        Object sharedConnectionPool = configuration.getProperty(SHARED_CONNECTION_POOL);
+        if (sharedConnectionPool != null && (boolean) sharedConnectionPool && !options.isShared()) {
+            if (advancedRedirectHandler != null || redirectHandler != null || loggingScope != LoggingScope.NONE) {
+                // these are set on the Vert.x client itself, so it cannot be shared with other REST clients
+                log.debug("Not sharing the connection pool of a client with a redirect handler or logging enabled");
+            } else {
+                options.setName(SharedConnectionPools.nameFor(options));
+                options.setShared(true);
+                log.debugf("Sharing the connection pool '%s'", options.getName());
+            }
+        }
+
+        var httpClientBuilder = this.vertx.httpClientBuilder().with(options).with(options.getPoolOptions());
         if (advancedRedirectHandler != null) {
             httpClientBuilder.withRedirectHandler(new WrapperVertxAdvancedRedirectHandlerImpl(advancedRedirectHandler));
-        } else {
-            RedirectHandler redirectHandler = configuration.getFromContext(RedirectHandler.class);
-            if (redirectHandler != null) {
-                httpClientBuilder.withRedirectHandler(new WrapperVertxRedirectHandlerImpl(redirectHandler));
-            }
+        } else if (redirectHandler != null) {
+            httpClientBuilder.withRedirectHandler(new WrapperVertxRedirectHandlerImpl(redirectHandler));
         }
 
         httpClient = httpClientBuilder.build();
@@ -217,13 +251,51 @@ public Vertx get() {
                 options.getMaxChunkSize(),
                 followRedirects,
                 loggingScope,
-                clientContext.getMultipartResponsesData(), clientLogger);
+                clientContext.getMultipartResponsesData(), clientLogger, createHttpCacheHandler(configuration));
+        hedging = createHedging(configuration);
     }
 
     public HttpClient getVertxHttpClient() {
         return httpClient;
     }
 
+    private ClientHttpCacheHandler createHttpCacheHandler(ConfigurationImpl configuration) {
+        Object httpCache = configuration.getProperty(HTTP_CACHE);
+        if (httpCache == null || !(boolean) httpCache) {
+            return null;
+        }
+        Object maxSizeObj = configuration.getProperty(HTTP_CACHE_MAX_SIZE);
+        long maxSize = maxSizeObj == null ? DEFAULT_HTTP_CACHE_MAX_SIZE : ((Number) maxSizeObj).longValue();
+        Object maxEntrySizeObj = configuration.getProperty(HTTP_CACHE_MAX_ENTRY_SIZE);
+        long maxEntrySize = maxEntrySizeObj == null ? DEFAULT_HTTP_CACHE_MAX_ENTRY_SIZE
+                : ((Number) maxEntrySizeObj).longValue();
+        Object directory = configuration.getProperty(HTTP_CACHE_DIRECTORY);
+        HttpCacheStorage storage;
+        if (directory != null) {
+            log.debugf("Storing the HTTP cache in %s", directory);
+            storage = new DiskHttpCacheStorage(Path.of(directory.toString()), maxSize);
+        } else {
+            storage = new MemoryHttpCacheStorage(maxSize);
+        }
+        return new ClientHttpCacheHandler(storage, maxEntrySize);
+    }
+
+    private ClientHedging createHedging(ConfigurationImpl configuration) {
+        Object hedgingObj = configuration.getProperty(HEDGING);
+        if (hedgingObj == null || !(boolean) hedgingObj) {
+            return null;
+        }
+        Object percentileObj = configuration.getProperty(HEDGING_PERCENTILE);
+        Object initialDelayObj = configuration.getProperty(HEDGING_INITIAL_DELAY);
+        Object minDelayObj = configuration.getProperty(HEDGING_MIN_DELAY);
+        Object budgetObj = configuration.getProperty(HEDGING_BUDGET);
+        return new ClientHedging(vertx,
+                percentileObj == null ? DEFAULT_HEDGING_PERCENTILE : ((Number) percentileObj).doubleValue(),
+                initialDelayObj == null ? DEFAULT_HEDGING_INITIAL_DELAY : ((Number) initialDelayObj).longValue(),
+                minDelayObj == null ? DEFAULT_HEDGING_MIN_DELAY : ((Number) minDelayObj).longValue(),
+                budgetObj == null ? DEFAULT_HEDGING_BUDGET : ((Number) budgetObj).doubleValue());
+    }
+
     private boolean isCaptureStacktrace(ConfigurationImpl configuration) {
         Object captureStacktraceObj = configuration.getProperty(CAPTURE_STACKTRACE);
         if (captureStacktraceObj == null) {
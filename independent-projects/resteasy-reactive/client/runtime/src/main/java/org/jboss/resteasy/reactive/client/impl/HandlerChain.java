@@ -11,6 +11,8 @@
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.handlers.ClientCaptureCurrentContextRestHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientErrorHandler;
+import org.jboss.resteasy.reactive.client.handlers.ClientHttpCacheHandler;
+import org.jboss.resteasy.reactive.client.handlers.ClientRequestCoalescingHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientRequestFilterRestHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientResponseCompleteRestHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientResponseFilterRestHandler;
@@ -29,6 +31,8 @@ class HandlerChain {
 
     private final ClientRestHandler clientCaptureCurrentContextRestHandler;
     private final ClientRestHandler clientSwitchToRequestContextRestHandler;
+    private final ClientHttpCacheHandler clientHttpCacheHandler;
+    private final ClientRequestCoalescingHandler clientRequestCoalescingHandler;
     private final ClientRestHandler clientSendHandler;
     private final ClientRestHandler clientSetResponseEntityRestHandler;
     private final ClientRestHandler clientResponseCompleteRestHandler;
@@ -38,9 +42,12 @@ class HandlerChain {
 
     public HandlerChain(boolean captureStacktrace, int maxChunkSize, int inputStreamChunkSize, boolean followRedirects,
             LoggingScope loggingScope,
-            Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger) {
+            Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger,
+            ClientHttpCacheHandler clientHttpCacheHandler) {
         this.clientCaptureCurrentContextRestHandler = new ClientCaptureCurrentContextRestHandler(captureStacktrace);
         this.clientSwitchToRequestContextRestHandler = new ClientSwitchToRequestContextRestHandler();
+        this.clientHttpCacheHandler = clientHttpCacheHandler;
+        this.clientRequestCoalescingHandler = new ClientRequestCoalescingHandler();
         this.clientSendHandler = new ClientSendRequestHandler(maxChunkSize, inputStreamChunkSize, followRedirects, loggingScope,
                 clientLogger,
                 multipartData);
@@ -50,11 +57,14 @@ public HandlerChain(boolean captureStacktrace, int maxChunkSize, int inputStream
     }
 
     private HandlerChain(ClientRestHandler clientCaptureCurrentContextRestHandler,
-            ClientRestHandler clientSwitchToRequestContextRestHandler, ClientRestHandler clientSendHandler,
+            ClientRestHandler clientSwitchToRequestContextRestHandler, ClientHttpCacheHandler clientHttpCacheHandler,
+            ClientRequestCoalescingHandler clientRequestCoalescingHandler, ClientRestHandler clientSendHandler,
             ClientRestHandler clientSetResponseEntityRestHandler, ClientRestHandler clientResponseCompleteRestHandler,
             ClientRestHandler clientErrorHandler) {
         this.clientCaptureCurrentContextRestHandler = clientCaptureCurrentContextRestHandler;
         this.clientSwitchToRequestContextRestHandler = clientSwitchToRequestContextRestHandler;
+        this.clientHttpCacheHandler = clientHttpCacheHandler;
+        this.clientRequestCoalescingHandler = clientRequestCoalescingHandler;
         this.clientSendHandler = clientSendHandler;
         this.clientSetResponseEntityRestHandler = clientSetResponseEntityRestHandler;
         this.clientResponseCompleteRestHandler = clientResponseCompleteRestHandler;
@@ -63,7 +73,8 @@ private HandlerChain(ClientRestHandler clientCaptureCurrentContextRestHandler,
 
     private HandlerChain newInstance() {
         return new HandlerChain(clientCaptureCurrentContextRestHandler, clientSwitchToRequestContextRestHandler,
-                clientSendHandler, clientSetResponseEntityRestHandler, clientResponseCompleteRestHandler, clientErrorHandler);
+                clientHttpCacheHandler, clientRequestCoalescingHandler, clientSendHandler, clientSetResponseEntityRestHandler,
+                clientResponseCompleteRestHandler, clientErrorHandler);
     }
 
     HandlerChain setPreClientSendHandler(ClientRestHandler preClientSendHandler) {
@@ -75,15 +86,18 @@ HandlerChain setPreClientSendHandler(ClientRestHandler preClientSendHandler) {
     ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
         List<ClientRequestFilter> requestFilters = configuration.getRequestFilters();
         List<ClientResponseFilter> responseFilters = configuration.getResponseFilters();
-        if (requestFilters.isEmpty() && responseFilters.isEmpty()) {
+        if (requestFilters.isEmpty() && responseFilters.isEmpty() && clientHttpCacheHandler == null) {
             return new ClientRestHandler[] { clientCaptureCurrentContextRestHandler,
                     clientSwitchToRequestContextRestHandler,
+                    clientRequestCoalescingHandler,
                     clientSendHandler,
+                    clientRequestCoalescingHandler.getResponseHandler(),
                     clientSetResponseEntityRestHandler,
                     clientResponseCompleteRestHandler };
         }
         List<ClientRestHandler> result = new ArrayList<>(
-                (preClientSendHandler != null ? 4 : 3) + requestFilters.size() + responseFilters.size());
+                (preClientSendHandler != null ? 6 : 5) + (clientHttpCacheHandler != null ? 2 : 0) + requestFilters.size()
+                        + responseFilters.size());
         if (preClientSendHandler != null) {
             result.add(preClientSendHandler);
         }
@@ -92,7 +106,15 @@ ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
             result.add(new ClientRequestFilterRestHandler(requestFilters.get(i)));
         }
         result.add(clientSwitchToRequestContextRestHandler);
+        if (clientHttpCacheHandler != null) {
+            result.add(clientHttpCacheHandler);
+        }
+        result.add(clientRequestCoalescingHandler);
         result.add(clientSendHandler);
+        result.add(clientRequestCoalescingHandler.getResponseHandler());
+        if (clientHttpCacheHandler != null) {
+            result.add(clientHttpCacheHandler.getResponseHandler());
+        }
         result.add(clientSetResponseEntityRestHandler);
         result.add(new PreResponseFilterHandler());
         for (int i = 0; i < responseFilters.size(); i++) {
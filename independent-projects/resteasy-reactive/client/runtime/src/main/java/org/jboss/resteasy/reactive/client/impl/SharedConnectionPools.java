@@ -0,0 +1,73 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JksOptions;
+import io.vertx.core.net.KeyStoreOptions;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.net.PfxOptions;
+
+/**
+ * Computes the name of the shared Vert.x HTTP client used by the REST clients whose connection pool is shared.
+ * <p>
+ * A Vert.x HTTP client keeps a connection pool per authority (scheme, host and port), HTTP/2 connections being
+ * multiplexed. Sharing a client between REST clients thus shares these pools, but only the REST clients creating their
+ * connections the same way can share it: the name is derived from all the options of the client except its name, so
+ * that the REST clients using different TLS, proxy, protocol or pool settings get distinct clients.
+ */
+final class SharedConnectionPools {
+
+    static final String NAME_PREFIX = "__rest-client.pool.";
+
+    private static final Map<Object, Long> OPAQUE_OPTIONS_IDS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private SharedConnectionPools() {
+    }
+
+    static String nameFor(HttpClientOptions options) {
+        JsonObject key = options.toJson();
+        key.remove("name");
+        key.remove("shared");
+        key.put("poolOptions", options.getPoolOptions().toJson());
+        // the converter of the options only serializes some types of key and trust options
+        key.put("keyCertOptions", describe(options.getKeyCertOptions()));
+        key.put("trustOptions", describe(options.getTrustOptions()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(key.encode().getBytes(StandardCharsets.UTF_8));
+            return NAME_PREFIX + HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object describe(Object tlsOptions) {
+        if (tlsOptions == null) {
+            return null;
+        } else if (tlsOptions instanceof JksOptions) {
+            return ((JksOptions) tlsOptions).toJson();
+        } else if (tlsOptions instanceof PfxOptions) {
+            return ((PfxOptions) tlsOptions).toJson();
+        } else if (tlsOptions instanceof KeyStoreOptions) {
+            return ((KeyStoreOptions) tlsOptions).toJson();
+        } else if (tlsOptions instanceof PemKeyCertOptions) {
+            return ((PemKeyCertOptions) tlsOptions).toJson();
+        } else if (tlsOptions instanceof PemTrustOptions) {
+            return ((PemTrustOptions) tlsOptions).toJson();
+        }
+        // options that cannot be serialized are only shared by the clients using equal instances
+        return tlsOptions.getClass().getName() + "#"
+                + OPAQUE_OPTIONS_IDS.computeIfAbsent(tlsOptions, ignored -> NEXT_ID.incrementAndGet());
+    }
+}
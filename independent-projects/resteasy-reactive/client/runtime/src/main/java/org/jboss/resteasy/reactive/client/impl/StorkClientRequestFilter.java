@@ -2,6 +2,8 @@
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.annotation.Priority;
@@ -15,7 +17,10 @@
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.stork.Service;
 import io.smallrye.stork.Stork;
+import io.smallrye.stork.api.ServiceInstance;
 
 @Priority(Priorities.AUTHENTICATION)
 @Provider
@@ -23,6 +28,16 @@ public class StorkClientRequestFilter implements ResteasyReactiveClientRequestFi
 
     private static final Logger log = Logger.getLogger(StorkClientRequestFilter.class);
 
+    /**
+     * Request property holding the id of the selected service instance.
+     */
+    static final String SELECTED_INSTANCE_ID = "io.quarkus.rest.client.stork.selected-instance-id";
+
+    /**
+     * Request property holding the id of a service instance that must not be selected.
+     */
+    static final String EXCLUDED_INSTANCE_ID = "io.quarkus.rest.client.stork.excluded-instance-id";
+
     private final Stork stork;
 
     public StorkClientRequestFilter() {
@@ -51,8 +66,12 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
             requestContext.suspend();
             boolean measureTime = shouldMeasureTime(requestContext.getResponseType());
             try {
-                stork.getService(serviceName)
-                        .selectInstanceAndRecordStart(measureTime)
+                Service service = stork.getService(serviceName);
+                Object excludedInstanceId = requestContext.getProperty(EXCLUDED_INSTANCE_ID);
+                Uni<ServiceInstance> selection = excludedInstanceId == null
+                        ? service.selectInstanceAndRecordStart(measureTime)
+                        : selectOtherInstance(service, serviceName, (Long) excludedInstanceId, measureTime);
+                selection
                         .subscribe()
                         .with(instance -> {
                             boolean isHttps = instance.isSecure() || "storks".equals(uri.getScheme());
@@ -93,6 +112,7 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
                                         null, uri.getQuery(), uri.getFragment());
                                 URI build = UriBuilder.fromUri(newUri).path(actualPath).build();
                                 requestContext.setUri(build);
+                                requestContext.setProperty(SELECTED_INSTANCE_ID, instance.getId());
                                 if (measureTime && instance.gatherStatistics()) {
                                     requestContext.setCallStatsCollector(instance);
                                 }
@@ -110,6 +130,22 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
 
     }
 
+    private Uni<ServiceInstance> selectOtherInstance(Service service, String serviceName, long excludedInstanceId,
+            boolean measureTime) {
+        return service.getInstances().map(instances -> {
+            List<ServiceInstance> others = new ArrayList<>(instances.size());
+            for (ServiceInstance instance : instances) {
+                if (instance.getId() != excludedInstanceId) {
+                    others.add(instance);
+                }
+            }
+            if (others.isEmpty()) {
+                throw new IllegalStateException("No other instance of service '" + serviceName + "' available");
+            }
+            return service.selectInstanceAndRecordStart(others, measureTime);
+        });
+    }
+
     private boolean shouldMeasureTime(GenericType<?> responseType) {
         return !Multi.class.equals(responseType.getRawType());
     }
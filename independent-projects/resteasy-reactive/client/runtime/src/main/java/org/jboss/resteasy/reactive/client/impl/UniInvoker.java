@@ -26,14 +26,17 @@ public UniInvoker(InvocationBuilderImpl invocationBuilder) {
     public <R> Uni<R> method(String name, Entity<?> entity, GenericType<R> responseType) {
         AsyncInvokerImpl invoker = (AsyncInvokerImpl) invocationBuilder.rx();
         AtomicReference<RestClientRequestContext> restClientRequestContextRef = new AtomicReference<>();
+        AtomicReference<CompletableFuture<?>> responseRef = new AtomicReference<>();
         return Uni.createFrom().completionStage(new Supplier<CompletionStage<R>>() {
             @Override
             public CompletionStage<R> get() {
-                RestClientRequestContext restClientRequestContext = invoker.performRequestInternal(name, entity,
-                        responseType == null ? new GenericType<>(String.class) : responseType,
-                        true);
+                GenericType<?> actualResponseType = responseType == null ? new GenericType<>(String.class) : responseType;
+                RestClientRequestContext restClientRequestContext = invoker.createRequestContext(name, entity,
+                        actualResponseType, true);
                 restClientRequestContextRef.set(restClientRequestContext);
-                CompletableFuture response = restClientRequestContext.getResult();
+                CompletableFuture response = invoker.performRequest(restClientRequestContext, name, entity,
+                        actualResponseType);
+                responseRef.set(response);
                 return invoker.mapResponse(response, responseType == null ? String.class : responseType.getRawType());
             }
         }).onFailure().transform(new Function<>() {
@@ -55,6 +58,11 @@ public void run() {
                         httpClientRequest.reset();
                     }
                 }
+                // cancels the hedged request, if any
+                CompletableFuture<?> response = responseRef.get();
+                if (response != null) {
+                    response.cancel(false);
+                }
             }
         });
     }
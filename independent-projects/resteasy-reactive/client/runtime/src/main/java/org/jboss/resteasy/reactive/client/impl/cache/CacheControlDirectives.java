@@ -0,0 +1,104 @@
+package org.jboss.resteasy.reactive.client.impl.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The directives of the {@code Cache-Control} header fields of a request or a response.
+ */
+public final class CacheControlDirectives {
+
+    public static final String NO_STORE = "no-store";
+    public static final String NO_CACHE = "no-cache";
+    public static final String PRIVATE = "private";
+    public static final String PUBLIC = "public";
+    public static final String MAX_AGE = "max-age";
+    public static final String S_MAXAGE = "s-maxage";
+    public static final String MUST_REVALIDATE = "must-revalidate";
+
+    private static final CacheControlDirectives NONE = new CacheControlDirectives(Collections.emptyMap());
+
+    private final Map<String, String> directives;
+
+    private CacheControlDirectives(Map<String, String> directives) {
+        this.directives = directives;
+    }
+
+    /**
+     * @param values the values of the {@code Cache-Control} header fields, may be {@code null}
+     */
+    public static CacheControlDirectives parse(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return NONE;
+        }
+        Map<String, String> directives = new HashMap<>();
+        for (String value : values) {
+            parse(value, directives);
+        }
+        return new CacheControlDirectives(directives);
+    }
+
+    private static void parse(String value, Map<String, String> directives) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            int start = i;
+            while (i < length && value.charAt(i) != ',' && value.charAt(i) != '=') {
+                i++;
+            }
+            String name = value.substring(start, i).trim().toLowerCase(Locale.ROOT);
+            String argument = "";
+            if (i < length && value.charAt(i) == '=') {
+                i++;
+                while (i < length && value.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < length && value.charAt(i) == '"') {
+                    int end = value.indexOf('"', i + 1);
+                    if (end < 0) {
+                        end = length;
+                    }
+                    argument = value.substring(i + 1, end);
+                    i = end + 1;
+                    while (i < length && value.charAt(i) != ',') {
+                        i++;
+                    }
+                } else {
+                    start = i;
+                    while (i < length && value.charAt(i) != ',') {
+                        i++;
+                    }
+                    argument = value.substring(start, i).trim();
+                }
+            }
+            // skip the comma
+            i++;
+            if (!name.isEmpty() && !directives.containsKey(name)) {
+                directives.put(name, argument);
+            }
+        }
+    }
+
+    public boolean has(String directive) {
+        return directives.containsKey(directive);
+    }
+
+    /**
+     * @return the number of seconds of a delta-seconds directive, or {@code -1} if the directive is missing or invalid
+     */
+    public long seconds(String directive) {
+        String argument = directives.get(directive);
+        if (argument == null || argument.isEmpty()) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(argument));
+        } catch (NumberFormatException e) {
+            // a value too large to be represented means "infinite"
+            return argument.chars().allMatch(Character::isDigit) ? Integer.MAX_VALUE : -1;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.jboss.resteasy.reactive.client.impl.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the entries in files of a local directory, evicting the least recently used ones when the total size of the
+ * files exceeds the maximum size.
+ * <p>
+ * The entries stored by a previous run are reused. The directory must not be shared with another client.
+ * <p>
+ * The methods of this storage block on file I/O, so they are invoked on a worker thread. Only the in-memory index of the
+ * files is guarded by a lock, the files are read and written outside of it.
+ */
+public class DiskHttpCacheStorage implements HttpCacheStorage {
+
+    private static final Logger log = Logger.getLogger(DiskHttpCacheStorage.class);
+
+    private static final String SUFFIX = ".entry";
+    private static final int MAGIC = 0x48434532;
+    private static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<>();
+
+    private final Path directory;
+    private final long maxSize;
+    // file name -> file size, in access order, guarded by itself
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    public DiskHttpCacheStorage(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to use " + directory + " as HTTP cache directory", e);
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).forEach(files::add);
+        }
+        List<Map.Entry<Path, BasicFileAttributes>> existing = new ArrayList<>(files.size());
+        for (Path file : files) {
+            existing.add(Map.entry(file, Files.readAttributes(file, BasicFileAttributes.class)));
+        }
+        existing.sort(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()));
+        List<String> evicted;
+        synchronized (index) {
+            for (Map.Entry<Path, BasicFileAttributes> file : existing) {
+                index.put(file.getKey().getFileName().toString(), file.getValue().size());
+                size += file.getValue().size();
+            }
+            evicted = evict();
+        }
+        delete(evicted);
+    }
+
+    @Override
+    public HttpCacheEntry get(String key) {
+        String name = fileName(key);
+        synchronized (index) {
+            if (index.get(name) == null) {
+                return null;
+            }
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(directory.resolve(name))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Invalid HTTP cache entry");
+            }
+            HttpCacheEntry entry = HttpCacheEntry.readFrom(in);
+            return key.equals(entry.getKey()) ? entry : null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the HTTP cache entry of %s", key);
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(HttpCacheEntry entry) {
+        String name = fileName(entry.getKey());
+        Path tmp = null;
+        try {
+            // concurrent writes of the same entry use distinct temporary files
+            tmp = Files.createTempFile(directory, name, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                entry.writeTo(out);
+            }
+            long fileSize = Files.size(tmp);
+            if (fileSize > maxSize) {
+                delete(tmp);
+                remove(entry.getKey());
+                return;
+            }
+            Files.move(tmp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            List<String> evicted;
+            synchronized (index) {
+                Long previous = index.put(name, fileSize);
+                if (previous != null) {
+                    size -= previous;
+                }
+                size += fileSize;
+                evicted = evict();
+            }
+            delete(evicted);
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to store the HTTP cache entry of %s", entry.getKey());
+            if (tmp != null) {
+                delete(tmp);
+            }
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        String name = fileName(key);
+        Long previous;
+        synchronized (index) {
+            previous = index.remove(name);
+            if (previous != null) {
+                size -= previous;
+            }
+        }
+        if (previous != null) {
+            delete(directory.resolve(name));
+        }
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    /**
+     * @return the names of the evicted files, to delete once the lock is released
+     */
+    private List<String> evict() {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            size -= entry.getValue();
+            eldest.remove();
+            evicted.add(entry.getKey());
+        }
+        return evicted;
+    }
+
+    private void delete(List<String> names) {
+        for (String name : names) {
+            delete(directory.resolve(name));
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (NoSuchFileException ignored) {
+        } catch (IOException e) {
+            log.debugf(e, "Unable to delete the HTTP cache file %s", file);
+        }
+    }
+
+    long size() {
+        synchronized (index) {
+            return size;
+        }
+    }
+
+    private static String fileName(String key) {
+        MessageDigest digest = DIGEST.get();
+        if (digest == null) {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            DIGEST.set(digest);
+        }
+        // digest resets the instance
+        return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + SUFFIX;
+    }
+}
@@ -0,0 +1,385 @@
+package org.jboss.resteasy.reactive.client.impl.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * A response stored in the HTTP cache, with the information needed to compute its age and freshness (RFC 9111).
+ * <p>
+ * Instances are immutable, freshening an entry with a {@code 304 Not Modified} response creates a new entry.
+ */
+public final class HttpCacheEntry {
+
+    /**
+     * The status codes that are cacheable by default (RFC 9110, section 15.1).
+     */
+    private static final Set<Integer> HEURISTICALLY_CACHEABLE = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414,
+            501);
+
+    /**
+     * The header fields of a {@code 304 Not Modified} response that must not replace the stored ones.
+     */
+    private static final Set<String> NOT_UPDATED = Set.of("content-length", "content-encoding", "transfer-encoding",
+            "connection", "keep-alive");
+
+    private static final String VARY = "Vary";
+    private static final String AGE = "Age";
+
+    private final String key;
+    private final int status;
+    private final String reasonPhrase;
+    private final Map<String, List<String>> headers;
+    private final Map<String, String> varyingRequestHeaders;
+    private final byte[] body;
+    private final long responseTime;
+    private final long correctedInitialAge;
+
+    HttpCacheEntry(String key, int status, String reasonPhrase, Map<String, List<String>> headers,
+            Map<String, String> varyingRequestHeaders, byte[] body, long responseTime, long correctedInitialAge) {
+        this.key = key;
+        this.status = status;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = headers;
+        this.varyingRequestHeaders = varyingRequestHeaders;
+        this.body = body;
+        this.responseTime = responseTime;
+        this.correctedInitialAge = correctedInitialAge;
+    }
+
+    /**
+     * Creates an entry for a response, if it can be stored by a shared cache (RFC 9111, section 3).
+     *
+     * @param key the cache key of the request
+     * @param requestHeaders the headers of the request
+     * @param status the status of the response
+     * @param reasonPhrase the reason phrase of the response
+     * @param responseHeaders the headers of the response
+     * @param body the body of the response, may be {@code null}
+     * @param requestTime the time the request was sent, in milliseconds since the epoch
+     * @param responseTime the time the response was received, in milliseconds since the epoch
+     * @return the entry, or {@code null} if the response must not be stored
+     */
+    public static HttpCacheEntry create(String key, MultivaluedMap<String, String> requestHeaders, int status,
+            String reasonPhrase, MultivaluedMap<String, String> responseHeaders, byte[] body, long requestTime,
+            long responseTime) {
+        if (!isStorable(requestHeaders, status, responseHeaders)) {
+            return null;
+        }
+        Map<String, String> varying = varyingRequestHeaders(requestHeaders, responseHeaders);
+        if (varying == null) {
+            return null;
+        }
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+        }
+        return new HttpCacheEntry(key, status, reasonPhrase, headers, varying, body, responseTime,
+                correctedInitialAge(headers, requestTime, responseTime));
+    }
+
+    /**
+     * @return whether the response status code and headers allow storing the response
+     */
+    public static boolean isStorable(MultivaluedMap<String, String> requestHeaders, int status,
+            MultivaluedMap<String, String> responseHeaders) {
+        if (status < 200 || status == 206 || status == 304) {
+            return false;
+        }
+        CacheControlDirectives directives = CacheControlDirectives.parse(responseHeaders.get(HttpHeaders.CACHE_CONTROL));
+        if (directives.has(CacheControlDirectives.NO_STORE) || directives.has(CacheControlDirectives.PRIVATE)) {
+            return false;
+        }
+        // The client is shared by all the users of the application
+        if (requestHeaders.containsKey(HttpHeaders.AUTHORIZATION)
+                && !directives.has(CacheControlDirectives.PUBLIC)
+                && !directives.has(CacheControlDirectives.S_MAXAGE)
+                && !directives.has(CacheControlDirectives.MUST_REVALIDATE)) {
+            return false;
+        }
+        // Replaying the cookies of a user to another one must never happen
+        if (responseHeaders.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        return directives.has(CacheControlDirectives.PUBLIC)
+                || directives.has(CacheControlDirectives.MAX_AGE)
+                || directives.has(CacheControlDirectives.S_MAXAGE)
+                || responseHeaders.containsKey(HttpHeaders.EXPIRES)
+                || HEURISTICALLY_CACHEABLE.contains(status);
+    }
+
+    private static Map<String, String> varyingRequestHeaders(MultivaluedMap<String, String> requestHeaders,
+            MultivaluedMap<String, String> responseHeaders) {
+        List<String> vary = responseHeaders.get(VARY);
+        if (vary == null || vary.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> varying = new TreeMap<>();
+        for (String value : vary) {
+            for (String name : value.split(",")) {
+                name = name.trim().toLowerCase(Locale.ROOT);
+                if (name.equals("*")) {
+                    return null;
+                }
+                if (!name.isEmpty()) {
+                    varying.put(name, join(requestHeaders.get(name)));
+                }
+            }
+        }
+        return varying;
+    }
+
+    private static String join(List<String> values) {
+        return values == null ? null : String.join(", ", values);
+    }
+
+    private static long correctedInitialAge(Map<String, List<String>> headers, long requestTime, long responseTime) {
+        long date = parseDate(first(headers, HttpHeaders.DATE));
+        long apparentAge = date < 0 ? 0 : Math.max(0, responseTime - date);
+        long ageValue = 0;
+        String age = first(headers, AGE);
+        if (age != null) {
+            try {
+                ageValue = Math.max(0, Long.parseLong(age.trim())) * 1000;
+            } catch (NumberFormatException ignored) {
+                // an invalid Age is ignored
+            }
+        }
+        long responseDelay = Math.max(0, responseTime - requestTime);
+        return Math.max(apparentAge, ageValue + responseDelay);
+    }
+
+    private static String first(Map<String, List<String>> headers, String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * @return the date in milliseconds since the epoch, or {@code -1} if the value is missing or invalid
+     */
+    static long parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return first(headers, HttpHeaders.ETAG);
+    }
+
+    public String getLastModified() {
+        return first(headers, HttpHeaders.LAST_MODIFIED);
+    }
+
+    /**
+     * @return the approximate number of bytes used by the entry
+     */
+    public long getSize() {
+        long size = 64 + key.length();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            size += header.getKey().length();
+            for (String value : header.getValue()) {
+                size += value.length();
+            }
+        }
+        return body == null ? size : size + body.length;
+    }
+
+    /**
+     * @return whether the values of the request headers nominated by the {@code Vary} header of the response are the same
+     */
+    public boolean matches(MultivaluedMap<String, String> requestHeaders) {
+        for (Map.Entry<String, String> header : varyingRequestHeaders.entrySet()) {
+            String value = join(requestHeaders.get(header.getKey()));
+            if (value == null ? header.getValue() != null : !value.equals(header.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param now the current time in milliseconds since the epoch
+     * @return the age of the response, in seconds
+     */
+    public long getAge(long now) {
+        return (correctedInitialAge + Math.max(0, now - responseTime)) / 1000;
+    }
+
+    /**
+     * @return the freshness lifetime of the response for a shared cache, in seconds, {@code 0} if the response must be
+     *         validated before each use
+     */
+    public long getFreshnessLifetime() {
+        CacheControlDirectives directives = CacheControlDirectives.parse(headers.get(HttpHeaders.CACHE_CONTROL));
+        if (directives.has(CacheControlDirectives.NO_CACHE)) {
+            return 0;
+        }
+        long sMaxAge = directives.seconds(CacheControlDirectives.S_MAXAGE);
+        if (sMaxAge >= 0) {
+            return sMaxAge;
+        }
+        long maxAge = directives.seconds(CacheControlDirectives.MAX_AGE);
+        if (maxAge >= 0) {
+            return maxAge;
+        }
+        long date = parseDate(first(headers, HttpHeaders.DATE));
+        String expires = first(headers, HttpHeaders.EXPIRES);
+        if (expires != null) {
+            long expiresDate = parseDate(expires);
+            // An invalid Expires means the response is already expired
+            return expiresDate < 0 || date < 0 ? 0 : Math.max(0, (expiresDate - date) / 1000);
+        }
+        long lastModified = parseDate(getLastModified());
+        if (lastModified >= 0 && date >= 0 && HEURISTICALLY_CACHEABLE.contains(status)) {
+            // The heuristic suggested by RFC 9111, section 4.2.2
+            return Math.max(0, (date - lastModified) / 10_000);
+        }
+        return 0;
+    }
+
+    /**
+     * @param now the current time in milliseconds since the epoch
+     * @param requestMaxAge the {@code max-age} of the request, in seconds, or {@code -1}
+     * @return whether the response can be used without being validated
+     */
+    public boolean isFresh(long now, long requestMaxAge) {
+        long age = getAge(now);
+        if (requestMaxAge >= 0 && age > requestMaxAge) {
+            return false;
+        }
+        return age < getFreshnessLifetime();
+    }
+
+    /**
+     * Updates the entry with the headers of a {@code 304 Not Modified} response (RFC 9111, section 4.3.4).
+     */
+    public HttpCacheEntry freshen(MultivaluedMap<String, String> notModifiedHeaders, long requestTime, long responseTime) {
+        Map<String, List<String>> updated = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        updated.putAll(headers);
+        // the age of the stored response is not the age of the validated one
+        updated.remove(AGE);
+        for (Map.Entry<String, List<String>> header : notModifiedHeaders.entrySet()) {
+            if (!NOT_UPDATED.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                updated.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+        return new HttpCacheEntry(key, status, reasonPhrase, updated, varyingRequestHeaders, body, responseTime,
+                correctedInitialAge(updated, requestTime, responseTime));
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        writeString(out, key);
+        out.writeInt(status);
+        out.writeBoolean(reasonPhrase != null);
+        if (reasonPhrase != null) {
+            writeString(out, reasonPhrase);
+        }
+        out.writeLong(responseTime);
+        out.writeLong(correctedInitialAge);
+        out.writeInt(headers.size());
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            writeString(out, header.getKey());
+            out.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                writeString(out, value);
+            }
+        }
+        out.writeInt(varyingRequestHeaders.size());
+        for (Map.Entry<String, String> header : varyingRequestHeaders.entrySet()) {
+            writeString(out, header.getKey());
+            out.writeBoolean(header.getValue() != null);
+            if (header.getValue() != null) {
+                writeString(out, header.getValue());
+            }
+        }
+        out.writeInt(body == null ? -1 : body.length);
+        if (body != null) {
+            out.write(body);
+        }
+    }
+
+    static HttpCacheEntry readFrom(DataInput in) throws IOException {
+        String key = readString(in);
+        int status = in.readInt();
+        String reasonPhrase = in.readBoolean() ? readString(in) : null;
+        long responseTime = in.readLong();
+        long correctedInitialAge = in.readLong();
+        int headerCount = in.readInt();
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < headerCount; i++) {
+            String name = readString(in);
+            int valueCount = in.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(in));
+            }
+            headers.put(name, values);
+        }
+        int varyingCount = in.readInt();
+        Map<String, String> varying = varyingCount == 0 ? Collections.emptyMap() : new TreeMap<>();
+        for (int i = 0; i < varyingCount; i++) {
+            String name = readString(in);
+            varying.put(name, in.readBoolean() ? readString(in) : null);
+        }
+        int bodyLength = in.readInt();
+        byte[] body = null;
+        if (bodyLength >= 0) {
+            body = new byte[bodyLength];
+            in.readFully(body);
+        }
+        return new HttpCacheEntry(key, status, reasonPhrase, headers, varying, body, responseTime, correctedInitialAge);
+    }
+
+    // writeUTF is limited to 64KB, header values can be longer
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
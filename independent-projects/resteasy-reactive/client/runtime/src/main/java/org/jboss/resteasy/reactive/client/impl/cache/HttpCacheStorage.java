@@ -0,0 +1,29 @@
+package org.jboss.resteasy.reactive.client.impl.cache;
+
+/**
+ * Stores the responses of the HTTP cache of a client.
+ * <p>
+ * Implementations must be thread-safe and bound the amount of data they hold.
+ */
+public interface HttpCacheStorage {
+
+    /**
+     * @return the entry stored for the given key, or {@code null}
+     */
+    HttpCacheEntry get(String key);
+
+    /**
+     * Stores an entry, replacing the entry stored for the same key.
+     */
+    void put(HttpCacheEntry entry);
+
+    void remove(String key);
+
+    /**
+     * @return {@code true} if the methods of this storage block the calling thread, in which case they are not invoked on
+     *         the event loop
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package org.jboss.resteasy.reactive.client.impl.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores the entries in memory, evicting the least recently used ones when the total size of the entries exceeds the
+ * maximum size.
+ */
+public class MemoryHttpCacheStorage implements HttpCacheStorage {
+
+    private final long maxSize;
+    private final LinkedHashMap<String, HttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    public MemoryHttpCacheStorage(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized HttpCacheEntry get(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(HttpCacheEntry entry) {
+        long entrySize = entry.getSize();
+        if (entrySize > maxSize) {
+            remove(entry.getKey());
+            return;
+        }
+        HttpCacheEntry previous = entries.put(entry.getKey(), entry);
+        if (previous != null) {
+            size -= previous.getSize();
+        }
+        size += entrySize;
+        Iterator<Map.Entry<String, HttpCacheEntry>> eldest = entries.entrySet().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            size -= eldest.next().getValue().getSize();
+            eldest.remove();
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        HttpCacheEntry previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.getSize();
+        }
+    }
+
+    synchronized long size() {
+        return size;
+    }
+}
@@ -0,0 +1,110 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientRequest;
+
+public class ClientHedgingTest {
+
+    @Test
+    public void delayFollowsThePercentile() {
+        ClientHedging hedging = new ClientHedging(null, 0.95, 200, 5, 0.1);
+        assertEquals(200, hedging.getDelayMillis());
+        for (int i = 1; i <= 31; i++) {
+            hedging.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        // not enough samples yet
+        assertEquals(200, hedging.getDelayMillis());
+        hedging.record(TimeUnit.MILLISECONDS.toNanos(32));
+        // the 95th percentile of 1..32 ms
+        assertEquals(31, hedging.getDelayMillis());
+        for (int i = 0; i < 32; i++) {
+            hedging.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertEquals(29, hedging.getDelayMillis());
+    }
+
+    @Test
+    public void delayIsNotLowerThanTheMinimum() {
+        ClientHedging hedging = new ClientHedging(null, 0.5, 200, 5, 0.1);
+        for (int i = 0; i < 32; i++) {
+            hedging.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertEquals(5, hedging.getDelayMillis());
+    }
+
+    @Test
+    public void hedgesAreLimitedByTheBudget() {
+        ClientHedging hedging = new ClientHedging(null, 0.95, 200, 5, 0.25);
+        while (ClientHedging.withdraw()) {
+            // empty the budget shared with the other tests
+        }
+        for (int i = 0; i < 3; i++) {
+            hedging.deposit();
+        }
+        assertFalse(ClientHedging.withdraw());
+        hedging.deposit();
+        assertTrue(ClientHedging.withdraw());
+        assertFalse(ClientHedging.withdraw());
+    }
+
+    @Test
+    public void slowRequestIsHedgedAndTheLoserIsReset() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            ClientHedging hedging = new ClientHedging(vertx, 0.95, 20, 5, 1.0);
+            hedging.deposit();
+
+            Map<String, Object> primaryProperties = new HashMap<>();
+            primaryProperties.put(StorkClientRequestFilter.SELECTED_INSTANCE_ID, 1L);
+            HttpClientRequest primaryRequest = mock(HttpClientRequest.class);
+            RestClientRequestContext primary = attempt(primaryProperties, primaryRequest, new CompletableFuture<>());
+
+            ResponseImpl hedgeResponse = new ResponseImpl();
+            CompletableFuture<ResponseImpl> hedgeResult = new CompletableFuture<>();
+            Map<String, Object> hedgeProperties = new HashMap<>();
+            HttpClientRequest hedgeRequest = mock(HttpClientRequest.class);
+            RestClientRequestContext hedge = attempt(hedgeProperties, hedgeRequest, hedgeResult);
+            // the hedge responds right away, the primary never does
+            doAnswer(invocation -> hedgeResult.complete(hedgeResponse)).when(hedge).run();
+
+            long hedgesWon = ClientHedging.getHedgesWonCount();
+            CompletableFuture<ResponseImpl> result = hedging.hedge(primary, () -> hedge);
+
+            assertSame(hedgeResponse, result.get(10, TimeUnit.SECONDS));
+            assertEquals(1L, hedgeProperties.get(StorkClientRequestFilter.EXCLUDED_INSTANCE_ID));
+            assertEquals(hedgesWon + 1, ClientHedging.getHedgesWonCount());
+            verify(primaryRequest, timeout(10_000)).reset();
+            verify(hedgeRequest, never()).reset();
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static RestClientRequestContext attempt(Map<String, Object> properties, HttpClientRequest request,
+            CompletableFuture<ResponseImpl> result) {
+        RestClientRequestContext attempt = mock(RestClientRequestContext.class);
+        when(attempt.getProperties()).thenReturn(properties);
+        when(attempt.getHttpClientRequest()).thenReturn(request);
+        when(attempt.getResult()).thenReturn(result);
+        return attempt;
+    }
+}
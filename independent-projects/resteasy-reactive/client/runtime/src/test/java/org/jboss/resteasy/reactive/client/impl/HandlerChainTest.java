@@ -22,7 +22,7 @@ public class HandlerChainTest {
     public void preSendHandlerIsAlwaysFirst() throws Exception {
 
         var initialChain = new HandlerChain(false, 8096, 2048, true, LoggingScope.NONE, Collections.emptyMap(),
-                new DefaultClientLogger());
+                new DefaultClientLogger(), null);
 
         ClientRestHandler preHandler = ctx -> {
         };
@@ -0,0 +1,85 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.net.ssl.KeyManagerFactory;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.JksOptions;
+import io.vertx.core.net.KeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+
+public class SharedConnectionPoolsTest {
+
+    @Test
+    public void sameOptionsShareTheClient() {
+        HttpClientOptions first = options().setName("first");
+        HttpClientOptions second = options().setName("second").setShared(true);
+        String name = SharedConnectionPools.nameFor(first);
+        assertTrue(name.startsWith(SharedConnectionPools.NAME_PREFIX));
+        assertEquals(name, SharedConnectionPools.nameFor(second));
+    }
+
+    @Test
+    public void connectionSettingsAreDistinguished() {
+        String name = SharedConnectionPools.nameFor(options());
+        assertNotEquals(name, SharedConnectionPools.nameFor(options().setMaxPoolSize(10)));
+        assertNotEquals(name, SharedConnectionPools.nameFor(options().setProtocolVersion(HttpVersion.HTTP_2)
+                .setUseAlpn(true).setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1))));
+        assertNotEquals(name, SharedConnectionPools.nameFor(options().setTrustAll(true)));
+    }
+
+    @Test
+    public void tlsOptionsAreDistinguished() {
+        HttpClientOptions withTrustStore = options()
+                .setTrustOptions(new JksOptions().setPath("truststore.jks").setPassword("secret"));
+        HttpClientOptions withOtherTrustStore = options()
+                .setTrustOptions(new JksOptions().setPath("truststore.jks").setPassword("other"));
+        HttpClientOptions withPemTrust = options().setTrustOptions(new PemTrustOptions().addCertPath("ca.pem"));
+        String name = SharedConnectionPools.nameFor(withTrustStore);
+        assertEquals(name, SharedConnectionPools.nameFor(options()
+                .setTrustOptions(new JksOptions().setPath("truststore.jks").setPassword("secret"))));
+        assertNotEquals(name, SharedConnectionPools.nameFor(withOtherTrustStore));
+        assertNotEquals(name, SharedConnectionPools.nameFor(withPemTrust));
+        assertNotEquals(name, SharedConnectionPools.nameFor(options()));
+    }
+
+    @Test
+    public void opaqueKeyCertOptionsAreOnlySharedWhenEqual() {
+        KeyCertOptions opaque = new OpaqueKeyCertOptions();
+        String name = SharedConnectionPools.nameFor(options().setKeyCertOptions(opaque));
+        assertEquals(name, SharedConnectionPools.nameFor(options().setKeyCertOptions(opaque)));
+        assertNotEquals(name, SharedConnectionPools.nameFor(options().setKeyCertOptions(new OpaqueKeyCertOptions())));
+    }
+
+    private static HttpClientOptions options() {
+        return new HttpClientOptions().setSsl(true).setConnectTimeout(1000);
+    }
+
+    private static class OpaqueKeyCertOptions implements KeyCertOptions {
+
+        @Override
+        public KeyCertOptions copy() {
+            return this;
+        }
+
+        @Override
+        public KeyManagerFactory getKeyManagerFactory(Vertx vertx) {
+            return null;
+        }
+
+        @Override
+        public Function<String, KeyManagerFactory> keyManagerFactoryMapper(Vertx vertx) {
+            return null;
+        }
+    }
+}
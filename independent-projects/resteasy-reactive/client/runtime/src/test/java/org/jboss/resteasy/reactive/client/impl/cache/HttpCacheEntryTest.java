@@ -0,0 +1,148 @@
+package org.jboss.resteasy.reactive.client.impl.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HttpCacheEntryTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    public void freshnessLifetime() {
+        assertEquals(60, entry(headers("Cache-Control", "max-age=60")).getFreshnessLifetime());
+        assertEquals(30, entry(headers("Cache-Control", "max-age=60, s-maxage=30")).getFreshnessLifetime());
+        assertEquals(0, entry(headers("Cache-Control", "max-age=60, no-cache")).getFreshnessLifetime());
+        assertEquals(120, entry(headers("Date", date(NOW), "Expires", date(NOW + 120_000))).getFreshnessLifetime());
+        assertEquals(0, entry(headers("Date", date(NOW), "Expires", "0")).getFreshnessLifetime());
+        // 10% of the time since the last modification
+        assertEquals(100, entry(headers("Date", date(NOW), "Last-Modified", date(NOW - 1_000_000))).getFreshnessLifetime());
+    }
+
+    @Test
+    public void ageAndFreshness() {
+        HttpCacheEntry entry = entry(headers("Cache-Control", "max-age=60", "Age", "10"));
+        assertEquals(10, entry.getAge(NOW));
+        assertTrue(entry.isFresh(NOW + 49_000, -1));
+        assertFalse(entry.isFresh(NOW + 50_000, -1));
+        assertFalse(entry.isFresh(NOW, 5));
+
+        HttpCacheEntry freshened = entry.freshen(headers("Cache-Control", "max-age=60", "ETag", "\"v2\""), NOW + 100_000,
+                NOW + 100_000);
+        assertEquals(0, freshened.getAge(NOW + 100_000));
+        assertEquals("\"v2\"", freshened.getETag());
+        assertArrayEquals(entry.getBody(), freshened.getBody());
+    }
+
+    @Test
+    public void storability() {
+        MultivaluedMap<String, String> noHeaders = headers();
+        assertNull(HttpCacheEntry.create("k", noHeaders, 200, "OK", headers("Cache-Control", "no-store"), null, NOW, NOW));
+        assertNull(HttpCacheEntry.create("k", noHeaders, 200, "OK", headers("Cache-Control", "private"), null, NOW, NOW));
+        assertNull(HttpCacheEntry.create("k", noHeaders, 200, "OK", headers("Vary", "*"), null, NOW, NOW));
+        assertNull(HttpCacheEntry.create("k", noHeaders, 500, "Error", headers(), null, NOW, NOW));
+        assertNotNull(HttpCacheEntry.create("k", noHeaders, 500, "Error", headers("Cache-Control", "max-age=5"), null, NOW,
+                NOW));
+
+        MultivaluedMap<String, String> authorized = headers("Authorization", "Bearer token");
+        assertNull(HttpCacheEntry.create("k", authorized, 200, "OK", headers("Cache-Control", "max-age=60"), null, NOW, NOW));
+        assertNotNull(HttpCacheEntry.create("k", authorized, 200, "OK", headers("Cache-Control", "public, max-age=60"), null,
+                NOW, NOW));
+    }
+
+    @Test
+    public void vary() {
+        HttpCacheEntry entry = HttpCacheEntry.create("k", headers("Accept-Language", "en"), 200, "OK",
+                headers("Cache-Control", "max-age=60", "Vary", "Accept-Language"), null, NOW, NOW);
+        assertTrue(entry.matches(headers("accept-language", "en")));
+        assertFalse(entry.matches(headers("Accept-Language", "fr")));
+        assertFalse(entry.matches(headers()));
+    }
+
+    @Test
+    public void memoryStorageEvictsTheLeastRecentlyUsedEntries() {
+        HttpCacheEntry first = entry("a", 100);
+        MemoryHttpCacheStorage storage = new MemoryHttpCacheStorage(2 * first.getSize() + 10);
+        storage.put(first);
+        storage.put(entry("b", 100));
+        assertNotNull(storage.get("a"));
+        storage.put(entry("c", 100));
+        assertNotNull(storage.get("a"));
+        assertNull(storage.get("b"));
+        assertNotNull(storage.get("c"));
+        assertTrue(storage.size() <= 2 * first.getSize() + 10);
+        storage.put(entry("d", 10_000));
+        assertNull(storage.get("d"));
+    }
+
+    @Test
+    public void diskStorageKeepsTheEntries(@TempDir Path directory) {
+        DiskHttpCacheStorage storage = new DiskHttpCacheStorage(directory, 10_000);
+        HttpCacheEntry entry = HttpCacheEntry.create("http://localhost/a", headers("Accept-Language", "en"), 200, "OK",
+                headers("Cache-Control", "max-age=60", "Vary", "Accept-Language", "ETag", "\"v1\""),
+                "body".getBytes(StandardCharsets.UTF_8), NOW, NOW);
+        storage.put(entry);
+        storage.put(entry("http://localhost/b", 100));
+
+        DiskHttpCacheStorage reopened = new DiskHttpCacheStorage(directory, 10_000);
+        HttpCacheEntry read = reopened.get("http://localhost/a");
+        assertNotNull(read);
+        assertEquals("\"v1\"", read.getETag());
+        assertEquals(entry.getAge(NOW), read.getAge(NOW));
+        assertTrue(read.matches(headers("Accept-Language", "en")));
+        assertFalse(read.matches(headers("Accept-Language", "fr")));
+        assertEquals("body", new String(read.getBody(), StandardCharsets.UTF_8));
+        assertEquals(storage.size(), reopened.size());
+
+        reopened.remove("http://localhost/a");
+        assertNull(new DiskHttpCacheStorage(directory, 10_000).get("http://localhost/a"));
+    }
+
+    @Test
+    public void diskStorageKeepsLongHeaderValues(@TempDir Path directory) {
+        DiskHttpCacheStorage storage = new DiskHttpCacheStorage(directory, 1_000_000);
+        String link = "<http://localhost/next>; rel=\"next\"".repeat(5_000);
+        storage.put(HttpCacheEntry.create("http://localhost/a", headers(), 200, "OK",
+                headers("Cache-Control", "max-age=60", "Link", link), new byte[0], NOW, NOW));
+
+        HttpCacheEntry read = storage.get("http://localhost/a");
+        assertNotNull(read);
+        assertEquals(link, read.getHeaders().get("Link").get(0));
+    }
+
+    private static HttpCacheEntry entry(String key, int bodySize) {
+        return HttpCacheEntry.create(key, headers(), 200, "OK", headers("Cache-Control", "max-age=60"),
+                new byte[bodySize], NOW, NOW);
+    }
+
+    private static HttpCacheEntry entry(MultivaluedMap<String, String> responseHeaders) {
+        return HttpCacheEntry.create("k", headers(), 200, "OK", responseHeaders, new byte[0], NOW, NOW);
+    }
+
+    private static MultivaluedMap<String, String> headers(String... namesAndValues) {
+        MultivaluedMap<String, String> headers = new CaseInsensitiveMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            headers.add(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return headers;
+    }
+
+    private static String date(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+}